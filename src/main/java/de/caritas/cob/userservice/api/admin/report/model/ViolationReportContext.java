@@ -0,0 +1,113 @@
+package de.caritas.cob.userservice.api.admin.report.model;
+
+import static java.util.Collections.emptyList;
+import static java.util.Objects.isNull;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
+
+import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
+import de.caritas.cob.userservice.api.repository.consultant.Consultant;
+import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgency;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Shared data of one violation report run. All data is loaded once by bulk queries and indexed by
+ * id, so that the {@link ViolationReportRule} implementations can resolve relations by hash
+ * lookups instead of scanning lists or querying the database per entity.
+ */
+public class ViolationReportContext {
+
+  @Getter
+  private final List<AgencyAdminResponseDTO> allAgencies;
+  @Getter
+  private final List<Consultant> allConsultants;
+  private final Map<Long, AgencyAdminResponseDTO> agenciesById;
+  private final Map<String, List<ConsultantAgency>> consultantAgenciesByConsultantId;
+  private final Map<Long, List<ConsultantAgency>> activeConsultantAgenciesByAgencyId;
+  private final Set<String> userIdsWithSessionOrChat;
+
+  /**
+   * Creates the context and builds the indexes of the given data.
+   *
+   * @param allAgencies all agencies provided by the agency service
+   * @param allConsultants all {@link Consultant} entities
+   * @param allConsultantAgencies all {@link ConsultantAgency} relations including deleted ones
+   * @param userIdsWithSessionOrChat the ids of all users with a session or a chat relation
+   */
+  public ViolationReportContext(@NonNull List<AgencyAdminResponseDTO> allAgencies,
+      @NonNull List<Consultant> allConsultants,
+      @NonNull Collection<ConsultantAgency> allConsultantAgencies,
+      @NonNull Set<String> userIdsWithSessionOrChat) {
+    this.allAgencies = allAgencies;
+    this.allConsultants = allConsultants;
+    this.agenciesById = allAgencies.stream()
+        .filter(agency -> Objects.nonNull(agency.getId()))
+        .collect(toMap(AgencyAdminResponseDTO::getId, identity(), (first, second) -> first));
+    this.consultantAgenciesByConsultantId = allConsultantAgencies.stream()
+        .collect(groupingBy(consultantAgency -> consultantAgency.getConsultant().getId()));
+    this.activeConsultantAgenciesByAgencyId = allConsultantAgencies.stream()
+        .filter(consultantAgency -> isNull(consultantAgency.getDeleteDate()))
+        .filter(consultantAgency -> Objects.nonNull(consultantAgency.getAgencyId()))
+        .collect(groupingBy(ConsultantAgency::getAgencyId));
+    this.userIdsWithSessionOrChat = userIdsWithSessionOrChat;
+  }
+
+  /**
+   * Returns the agency with the given id.
+   *
+   * @param agencyId the id of the agency
+   * @return the {@link AgencyAdminResponseDTO} or null if no agency with given id exists
+   */
+  public AgencyAdminResponseDTO getAgency(Long agencyId) {
+    return this.agenciesById.get(agencyId);
+  }
+
+  /**
+   * Returns all agency relations of the given consultant including deleted ones.
+   *
+   * @param consultantId the id of the consultant
+   * @return the related {@link ConsultantAgency} entities
+   */
+  public List<ConsultantAgency> getConsultantAgencies(String consultantId) {
+    return this.consultantAgenciesByConsultantId.getOrDefault(consultantId, emptyList());
+  }
+
+  /**
+   * Returns all not deleted consultant relations of the given agency.
+   *
+   * @param agencyId the id of the agency
+   * @return the related {@link ConsultantAgency} entities
+   */
+  public List<ConsultantAgency> getActiveConsultantAgencies(Long agencyId) {
+    return this.activeConsultantAgenciesByAgencyId.getOrDefault(agencyId, emptyList());
+  }
+
+  /**
+   * Checks if the given consultant has at least one not deleted agency relation.
+   *
+   * @param consultantId the id of the consultant
+   * @return true if an active agency relation exists
+   */
+  public boolean hasActiveAgencyAssignment(String consultantId) {
+    return getConsultantAgencies(consultantId).stream()
+        .anyMatch(consultantAgency -> isNull(consultantAgency.getDeleteDate()));
+  }
+
+  /**
+   * Checks if the given user has a session or a chat relation.
+   *
+   * @param userId the id of the user
+   * @return true if a session or chat relation exists
+   */
+  public boolean hasSessionOrChat(String userId) {
+    return this.userIdsWithSessionOrChat.contains(userId);
+  }
+
+}
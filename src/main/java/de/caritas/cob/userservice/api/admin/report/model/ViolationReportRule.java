@@ -11,8 +11,9 @@ public interface ViolationReportRule {
   /**
    * Generates violations on implemented condition.
    *
+   * @param context the {@link ViolationReportContext} shared by all rules of the report
    * @return a list of found {@link ViolationDTO}
    */
-  List<ViolationDTO> generateViolations();
+  List<ViolationDTO> generateViolations(ViolationReportContext context);
 
 }
@@ -3,8 +3,6 @@ package de.caritas.cob.userservice.api.admin.report.registry;
 import static java.util.Collections.emptyList;
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 
-import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
-import de.caritas.cob.userservice.api.admin.report.model.AgencyDependedViolationReportRule;
 import de.caritas.cob.userservice.api.admin.report.model.ViolationReportRule;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -42,16 +40,9 @@ public class ViolationRuleRegistry {
    *
    * @return all {@link ViolationReportRule} beans
    */
-  public List<ViolationReportRule> getViolationReportRules(
-      List<AgencyAdminResponseDTO> allAgencies) {
-    List<ViolationReportRule> reportingRules = isEmpty(this.violationReportRules) ? emptyList()
+  public List<ViolationReportRule> getViolationReportRules() {
+    return isEmpty(this.violationReportRules) ? emptyList()
         : new ArrayList<>(this.violationReportRules);
-    reportingRules.forEach(reportRule -> {
-      if (reportRule instanceof AgencyDependedViolationReportRule) {
-        ((AgencyDependedViolationReportRule) reportRule).setAllAgencies(allAgencies);
-      }
-    });
-    return reportingRules;
   }
 
 }
@@ -1,53 +1,34 @@
 package de.caritas.cob.userservice.api.admin.report.rule;
 
-import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
 import de.caritas.cob.userservice.api.admin.report.builder.ViolationByConsultantBuilder;
-import de.caritas.cob.userservice.api.admin.report.model.AgencyDependedViolationReportRule;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportContext;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportRule;
 import de.caritas.cob.userservice.api.admin.report.rule.analyzer.ConsultantAgencyAnalyzer;
 import de.caritas.cob.userservice.api.model.ViolationDTO;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
-import de.caritas.cob.userservice.api.repository.consultant.ConsultantRepository;
-import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgency;
-import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgencyRepository;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 /**
  * Violation rule to find consultants with wrong flag is_team_consultant.
  */
 @Component
-@RequiredArgsConstructor
-public class ConsultantWithWrongTeamConsultantFlagViolationReportRule extends
-    AgencyDependedViolationReportRule {
-
-  private final @NonNull ConsultantAgencyRepository consultantAgencyRepository;
-  private final @NonNull ConsultantRepository consultantRepository;
+public class ConsultantWithWrongTeamConsultantFlagViolationReportRule implements
+    ViolationReportRule {
 
   /**
    * Generates all violations for {@link Consultant} containing flag is_team_consultant with
    * assigned agencies which are all not team agencies.
    *
+   * @param context the {@link ViolationReportContext} of the current report
    * @return the generated violations
    */
   @Override
-  public List<ViolationDTO> generateViolations() {
-
-    List<ConsultantAgency> allConsultantAgencies = StreamSupport
-        .stream(consultantAgencyRepository.findAll().spliterator(), false)
-        .collect(Collectors.toList());
-
-    List<AgencyAdminResponseDTO> allAgencies = super.getAllAgencies()
-        .parallelStream()
-        .collect(Collectors.toList());
-
-    ConsultantAgencyAnalyzer consultantAgencyAnalyzer =
-        new ConsultantAgencyAnalyzer(allConsultantAgencies, allAgencies);
+  public List<ViolationDTO> generateViolations(ViolationReportContext context) {
+    ConsultantAgencyAnalyzer consultantAgencyAnalyzer = new ConsultantAgencyAnalyzer(context);
 
-    return StreamSupport.stream(consultantRepository.findAll().spliterator(), false)
+    return context.getAllConsultants().stream()
         .filter(Consultant::isTeamConsultant)
         .filter(consultantAgencyAnalyzer::hasNoTeamAgencyAssigned)
         .map(this::fromConsultant)
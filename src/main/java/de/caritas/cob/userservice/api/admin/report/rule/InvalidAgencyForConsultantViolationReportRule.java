@@ -2,44 +2,39 @@ package de.caritas.cob.userservice.api.admin.report.rule;
 
 import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
 import de.caritas.cob.userservice.api.admin.report.builder.ViolationByConsultantBuilder;
-import de.caritas.cob.userservice.api.admin.report.model.AgencyDependedViolationReportRule;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportContext;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportRule;
 import de.caritas.cob.userservice.api.model.ViolationDTO;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
 import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgency;
-import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgencyRepository;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 /**
  * Violation rule to find consultants with deleted agency relation.
  */
 @Component
-@RequiredArgsConstructor
-public class InvalidAgencyForConsultantViolationReportRule extends
-    AgencyDependedViolationReportRule {
-
-  private final @NonNull ConsultantAgencyRepository consultantAgencyRepository;
+public class InvalidAgencyForConsultantViolationReportRule implements ViolationReportRule {
 
   /**
    * Generates all violations for {@link Consultant} containing a reference to a deleted agency.
    *
+   * @param context the {@link ViolationReportContext} of the current report
    * @return the generated violations
    */
   @Override
-  public List<ViolationDTO> generateViolations() {
-    return retrieveAllDeletedAgencies().stream()
-        .map(consultantAgencyRepository::findByAgencyIdAndDeleteDateIsNull)
+  public List<ViolationDTO> generateViolations(ViolationReportContext context) {
+    return retrieveAllDeletedAgencies(context).stream()
+        .map(context::getActiveConsultantAgencies)
         .flatMap(Collection::stream)
         .map(this::fromConsultantAgency)
         .collect(Collectors.toList());
   }
 
-  private List<Long> retrieveAllDeletedAgencies() {
-    return super.getAllAgencies().stream()
+  private List<Long> retrieveAllDeletedAgencies(ViolationReportContext context) {
+    return context.getAllAgencies().stream()
         .filter(agencyAdminResponseDTO -> !"null".equals(agencyAdminResponseDTO.getDeleteDate()))
         .map(AgencyAdminResponseDTO::getId)
         .collect(Collectors.toList());
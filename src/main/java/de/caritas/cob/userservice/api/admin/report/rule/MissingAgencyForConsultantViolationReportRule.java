@@ -1,37 +1,30 @@
 package de.caritas.cob.userservice.api.admin.report.rule;
 
-import static org.apache.commons.collections4.CollectionUtils.isEmpty;
-
 import de.caritas.cob.userservice.api.admin.report.builder.ViolationByConsultantBuilder;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportContext;
 import de.caritas.cob.userservice.api.admin.report.model.ViolationReportRule;
 import de.caritas.cob.userservice.api.model.ViolationDTO;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
-import de.caritas.cob.userservice.api.repository.consultant.ConsultantRepository;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 /**
  * Violation rule to find consultants without agency relation.
  */
 @Component
-@RequiredArgsConstructor
 public class MissingAgencyForConsultantViolationReportRule implements ViolationReportRule {
 
-  private final @NonNull ConsultantRepository consultantRepository;
-
   /**
    * Generates all violations for {@link Consultant} without agency assignments.
    *
+   * @param context the {@link ViolationReportContext} of the current report
    * @return the generated violations
    */
   @Override
-  public List<ViolationDTO> generateViolations() {
-    return StreamSupport.stream(this.consultantRepository.findAll().spliterator(), false)
-        .filter(consultant -> isEmpty(consultant.getConsultantAgencies()))
+  public List<ViolationDTO> generateViolations(ViolationReportContext context) {
+    return context.getAllConsultants().stream()
+        .filter(consultant -> !context.hasActiveAgencyAssignment(consultant.getId()))
         .map(this::fromConsultant)
         .collect(Collectors.toList());
   }
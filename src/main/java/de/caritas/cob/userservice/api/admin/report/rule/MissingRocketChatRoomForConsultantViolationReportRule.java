@@ -1,72 +1,131 @@
 package de.caritas.cob.userservice.api.admin.report.rule;
 
+import static de.caritas.cob.userservice.config.ExecutorConfig.VIOLATION_REPORT_EXECUTOR;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import de.caritas.cob.userservice.api.admin.report.builder.ViolationByConsultantBuilder;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportContext;
 import de.caritas.cob.userservice.api.admin.report.model.ViolationReportRule;
 import de.caritas.cob.userservice.api.model.ViolationDTO;
 import de.caritas.cob.userservice.api.model.rocketchat.user.UserInfoResponseDTO;
 import de.caritas.cob.userservice.api.model.rocketchat.user.UserRoomDTO;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
-import de.caritas.cob.userservice.api.repository.consultant.ConsultantRepository;
 import de.caritas.cob.userservice.api.repository.session.Session;
 import de.caritas.cob.userservice.api.repository.session.SessionRepository;
 import de.caritas.cob.userservice.api.repository.session.SessionStatus;
 import de.caritas.cob.userservice.api.service.rocketchat.RocketChatService;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Violation rule to find consultants without necessary rocket chat room for directly assigned
- * sessions.
+ * sessions. The sessions in progress are loaded page by page ordered by consultant, each page in
+ * its own transaction, so only the consultants of the current page are held in memory and the
+ * rooms of each consultant are fetched only once. The room fetches of one page run concurrently
+ * on the shared violation report executor.
  */
 @Component
 @RequiredArgsConstructor
 public class MissingRocketChatRoomForConsultantViolationReportRule implements ViolationReportRule {
 
-  private final @NonNull ConsultantRepository consultantRepository;
   private final @NonNull SessionRepository sessionRepository;
   private final @NonNull RocketChatService rocketChatService;
+  @Qualifier(VIOLATION_REPORT_EXECUTOR)
+  private final @NonNull Executor violationReportExecutor;
+
+  @Value("${violation.report.missingRooms.pageSize}")
+  private int pageSize;
 
   /**
    * Generates all violations for {@link Consultant} without required rocket chat room assignment.
    *
+   * @param context the {@link ViolationReportContext} of the current report
    * @return the generated violations
    */
   @Override
-  @Transactional
-  public List<ViolationDTO> generateViolations() {
-    return StreamSupport.stream(this.consultantRepository.findAll().spliterator(), false)
-        .map(consultant -> this.sessionRepository
-            .findByConsultantAndStatus(consultant, SessionStatus.IN_PROGRESS))
+  public List<ViolationDTO> generateViolations(ViolationReportContext context) {
+    List<ViolationDTO> violations = new ArrayList<>();
+    Map<String, List<Session>> sessionsByConsultantId = new LinkedHashMap<>();
+    Pageable pageable = PageRequest.of(0, this.pageSize);
+    Slice<Session> sessions;
+    do {
+      sessions = this.sessionRepository
+          .findByStatusWithConsultantOrderByConsultantId(SessionStatus.IN_PROGRESS, pageable);
+      sessions.forEach(session -> sessionsByConsultantId
+          .computeIfAbsent(session.getConsultant().getId(), id -> new ArrayList<>())
+          .add(session));
+      if (sessions.hasNext()) {
+        // the sessions of the last consultant may continue on the next page
+        String lastConsultantId = getLastConsultantId(sessions);
+        List<Session> sessionsOfLastConsultant = sessionsByConsultantId.remove(lastConsultantId);
+        violations.addAll(fromMissingSessionsOfConsultants(sessionsByConsultantId.values()));
+        sessionsByConsultantId.clear();
+        sessionsByConsultantId.put(lastConsultantId, sessionsOfLastConsultant);
+      }
+      pageable = sessions.nextPageable();
+    } while (sessions.hasNext());
+
+    violations.addAll(fromMissingSessionsOfConsultants(sessionsByConsultantId.values()));
+    return violations;
+  }
+
+  private String getLastConsultantId(Slice<Session> sessions) {
+    List<Session> content = sessions.getContent();
+    return content.get(content.size() - 1).getConsultant().getId();
+  }
+
+  private List<ViolationDTO> fromMissingSessionsOfConsultants(
+      Collection<List<Session>> sessionsOfConsultants) {
+    List<CompletableFuture<List<ViolationDTO>>> violationsByConsultant =
+        sessionsOfConsultants.stream()
+            .map(sessions -> CompletableFuture.supplyAsync(
+                () -> fromMissingSessionsOfConsultant(sessions), this.violationReportExecutor))
+            .collect(Collectors.toList());
+    return violationsByConsultant.stream()
+        .map(CompletableFuture::join)
         .flatMap(Collection::stream)
-        .map(this::fromMissingSession)
-        .filter(Objects::nonNull)
         .collect(Collectors.toList());
   }
 
-  private ViolationDTO fromMissingSession(Session session) {
+  private List<ViolationDTO> fromMissingSessionsOfConsultant(List<Session> sessions) {
+    Consultant consultant = sessions.get(0).getConsultant();
     UserInfoResponseDTO userInfoWithRooms;
     try {
-      userInfoWithRooms = this.rocketChatService
-          .getUserInfo(session.getConsultant().getRocketChatId());
+      userInfoWithRooms = this.rocketChatService.getUserInfo(consultant.getRocketChatId());
     } catch (Exception e) {
-      return ViolationByConsultantBuilder.getInstance(session.getConsultant())
-          .withReason(e.getCause().getMessage())
-          .build();
+      return sessions.stream()
+          .map(session -> ViolationByConsultantBuilder.getInstance(consultant)
+              .withReason(e.getCause().getMessage())
+              .build())
+          .collect(Collectors.toList());
     }
-    List<UserRoomDTO> rooms = userInfoWithRooms.getUser().getRooms();
-    List<String> rocketChatRoomsOfUser = rooms.stream()
+    Set<String> rocketChatRoomsOfUser = userInfoWithRooms.getUser().getRooms().stream()
         .map(UserRoomDTO::getRoomId)
+        .collect(Collectors.toSet());
+
+    return sessions.stream()
+        .map(session -> fromMissingSession(session, rocketChatRoomsOfUser))
+        .filter(Objects::nonNull)
         .collect(Collectors.toList());
+  }
 
+  private ViolationDTO fromMissingSession(Session session, Set<String> rocketChatRoomsOfUser) {
     String violationMessage = buildPossibleViolationMessage(session, rocketChatRoomsOfUser);
     if (isNotBlank(violationMessage)) {
       return ViolationByConsultantBuilder.getInstance(session.getConsultant())
@@ -77,7 +136,7 @@ public class MissingRocketChatRoomForConsultantViolationReportRule implements Vi
   }
 
   private String buildPossibleViolationMessage(Session session,
-      List<String> rocketChatRoomsOfUser) {
+      Set<String> rocketChatRoomsOfUser) {
     String violationMessage = "";
 
     if (isGroupMissing(session.getGroupId(), rocketChatRoomsOfUser)) {
@@ -93,11 +152,11 @@ public class MissingRocketChatRoomForConsultantViolationReportRule implements Vi
     return violationMessage;
   }
 
-  private boolean isGroupMissing(String groupId, List<String> rocketChatRooms) {
+  private boolean isGroupMissing(String groupId, Set<String> rocketChatRooms) {
     return isNotBlank(groupId) && !rocketChatRooms.contains(groupId);
   }
 
-  private boolean areBothRoomsMissing(Session session, List<String> rocketChatRoomsOfUser) {
+  private boolean areBothRoomsMissing(Session session, Set<String> rocketChatRoomsOfUser) {
     return isGroupMissing(session.getGroupId(), rocketChatRoomsOfUser) && isGroupMissing(
         session.getFeedbackGroupId(), rocketChatRoomsOfUser);
   }
@@ -1,13 +1,12 @@
 package de.caritas.cob.userservice.api.admin.report.rule;
 
 import static de.caritas.cob.userservice.api.model.ViolationDTO.ViolationTypeEnum.ASKER;
-import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportContext;
 import de.caritas.cob.userservice.api.admin.report.model.ViolationReportRule;
 import de.caritas.cob.userservice.api.model.ViolationDTO;
 import de.caritas.cob.userservice.api.repository.user.User;
 import de.caritas.cob.userservice.api.repository.user.UserRepository;
-import de.caritas.cob.userservice.api.repository.useragency.UserAgencyRepository;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -23,25 +22,21 @@ import org.springframework.stereotype.Component;
 public class MissingSessionAndChatForAskerViolationReportRule implements ViolationReportRule {
 
   private final @NonNull UserRepository userRepository;
-  private final @NonNull UserAgencyRepository userAgencyRepository;
 
   /**
    * Generates all violations for {@link User} without session or chat assignment.
    *
+   * @param context the {@link ViolationReportContext} of the current report
    * @return the generated violations
    */
   @Override
-  public List<ViolationDTO> generateViolations() {
+  public List<ViolationDTO> generateViolations(ViolationReportContext context) {
     return StreamSupport.stream(this.userRepository.findAll().spliterator(), false)
-        .filter(this::withoutSessionAndChat)
+        .filter(user -> !context.hasSessionOrChat(user.getUserId()))
         .map(this::fromUser)
         .collect(Collectors.toList());
   }
 
-  private boolean withoutSessionAndChat(User user) {
-    return isEmpty(user.getSessions()) && isEmpty(this.userAgencyRepository.findByUser(user));
-  }
-
   private ViolationDTO fromUser(User user) {
     return new ViolationDTO()
         .identifier(user.getUserId())
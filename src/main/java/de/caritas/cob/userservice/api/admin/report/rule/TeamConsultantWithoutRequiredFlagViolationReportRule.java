@@ -4,46 +4,41 @@ import static org.apache.commons.lang3.BooleanUtils.isTrue;
 
 import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
 import de.caritas.cob.userservice.api.admin.report.builder.ViolationByConsultantBuilder;
-import de.caritas.cob.userservice.api.admin.report.model.AgencyDependedViolationReportRule;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportContext;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportRule;
 import de.caritas.cob.userservice.api.model.ViolationDTO;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
 import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgency;
-import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgencyRepository;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 /**
  * Violation rule to find team consultants with missing flag is_team_consultant.
  */
 @Component
-@RequiredArgsConstructor
-public class TeamConsultantWithoutRequiredFlagViolationReportRule extends
-    AgencyDependedViolationReportRule {
-
-  private final @NonNull ConsultantAgencyRepository consultantAgencyRepository;
+public class TeamConsultantWithoutRequiredFlagViolationReportRule implements ViolationReportRule {
 
   /**
    * Generates all violations for {@link Consultant} containing a team agency and no
    * is_team_consultant flag.
    *
+   * @param context the {@link ViolationReportContext} of the current report
    * @return the generated violations
    */
   @Override
-  public List<ViolationDTO> generateViolations() {
-    return retrieveAllTeamAgencies().stream()
-        .map(consultantAgencyRepository::findByAgencyIdAndDeleteDateIsNull)
+  public List<ViolationDTO> generateViolations(ViolationReportContext context) {
+    return retrieveAllTeamAgencies(context).stream()
+        .map(context::getActiveConsultantAgencies)
         .flatMap(Collection::stream)
         .filter(consultantAgency -> !consultantAgency.getConsultant().isTeamConsultant())
         .map(this::fromConsultantAgency)
         .collect(Collectors.toList());
   }
 
-  private List<Long> retrieveAllTeamAgencies() {
-    return super.getAllAgencies().stream()
+  private List<Long> retrieveAllTeamAgencies(ViolationReportContext context) {
+    return context.getAllAgencies().stream()
         .filter(agencyAdminResponseDTO -> isTrue(agencyAdminResponseDTO.getTeamAgency()))
         .map(AgencyAdminResponseDTO::getId)
         .collect(Collectors.toList());
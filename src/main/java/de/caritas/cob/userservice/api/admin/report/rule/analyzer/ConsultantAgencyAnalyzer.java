@@ -2,12 +2,10 @@ package de.caritas.cob.userservice.api.admin.report.rule.analyzer;
 
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 
-import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportContext;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
 import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgency;
-import java.util.List;
 import java.util.Objects;
-import java.util.function.Predicate;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
@@ -17,8 +15,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ConsultantAgencyAnalyzer {
 
-  private final @NonNull List<ConsultantAgency> allConsultantAgencies;
-  private final @NonNull List<AgencyAdminResponseDTO> allAgencies;
+  private final @NonNull ViolationReportContext violationReportContext;
 
   /**
    * Analyzes the agency relations of given {@link Consultant} to check if no of the assigned
@@ -28,27 +25,11 @@ public class ConsultantAgencyAnalyzer {
    * @return true if no related agency is a team agency
    */
   public boolean hasNoTeamAgencyAssigned(Consultant consultant) {
-    return allConsultantAgencies.stream()
-        .filter(assignedToConsultant(consultant))
-        .map(this::fromConsultantAgency)
+    return violationReportContext.getConsultantAgencies(consultant.getId()).stream()
+        .map(ConsultantAgency::getAgencyId)
+        .map(violationReportContext::getAgency)
         .filter(Objects::nonNull)
         .noneMatch(agencyAdminResponseDTO -> isTrue(agencyAdminResponseDTO.getTeamAgency()));
   }
 
-  private Predicate<ConsultantAgency> assignedToConsultant(Consultant consultant) {
-    return consultantAgency -> consultant.getId().equals(consultantAgency.getConsultant().getId());
-  }
-
-  private AgencyAdminResponseDTO fromConsultantAgency(ConsultantAgency consultantAgency) {
-    return this.allAgencies.stream()
-        .filter(byConsultantAgency(consultantAgency))
-        .findFirst()
-        .orElse(null);
-  }
-
-  private Predicate<AgencyAdminResponseDTO> byConsultantAgency(ConsultantAgency consultantAgency) {
-    return agencyAdminResponseDTO -> consultantAgency.getAgencyId()
-        .equals(agencyAdminResponseDTO.getId());
-  }
-
 }
@@ -0,0 +1,54 @@
+package de.caritas.cob.userservice.api.admin.report.service;
+
+import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportContext;
+import de.caritas.cob.userservice.api.admin.service.agency.AgencyAdminService;
+import de.caritas.cob.userservice.api.repository.consultant.Consultant;
+import de.caritas.cob.userservice.api.repository.consultant.ConsultantRepository;
+import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgency;
+import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgencyRepository;
+import de.caritas.cob.userservice.api.repository.session.SessionRepository;
+import de.caritas.cob.userservice.api.repository.useragency.UserAgencyRepository;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Provider for the {@link ViolationReportContext} shared by all violation report rules.
+ */
+@Component
+@RequiredArgsConstructor
+public class ViolationReportContextProvider {
+
+  private final @NonNull AgencyAdminService agencyAdminService;
+  private final @NonNull ConsultantRepository consultantRepository;
+  private final @NonNull ConsultantAgencyRepository consultantAgencyRepository;
+  private final @NonNull SessionRepository sessionRepository;
+  private final @NonNull UserAgencyRepository userAgencyRepository;
+
+  /**
+   * Loads all data needed by the violation report rules with a constant number of bulk queries.
+   *
+   * @return the {@link ViolationReportContext}
+   */
+  public ViolationReportContext buildContext() {
+    List<AgencyAdminResponseDTO> allAgencies = this.agencyAdminService.retrieveAllAgencies();
+    List<Consultant> allConsultants = StreamSupport
+        .stream(this.consultantRepository.findAll().spliterator(), false)
+        .collect(Collectors.toList());
+    List<ConsultantAgency> allConsultantAgencies = StreamSupport
+        .stream(this.consultantAgencyRepository.findAll().spliterator(), false)
+        .collect(Collectors.toList());
+    Set<String> userIdsWithSessionOrChat = new HashSet<>(this.sessionRepository.findAllUserIds());
+    userIdsWithSessionOrChat.addAll(this.userAgencyRepository.findAllUserIds());
+
+    return new ViolationReportContext(allAgencies, allConsultants, allConsultantAgencies,
+        userIdsWithSessionOrChat);
+  }
+
+}
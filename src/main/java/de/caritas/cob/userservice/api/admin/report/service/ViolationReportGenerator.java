@@ -3,10 +3,9 @@ package de.caritas.cob.userservice.api.admin.report.service;
 import static de.caritas.cob.userservice.localdatetime.CustomLocalDateTime.nowInUtc;
 import static java.time.format.DateTimeFormatter.ofPattern;
 
-import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportContext;
 import de.caritas.cob.userservice.api.admin.report.model.ViolationReportRule;
 import de.caritas.cob.userservice.api.admin.report.registry.ViolationRuleRegistry;
-import de.caritas.cob.userservice.api.admin.service.agency.AgencyAdminService;
 import de.caritas.cob.userservice.api.model.ViolationDTO;
 import io.swagger.util.Json;
 import java.io.IOException;
@@ -35,7 +34,7 @@ public class ViolationReportGenerator {
   private static final DateTimeFormatter DATE_TIME_FORMAT = ofPattern("yyyy-MM-dd--hh-mm");
 
   private final @NonNull ViolationRuleRegistry violationRuleRegistry;
-  private final @NonNull AgencyAdminService agencyAdminService;
+  private final @NonNull ViolationReportContextProvider violationReportContextProvider;
 
   /**
    * Generates a list of all located known violations.
@@ -44,10 +43,10 @@ public class ViolationReportGenerator {
    */
   @SneakyThrows
   public List<ViolationDTO> generateReport() {
-    List<AgencyAdminResponseDTO> allAgencies = this.agencyAdminService.retrieveAllAgencies();
-    List<ViolationDTO> violations = this.violationRuleRegistry.getViolationReportRules(allAgencies)
+    ViolationReportContext context = this.violationReportContextProvider.buildContext();
+    List<ViolationDTO> violations = this.violationRuleRegistry.getViolationReportRules()
         .stream()
-        .map(ViolationReportRule::generateViolations)
+        .map(reportRule -> reportRule.generateViolations(context))
         .flatMap(Collection::parallelStream)
         .collect(Collectors.toList());
 
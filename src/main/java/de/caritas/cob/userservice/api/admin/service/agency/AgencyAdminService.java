@@ -2,16 +2,13 @@ package de.caritas.cob.userservice.api.admin.service.agency;
 
 import static java.util.Objects.requireNonNull;
 
-import de.caritas.cob.userservice.agencyadminserivce.generated.ApiClient;
 import de.caritas.cob.userservice.agencyadminserivce.generated.web.AdminAgencyControllerApi;
 import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminFullResponseDTO;
 import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
-import de.caritas.cob.userservice.api.service.securityheader.SecurityHeaderSupplier;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 
 /**
@@ -22,7 +19,6 @@ import org.springframework.stereotype.Service;
 public class AgencyAdminService {
 
   private final @NonNull AdminAgencyControllerApi adminAgencyControllerApi;
-  private final @NonNull SecurityHeaderSupplier securityHeaderSupplier;
 
   /**
    * Retrieves all agencies provided by agency service. Important hint: Depending on the amount of
@@ -31,7 +27,6 @@ public class AgencyAdminService {
    * @return all existing agencies
    */
   public List<AgencyAdminResponseDTO> retrieveAllAgencies() {
-    addDefaultHeaders(this.adminAgencyControllerApi.getApiClient());
     return requireNonNull(this.adminAgencyControllerApi.searchAgencies(0, Integer.MAX_VALUE, null)
         .getEmbedded())
         .stream()
@@ -39,9 +34,4 @@ public class AgencyAdminService {
         .collect(Collectors.toList());
   }
 
-  private void addDefaultHeaders(ApiClient apiClient) {
-    HttpHeaders headers = this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
-  }
-
 }
@@ -4,6 +4,7 @@ import de.caritas.cob.userservice.api.admin.service.consultant.querybuilder.Cons
 import de.caritas.cob.userservice.api.model.ConsultantFilter;
 import de.caritas.cob.userservice.api.model.ConsultantSearchResultDTO;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
+import de.caritas.cob.userservice.api.repository.consultant.ConsultantRepository;
 import javax.persistence.EntityManagerFactory;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,7 @@ import org.springframework.stereotype.Service;
 public class ConsultantAdminFilterService {
 
   private final @NonNull EntityManagerFactory entityManagerFactory;
+  private final @NonNull ConsultantRepository consultantRepository;
 
   /**
    * Searches for consultants by given {@link ConsultantFilter}, limits the result by perPage and
@@ -42,7 +44,7 @@ public class ConsultantAdminFilterService {
     fullTextQuery.setFirstResult(Math.max((page - 1) * perPage, 0));
 
     ConsultantSearchResultDTO searchResultDTO = ConsultantSearchResultBuilder
-        .getInstance(fullTextQuery)
+        .getInstance(fullTextQuery, this.consultantRepository)
         .withFilter(consultantFilter)
         .withPage(page)
         .withPerPage(perPage)
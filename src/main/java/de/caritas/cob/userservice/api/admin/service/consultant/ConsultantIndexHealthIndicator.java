@@ -0,0 +1,36 @@
+package de.caritas.cob.userservice.api.admin.service.consultant;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health.Builder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the service as out of service until the consultant search index has been built. The
+ * indicator is part of the readiness group exposed at /actuator/health/readiness, so an instance
+ * receives no traffic before its search index is complete. This requires the readiness probe of
+ * the deployment to call that path, which is therefore reachable without authentication.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConsultantIndexHealthIndicator extends AbstractHealthIndicator {
+
+  private final @NonNull ConsultantReindexer consultantReindexer;
+
+  /**
+   * Sets the health to up if all entities are indexed, to out of service while the indexing is in
+   * progress and to down if the indexing has failed.
+   *
+   * @param builder the {@link Builder} of the health
+   * @throws Exception if the indexing has failed
+   */
+  @Override
+  protected void doHealthCheck(Builder builder) throws Exception {
+    if (this.consultantReindexer.isIndexingDone()) {
+      builder.up();
+    } else {
+      builder.outOfService().withDetail("indexing", "in progress");
+    }
+  }
+}
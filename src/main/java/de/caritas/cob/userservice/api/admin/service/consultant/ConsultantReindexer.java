@@ -1,6 +1,10 @@
 package de.caritas.cob.userservice.api.admin.service.consultant;
 
+import static java.util.Objects.isNull;
+
 import de.caritas.cob.userservice.api.service.LogService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.search.jpa.FullTextEntityManager;
@@ -13,13 +17,40 @@ import org.springframework.beans.factory.InitializingBean;
 public class ConsultantReindexer implements InitializingBean {
 
   private final @NonNull FullTextEntityManager fullTextEntityManager;
+  private final int batchSizeToLoadObjects;
+  private final int threadsToLoadObjects;
+  private final boolean waitForIndexing;
+
+  private volatile Future<?> indexing;
 
   /**
-   * Indexes all entity fields marked as indexed on startup.
+   * Starts to index all entity fields marked as indexed on startup. The startup only waits for the
+   * indexing if configured, otherwise the progress is reported by {@link #isIndexingDone()}.
    */
   @Override
   public void afterPropertiesSet() throws Exception {
     LogService.logInfo("Going to index entities");
-    this.fullTextEntityManager.createIndexer().startAndWait();
+    this.indexing = this.fullTextEntityManager.createIndexer()
+        .batchSizeToLoadObjects(this.batchSizeToLoadObjects)
+        .threadsToLoadObjects(this.threadsToLoadObjects)
+        .start();
+    if (this.waitForIndexing) {
+      this.indexing.get();
+    }
+  }
+
+  /**
+   * Checks if all entities have been indexed.
+   *
+   * @return true if the indexing has finished, false if it has not been started or is in progress
+   * @throws ExecutionException if the indexing has failed
+   * @throws InterruptedException if interrupted while reading the result of the indexing
+   */
+  public boolean isIndexingDone() throws ExecutionException, InterruptedException {
+    if (isNull(this.indexing) || !this.indexing.isDone()) {
+      return false;
+    }
+    this.indexing.get();
+    return true;
   }
 }
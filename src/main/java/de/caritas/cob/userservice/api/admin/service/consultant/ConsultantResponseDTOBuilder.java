@@ -19,10 +19,10 @@ import de.caritas.cob.userservice.generated.api.admin.controller.UseradminApi;
  */
 public class ConsultantResponseDTOBuilder implements HalLinkBuilder {
 
-  private final Consultant consultant;
+  private final ConsultantDTO consultantDTO;
 
-  private ConsultantResponseDTOBuilder(Consultant consultant) {
-    this.consultant = requireNonNull(consultant);
+  private ConsultantResponseDTOBuilder(ConsultantDTO consultantDTO) {
+    this.consultantDTO = requireNonNull(consultantDTO);
   }
 
   /**
@@ -32,7 +32,18 @@ public class ConsultantResponseDTOBuilder implements HalLinkBuilder {
    * @return a instance of {@link ConsultantResponseDTOBuilder}
    */
   public static ConsultantResponseDTOBuilder getInstance(Consultant consultant) {
-    return new ConsultantResponseDTOBuilder(consultant);
+    return new ConsultantResponseDTOBuilder(
+        new ConsultantAdminMapper(requireNonNull(consultant)).mapData());
+  }
+
+  /**
+   * Creates the {@link ConsultantResponseDTOBuilder} instance for an already mapped consultant.
+   *
+   * @param consultantDTO the mapped consultant
+   * @return a instance of {@link ConsultantResponseDTOBuilder}
+   */
+  public static ConsultantResponseDTOBuilder getInstance(ConsultantDTO consultantDTO) {
+    return new ConsultantResponseDTOBuilder(consultantDTO);
   }
 
   /**
@@ -42,7 +53,6 @@ public class ConsultantResponseDTOBuilder implements HalLinkBuilder {
    * @return the generated {@link ConsultantAdminResponseDTO}
    */
   public ConsultantAdminResponseDTO buildResponseDTO() {
-    ConsultantDTO consultantDTO = new ConsultantAdminMapper(this.consultant).mapData();
     ConsultantLinks consultantLinks = new ConsultantLinks()
         .self(buildSelfLink())
         .update(buildUpdateLink())
@@ -51,33 +61,33 @@ public class ConsultantResponseDTOBuilder implements HalLinkBuilder {
         .addAgency(buildAddAgencyLink());
 
     return new ConsultantAdminResponseDTO()
-        .embedded(consultantDTO)
+        .embedded(this.consultantDTO)
         .links(consultantLinks);
   }
 
   private HalLink buildSelfLink() {
     return buildHalLink(methodOn(UseradminApi.class)
-        .getConsultant(this.consultant.getId()), MethodEnum.GET);
+        .getConsultant(this.consultantDTO.getId()), MethodEnum.GET);
   }
 
   private HalLink buildUpdateLink() {
     return buildHalLink(methodOn(UseradminApi.class)
-        .updateConsultant(this.consultant.getId(), null), MethodEnum.PUT);
+        .updateConsultant(this.consultantDTO.getId(), null), MethodEnum.PUT);
   }
 
   private HalLink buildDeleteLink() {
     return buildHalLink(methodOn(UseradminApi.class)
-        .markConsultantForDeletion(this.consultant.getId()), MethodEnum.DELETE);
+        .markConsultantForDeletion(this.consultantDTO.getId()), MethodEnum.DELETE);
   }
 
   private HalLink buildAgenciesLink() {
     return buildHalLink(methodOn(UseradminApi.class)
-        .getConsultantAgency(this.consultant.getId()), MethodEnum.GET);
+        .getConsultantAgency(this.consultantDTO.getId()), MethodEnum.GET);
   }
 
   private HalLink buildAddAgencyLink() {
     return buildHalLink(methodOn(UseradminApi.class)
-        .createConsultantAgency(this.consultant.getId(), null), MethodEnum.POST);
+        .createConsultantAgency(this.consultantDTO.getId(), null), MethodEnum.POST);
   }
 
 }
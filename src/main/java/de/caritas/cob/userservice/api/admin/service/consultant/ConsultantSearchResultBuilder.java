@@ -3,6 +3,7 @@ package de.caritas.cob.userservice.api.admin.service.consultant;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 import de.caritas.cob.userservice.api.admin.hallink.HalLinkBuilder;
+import de.caritas.cob.userservice.api.admin.mapper.ConsultantAdminMapper;
 import de.caritas.cob.userservice.api.model.ConsultantAdminResponseDTO;
 import de.caritas.cob.userservice.api.model.ConsultantDTO;
 import de.caritas.cob.userservice.api.model.ConsultantFilter;
@@ -11,10 +12,14 @@ import de.caritas.cob.userservice.api.model.HalLink;
 import de.caritas.cob.userservice.api.model.HalLink.MethodEnum;
 import de.caritas.cob.userservice.api.model.PaginationLinks;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
+import de.caritas.cob.userservice.api.repository.consultant.ConsultantRepository;
 import de.caritas.cob.userservice.generated.api.admin.controller.UseradminApi;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import org.hibernate.search.engine.ProjectionConstants;
 import org.hibernate.search.jpa.FullTextQuery;
 
 /**
@@ -24,22 +29,27 @@ import org.hibernate.search.jpa.FullTextQuery;
 public class ConsultantSearchResultBuilder implements HalLinkBuilder {
 
   private final FullTextQuery fullTextQuery;
+  private final ConsultantRepository consultantRepository;
   private ConsultantFilter consultantFilter;
   private Integer page;
   private Integer perPage;
 
-  private ConsultantSearchResultBuilder(FullTextQuery fullTextQuery) {
+  private ConsultantSearchResultBuilder(FullTextQuery fullTextQuery,
+      ConsultantRepository consultantRepository) {
     this.fullTextQuery = fullTextQuery;
+    this.consultantRepository = consultantRepository;
   }
 
   /**
    * Creates the {@link ConsultantSearchResultBuilder} instance.
    *
    * @param fullTextQuery mandatory filtered search query for result extraction
+   * @param consultantRepository the repository to load the consultants of the result page
    * @return a instance of {@link ConsultantSearchResultBuilder}
    */
-  public static ConsultantSearchResultBuilder getInstance(FullTextQuery fullTextQuery) {
-    return new ConsultantSearchResultBuilder(fullTextQuery);
+  public static ConsultantSearchResultBuilder getInstance(FullTextQuery fullTextQuery,
+      ConsultantRepository consultantRepository) {
+    return new ConsultantSearchResultBuilder(fullTextQuery, consultantRepository);
   }
 
   /**
@@ -77,26 +87,46 @@ public class ConsultantSearchResultBuilder implements HalLinkBuilder {
 
   /**
    * Generates the {@link ConsultantSearchResultDTO} containing all results and navigation hal
-   * links.
+   * links. The search index only provides the ids and the total count of the matching consultants,
+   * the data of the consultants of the page is loaded from the database with one query.
    *
    * @return the generated {@link ConsultantSearchResultDTO}
    */
+  @SuppressWarnings("unchecked")
   public ConsultantSearchResultDTO buildConsultantSearchResult() {
-    Stream<Consultant> resultStream = fullTextQuery.getResultStream();
-    List<ConsultantAdminResponseDTO> resultList = resultStream
+    fullTextQuery.setProjection(ProjectionConstants.ID);
+    List<String> consultantIds = ((List<Object[]>) fullTextQuery.getResultList()).stream()
+        .map(projection -> (String) projection[0])
+        .collect(Collectors.toList());
+    List<ConsultantAdminResponseDTO> resultList = loadConsultantsInOrder(consultantIds).stream()
+        .map(consultant -> new ConsultantAdminMapper(consultant).mapData())
         .map(ConsultantResponseDTOBuilder::getInstance)
         .map(ConsultantResponseDTOBuilder::buildResponseDTO)
         .collect(Collectors.toList());
+    int resultSize = fullTextQuery.getResultSize();
 
     PaginationLinks paginationLinks = new PaginationLinks()
         .self(buildSelfLink())
-        .next(buildNextLink())
+        .next(buildNextLink(resultSize))
         .previous(buildPreviousLink());
 
     return new ConsultantSearchResultDTO()
         .embedded(resultList)
         .links(paginationLinks)
-        .total(fullTextQuery.getResultSize());
+        .total(resultSize);
+  }
+
+  private List<Consultant> loadConsultantsInOrder(List<String> consultantIds) {
+    if (consultantIds.isEmpty()) {
+      return List.of();
+    }
+    Map<String, Consultant> consultantsById = this.consultantRepository.findByIdIn(consultantIds)
+        .stream()
+        .collect(Collectors.toMap(Consultant::getId, Function.identity()));
+    return consultantIds.stream()
+        .map(consultantsById::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
   }
 
   private HalLink buildSelfLink() {
@@ -109,15 +139,15 @@ public class ConsultantSearchResultBuilder implements HalLinkBuilder {
         MethodEnum.GET);
   }
 
-  private HalLink buildNextLink() {
-    if (hasNextPage()) {
+  private HalLink buildNextLink(int resultSize) {
+    if (hasNextPage(resultSize)) {
       return buildHalLinkForParams(this.page + 1, this.perPage);
     }
     return null;
   }
 
-  private boolean hasNextPage() {
-    return this.fullTextQuery.getResultSize() > this.page * this.perPage;
+  private boolean hasNextPage(int resultSize) {
+    return resultSize > this.page * this.perPage;
   }
 
   private HalLink buildPreviousLink() {
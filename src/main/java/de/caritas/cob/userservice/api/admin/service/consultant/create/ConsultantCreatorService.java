@@ -7,6 +7,7 @@ import static org.hibernate.validator.internal.util.CollectionHelper.asSet;
 import de.caritas.cob.userservice.api.admin.service.consultant.validation.UserAccountInputValidator;
 import de.caritas.cob.userservice.api.admin.service.consultant.validation.CreateConsultantDTOAbsenceInputAdapter;
 import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
+import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatDeleteUserException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatLoginException;
 import de.caritas.cob.userservice.api.helper.UserHelper;
 import de.caritas.cob.userservice.api.helper.UsernameTranscoder;
@@ -16,6 +17,7 @@ import de.caritas.cob.userservice.api.model.registration.UserDTO;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
 import de.caritas.cob.userservice.api.service.ConsultantImportService.ImportRecord;
 import de.caritas.cob.userservice.api.service.ConsultantService;
+import de.caritas.cob.userservice.api.service.LogService;
 import de.caritas.cob.userservice.api.service.rocketchat.RocketChatService;
 import de.caritas.cob.userservice.api.service.helper.KeycloakAdminClientService;
 import java.util.Set;
@@ -68,6 +70,41 @@ public class ConsultantCreatorService {
 
   private Consultant createNewConsultant(ConsultantCreationInput consultantCreationInput,
       Set<String> roles) {
+    return consultantService.saveConsultant(
+        createConsultantAccounts(consultantCreationInput, roles));
+  }
+
+  /**
+   * Creates the keycloak and rocket chat accounts of a new {@link Consultant} by {@link
+   * ImportRecord}. The returned {@link Consultant} is not saved in database, so that the importer
+   * service can save all created consultants in one batch.
+   *
+   * @param importRecord the input record from csv used by the importer service
+   * @param roles the roles to add to given {@link Consultant}
+   * @return the unsaved {@link Consultant}
+   */
+  public Consultant createNewConsultantAccounts(ImportRecord importRecord, Set<String> roles) {
+    return createConsultantAccounts(new ImportRecordCreationInputAdapter(importRecord), roles);
+  }
+
+  /**
+   * Removes the keycloak and rocket chat accounts created by {@link
+   * #createNewConsultantAccounts(ImportRecord, Set)}, e.g. if the consultant could not be saved.
+   *
+   * @param consultant the {@link Consultant} whose accounts should be removed
+   */
+  public void rollBackConsultantAccounts(Consultant consultant) {
+    try {
+      this.rocketChatService.deleteUser(consultant.getRocketChatId());
+    } catch (RocketChatDeleteUserException e) {
+      LogService.logRocketChatError(String.format(
+          "Rocket.Chat user %s could not be removed/rolled back", consultant.getRocketChatId()), e);
+    }
+    this.keycloakAdminClientService.rollBackUser(consultant.getId());
+  }
+
+  private Consultant createConsultantAccounts(ConsultantCreationInput consultantCreationInput,
+      Set<String> roles) {
     String keycloakUserId = createKeycloakUser(consultantCreationInput);
 
     String password = userHelper.getRandomPassword();
@@ -77,8 +114,7 @@ public class ConsultantCreatorService {
     String rocketChatUserId =
         createRocketChatUser(consultantCreationInput, keycloakUserId, password);
 
-    return consultantService.saveConsultant(
-        buildConsultant(consultantCreationInput, keycloakUserId, rocketChatUserId));
+    return buildConsultant(consultantCreationInput, keycloakUserId, rocketChatUserId);
   }
 
   private String createKeycloakUser(ConsultantCreationInput consultantCreationInput) {
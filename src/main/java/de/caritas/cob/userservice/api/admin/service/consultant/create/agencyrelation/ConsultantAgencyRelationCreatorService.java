@@ -6,6 +6,7 @@ import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 
 import de.caritas.cob.userservice.api.admin.service.rocketchat.RocketChatAddToGroupOperationService;
+import de.caritas.cob.userservice.api.admin.service.rocketchat.RocketChatAddToGroupsBatchOperationService;
 import de.caritas.cob.userservice.api.exception.httpresponses.BadRequestException;
 import de.caritas.cob.userservice.api.facade.RocketChatFacade;
 import de.caritas.cob.userservice.api.model.AgencyDTO;
@@ -22,10 +23,13 @@ import de.caritas.cob.userservice.api.service.ConsultantImportService.ImportReco
 import de.caritas.cob.userservice.api.service.LogService;
 import de.caritas.cob.userservice.api.service.agency.AgencyService;
 import de.caritas.cob.userservice.api.service.helper.KeycloakAdminClientService;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -59,6 +63,69 @@ public class ConsultantAgencyRelationCreatorService {
         .forEach(input -> createNewConsultantAgency(input, logMethod));
   }
 
+  /**
+   * Builds the {@link ConsultantAgency} relations of an imported {@link Consultant} without
+   * saving them, so that the importer service can save the relations of all consultants in one
+   * batch. The agencies are resolved by the given prefetched agencies and the consultant is marked
+   * as team consultant if one of the agencies is a team agency.
+   *
+   * @param consultant   the consultant
+   * @param agencyIds    the agency ids to be added
+   * @param roles        the roles
+   * @param agenciesById the prefetched agencies by their id
+   * @return the unsaved {@link ConsultantAgency} relations
+   */
+  public List<ConsultantAgency> buildConsultantAgencyRelations(Consultant consultant,
+      Set<Long> agencyIds, Set<String> roles, Map<Long, AgencyDTO> agenciesById) {
+    this.checkConsultantHasRole(consultant.getId(), roles);
+
+    List<AgencyDTO> agencies = agencyIds.stream()
+        .map(agencyId -> retrieveAgency(agencyId, agenciesById))
+        .collect(Collectors.toList());
+    Set<Long> assignedAgencyIds = collectAssignedAgencyIds(consultant, agencyIds);
+
+    agencies.forEach(agency -> {
+      if (U25.equals(agency.getConsultingType()) || agency.getConsultingType().isGroupChat()) {
+        this.verifyAllAgenciesHaveSameConsultingType(agency.getConsultingType(), consultant,
+            assignedAgencyIds, agenciesById);
+      }
+      if (isTeamAgencyButNotTeamConsultant(agency, consultant)) {
+        consultant.setTeamConsultant(true);
+      }
+    });
+
+    return agencies.stream()
+        .map(agency -> buildConsultantAgency(consultant, agency.getId()))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Adds the given consultants to the Rocket.Chat groups of the relevant sessions of their new
+   * agencies. The sessions are loaded once per agency and each group is processed once with all
+   * of its consultants.
+   *
+   * @param consultantsByAgencyId the consultants by the id of their new agency
+   * @param agenciesById          the prefetched agencies by their id
+   * @param logMethod             the methode used for logging
+   * @return the ids of the groups the consultants could not be added to
+   */
+  public Set<String> addConsultantsToSessionsOfAgencies(
+      Map<Long, List<Consultant>> consultantsByAgencyId, Map<Long, AgencyDTO> agenciesById,
+      Consumer<String> logMethod) {
+    RocketChatAddToGroupsBatchOperationService batchOperation =
+        RocketChatAddToGroupsBatchOperationService
+            .getInstance(this.rocketChatFacade, this.keycloakAdminClientService, logMethod);
+
+    consultantsByAgencyId.forEach((agencyId, consultants) -> {
+      List<Session> relevantSessions =
+          collectRelevantSessionsToAddConsultant(retrieveAgency(agencyId, agenciesById));
+      consultants.forEach(
+          consultant -> batchOperation.withConsultantOnSessions(consultant, relevantSessions));
+    });
+
+    return batchOperation.addToGroups();
+  }
+
   /**
    * Creates a new {@link ConsultantAgency} based on the consultantId and {@link
    * CreateConsultantAgencyDTO} input.
@@ -102,13 +169,16 @@ public class ConsultantAgencyRelationCreatorService {
   }
 
   private void checkConsultantHasRole(ConsultantAgencyCreationInput input) {
-    input.getRoles().stream()
-        .filter(role -> keycloakAdminClientService.userHasRole(input.getConsultantId(), role))
+    checkConsultantHasRole(input.getConsultantId(), input.getRoles());
+  }
+
+  private void checkConsultantHasRole(String consultantId, Set<String> roles) {
+    roles.stream()
+        .filter(role -> keycloakAdminClientService.userHasRole(consultantId, role))
         .findAny()
         .orElseThrow(() -> new BadRequestException(
-            String
-                .format("Consultant with id %s does not have the role %s", input.getConsultantId(),
-                    input.getRoles())));
+            String.format("Consultant with id %s does not have the role %s", consultantId,
+                roles)));
   }
 
   private AgencyDTO retrieveAgency(Long agencyId) {
@@ -118,6 +188,34 @@ public class ConsultantAgencyRelationCreatorService {
             String.format("AgencyId %s is not a valid agency", agencyId)));
   }
 
+  private AgencyDTO retrieveAgency(Long agencyId, Map<Long, AgencyDTO> agenciesById) {
+    AgencyDTO agencyDto = agenciesById.get(agencyId);
+    return nonNull(agencyDto) ? agencyDto : retrieveAgency(agencyId);
+  }
+
+  private Set<Long> collectAssignedAgencyIds(Consultant consultant, Set<Long> agencyIds) {
+    Set<Long> assignedAgencyIds = new HashSet<>(agencyIds);
+    if (nonNull(consultant.getConsultantAgencies())) {
+      consultant.getConsultantAgencies().stream()
+          .map(ConsultantAgency::getAgencyId)
+          .forEach(assignedAgencyIds::add);
+    }
+    return assignedAgencyIds;
+  }
+
+  private void verifyAllAgenciesHaveSameConsultingType(ConsultingType consultingType,
+      Consultant consultant, Set<Long> agencyIds, Map<Long, AgencyDTO> agenciesById) {
+    agencyIds.stream()
+        .map(agencyId -> retrieveAgency(agencyId, agenciesById))
+        .filter(agency -> !agency.getConsultingType().equals(consultingType))
+        .findFirst()
+        .ifPresent(agency -> {
+          throw new BadRequestException(String
+              .format("ERROR: different consulting types found than %s for consultant with id %s",
+                  consultingType.getUrlName(), consultant.getId()));
+        });
+  }
+
   private void verifyAllAssignedAgenciesHaveSameConsultingType(ConsultingType consultingType,
       Consultant consultant) {
     if (nonNull(consultant.getConsultantAgencies())) {
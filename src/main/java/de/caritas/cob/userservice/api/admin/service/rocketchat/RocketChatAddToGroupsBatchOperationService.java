@@ -0,0 +1,122 @@
+package de.caritas.cob.userservice.api.admin.service.rocketchat;
+
+import de.caritas.cob.userservice.api.facade.RocketChatFacade;
+import de.caritas.cob.userservice.api.facade.RocketChatGroupOperations;
+import de.caritas.cob.userservice.api.repository.consultant.Consultant;
+import de.caritas.cob.userservice.api.repository.session.Session;
+import de.caritas.cob.userservice.api.service.LogService;
+import de.caritas.cob.userservice.api.service.helper.KeycloakAdminClientService;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Provider for adding several consultants to the Rocket.Chat groups of their sessions. The
+ * consultants are collected per group first and each group is processed once with all of its
+ * consultants.
+ */
+public class RocketChatAddToGroupsBatchOperationService {
+
+  private final RocketChatFacade rocketChatFacade;
+  private final KeycloakAdminClientService keycloakAdminClientService;
+  private final Consumer<String> logMethod;
+  private final Map<String, Set<String>> rcUserIdsByGroupId = new LinkedHashMap<>();
+
+  private RocketChatAddToGroupsBatchOperationService(RocketChatFacade rocketChatFacade,
+      KeycloakAdminClientService keycloakAdminClientService, Consumer<String> logMethod) {
+    this.rocketChatFacade = rocketChatFacade;
+    this.keycloakAdminClientService = keycloakAdminClientService;
+    this.logMethod = logMethod;
+  }
+
+  /**
+   * Creates the {@link RocketChatAddToGroupsBatchOperationService} instance.
+   *
+   * @param rocketChatFacade the target service to perform operations
+   * @param keycloakAdminClientService the service to check the roles of consultants
+   * @param logMethod the method used for logging
+   * @return the {@link RocketChatAddToGroupsBatchOperationService} instance
+   */
+  public static RocketChatAddToGroupsBatchOperationService getInstance(
+      RocketChatFacade rocketChatFacade, KeycloakAdminClientService keycloakAdminClientService,
+      Consumer<String> logMethod) {
+    return new RocketChatAddToGroupsBatchOperationService(rocketChatFacade,
+        keycloakAdminClientService, logMethod);
+  }
+
+  /**
+   * Collects the groups of the given {@link Session} list the {@link Consultant} has to be added
+   * to.
+   *
+   * @param consultant the consultant to add in the groups
+   * @param sessions the {@link Session} list
+   * @return the {@link RocketChatAddToGroupsBatchOperationService} instance
+   */
+  public RocketChatAddToGroupsBatchOperationService withConsultantOnSessions(
+      Consultant consultant, List<Session> sessions) {
+    sessions.forEach(session -> collectGroupsOfSession(session, consultant));
+    return this;
+  }
+
+  private void collectGroupsOfSession(Session session, Consultant consultant) {
+    var operationConditionProvider =
+        new RocketChatOperationConditionProvider(this.keycloakAdminClientService, session,
+            consultant);
+
+    if (operationConditionProvider.canAddToRocketChatGroup()) {
+      collectGroup(session.getGroupId(), consultant);
+    }
+    if (operationConditionProvider.canAddToRocketChatFeedbackGroup()) {
+      collectGroup(session.getFeedbackGroupId(), consultant);
+    }
+  }
+
+  private void collectGroup(String groupId, Consultant consultant) {
+    this.rcUserIdsByGroupId.computeIfAbsent(groupId, id -> new LinkedHashSet<>())
+        .add(consultant.getRocketChatId());
+  }
+
+  /**
+   * Adds the collected consultants to their groups. A failure in one group does not affect the
+   * other groups.
+   *
+   * @return the ids of the groups the consultants could not be added to
+   */
+  public Set<String> addToGroups() {
+    Set<String> processedGroupIds = ConcurrentHashMap.newKeySet();
+    Map<String, Consumer<RocketChatGroupOperations>> operationsByGroupId = new LinkedHashMap<>();
+    this.rcUserIdsByGroupId.forEach((groupId, rcUserIds) -> operationsByGroupId.put(groupId,
+        group -> addUsersToGroup(group, rcUserIds, processedGroupIds)));
+
+    try {
+      if (!operationsByGroupId.isEmpty()) {
+        this.rocketChatFacade.executeInGroups(operationsByGroupId);
+      }
+    } catch (Exception e) {
+      LogService.logRocketChatError(e);
+    }
+
+    Set<String> failedGroupIds = new HashSet<>(this.rcUserIdsByGroupId.keySet());
+    failedGroupIds.removeAll(processedGroupIds);
+    return failedGroupIds;
+  }
+
+  private void addUsersToGroup(RocketChatGroupOperations group, Set<String> rcUserIds,
+      Set<String> processedGroupIds) {
+    try {
+      rcUserIds.forEach(group::addUser);
+      processedGroupIds.add(group.getGroupId());
+      this.logMethod.accept(String.format("%s consultant(s) added to rc group %s.",
+          rcUserIds.size(), group.getGroupId()));
+    } catch (Exception e) {
+      this.logMethod.accept(String.format("ERROR: Consultants could not be added to rc group %s: %s",
+          group.getGroupId(), e.getMessage()));
+    }
+  }
+
+}
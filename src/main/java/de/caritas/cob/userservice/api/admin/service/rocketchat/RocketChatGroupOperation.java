@@ -5,11 +5,16 @@ import static de.caritas.cob.userservice.api.authorization.Authorities.Authority
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 import de.caritas.cob.userservice.api.facade.RocketChatFacade;
+import de.caritas.cob.userservice.api.model.rocketchat.group.GroupMemberDTO;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
 import de.caritas.cob.userservice.api.repository.session.Session;
 import de.caritas.cob.userservice.api.repository.session.SessionStatus;
 import de.caritas.cob.userservice.api.service.LogService;
 import de.caritas.cob.userservice.api.service.helper.KeycloakAdminClientService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +27,8 @@ abstract class RocketChatGroupOperation {
 
   protected Consumer<String> logMethod = LogService::logInfo;
 
+  private final Map<String, List<GroupMemberDTO>> groupMembersByGroupId = new HashMap<>();
+
   void addConsultantToGroupOfSession(Session session, Consultant consultant) {
     var operationConditionProvider =
         new RocketChatOperationConditionProvider(this.keycloakAdminClientService, session,
@@ -29,6 +36,7 @@ abstract class RocketChatGroupOperation {
 
     if (operationConditionProvider.canAddToRocketChatGroup()) {
       rocketChatFacade.addUserToRocketChatGroup(consultant.getRocketChatId(), session.getGroupId());
+      this.groupMembersByGroupId.remove(session.getGroupId());
       logMethod.accept(String.format("Consultant added to rc group %s (%s).",
           session.getGroupId(), resolveTypeOfSession(session)));
     }
@@ -36,6 +44,7 @@ abstract class RocketChatGroupOperation {
     if (operationConditionProvider.canAddToRocketChatFeedbackGroup()) {
       rocketChatFacade
           .addUserToRocketChatGroup(consultant.getRocketChatId(), session.getFeedbackGroupId());
+      this.groupMembersByGroupId.remove(session.getFeedbackGroupId());
       logMethod.accept(String.format("Consultant added to rc feedback group %s (%s).",
           session.getFeedbackGroupId(), resolveTypeOfSession(session)));
     }
@@ -51,14 +60,12 @@ abstract class RocketChatGroupOperation {
   void removeConsultantFromSession(Session session, Consultant consultant) {
     if (isUserInRocketChatGroup(session.getGroupId(), consultant)
         && consultantHasNoAuthorityTo(VIEW_ALL_PEER_SESSIONS, consultant)) {
-      this.rocketChatFacade
-          .removeUserFromGroup(consultant.getRocketChatId(), session.getGroupId());
+      removeUserFromGroup(session.getGroupId(), consultant);
     }
 
     if (isUserInRocketChatGroup(session.getFeedbackGroupId(), consultant)
         && consultantHasNoAuthorityTo(VIEW_ALL_FEEDBACK_SESSIONS, consultant)) {
-      this.rocketChatFacade
-          .removeUserFromGroup(consultant.getRocketChatId(), session.getFeedbackGroupId());
+      removeUserFromGroup(session.getFeedbackGroupId(), consultant);
     }
   }
 
@@ -66,10 +73,25 @@ abstract class RocketChatGroupOperation {
     if (isBlank(rcGroupId)) {
       return false;
     }
-    return this.rocketChatFacade.retrieveRocketChatMembers(rcGroupId).stream()
+    return retrieveGroupMembers(rcGroupId).stream()
         .anyMatch(groupMember -> groupMember.get_id().equals(consultant.getRocketChatId()));
   }
 
+  /**
+   * The members of a group are loaded once per operation instance and kept up to date with the
+   * removals performed by this operation.
+   */
+  private List<GroupMemberDTO> retrieveGroupMembers(String rcGroupId) {
+    return this.groupMembersByGroupId.computeIfAbsent(rcGroupId,
+        groupId -> new ArrayList<>(this.rocketChatFacade.retrieveRocketChatMembers(groupId)));
+  }
+
+  private void removeUserFromGroup(String rcGroupId, Consultant consultant) {
+    this.rocketChatFacade.removeUserFromGroup(consultant.getRocketChatId(), rcGroupId);
+    retrieveGroupMembers(rcGroupId)
+        .removeIf(groupMember -> groupMember.get_id().equals(consultant.getRocketChatId()));
+  }
+
   private boolean consultantHasNoAuthorityTo(String authorityValue, Consultant consultant) {
     return !keycloakAdminClientService.userHasAuthority(consultant.getId(), authorityValue);
   }
@@ -1,6 +1,7 @@
 package de.caritas.cob.userservice.api.controller;
 
 import de.caritas.cob.userservice.api.service.liveevents.LiveEventNotificationService;
+import de.caritas.cob.userservice.api.service.session.SessionService;
 import de.caritas.cob.userservice.generated.api.controller.LiveproxyApi;
 import io.swagger.annotations.Api;
 import lombok.NonNull;
@@ -19,15 +20,18 @@ import org.springframework.web.bind.annotation.RestController;
 public class LiveProxyController implements LiveproxyApi {
 
   private final @NonNull LiveEventNotificationService liveEventNotificationService;
+  private final @NonNull SessionService sessionService;
 
   /**
-   * Sends a live event to all relevant users according to the rocket chat group id.
+   * Stores the date of the new message for the session list and sends a live event to all
+   * relevant users according to the rocket chat group id.
    *
    * @param rcGroupId Rocket Chat group id (required)
    * @return {@link ResponseEntity} with status ok if no error occurs
    */
   @Override
   public ResponseEntity<Void> sendLiveEvent(@RequestParam String rcGroupId) {
+    this.sessionService.updateLatestMessageDate(rcGroupId);
     this.liveEventNotificationService.sendLiveDirectMessageEventToUsers(rcGroupId);
     return new ResponseEntity<>(HttpStatus.OK);
   }
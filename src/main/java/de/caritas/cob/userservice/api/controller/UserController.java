@@ -35,6 +35,7 @@ import de.caritas.cob.userservice.api.model.ConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.model.CreateChatResponseDTO;
 import de.caritas.cob.userservice.api.model.DeleteUserAccountDTO;
 import de.caritas.cob.userservice.api.model.EnquiryMessageDTO;
+import de.caritas.cob.userservice.api.model.ImportJobDTO;
 import de.caritas.cob.userservice.api.model.MasterKeyDTO;
 import de.caritas.cob.userservice.api.model.MobileTokenDTO;
 import de.caritas.cob.userservice.api.model.NewMessageNotificationDTO;
@@ -63,6 +64,7 @@ import de.caritas.cob.userservice.api.service.DecryptionService;
 import de.caritas.cob.userservice.api.service.LogService;
 import de.caritas.cob.userservice.api.service.MonitoringService;
 import de.caritas.cob.userservice.api.service.SessionDataService;
+import de.caritas.cob.userservice.api.service.importjob.ImportJob;
 import de.caritas.cob.userservice.api.service.session.SessionService;
 import de.caritas.cob.userservice.api.service.user.ValidatedUserAccountProvider;
 import de.caritas.cob.userservice.generated.api.controller.UsersApi;
@@ -365,29 +367,45 @@ public class  UserController implements UsersApi {
   }
 
   /**
-   * Imports a file list of askers. Technical user authorization required.
+   * Starts the import of a file list of askers in the background. Technical user authorization
+   * required.
    *
-   * @return {@link ResponseEntity} containing {@link HttpStatus}
+   * @return {@link ResponseEntity} containing the {@link ImportJobDTO} of the started import
    */
   @Override
-  public ResponseEntity<Void> importAskers() {
+  public ResponseEntity<ImportJobDTO> importAskers() {
 
-    askerImportService.startImport();
+    ImportJob importJob = askerImportService.startImport();
 
-    return new ResponseEntity<>(HttpStatus.OK);
+    return new ResponseEntity<>(importJob.toImportJobDTO(), HttpStatus.ACCEPTED);
   }
 
   /**
-   * Imports a file list of askers without a session. Technical user authorization required.
+   * Returns the progress of an asker import job. Technical user authorization required.
    *
-   * @return {@link ResponseEntity} containing {@link HttpStatus}
+   * @param jobId the id of the import job
+   * @return {@link ResponseEntity} containing the {@link ImportJobDTO}
    */
   @Override
-  public ResponseEntity<Void> importAskersWithoutSession() {
+  public ResponseEntity<ImportJobDTO> getAskerImportJob(@PathVariable String jobId) {
 
-    askerImportService.startImportForAskersWithoutSession();
+    ImportJob importJob = askerImportService.findImportJob(jobId);
 
-    return new ResponseEntity<>(HttpStatus.OK);
+    return new ResponseEntity<>(importJob.toImportJobDTO(), HttpStatus.OK);
+  }
+
+  /**
+   * Starts the import of a file list of askers without a session in the background. Technical
+   * user authorization required.
+   *
+   * @return {@link ResponseEntity} containing the {@link ImportJobDTO} of the started import
+   */
+  @Override
+  public ResponseEntity<ImportJobDTO> importAskersWithoutSession() {
+
+    ImportJob importJob = askerImportService.startImportForAskersWithoutSession();
+
+    return new ResponseEntity<>(importJob.toImportJobDTO(), HttpStatus.ACCEPTED);
   }
 
   /**
@@ -3,9 +3,10 @@ package de.caritas.cob.userservice.api.conversation.provider;
 import static de.caritas.cob.userservice.api.conversation.model.ConversationListType.ANONYMOUS_ENQUIRY;
 import static de.caritas.cob.userservice.api.repository.session.RegistrationType.ANONYMOUS;
 
+import de.caritas.cob.userservice.api.container.RocketChatCredentials;
 import de.caritas.cob.userservice.api.conversation.model.ConversationListType;
 import de.caritas.cob.userservice.api.conversation.model.PageableListRequest;
-import de.caritas.cob.userservice.api.service.sessionlist.ConsultantSessionEnricher;
+import de.caritas.cob.userservice.api.facade.sessionlist.RocketChatRoomInformationProvider;
 import de.caritas.cob.userservice.api.model.AgencyDTO;
 import de.caritas.cob.userservice.api.model.ConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.model.ConsultantSessionResponseDTO;
@@ -17,6 +18,7 @@ import de.caritas.cob.userservice.api.repository.session.SessionRepository;
 import de.caritas.cob.userservice.api.repository.session.SessionStatus;
 import de.caritas.cob.userservice.api.service.agency.AgencyService;
 import de.caritas.cob.userservice.api.service.session.SessionMapper;
+import de.caritas.cob.userservice.api.service.sessionlist.ConsultantSessionEnricher;
 import de.caritas.cob.userservice.api.service.user.ValidatedUserAccountProvider;
 import java.util.List;
 import java.util.Set;
@@ -38,6 +40,7 @@ public class AnonymousEnquiryConversationListProvider implements ConversationLis
   private final @NonNull SessionRepository sessionRepository;
   private final @NonNull AgencyService agencyService;
   private final @NonNull ConsultantSessionEnricher consultantSessionEnricher;
+  private final @NonNull RocketChatRoomInformationProvider rocketChatRoomInformationProvider;
 
   /**
    * Builds the {@link ConsultantSessionListResponseDTO}.
@@ -58,9 +61,16 @@ public class AnonymousEnquiryConversationListProvider implements ConversationLis
         .map(session -> new SessionMapper().toConsultantSessionDto(session))
         .collect(Collectors.toList());
 
-    sessions.forEach(session -> this.consultantSessionEnricher
-        .updateRequiredConsultantSessionValues(session, pageableListRequest.getRcToken(),
-            consultant));
+    if (!sessions.isEmpty()) {
+      var rocketChatRoomInformation = this.rocketChatRoomInformationProvider
+          .retrieveRocketChatInformation(RocketChatCredentials.builder()
+              .rocketChatToken(pageableListRequest.getRcToken())
+              .rocketChatUserId(consultant.getRocketChatId())
+              .build());
+      sessions.forEach(session -> this.consultantSessionEnricher
+          .updateRequiredConsultantSessionValues(session, rocketChatRoomInformation,
+              consultant));
+    }
 
     return new ConsultantSessionListResponseDTO()
         .sessions(sessions)
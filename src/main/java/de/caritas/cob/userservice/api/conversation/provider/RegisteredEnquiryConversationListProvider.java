@@ -2,14 +2,16 @@ package de.caritas.cob.userservice.api.conversation.provider;
 
 import static de.caritas.cob.userservice.api.conversation.model.ConversationListType.REGISTERED_ENQUIRY;
 
+import de.caritas.cob.userservice.api.container.RocketChatCredentials;
 import de.caritas.cob.userservice.api.conversation.model.ConversationListType;
 import de.caritas.cob.userservice.api.conversation.model.PageableListRequest;
-import de.caritas.cob.userservice.api.service.sessionlist.ConsultantSessionEnricher;
+import de.caritas.cob.userservice.api.facade.sessionlist.RocketChatRoomInformationProvider;
 import de.caritas.cob.userservice.api.model.ConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.model.ConsultantSessionResponseDTO;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
 import de.caritas.cob.userservice.api.repository.session.RegistrationType;
 import de.caritas.cob.userservice.api.service.session.SessionService;
+import de.caritas.cob.userservice.api.service.sessionlist.ConsultantSessionEnricher;
 import de.caritas.cob.userservice.api.service.user.ValidatedUserAccountProvider;
 import java.util.List;
 import lombok.NonNull;
@@ -27,6 +29,7 @@ public class RegisteredEnquiryConversationListProvider implements ConversationLi
   private final @NonNull ValidatedUserAccountProvider userAccountProvider;
   private final @NonNull SessionService sessionService;
   private final @NonNull ConsultantSessionEnricher consultantSessionEnricher;
+  private final @NonNull RocketChatRoomInformationProvider rocketChatRoomInformationProvider;
 
   /**
    * Builds the {@link ConsultantSessionListResponseDTO}.
@@ -46,9 +49,16 @@ public class RegisteredEnquiryConversationListProvider implements ConversationLi
     enquiriesForConsultant.setPageSize(pageableListRequest.getCount());
 
     List<ConsultantSessionResponseDTO> pageList = enquiriesForConsultant.getPageList();
-    pageList.forEach(sessionResponse -> this.consultantSessionEnricher
-        .updateRequiredConsultantSessionValues(sessionResponse,
-            pageableListRequest.getRcToken(), consultant));
+    if (!pageList.isEmpty()) {
+      var rocketChatRoomInformation = this.rocketChatRoomInformationProvider
+          .retrieveRocketChatInformation(RocketChatCredentials.builder()
+              .rocketChatToken(pageableListRequest.getRcToken())
+              .rocketChatUserId(consultant.getRocketChatId())
+              .build());
+      pageList.forEach(sessionResponse -> this.consultantSessionEnricher
+          .updateRequiredConsultantSessionValues(sessionResponse, rocketChatRoomInformation,
+              consultant));
+    }
 
     return new ConsultantSessionListResponseDTO()
         .sessions(pageList)
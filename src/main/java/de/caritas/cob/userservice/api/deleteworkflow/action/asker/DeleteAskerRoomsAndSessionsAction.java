@@ -5,22 +5,22 @@ import static de.caritas.cob.userservice.api.deleteworkflow.model.DeletionSource
 import static de.caritas.cob.userservice.api.deleteworkflow.model.DeletionTargetType.DATABASE;
 import static de.caritas.cob.userservice.api.deleteworkflow.model.DeletionTargetType.ROCKET_CHAT;
 import static de.caritas.cob.userservice.localdatetime.CustomLocalDateTime.nowInUtc;
+import static java.util.Collections.emptyList;
+import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import de.caritas.cob.userservice.api.deleteworkflow.model.DeletionWorkflowError;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatDeleteGroupException;
-import de.caritas.cob.userservice.api.repository.monitoring.Monitoring;
 import de.caritas.cob.userservice.api.repository.monitoring.MonitoringRepository;
 import de.caritas.cob.userservice.api.repository.session.Session;
 import de.caritas.cob.userservice.api.repository.session.SessionRepository;
-import de.caritas.cob.userservice.api.repository.sessiondata.SessionData;
 import de.caritas.cob.userservice.api.repository.sessiondata.SessionDataRepository;
 import de.caritas.cob.userservice.api.repository.user.User;
 import de.caritas.cob.userservice.api.service.LogService;
 import de.caritas.cob.userservice.api.service.rocketchat.RocketChatService;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -40,27 +40,34 @@ public class DeleteAskerRoomsAndSessionsAction implements DeleteAskerAction {
 
   /**
    * Deletes all Rocket.Chat rooms containing all messages and uploads and sessions in database
-   * of a given {@link User}.
+   * of a given {@link User}. The monitorings, session data and sessions of all sessions are
+   * deleted with one statement each.
    *
    * @param user the user for session and room deletion
    * @return a generated {@link List} containing possible {@link DeletionWorkflowError}
    */
   @Override
   public List<DeletionWorkflowError> execute(User user) {
-    return this.sessionRepository.findByUser(user).stream()
-        .map(this::performSessionDeletion)
-        .flatMap(Collection::stream)
-        .collect(Collectors.toList());
-  }
+    List<Session> sessions = this.sessionRepository.findByUser(user);
+    if (isEmpty(sessions)) {
+      return emptyList();
+    }
 
-  private List<DeletionWorkflowError> performSessionDeletion(Session session) {
     List<DeletionWorkflowError> workflowErrors = new ArrayList<>();
+    sessions.forEach(session -> {
+      deleteRocketChatGroup(session.getGroupId(), workflowErrors);
+      deleteRocketChatGroup(session.getFeedbackGroupId(), workflowErrors);
+    });
 
-    deleteRocketChatGroup(session.getGroupId(), workflowErrors);
-    deleteRocketChatGroup(session.getFeedbackGroupId(), workflowErrors);
-    deleteMonitorings(session, workflowErrors);
-    deleteSessionData(session, workflowErrors);
-    deleteSession(session, workflowErrors);
+    List<Long> sessionIds = sessions.stream()
+        .map(Session::getId)
+        .collect(Collectors.toList());
+    deleteInDatabase(sessionIds, this::deleteMonitorings,
+        "Unable to delete monitorings from session", workflowErrors);
+    deleteInDatabase(sessionIds, this.sessionDataRepository::deleteBySessionIdIn,
+        "Unable to delete session data from session", workflowErrors);
+    deleteInDatabase(sessionIds, this.sessionRepository::deleteByIdIn,
+        "Unable to delete session", workflowErrors);
 
     return workflowErrors;
   }
@@ -85,56 +92,26 @@ public class DeleteAskerRoomsAndSessionsAction implements DeleteAskerAction {
     }
   }
 
-  private void deleteMonitorings(Session session, List<DeletionWorkflowError> workflowErrors) {
-    try {
-      List<Monitoring> monitorings = this.monitoringRepository.findBySessionId(session.getId());
-      this.monitoringRepository.deleteAll(monitorings);
-    } catch (Exception e) {
-      LogService.logDeleteWorkflowError(e);
-      workflowErrors.add(
-          DeletionWorkflowError.builder()
-              .deletionSourceType(ASKER)
-              .deletionTargetType(DATABASE)
-              .identifier(String.valueOf(session.getId()))
-              .reason("Unable to delete monitorings from session")
-              .timestamp(nowInUtc())
-              .build()
-      );
-    }
-  }
-
-  private void deleteSessionData(Session session, List<DeletionWorkflowError> workflowErrors) {
-    try {
-      List<SessionData> sessionData = this.sessionDataRepository.findBySessionId(session.getId());
-      this.sessionDataRepository.deleteAll(sessionData);
-    } catch (Exception e) {
-      LogService.logDeleteWorkflowError(e);
-      workflowErrors.add(
-          DeletionWorkflowError.builder()
-              .deletionSourceType(ASKER)
-              .deletionTargetType(DATABASE)
-              .identifier(String.valueOf(session.getId()))
-              .reason("Unable to delete session data from session")
-              .timestamp(nowInUtc())
-              .build()
-      );
-    }
+  private void deleteMonitorings(List<Long> sessionIds) {
+    this.monitoringRepository.deleteMonitoringOptionsBySessionIdIn(sessionIds);
+    this.monitoringRepository.deleteBySessionIdIn(sessionIds);
   }
 
-  private void deleteSession(Session session, List<DeletionWorkflowError> workflowErrors) {
+  private void deleteInDatabase(List<Long> sessionIds, Consumer<List<Long>> bulkDeletion,
+      String reason, List<DeletionWorkflowError> workflowErrors) {
     try {
-      this.sessionRepository.delete(session);
+      bulkDeletion.accept(sessionIds);
     } catch (Exception e) {
       LogService.logDeleteWorkflowError(e);
-      workflowErrors.add(
+      sessionIds.forEach(sessionId -> workflowErrors.add(
           DeletionWorkflowError.builder()
               .deletionSourceType(ASKER)
               .deletionTargetType(DATABASE)
-              .identifier(String.valueOf(session.getId()))
-              .reason("Unable to delete session")
+              .identifier(String.valueOf(sessionId))
+              .reason(reason)
               .timestamp(nowInUtc())
               .build()
-      );
+      ));
     }
   }
 
@@ -11,6 +11,7 @@ import de.caritas.cob.userservice.api.deleteworkflow.model.DeletionWorkflowError
 import de.caritas.cob.userservice.api.repository.user.User;
 import de.caritas.cob.userservice.api.repository.user.UserRepository;
 import de.caritas.cob.userservice.api.service.LogService;
+import de.caritas.cob.userservice.api.service.user.anonymous.AnonymousUsernameRegistry;
 import java.util.List;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -24,9 +25,11 @@ import org.springframework.stereotype.Component;
 public class DeleteDatabaseAskerAction implements DeleteAskerAction {
 
   private final @NonNull UserRepository userRepository;
+  private final @NonNull AnonymousUsernameRegistry anonymousUsernameRegistry;
 
   /**
-   * Deletes the given {@link User} in database.
+   * Deletes the given {@link User} in database and releases the username if it has been an
+   * anonymous one.
    *
    * @param user the {@link User} to delete
    * @return a possible generated {@link DeletionWorkflowError}
@@ -35,6 +38,7 @@ public class DeleteDatabaseAskerAction implements DeleteAskerAction {
   public List<DeletionWorkflowError> execute(User user) {
     try {
       this.userRepository.delete(user);
+      this.anonymousUsernameRegistry.releaseUsername(user.getUsername());
     } catch (Exception e) {
       LogService.logDeleteWorkflowError(e);
       return singletonList(
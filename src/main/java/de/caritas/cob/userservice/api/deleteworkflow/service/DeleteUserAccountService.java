@@ -1,18 +1,29 @@
 package de.caritas.cob.userservice.api.deleteworkflow.service;
 
+import static de.caritas.cob.userservice.api.deleteworkflow.model.DeletionSourceType.ASKER;
+import static de.caritas.cob.userservice.api.deleteworkflow.model.DeletionSourceType.CONSULTANT;
+import static de.caritas.cob.userservice.config.ExecutorConfig.DELETE_WORKFLOW_EXECUTOR;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 
 import de.caritas.cob.userservice.api.deleteworkflow.action.registry.DeleteActionsRegistry;
+import de.caritas.cob.userservice.api.deleteworkflow.model.DeletionSourceType;
 import de.caritas.cob.userservice.api.deleteworkflow.model.DeletionWorkflowError;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
 import de.caritas.cob.userservice.api.repository.consultant.ConsultantRepository;
 import de.caritas.cob.userservice.api.repository.user.User;
 import de.caritas.cob.userservice.api.repository.user.UserRepository;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 /**
@@ -26,22 +37,60 @@ public class DeleteUserAccountService {
   private final @NonNull ConsultantRepository consultantRepository;
   private final @NonNull DeleteActionsRegistry deleteActionsRegistry;
   private final @NonNull WorkflowErrorMailService workflowErrorMailService;
+  private final @NonNull DeleteWorkflowCheckpointService deleteWorkflowCheckpointService;
+  @Qualifier(DELETE_WORKFLOW_EXECUTOR)
+  private final @NonNull Executor deleteWorkflowExecutor;
+
+  @Value("${user.account.deleteworkflow.pageSize}")
+  private int pageSize;
 
   /**
-   * Deletes all user accounts marked as deleted in database.
+   * Deletes all user accounts marked as deleted in database. The accounts are read page by page
+   * ordered by their id and the accounts of one page are deleted concurrently. After each page
+   * the id of the last account is stored, so that an interrupted run continues with the next
+   * page. The deletions run on the shared delete workflow executor.
    */
   public void deleteUserAccounts() {
-    List<DeletionWorkflowError> workflowErrors = deleteAskersAndCollectPossibleErrors();
-    workflowErrors.addAll(deleteConsultantsAndCollectPossibleErrors());
+    List<DeletionWorkflowError> workflowErrors = deleteInPages(ASKER,
+        cursor -> this.userRepository.findByDeleteDateNotNullAndUserIdGreaterThanOrderByUserIdAsc(
+            cursor, PageRequest.of(0, this.pageSize)),
+        User::getUserId, this::performUserDeletion);
+    workflowErrors.addAll(deleteInPages(CONSULTANT,
+        cursor -> this.consultantRepository.findByDeleteDateNotNullAndIdGreaterThanOrderByIdAsc(
+            cursor, PageRequest.of(0, this.pageSize)),
+        Consultant::getId, this::performConsultantDeletion));
 
     if (isNotEmpty(workflowErrors)) {
       this.workflowErrorMailService.buildAndSendErrorMail(workflowErrors);
     }
   }
 
-  private List<DeletionWorkflowError> deleteAskersAndCollectPossibleErrors() {
-    return this.userRepository.findAllByDeleteDateNotNull().stream()
-        .map(this::performUserDeletion)
+  private <T> List<DeletionWorkflowError> deleteInPages(DeletionSourceType sourceType,
+      Function<String, List<T>> pageLoader, Function<T, String> idProvider,
+      Function<T, List<DeletionWorkflowError>> deletion) {
+    List<DeletionWorkflowError> workflowErrors = new ArrayList<>();
+    String cursor = this.deleteWorkflowCheckpointService.loadCursor(sourceType);
+    List<T> page = pageLoader.apply(cursor);
+
+    while (isNotEmpty(page)) {
+      workflowErrors.addAll(deleteConcurrently(page, deletion));
+      cursor = idProvider.apply(page.get(page.size() - 1));
+      this.deleteWorkflowCheckpointService.saveCursor(sourceType, cursor);
+      page = page.size() < this.pageSize ? null : pageLoader.apply(cursor);
+    }
+
+    this.deleteWorkflowCheckpointService.clearCursor(sourceType);
+    return workflowErrors;
+  }
+
+  private <T> List<DeletionWorkflowError> deleteConcurrently(List<T> accounts,
+      Function<T, List<DeletionWorkflowError>> deletion) {
+    return accounts.stream()
+        .map(account -> CompletableFuture.supplyAsync(() -> deletion.apply(account),
+            this.deleteWorkflowExecutor))
+        .collect(Collectors.toList())
+        .stream()
+        .map(CompletableFuture::join)
         .flatMap(Collection::stream)
         .collect(Collectors.toList());
   }
@@ -53,13 +102,6 @@ public class DeleteUserAccountService {
         .collect(Collectors.toList());
   }
 
-  private List<DeletionWorkflowError> deleteConsultantsAndCollectPossibleErrors() {
-    return this.consultantRepository.findAllByDeleteDateNotNull().stream()
-        .map(this::performConsultantDeletion)
-        .flatMap(Collection::stream)
-        .collect(Collectors.toList());
-  }
-
   private List<DeletionWorkflowError> performConsultantDeletion(Consultant consultant) {
     return this.deleteActionsRegistry.getConsultantDeleteActions().stream()
         .map(deleteConsultantAction -> deleteConsultantAction.execute(consultant))
@@ -0,0 +1,58 @@
+package de.caritas.cob.userservice.api.deleteworkflow.service;
+
+import static de.caritas.cob.userservice.localdatetime.CustomLocalDateTime.nowInUtc;
+
+import de.caritas.cob.userservice.api.deleteworkflow.model.DeletionSourceType;
+import de.caritas.cob.userservice.api.repository.deleteworkflowcheckpoint.DeleteWorkflowCheckpoint;
+import de.caritas.cob.userservice.api.repository.deleteworkflowcheckpoint.DeleteWorkflowCheckpointRepository;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service to persist the progress of the delete workflow, so that an interrupted run resumes
+ * after the last completely processed page.
+ */
+@Service
+@RequiredArgsConstructor
+public class DeleteWorkflowCheckpointService {
+
+  static final String INITIAL_CURSOR = "";
+
+  private final @NonNull DeleteWorkflowCheckpointRepository deleteWorkflowCheckpointRepository;
+
+  /**
+   * Loads the id of the last processed account of the given type.
+   *
+   * @param sourceType the {@link DeletionSourceType}
+   * @return the last processed id or an empty string if no checkpoint exists
+   */
+  public String loadCursor(DeletionSourceType sourceType) {
+    return this.deleteWorkflowCheckpointRepository.findById(sourceType)
+        .map(DeleteWorkflowCheckpoint::getLastProcessedId)
+        .orElse(INITIAL_CURSOR);
+  }
+
+  /**
+   * Stores the id of the last processed account of the given type.
+   *
+   * @param sourceType      the {@link DeletionSourceType}
+   * @param lastProcessedId the id of the last processed account
+   */
+  public void saveCursor(DeletionSourceType sourceType, String lastProcessedId) {
+    this.deleteWorkflowCheckpointRepository.save(
+        new DeleteWorkflowCheckpoint(sourceType, lastProcessedId, nowInUtc()));
+  }
+
+  /**
+   * Removes the checkpoint of the given type after all accounts have been processed.
+   *
+   * @param sourceType the {@link DeletionSourceType}
+   */
+  public void clearCursor(DeletionSourceType sourceType) {
+    if (this.deleteWorkflowCheckpointRepository.existsById(sourceType)) {
+      this.deleteWorkflowCheckpointRepository.deleteById(sourceType);
+    }
+  }
+
+}
@@ -330,6 +330,7 @@ public class CreateEnquiryMessageFacade {
       session.setFeedbackGroupId(rcFeedbackGroupId);
       session.setStatus(SessionStatus.NEW);
       session.setEnquiryMessageDate(nowInUtc());
+      session.setLatestMessageDate(session.getEnquiryMessageDate());
       sessionService.saveSession(session);
     } catch (InternalServerErrorException exception) {
       throw new CreateEnquiryException(String
@@ -1,20 +1,25 @@
 package de.caritas.cob.userservice.api.facade;
 
-import static de.caritas.cob.userservice.api.helper.Helper.ONE_DAY_IN_HOURS;
-import static de.caritas.cob.userservice.localdatetime.CustomLocalDateTime.nowInUtc;
+import static de.caritas.cob.userservice.config.ExecutorConfig.ROCKET_CHAT_GROUP_OPERATIONS_EXECUTOR;
 
 import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatAddUserToGroupException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatGetGroupMembersException;
-import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatRemoveSystemMessagesException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatRemoveUserFromGroupException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatUserNotInitializedException;
 import de.caritas.cob.userservice.api.model.rocketchat.group.GroupMemberDTO;
 import de.caritas.cob.userservice.api.service.LogService;
 import de.caritas.cob.userservice.api.service.rocketchat.RocketChatService;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 /**
@@ -25,6 +30,8 @@ import org.springframework.stereotype.Service;
 public class RocketChatFacade {
 
   private final @NonNull RocketChatService rocketChatService;
+  @Qualifier(ROCKET_CHAT_GROUP_OPERATIONS_EXECUTOR)
+  private final @NonNull Executor groupOperationsExecutor;
 
   /**
    * Adds the provided user to the Rocket.Chat group with given groupId.
@@ -33,16 +40,7 @@ public class RocketChatFacade {
    * @param groupId  Rocket.Chat roomId
    */
   public void addUserToRocketChatGroup(String rcUserId, String groupId) {
-    try {
-      addTechnicalUserToGroup(groupId);
-      rocketChatService.addUserToGroup(rcUserId, groupId);
-      removeTechnicalUserFromGroup(groupId);
-    } catch (RocketChatAddUserToGroupException addUserEx) {
-      var message = String.format(
-          "Could not add user with id %s to Rocket.Chat group with id %s. Initiate rollback.",
-          rcUserId, groupId);
-      throw new InternalServerErrorException(message, LogService::logInternalServerError);
-    }
+    executeInGroup(groupId, group -> group.addUser(rcUserId));
   }
 
   /**
@@ -52,16 +50,7 @@ public class RocketChatFacade {
    * @param groupId the rocket chat group id
    */
   public void removeSystemMessagesFromRocketChatGroup(String groupId) {
-    try {
-      addTechnicalUserToGroup(groupId);
-      rocketChatService
-          .removeSystemMessages(groupId, nowInUtc().minusHours(ONE_DAY_IN_HOURS), nowInUtc());
-      removeTechnicalUserFromGroup(groupId);
-    } catch (RocketChatRemoveSystemMessagesException | RocketChatUserNotInitializedException e) {
-      var message = String
-          .format("Could not remove system messages from Rocket.Chat group id %s", groupId);
-      throw new InternalServerErrorException(message, LogService::logInternalServerError);
-    }
+    executeInGroup(groupId, RocketChatGroupOperations::removeSystemMessages);
   }
 
   /**
@@ -71,17 +60,63 @@ public class RocketChatFacade {
    * @return al members of the group
    */
   public List<GroupMemberDTO> retrieveRocketChatMembers(String rcGroupId) {
+    return performInGroup(rcGroupId, RocketChatGroupOperations::retrieveMembers);
+  }
+
+  /**
+   * Executes the given operations on one Rocket.Chat group. The technical user is added to the
+   * group once before and removed once after all operations. If an operation fails, users removed
+   * by previous operations of the batch are added to the group again and the exception is
+   * rethrown.
+   *
+   * @param groupId    the rocket chat group id
+   * @param operations the operations to execute on the group
+   */
+  public void executeInGroup(String groupId, Consumer<RocketChatGroupOperations> operations) {
+    performInGroup(groupId, group -> {
+      operations.accept(group);
+      return null;
+    });
+  }
+
+  /**
+   * Executes the operations of each given Rocket.Chat group like {@link #executeInGroup}. The
+   * groups are independent of each other and are processed concurrently. If the operations of a
+   * group fail, the exception is rethrown after all groups have been processed.
+   *
+   * @param operationsByGroupId the operations to execute by rocket chat group id
+   */
+  public void executeInGroups(Map<String, Consumer<RocketChatGroupOperations>> operationsByGroupId) {
+    if (operationsByGroupId.size() == 1) {
+      operationsByGroupId.forEach(this::executeInGroup);
+      return;
+    }
+    CompletableFuture<?>[] executions = operationsByGroupId.entrySet().stream()
+        .map(entry -> CompletableFuture.runAsync(
+            () -> executeInGroup(entry.getKey(), entry.getValue()), this.groupOperationsExecutor))
+        .toArray(CompletableFuture[]::new);
     try {
-      addTechnicalUserToGroup(rcGroupId);
-      List<GroupMemberDTO> memberList = rocketChatService.getMembersOfGroup(rcGroupId);
-      removeTechnicalUserFromGroup(rcGroupId);
-      return memberList;
-    } catch (RocketChatGetGroupMembersException getGroupMembersEx) {
-      var message = String.format(
-          "Could not get Rocket.Chat group members of group id %s. Initiate rollback.",
-          rcGroupId);
-      throw new InternalServerErrorException(message, LogService::logInternalServerError);
+      CompletableFuture.allOf(executions).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private <T> T performInGroup(String groupId, Function<RocketChatGroupOperations, T> operations) {
+    var group = new RocketChatGroupOperations(this.rocketChatService, groupId);
+    addTechnicalUserToGroup(groupId);
+    T result;
+    try {
+      result = operations.apply(group);
+    } catch (RuntimeException e) {
+      group.rollbackRemovedUsers();
+      throw e;
     }
+    removeTechnicalUserFromGroup(groupId);
+    return result;
   }
 
   /**
@@ -122,15 +157,7 @@ public class RocketChatFacade {
    * @param groupId  Rocket.Chat roomId
    */
   public void removeUserFromGroup(String rcUserId, String groupId) {
-    try {
-      addTechnicalUserToGroup(groupId);
-      this.rocketChatService.removeUserFromGroup(rcUserId, groupId);
-      removeTechnicalUserFromGroup(groupId);
-    } catch (RocketChatRemoveUserFromGroupException e) {
-      var message = String.format(
-          "Could not remove user with id %s from Rocket.Chat group id %s", rcUserId, groupId);
-      throw new InternalServerErrorException(message, LogService::logInternalServerError);
-    }
+    executeInGroup(groupId, group -> group.removeUser(rcUserId));
   }
 
   /**
@@ -0,0 +1,114 @@
+package de.caritas.cob.userservice.api.facade;
+
+import static de.caritas.cob.userservice.api.helper.Helper.ONE_DAY_IN_HOURS;
+import static de.caritas.cob.userservice.localdatetime.CustomLocalDateTime.nowInUtc;
+
+import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
+import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatAddUserToGroupException;
+import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatGetGroupMembersException;
+import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatRemoveSystemMessagesException;
+import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatRemoveUserFromGroupException;
+import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatUserNotInitializedException;
+import de.caritas.cob.userservice.api.model.rocketchat.group.GroupMemberDTO;
+import de.caritas.cob.userservice.api.service.LogService;
+import de.caritas.cob.userservice.api.service.rocketchat.RocketChatService;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * Member and history operations on one Rocket.Chat group. The operations are only available
+ * inside {@link RocketChatFacade#executeInGroup}, where the technical user has already been added
+ * to the group, so they do not add and remove the technical user on their own.
+ */
+public class RocketChatGroupOperations {
+
+  private final RocketChatService rocketChatService;
+  @Getter
+  private final String groupId;
+  private final List<String> removedUserIds = new ArrayList<>();
+
+  RocketChatGroupOperations(RocketChatService rocketChatService, String groupId) {
+    this.rocketChatService = rocketChatService;
+    this.groupId = groupId;
+  }
+
+  /**
+   * Adds the provided user to the group.
+   *
+   * @param rcUserId Rocket.Chat userId
+   */
+  public void addUser(String rcUserId) {
+    try {
+      this.rocketChatService.addUserToGroup(rcUserId, this.groupId);
+    } catch (RocketChatAddUserToGroupException addUserEx) {
+      var message = String.format(
+          "Could not add user with id %s to Rocket.Chat group with id %s. Initiate rollback.",
+          rcUserId, this.groupId);
+      throw new InternalServerErrorException(message, LogService::logInternalServerError);
+    }
+  }
+
+  /**
+   * Removes the provided user from the group. If a later operation of the same batch fails, the
+   * user is added to the group again.
+   *
+   * @param rcUserId Rocket.Chat userId
+   */
+  public void removeUser(String rcUserId) {
+    try {
+      this.rocketChatService.removeUserFromGroup(rcUserId, this.groupId);
+      this.removedUserIds.add(rcUserId);
+    } catch (RocketChatRemoveUserFromGroupException e) {
+      var message = String.format(
+          "Could not remove user with id %s from Rocket.Chat group id %s", rcUserId,
+          this.groupId);
+      throw new InternalServerErrorException(message, LogService::logInternalServerError);
+    }
+  }
+
+  /**
+   * Returns the members of the group.
+   *
+   * @return all members of the group
+   */
+  public List<GroupMemberDTO> retrieveMembers() {
+    try {
+      return this.rocketChatService.getMembersOfGroup(this.groupId);
+    } catch (RocketChatGetGroupMembersException getGroupMembersEx) {
+      var message = String.format(
+          "Could not get Rocket.Chat group members of group id %s. Initiate rollback.",
+          this.groupId);
+      throw new InternalServerErrorException(message, LogService::logInternalServerError);
+    }
+  }
+
+  /**
+   * Removes all messages from the group written by the technical user from the last 24 hours
+   * (avoiding time zone failures).
+   */
+  public void removeSystemMessages() {
+    try {
+      this.rocketChatService.removeSystemMessages(this.groupId,
+          nowInUtc().minusHours(ONE_DAY_IN_HOURS), nowInUtc());
+    } catch (RocketChatRemoveSystemMessagesException | RocketChatUserNotInitializedException e) {
+      var message = String
+          .format("Could not remove system messages from Rocket.Chat group id %s", this.groupId);
+      throw new InternalServerErrorException(message, LogService::logInternalServerError);
+    }
+  }
+
+  void rollbackRemovedUsers() {
+    for (String rcUserId : this.removedUserIds) {
+      try {
+        this.rocketChatService.addUserToGroup(rcUserId, this.groupId);
+      } catch (RocketChatAddUserToGroupException e) {
+        LogService.logInternalServerError(String.format(
+            "Could not add user with id %s back to Rocket.Chat group id %s during roll back.",
+            rcUserId, this.groupId));
+      }
+    }
+    this.removedUserIds.clear();
+  }
+
+}
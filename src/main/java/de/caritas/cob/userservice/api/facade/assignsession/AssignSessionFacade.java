@@ -1,8 +1,13 @@
 package de.caritas.cob.userservice.api.facade.assignsession;
 
-import de.caritas.cob.userservice.api.admin.service.rocketchat.RocketChatRemoveFromGroupOperationService;
+import static de.caritas.cob.userservice.api.authorization.Authorities.Authority.VIEW_ALL_FEEDBACK_SESSIONS;
+import static de.caritas.cob.userservice.api.authorization.Authorities.Authority.VIEW_ALL_PEER_SESSIONS;
+import static java.util.Collections.emptyList;
+import static java.util.Objects.isNull;
+
 import de.caritas.cob.userservice.api.facade.EmailNotificationFacade;
 import de.caritas.cob.userservice.api.facade.RocketChatFacade;
+import de.caritas.cob.userservice.api.facade.RocketChatGroupOperations;
 import de.caritas.cob.userservice.api.helper.AuthenticatedUser;
 import de.caritas.cob.userservice.api.model.rocketchat.group.GroupMemberDTO;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
@@ -12,10 +17,14 @@ import de.caritas.cob.userservice.api.service.ConsultantService;
 import de.caritas.cob.userservice.api.service.helper.KeycloakAdminClientService;
 import de.caritas.cob.userservice.api.service.rocketchat.RocketChatRollbackService;
 import de.caritas.cob.userservice.api.service.session.SessionService;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -58,14 +67,16 @@ public class AssignSessionFacade {
 
     var initialConsultant = session.getConsultant();
     SessionStatus initialStatus = session.getStatus();
-    List<GroupMemberDTO> initialMembers =
-        this.rocketChatFacade.retrieveRocketChatMembers(session.getGroupId());
-    List<GroupMemberDTO> initialFeedbackGroupMembers =
-        this.rocketChatFacade.retrieveRocketChatMembers(session.getFeedbackGroupId());
+    Map<String, List<GroupMemberDTO>> initialMembersByGroupId =
+        retrieveInitialMembers(session);
+    List<GroupMemberDTO> initialMembers = initialMembersByGroupId.get(session.getGroupId());
+    List<GroupMemberDTO> initialFeedbackGroupMembers = session.hasFeedbackChat()
+        ? initialMembersByGroupId.get(session.getFeedbackGroupId()) : null;
 
     try {
       updateSessionInDatabase(session, consultant, initialStatus);
-      updateChangesInRocketChatRooms(session, consultant);
+      updateChangesInRocketChatRooms(session, consultant, initialMembers,
+          initialFeedbackGroupMembers);
     } catch (Exception exception) {
       initiateRollback(session, initialConsultant, initialStatus, initialMembers,
           initialFeedbackGroupMembers);
@@ -74,20 +85,41 @@ public class AssignSessionFacade {
     sendEmailForConsultantChange(session, consultant);
   }
 
-  private void updateChangesInRocketChatRooms(Session session, Consultant consultant) {
-    if (!session.isTeamSession()) {
-      removeAllOtherMembersOfGroup(session.getGroupId(), session, consultant);
+  private Map<String, List<GroupMemberDTO>> retrieveInitialMembers(Session session) {
+    Map<String, List<GroupMemberDTO>> membersByGroupId = new ConcurrentHashMap<>();
+    Map<String, Consumer<RocketChatGroupOperations>> operationsByGroupId = new LinkedHashMap<>();
+    operationsByGroupId.put(session.getGroupId(),
+        group -> membersByGroupId.put(group.getGroupId(), group.retrieveMembers()));
+    if (session.hasFeedbackChat()) {
+      operationsByGroupId.put(session.getFeedbackGroupId(),
+          group -> membersByGroupId.put(group.getGroupId(), group.retrieveMembers()));
     }
+    this.rocketChatFacade.executeInGroups(operationsByGroupId);
+    return membersByGroupId;
+  }
 
-    rocketChatFacade.addUserToRocketChatGroup(consultant.getRocketChatId(), session.getGroupId());
-    rocketChatFacade.removeSystemMessagesFromRocketChatGroup(session.getGroupId());
+  private void updateChangesInRocketChatRooms(Session session, Consultant consultant,
+      List<GroupMemberDTO> initialMembers, List<GroupMemberDTO> initialFeedbackGroupMembers) {
+    List<Consultant> unauthorizedConsultants = findUnauthorizedConsultants(session, consultant,
+        session.isTeamSession() ? emptyList() : initialMembers, initialFeedbackGroupMembers);
 
+    Map<String, Consumer<RocketChatGroupOperations>> operationsByGroupId = new LinkedHashMap<>();
+    operationsByGroupId.put(session.getGroupId(), group -> updateGroup(group, consultant,
+        consultantsToRemove(unauthorizedConsultants, initialMembers, VIEW_ALL_PEER_SESSIONS)));
     if (session.hasFeedbackChat()) {
-      removeAllOtherMembersOfGroup(session.getFeedbackGroupId(), session, consultant);
-      rocketChatFacade
-          .addUserToRocketChatGroup(consultant.getRocketChatId(), session.getFeedbackGroupId());
-      rocketChatFacade.removeSystemMessagesFromRocketChatGroup(session.getFeedbackGroupId());
+      operationsByGroupId.put(session.getFeedbackGroupId(), group -> updateGroup(group,
+          consultant, consultantsToRemove(unauthorizedConsultants, initialFeedbackGroupMembers,
+              VIEW_ALL_FEEDBACK_SESSIONS)));
     }
+    this.rocketChatFacade.executeInGroups(operationsByGroupId);
+  }
+
+  private void updateGroup(RocketChatGroupOperations group, Consultant consultant,
+      List<Consultant> consultantsToRemove) {
+    consultantsToRemove.forEach(consultantToRemove ->
+        group.removeUser(consultantToRemove.getRocketChatId()));
+    group.addUser(consultant.getRocketChatId());
+    group.removeSystemMessages();
   }
 
   private void updateSessionInDatabase(Session session, Consultant consultant,
@@ -96,26 +128,34 @@ public class AssignSessionFacade {
         initialStatus == SessionStatus.NEW ? SessionStatus.IN_PROGRESS : initialStatus);
   }
 
-  private void removeAllOtherMembersOfGroup(String rcGroupId, Session session,
-      Consultant consultant) {
-    List<GroupMemberDTO> memberList = this.rocketChatFacade.retrieveRocketChatMembers(rcGroupId);
-    removeAllOtherMembers(session, consultant, memberList);
-  }
-
-  private void removeAllOtherMembers(Session session, Consultant consultant,
-      List<GroupMemberDTO> memberList) {
-    List<Consultant> consultantsToRemoveFromRocketChat = memberList.stream()
+  private List<Consultant> findUnauthorizedConsultants(Session session, Consultant consultant,
+      List<GroupMemberDTO> members, List<GroupMemberDTO> feedbackGroupMembers) {
+    return Stream.concat(members.stream(), nullToEmpty(feedbackGroupMembers).stream())
         .filter(groupMemberDTO -> isUnauthorizedMember(session, consultant, groupMemberDTO))
         .map(GroupMemberDTO::get_id)
+        .distinct()
         .map(this.consultantService::getConsultantByRcUserId)
         .filter(Optional::isPresent)
         .map(Optional::get)
         .collect(Collectors.toList());
+  }
+
+  private List<Consultant> consultantsToRemove(List<Consultant> unauthorizedConsultants,
+      List<GroupMemberDTO> groupMembers, String authorityToStayInGroup) {
+    return unauthorizedConsultants.stream()
+        .filter(unauthorizedConsultant -> isMember(unauthorizedConsultant, groupMembers))
+        .filter(unauthorizedConsultant -> !this.keycloakAdminClientService
+            .userHasAuthority(unauthorizedConsultant.getId(), authorityToStayInGroup))
+        .collect(Collectors.toList());
+  }
+
+  private boolean isMember(Consultant consultant, List<GroupMemberDTO> groupMembers) {
+    return nullToEmpty(groupMembers).stream()
+        .anyMatch(groupMember -> groupMember.get_id().equals(consultant.getRocketChatId()));
+  }
 
-    RocketChatRemoveFromGroupOperationService
-        .getInstance(this.rocketChatFacade, this.keycloakAdminClientService)
-        .onSessionConsultants(Map.of(session, consultantsToRemoveFromRocketChat))
-        .removeFromGroupsOrRollbackOnFailure();
+  private List<GroupMemberDTO> nullToEmpty(List<GroupMemberDTO> groupMembers) {
+    return isNull(groupMembers) ? emptyList() : groupMembers;
   }
 
   private boolean isUnauthorizedMember(Session session, Consultant consultant,
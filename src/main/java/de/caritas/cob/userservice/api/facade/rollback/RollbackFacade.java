@@ -7,6 +7,7 @@ import de.caritas.cob.userservice.api.service.session.SessionService;
 import de.caritas.cob.userservice.api.service.UserAgencyService;
 import de.caritas.cob.userservice.api.service.helper.KeycloakAdminClientService;
 import de.caritas.cob.userservice.api.service.user.UserService;
+import de.caritas.cob.userservice.api.service.user.anonymous.AnonymousUsernameRegistry;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -23,10 +24,12 @@ public class RollbackFacade {
   private final @NonNull SessionService sessionService;
   private final @NonNull UserService userService;
   private final @NonNull MonitoringService monitoringService;
+  private final @NonNull AnonymousUsernameRegistry anonymousUsernameRegistry;
 
   /**
    * Deletes the provided user in Keycloak, MariaDB and its related session or user-chat/agency
-   * relations depending on the provided {@link RollbackUserAccountInformation}.
+   * relations depending on the provided {@link RollbackUserAccountInformation}. The username of
+   * a deleted anonymous user is released, so that it can be assigned again.
    *
    * @param rollbackUser {@link RollbackUserAccountInformation}
    */
@@ -56,6 +59,7 @@ public class RollbackFacade {
       }
       if (nonNull(rollbackUser.getUser())) {
         userService.deleteUser(rollbackUser.getUser());
+        anonymousUsernameRegistry.releaseUsername(rollbackUser.getUser().getUsername());
       }
     }
   }
@@ -22,6 +22,7 @@ import java.util.Comparator;
 import java.util.List;
 import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -34,6 +35,9 @@ public class SessionListFacade {
   private final UserSessionListService userSessionListService;
   private final ConsultantSessionListService consultantSessionListService;
 
+  @Value("${session.list.streaming.enabled}")
+  private boolean streamingEnabled;
+
   @Autowired
   public SessionListFacade(UserSessionListService userSessionListService,
       ConsultantSessionListService consultantSessionListService) {
@@ -62,7 +66,9 @@ public class SessionListFacade {
 
   /**
    * Returns a {@link ConsultantSessionResponseDTO} with the session list for the specified
-   * consultant with consideration of the query parameters.
+   * consultant with consideration of the query parameters. If streaming is enabled and the list
+   * is not filtered by unread feedback, the requested page is sorted and sliced by the database
+   * and only the sessions of the page are enriched with Rocket.Chat data.
    *
    * @param consultant                {@link Consultant}
    * @param rcAuthToken               Rocket.Chat Token
@@ -73,6 +79,11 @@ public class SessionListFacade {
       Consultant consultant, String rcAuthToken,
       SessionListQueryParameter sessionListQueryParameter) {
 
+    if (this.streamingEnabled && !isFeedbackFilter(sessionListQueryParameter)) {
+      return consultantSessionListService.retrieveSessionPageForAuthenticatedConsultant(consultant,
+          rcAuthToken, sessionListQueryParameter);
+    }
+
     List<ConsultantSessionResponseDTO> consultantSessions = consultantSessionListService
         .retrieveSessionsForAuthenticatedConsultant(consultant, rcAuthToken,
             sessionListQueryParameter);
@@ -46,11 +46,23 @@ public class ConsultantDataProvider {
   }
 
   private List<AgencyDTO> obtainAgencies(Consultant consultant) {
-    return consultant.getConsultantAgencies().isEmpty() ? null
-        : consultant.getConsultantAgencies().stream()
-            .map(this::fetchAgencyViaAgencyService)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
+    if (consultant.getConsultantAgencies().isEmpty()) {
+      return null;
+    }
+    List<Long> agencyIds = consultant.getConsultantAgencies().stream()
+        .map(ConsultantAgency::getAgencyId)
+        .collect(Collectors.toList());
+    try {
+      return this.agencyService.getAgencies(agencyIds);
+    } catch (Exception e) {
+      LogService.logAgencyServiceHelperException(String
+          .format("Error while getting agencies %s of consultant with id %s, fetching them "
+              + "one by one", agencyIds, consultant.getId()), e);
+    }
+    return consultant.getConsultantAgencies().stream()
+        .map(this::fetchAgencyViaAgencyService)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
   }
 
   private UserDataResponseDTO createUserDataResponseDTO(Consultant consultant,
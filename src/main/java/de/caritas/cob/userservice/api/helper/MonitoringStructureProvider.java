@@ -8,6 +8,7 @@ import static org.apache.commons.collections4.MapUtils.isNotEmpty;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import de.caritas.cob.userservice.api.exception.InitializeMonitoringException;
+import de.caritas.cob.userservice.api.exception.MissingConsultingTypeException;
 import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
 import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeManager;
 import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeSettings;
@@ -22,11 +23,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import javax.annotation.PostConstruct;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -39,6 +44,8 @@ import org.springframework.stereotype.Component;
 public class MonitoringStructureProvider {
 
   private final @NonNull ConsultingTypeManager consultingTypeManager;
+  private final Map<ConsultingType, Map<String, Object>> monitoringTemplates =
+      new ConcurrentHashMap<>();
 
   /**
    * Returns a list of {@link Monitoring} objects for the given {@link MonitoringDTO} and {@link
@@ -108,19 +115,55 @@ public class MonitoringStructureProvider {
     });
   }
 
+  /**
+   * Loads the monitoring templates of all consulting types providing a monitoring file, so that
+   * the templates are not read and parsed per request.
+   */
+  @PostConstruct
+  public void initialize() {
+    Stream.of(ConsultingType.values())
+        .filter(this::hasMonitoringFile)
+        .forEach(this::preloadMonitoringTemplate);
+  }
+
+  private boolean hasMonitoringFile(ConsultingType consultingType) {
+    try {
+      return nonNull(this.consultingTypeManager.getConsultingTypeSettings(consultingType)
+          .getMonitoringFile());
+    } catch (MissingConsultingTypeException e) {
+      return false;
+    }
+  }
+
+  private void preloadMonitoringTemplate(ConsultingType consultingType) {
+    try {
+      obtainMonitoringTemplate(consultingType);
+    } catch (RuntimeException e) {
+      LogService.logWarn(String.format("Unable to load monitoring template for consulting type %s",
+          consultingType));
+    }
+  }
+
   /**
    * Creates the initial monitoring data of a session for the given {@link ConsultingType}. The
-   * structure (JSON) is being imported from the JSON file provided in the {@link
-   * ConsultingTypeSettings}.
+   * structure (JSON) is being imported once from the JSON file provided in the {@link
+   * ConsultingTypeSettings}, each call returns a new modifiable copy of it.
    *
    * @param consultingType the {@link ConsultingType} to load the initial monitoring
    * @return the generated {@link MonitoringDTO}
    */
   public MonitoringDTO getMonitoringInitialList(ConsultingType consultingType) {
-    ObjectMapper mapper = new ObjectMapper();
-    InputStream inputStream = getMonitoringJSONStream(consultingType);
-    try {
-      return mapper.readValue(inputStream, MonitoringDTO.class);
+    return new MonitoringDTO(modifiableCopyOf(obtainMonitoringTemplate(consultingType)));
+  }
+
+  private Map<String, Object> obtainMonitoringTemplate(ConsultingType consultingType) {
+    return this.monitoringTemplates.computeIfAbsent(consultingType, this::loadMonitoringTemplate);
+  }
+
+  private Map<String, Object> loadMonitoringTemplate(ConsultingType consultingType) {
+    try (InputStream inputStream = getMonitoringJSONStream(consultingType)) {
+      MonitoringDTO monitoringDTO = new ObjectMapper().readValue(inputStream, MonitoringDTO.class);
+      return unmodifiableCopyOf(monitoringDTO.getProperties());
     } catch (IOException ex) {
       throw new InitializeMonitoringException(ex);
     }
@@ -138,6 +181,24 @@ public class MonitoringStructureProvider {
     }
   }
 
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> unmodifiableCopyOf(Map<String, Object> structure) {
+    Map<String, Object> copy = new LinkedHashMap<>();
+    if (nonNull(structure)) {
+      structure.forEach((key, value) -> copy.put(key, value instanceof Map
+          ? unmodifiableCopyOf((Map<String, Object>) value) : value));
+    }
+    return Collections.unmodifiableMap(copy);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> modifiableCopyOf(Map<String, Object> structure) {
+    Map<String, Object> copy = new LinkedHashMap<>();
+    structure.forEach((key, value) -> copy.put(key, value instanceof Map
+        ? modifiableCopyOf((Map<String, Object>) value) : value));
+    return copy;
+  }
+
   private MonitoringType getMonitoringType(String key) {
     return Stream.of(MonitoringType.values())
         .filter(type -> type.getKey().contains(key))
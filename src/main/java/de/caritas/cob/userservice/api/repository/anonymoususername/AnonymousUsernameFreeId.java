@@ -0,0 +1,31 @@
+package de.caritas.cob.userservice.api.repository.anonymoususername;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Represents the number of a deleted anonymous username which can be assigned again.
+ */
+@Entity
+@Table(name = "anonymous_username_free_id")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class AnonymousUsernameFreeId {
+
+  @Id
+  @Column(name = "id", updatable = false, nullable = false)
+  private Long id;
+
+  @Column(name = "create_date")
+  private LocalDateTime createDate;
+
+}
@@ -0,0 +1,36 @@
+package de.caritas.cob.userservice.api.repository.anonymoususername;
+
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface AnonymousUsernameFreeIdRepository extends
+    CrudRepository<AnonymousUsernameFreeId, Long> {
+
+  List<AnonymousUsernameFreeId> findByOrderByIdAsc(Pageable pageable);
+
+  /**
+   * Removes the free id with one statement. Only one concurrent caller can remove the row, so the
+   * result tells the caller whether it has claimed the id.
+   *
+   * @param id the free id to claim
+   * @return 1 if the id has been claimed by the caller, 0 otherwise
+   */
+  @Modifying
+  @Transactional
+  @Query(value = "DELETE FROM AnonymousUsernameFreeId f WHERE f.id = :id")
+  int claimById(@Param(value = "id") Long id);
+
+  /**
+   * Provides the next never used anonymous username id of the database sequence.
+   *
+   * @return the next id
+   */
+  @Query(value = "SELECT NEXT VALUE FOR sequence_anonymous_username", nativeQuery = true)
+  Long nextUnusedId();
+
+}
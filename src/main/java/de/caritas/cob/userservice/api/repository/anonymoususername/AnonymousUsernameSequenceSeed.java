@@ -0,0 +1,106 @@
+package de.caritas.cob.userservice.api.repository.anonymoususername;
+
+import static org.apache.commons.lang3.StringUtils.contains;
+import static org.apache.commons.lang3.StringUtils.isNumeric;
+import static org.apache.commons.lang3.StringUtils.startsWith;
+import static org.apache.commons.lang3.StringUtils.substringAfter;
+
+import de.caritas.cob.userservice.api.helper.UsernameTranscoder;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import lombok.Setter;
+
+/**
+ * Liquibase change to move the anonymous username sequence behind the highest number of the
+ * existing anonymous usernames. The usernames are stored base32 encoded, so the numbers can not be
+ * determined with plain SQL. The prefix is passed as the changelog parameter anonymousUsernamePrefix,
+ * which is fed from the anonymous.username.prefix property.
+ */
+@Setter
+public class AnonymousUsernameSequenceSeed implements CustomTaskChange {
+
+  private static final String SELECT_USERNAMES = "SELECT username FROM `userservice`.`user`";
+  private static final String SET_SEQUENCE_VALUE =
+      "SELECT SETVAL(`userservice`.`sequence_anonymous_username`, %d)";
+
+  private final UsernameTranscoder usernameTranscoder = new UsernameTranscoder();
+
+  private String usernamePrefix;
+
+  /**
+   * Sets the sequence to the highest number of the existing anonymous usernames. The sequence is
+   * never moved backwards.
+   *
+   * @param database the {@link Database} to migrate
+   * @throws CustomChangeException if the usernames can not be read or the sequence can not be set
+   */
+  @Override
+  public void execute(Database database) throws CustomChangeException {
+    JdbcConnection connection = (JdbcConnection) database.getConnection();
+    try (Statement statement = connection.createStatement()) {
+      long highestUsernameId = findHighestUsernameId(statement);
+      if (highestUsernameId > 0) {
+        statement.execute(String.format(SET_SEQUENCE_VALUE, highestUsernameId));
+      }
+    } catch (DatabaseException | SQLException e) {
+      throw new CustomChangeException("Unable to seed the anonymous username sequence", e);
+    }
+  }
+
+  private long findHighestUsernameId(Statement statement) throws SQLException {
+    long highestUsernameId = 0;
+    try (ResultSet usernames = statement.executeQuery(SELECT_USERNAMES)) {
+      while (usernames.next()) {
+        highestUsernameId = Math.max(highestUsernameId, toUsernameId(usernames.getString(1)));
+      }
+    }
+    return highestUsernameId;
+  }
+
+  private long toUsernameId(String username) {
+    if (username == null) {
+      return 0;
+    }
+    String decodedUsername = usernameTranscoder.decodeUsername(username);
+    String usernameId = substringAfter(decodedUsername, usernamePrefix).trim();
+    if (startsWith(decodedUsername, usernamePrefix) && isNumeric(usernameId)) {
+      return Long.parseLong(usernameId);
+    }
+    return 0;
+  }
+
+  @Override
+  public String getConfirmationMessage() {
+    return "Anonymous username sequence seeded";
+  }
+
+  @Override
+  public void setUp() {
+    // no setup required
+  }
+
+  @Override
+  public void setFileOpener(ResourceAccessor resourceAccessor) {
+    // no resources required
+  }
+
+  @Override
+  public ValidationErrors validate(Database database) {
+    ValidationErrors validationErrors = new ValidationErrors();
+    validationErrors.checkRequiredField("usernamePrefix", usernamePrefix);
+    if (contains(usernamePrefix, "${")) {
+      validationErrors.addError("usernamePrefix is not resolved, the changelog parameter "
+          + "anonymousUsernamePrefix has to be set");
+    }
+    return validationErrors;
+  }
+
+}
@@ -10,17 +10,14 @@ import org.springframework.data.repository.query.Param;
 
 public interface ChatRepository extends CrudRepository<Chat, Long> {
 
-  @Query(value = "SELECT c.id, c.topic, c.consulting_type, c.initial_start_date, c.start_date, "
-      + "c.duration, c.is_repetitive, c.chat_interval, c.is_active, c.max_participants, "
-      + "c.consultant_id_owner, c.rc_group_id FROM chat c JOIN chat_agency ca ON c.id = ca.chat_id "
-      + "JOIN user_agency ua ON ca.agency_id = ua.agency_id AND ua.user_id = :user_id",
-      nativeQuery = true)
+  @Query(value = "SELECT DISTINCT c FROM Chat c JOIN FETCH c.chatOwner "
+      + "LEFT JOIN FETCH c.chatAgencies WHERE c.id IN (SELECT ca.chat.id FROM ChatAgency ca, "
+      + "UserAgency ua WHERE ca.agencyId = ua.agencyId AND ua.user.userId = :user_id)")
   List<Chat> findByUserId(@Param(value = "user_id") String userId);
 
-  @Query(value = "SELECT c.id, c.topic, c.consulting_type, c.initial_start_date, c.start_date, "
-      + "c.duration, c.is_repetitive, c.chat_interval, c.is_active, c.max_participants, "
-      + "c.consultant_id_owner, c.rc_group_id FROM chat c JOIN chat_agency ca ON c.id = ca.chat_id AND ca.agency_id IN :agency_ids",
-      nativeQuery = true)
+  @Query(value = "SELECT DISTINCT c FROM Chat c JOIN FETCH c.chatOwner "
+      + "LEFT JOIN FETCH c.chatAgencies WHERE c.id IN (SELECT ca.chat.id FROM ChatAgency ca "
+      + "WHERE ca.agencyId IN :agency_ids)")
   List<Chat> findByAgencyIds(@Param(value = "agency_ids") Set<Long> agencyIds);
 
   Optional<Chat> findByGroupId(String groupId);
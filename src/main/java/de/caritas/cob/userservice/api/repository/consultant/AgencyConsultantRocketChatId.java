@@ -0,0 +1,11 @@
+package de.caritas.cob.userservice.api.repository.consultant;
+
+/**
+ * Projection of the Rocket.Chat id of a consultant assigned to an agency.
+ */
+public interface AgencyConsultantRocketChatId {
+
+  Long getAgencyId();
+
+  String getRocketChatId();
+}
@@ -4,11 +4,13 @@ import static de.caritas.cob.userservice.api.repository.consultant.Consultant.EM
 
 import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgency;
 import de.caritas.cob.userservice.api.repository.session.Session;
+import de.caritas.cob.userservice.api.service.liveevents.RocketChatUserAccountIdCacheEvictionListener;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.Set;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
@@ -37,6 +39,7 @@ import org.springframework.lang.Nullable;
  */
 @Entity
 @Table(name = "consultant")
+@EntityListeners(RocketChatUserAccountIdCacheEvictionListener.class)
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -1,8 +1,12 @@
 package de.caritas.cob.userservice.api.repository.consultant;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 public interface ConsultantRepository extends CrudRepository<Consultant, Long> {
 
@@ -10,11 +14,22 @@ public interface ConsultantRepository extends CrudRepository<Consultant, Long> {
 
   Optional<Consultant> findByRocketChatIdAndDeleteDateIsNull(String id);
 
+  List<Consultant> findByRocketChatIdInAndDeleteDateIsNull(Collection<String> rcUserIds);
+
+  List<Consultant> findByIdIn(Collection<String> ids);
+
   Optional<Consultant> findByEmailAndDeleteDateIsNull(String email);
 
   Optional<Consultant> findByUsernameAndDeleteDateIsNull(String username);
 
   List<Consultant> findByConsultantAgenciesAgencyIdInAndDeleteDateIsNull(List<Long> agencyIds);
 
-  List<Consultant> findAllByDeleteDateNotNull();
+  @Query(value = "SELECT ca.agencyId AS agencyId, c.rocketChatId AS rocketChatId "
+      + "FROM Consultant c JOIN c.consultantAgencies ca "
+      + "WHERE ca.agencyId IN :agency_ids AND c.deleteDate IS NULL")
+  List<AgencyConsultantRocketChatId> findRocketChatIdsByAgencyIds(
+      @Param(value = "agency_ids") Collection<Long> agencyIds);
+
+  List<Consultant> findByDeleteDateNotNullAndIdGreaterThanOrderByIdAsc(String id,
+      Pageable pageable);
 }
@@ -0,0 +1,38 @@
+package de.caritas.cob.userservice.api.repository.deleteworkflowcheckpoint;
+
+import de.caritas.cob.userservice.api.deleteworkflow.model.DeletionSourceType;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Represents the progress of the delete workflow for one {@link DeletionSourceType}.
+ */
+@Entity
+@Table(name = "delete_workflow_checkpoint")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class DeleteWorkflowCheckpoint {
+
+  @Id
+  @Column(name = "source_type", updatable = false, nullable = false)
+  @Enumerated(EnumType.STRING)
+  private DeletionSourceType sourceType;
+
+  @Column(name = "last_processed_id", nullable = false)
+  private String lastProcessedId;
+
+  @Column(name = "update_date")
+  private LocalDateTime updateDate;
+
+}
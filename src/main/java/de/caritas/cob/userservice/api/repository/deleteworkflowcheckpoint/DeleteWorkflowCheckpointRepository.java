@@ -0,0 +1,9 @@
+package de.caritas.cob.userservice.api.repository.deleteworkflowcheckpoint;
+
+import de.caritas.cob.userservice.api.deleteworkflow.model.DeletionSourceType;
+import org.springframework.data.repository.CrudRepository;
+
+public interface DeleteWorkflowCheckpointRepository extends
+    CrudRepository<DeleteWorkflowCheckpoint, DeletionSourceType> {
+
+}
@@ -0,0 +1,41 @@
+package de.caritas.cob.userservice.api.repository.importcheckpoint;
+
+import de.caritas.cob.userservice.api.service.importjob.ImportType;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Represents a completely imported record of an import file.
+ */
+@Entity
+@Table(name = "import_checkpoint")
+@IdClass(ImportCheckpointId.class)
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class ImportCheckpoint {
+
+  @Id
+  @Column(name = "import_type", updatable = false, nullable = false)
+  @Enumerated(EnumType.STRING)
+  private ImportType importType;
+
+  @Id
+  @Column(name = "record_key", updatable = false, nullable = false)
+  private String recordKey;
+
+  @Column(name = "create_date")
+  private LocalDateTime createDate;
+
+}
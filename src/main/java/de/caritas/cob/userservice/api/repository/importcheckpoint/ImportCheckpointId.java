@@ -0,0 +1,24 @@
+package de.caritas.cob.userservice.api.repository.importcheckpoint;
+
+import de.caritas.cob.userservice.api.service.importjob.ImportType;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Composite primary key of {@link ImportCheckpoint}.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@EqualsAndHashCode
+public class ImportCheckpointId implements Serializable {
+
+  private static final long serialVersionUID = 4861735128736291478L;
+
+  private ImportType importType;
+  private String recordKey;
+
+}
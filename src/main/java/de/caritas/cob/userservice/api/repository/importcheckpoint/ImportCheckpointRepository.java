@@ -0,0 +1,15 @@
+package de.caritas.cob.userservice.api.repository.importcheckpoint;
+
+import de.caritas.cob.userservice.api.service.importjob.ImportType;
+import java.util.Set;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+public interface ImportCheckpointRepository extends
+    CrudRepository<ImportCheckpoint, ImportCheckpointId> {
+
+  @Query(value = "SELECT c.recordKey FROM ImportCheckpoint c WHERE c.importType = :importType")
+  Set<String> findRecordKeysByImportType(@Param(value = "importType") ImportType importType);
+
+}
@@ -0,0 +1,125 @@
+package de.caritas.cob.userservice.api.repository.monitoring;
+
+import static java.util.Objects.nonNull;
+
+import de.caritas.cob.userservice.api.repository.monitoringoption.MonitoringOption;
+import java.sql.Types;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes {@link Monitoring} entries and their {@link MonitoringOption}s with JDBC batches. Saving
+ * the entities with JPA issues a select for every row because of their assigned composite ids,
+ * the batches need one round trip per table instead.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MonitoringBatchRepository {
+
+  private static final String H2_DATABASE = "H2";
+
+  private static final String UPSERT_MONITORING =
+      "INSERT INTO session_monitoring (session_id, type, key_name, value) VALUES (?, ?, ?, ?) "
+          + "ON DUPLICATE KEY UPDATE value = VALUES(value)";
+  private static final String UPSERT_MONITORING_OPTION =
+      "INSERT INTO session_monitoring_option (session_id, monitoring_type, monitoring_key_name, "
+          + "key_name, value) VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE value = VALUES(value)";
+  private static final String MERGE_MONITORING =
+      "MERGE INTO session_monitoring (session_id, type, key_name, value) "
+          + "KEY (session_id, type, key_name) VALUES (?, ?, ?, ?)";
+  private static final String MERGE_MONITORING_OPTION =
+      "MERGE INTO session_monitoring_option (session_id, monitoring_type, monitoring_key_name, "
+          + "key_name, value) KEY (session_id, monitoring_type, monitoring_key_name, key_name) "
+          + "VALUES (?, ?, ?, ?, ?)";
+  private static final String DELETE_MONITORING =
+      "DELETE FROM session_monitoring WHERE session_id = ? AND type = ? AND key_name = ?";
+  private static final String DELETE_MONITORING_OPTION =
+      "DELETE FROM session_monitoring_option WHERE session_id = ? AND monitoring_type = ? "
+          + "AND monitoring_key_name = ? AND key_name = ?";
+
+  private final @NonNull JdbcTemplate jdbcTemplate;
+
+  private String upsertMonitoring;
+  private String upsertMonitoringOption;
+
+  /**
+   * Chooses the upsert statements of the connected database. MariaDB uses INSERT ... ON DUPLICATE
+   * KEY UPDATE, the H2 database of the tests uses MERGE.
+   */
+  @PostConstruct
+  public void initialize() {
+    String databaseName = this.jdbcTemplate
+        .execute((ConnectionCallback<String>) connection -> connection.getMetaData()
+            .getDatabaseProductName());
+    boolean isH2 = H2_DATABASE.equalsIgnoreCase(databaseName);
+    this.upsertMonitoring = isH2 ? MERGE_MONITORING : UPSERT_MONITORING;
+    this.upsertMonitoringOption = isH2 ? MERGE_MONITORING_OPTION : UPSERT_MONITORING_OPTION;
+  }
+
+  /**
+   * Inserts or updates the given {@link Monitoring} entries and their {@link MonitoringOption}s
+   * with one batch per table.
+   *
+   * @param monitoringList the {@link Monitoring} entries to save
+   */
+  @Transactional
+  public void upsertAll(List<Monitoring> monitoringList) {
+    this.jdbcTemplate.batchUpdate(this.upsertMonitoring, monitoringList, monitoringList.size(),
+        (statement, monitoring) -> {
+          statement.setLong(1, monitoring.getSessionId());
+          statement.setInt(2, monitoring.getMonitoringType().ordinal());
+          statement.setString(3, monitoring.getKey());
+          statement.setObject(4, monitoring.getValue(), Types.BOOLEAN);
+        });
+
+    List<MonitoringOption> monitoringOptions = collectMonitoringOptions(monitoringList);
+    this.jdbcTemplate.batchUpdate(this.upsertMonitoringOption, monitoringOptions,
+        monitoringOptions.size(), (statement, option) -> {
+          statement.setLong(1, option.getSessionId());
+          statement.setInt(2, option.getMonitoringType().ordinal());
+          statement.setString(3, option.getMonitoringKey());
+          statement.setString(4, option.getKey());
+          statement.setObject(5, option.getValue(), Types.BOOLEAN);
+        });
+  }
+
+  /**
+   * Deletes the given {@link Monitoring} entries and their {@link MonitoringOption}s with one
+   * batch per table.
+   *
+   * @param monitoringList the {@link Monitoring} entries to delete
+   */
+  @Transactional
+  public void deleteAll(List<Monitoring> monitoringList) {
+    List<MonitoringOption> monitoringOptions = collectMonitoringOptions(monitoringList);
+    this.jdbcTemplate.batchUpdate(DELETE_MONITORING_OPTION, monitoringOptions,
+        monitoringOptions.size(), (statement, option) -> {
+          statement.setLong(1, option.getSessionId());
+          statement.setInt(2, option.getMonitoringType().ordinal());
+          statement.setString(3, option.getMonitoringKey());
+          statement.setString(4, option.getKey());
+        });
+
+    this.jdbcTemplate.batchUpdate(DELETE_MONITORING, monitoringList, monitoringList.size(),
+        (statement, monitoring) -> {
+          statement.setLong(1, monitoring.getSessionId());
+          statement.setInt(2, monitoring.getMonitoringType().ordinal());
+          statement.setString(3, monitoring.getKey());
+        });
+  }
+
+  private List<MonitoringOption> collectMonitoringOptions(List<Monitoring> monitoringList) {
+    return monitoringList.stream()
+        .filter(monitoring -> nonNull(monitoring.getMonitoringOptionList()))
+        .flatMap(monitoring -> monitoring.getMonitoringOptionList().stream())
+        .collect(Collectors.toList());
+  }
+
+}
@@ -1,16 +1,46 @@
 package de.caritas.cob.userservice.api.repository.monitoring;
 
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import de.caritas.cob.userservice.api.repository.session.Session;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface MonitoringRepository extends CrudRepository<Monitoring, Long> {
 
   /**
-   * Find a {@link Monitoring} by a {@link Session} id
-   * 
-   * @param sessionId
-   * @return
+   * Find a {@link Monitoring} by a {@link Session} id. The monitoring options are fetched with the
+   * same query.
+   *
+   * @param sessionId the session id
+   * @return the {@link Monitoring} entries of the {@link Session}
    */
-  List<Monitoring> findBySessionId(Long sessionId);
+  @Query(value = "SELECT DISTINCT m FROM Monitoring m LEFT JOIN FETCH m.monitoringOptionList "
+      + "WHERE m.sessionId = :session_id")
+  List<Monitoring> findBySessionId(@Param(value = "session_id") Long sessionId);
+
+  /**
+   * Deletes all monitoring options of the given {@link Session} ids with one statement.
+   *
+   * @param sessionIds the session ids
+   */
+  @Modifying
+  @Transactional
+  @Query(value = "DELETE FROM MonitoringOption mo WHERE mo.sessionId IN :session_ids")
+  void deleteMonitoringOptionsBySessionIdIn(
+      @Param(value = "session_ids") Collection<Long> sessionIds);
+
+  /**
+   * Deletes all {@link Monitoring} entries of the given {@link Session} ids with one statement.
+   * Related monitoring options must be deleted before.
+   *
+   * @param sessionIds the session ids
+   */
+  @Modifying
+  @Transactional
+  @Query(value = "DELETE FROM Monitoring m WHERE m.sessionId IN :session_ids")
+  void deleteBySessionIdIn(@Param(value = "session_ids") Collection<Long> sessionIds);
 }
@@ -99,6 +99,10 @@ public class Session {
   @Nullable
   private LocalDateTime enquiryMessageDate;
 
+  @Column(name = "latest_message_date")
+  @Nullable
+  private LocalDateTime latestMessageDate;
+
   @Column(name = "rc_group_id")
   private String groupId;
 
@@ -0,0 +1,47 @@
+package de.caritas.cob.userservice.api.repository.session;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Updates columns of many {@link Session} entities with one JDBC batch.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SessionBatchRepository {
+
+  private static final String UPDATE_LATEST_MESSAGE_DATE =
+      "UPDATE session SET latest_message_date = ? WHERE rc_group_id = ? "
+          + "AND (latest_message_date IS NULL OR latest_message_date < ?)";
+
+  private final @NonNull JdbcTemplate jdbcTemplate;
+
+  /**
+   * Sets the date of the latest message of the sessions with the given Rocket.Chat group ids. A
+   * date is never moved backwards, so concurrent updates of several instances keep the newest
+   * one.
+   *
+   * @param latestMessageDates the dates of the latest messages by Rocket.Chat group id
+   */
+  @Transactional
+  public void updateLatestMessageDates(Map<String, LocalDateTime> latestMessageDates) {
+    List<Entry<String, LocalDateTime>> updates = new ArrayList<>(latestMessageDates.entrySet());
+    this.jdbcTemplate.batchUpdate(UPDATE_LATEST_MESSAGE_DATE, updates, updates.size(),
+        (statement, update) -> {
+          Timestamp latestMessageDate = Timestamp.valueOf(update.getValue());
+          statement.setTimestamp(1, latestMessageDate);
+          statement.setString(2, update.getKey());
+          statement.setTimestamp(3, latestMessageDate);
+        });
+  }
+
+}
@@ -2,12 +2,18 @@ package de.caritas.cob.userservice.api.repository.session;
 
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
 import de.caritas.cob.userservice.api.repository.user.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface SessionRepository extends CrudRepository<Session, Long> {
 
@@ -20,6 +26,38 @@ public interface SessionRepository extends CrudRepository<Session, Long> {
    */
   List<Session> findByConsultantAndStatus(Consultant consultant, SessionStatus sessionStatus);
 
+  /**
+   * Find the {@link Session}s by a consultant and a session status and pageable.
+   *
+   * @param consultant    {@link Consultant}
+   * @param sessionStatus {@link SessionStatus}
+   * @param pageable      the pagination object including the sort order
+   * @return the result {@link Page}
+   */
+  Page<Session> findByConsultantAndStatus(Consultant consultant, SessionStatus sessionStatus,
+      Pageable pageable);
+
+  /**
+   * Find a slice of {@link Session}s with assigned consultant by session status ordered by the
+   * consultant id. The consultant and user of the sessions are fetched with the same query.
+   *
+   * @param sessionStatus {@link SessionStatus} to search for
+   * @param pageable      the pagination object
+   * @return the result {@link Slice}
+   */
+  @Query(value = "SELECT s FROM Session s JOIN FETCH s.consultant c JOIN FETCH s.user "
+      + "WHERE s.status = :status ORDER BY c.id, s.id")
+  Slice<Session> findByStatusWithConsultantOrderByConsultantId(
+      @Param(value = "status") SessionStatus sessionStatus, Pageable pageable);
+
+  /**
+   * Find the ids of all users having at least one session.
+   *
+   * @return the distinct user ids
+   */
+  @Query(value = "SELECT DISTINCT s.user.userId FROM Session s")
+  List<String> findAllUserIds();
+
   /**
    * Find a {@link Session} with unassigned consultant by agency ids and status ordery by creation
    * date ascending.
@@ -32,6 +70,17 @@ public interface SessionRepository extends CrudRepository<Session, Long> {
   List<Session> findByAgencyIdInAndConsultantIsNullAndStatusOrderByEnquiryMessageDateAsc(
       List<Long> agencyIds, SessionStatus sessionStatus);
 
+  /**
+   * Find the {@link Session}s with unassigned consultant by agency ids and status and pageable.
+   *
+   * @param agencyIds     ids of agencies to search for
+   * @param sessionStatus {@link SessionStatus} to search for
+   * @param pageable      the pagination object including the sort order
+   * @return the result {@link Page}
+   */
+  Page<Session> findByAgencyIdInAndConsultantIsNullAndStatus(List<Long> agencyIds,
+      SessionStatus sessionStatus, Pageable pageable);
+
   /**
    * Find a {@link Session} with unassigned consultant by agency ids and status ordery by creation
    * date ascending.
@@ -192,4 +241,16 @@ public interface SessionRepository extends CrudRepository<Session, Long> {
   Page<Session> findByConsultingTypeInAndRegistrationTypeAndStatusOrderByEnquiryMessageDateAsc(
       Set<ConsultingType> consultingTypes, RegistrationType registrationType,
       SessionStatus sessionStatus, Pageable pageable);
+
+  /**
+   * Deletes all {@link Session} entities with the given ids with one statement. Related session
+   * data and monitorings must be deleted before.
+   *
+   * @param sessionIds the session ids
+   */
+  @Modifying
+  @Transactional
+  @Query("DELETE FROM Session s WHERE s.id IN :session_ids")
+  void deleteByIdIn(@Param(value = "session_ids") Collection<Long> sessionIds);
+
 }
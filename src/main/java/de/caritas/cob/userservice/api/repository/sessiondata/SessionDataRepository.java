@@ -1,8 +1,13 @@
 package de.caritas.cob.userservice.api.repository.sessiondata;
 
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import de.caritas.cob.userservice.api.repository.session.Session;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface SessionDataRepository extends CrudRepository<SessionData, Long> {
 
@@ -13,4 +18,14 @@ public interface SessionDataRepository extends CrudRepository<SessionData, Long>
    * @return List of {@link SessionData}
    */
   List<SessionData> findBySessionId(Long sessionId);
+
+  /**
+   * Deletes all {@link SessionData} of the given {@link Session} IDs with one statement.
+   *
+   * @param sessionIds the session IDs
+   */
+  @Modifying
+  @Transactional
+  @Query(value = "DELETE FROM SessionData sd WHERE sd.session.id IN :session_ids")
+  void deleteBySessionIdIn(@Param(value = "session_ids") Collection<Long> sessionIds);
 }
@@ -5,6 +5,7 @@ import java.util.Objects;
 import java.util.Set;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EntityListeners;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
@@ -13,6 +14,7 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Type;
 import de.caritas.cob.userservice.api.repository.session.Session;
 import de.caritas.cob.userservice.api.repository.useragency.UserAgency;
+import de.caritas.cob.userservice.api.service.liveevents.RocketChatUserAccountIdCacheEvictionListener;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NonNull;
@@ -25,6 +27,7 @@ import lombok.ToString;
  */
 @Entity
 @Table(name = "user")
+@EntityListeners(RocketChatUserAccountIdCacheEvictionListener.class)
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
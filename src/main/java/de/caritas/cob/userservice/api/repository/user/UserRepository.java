@@ -3,15 +3,21 @@ package de.caritas.cob.userservice.api.repository.user;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.CrudRepository;
 
 public interface UserRepository extends CrudRepository<User, Long> {
 
   Optional<User> findByUserIdAndDeleteDateIsNull(String userId);
 
+  List<User> findByUserIdInAndDeleteDateIsNull(Collection<String> userIds);
+
   Optional<User> findByRcUserIdAndDeleteDateIsNull(String rcUserId);
 
-  List<User> findAllByDeleteDateNotNull();
+  List<User> findByRcUserIdInAndDeleteDateIsNull(Collection<String> rcUserIds);
+
+  List<User> findByDeleteDateNotNullAndUserIdGreaterThanOrderByUserIdAsc(String userId,
+      Pageable pageable);
 
   Optional<User> findByUsernameInAndDeleteDateIsNull(Collection<String> usernames);
 }
@@ -1,6 +1,7 @@
 package de.caritas.cob.userservice.api.repository.useragency;
 
 import java.util.List;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import de.caritas.cob.userservice.api.repository.user.User;
 
@@ -8,4 +9,7 @@ public interface UserAgencyRepository extends CrudRepository<UserAgency, Long> {
 
   List<UserAgency> findByUser(User user);
 
+  @Query(value = "SELECT DISTINCT ua.user.userId FROM UserAgency ua")
+  List<String> findAllUserIds();
+
 }
@@ -1,7 +1,10 @@
 package de.caritas.cob.userservice.api.service;
 
 import static de.caritas.cob.userservice.api.helper.SessionDataProvider.fromUserDTO;
+import static de.caritas.cob.userservice.config.ExecutorConfig.ASKER_IMPORT_EXECUTOR;
+import static de.caritas.cob.userservice.config.ExecutorConfig.ASKER_IMPORT_WORKER_EXECUTOR;
 import static de.caritas.cob.userservice.localdatetime.CustomLocalDateTime.nowInUtc;
+import static java.util.Collections.emptyList;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 
 import de.caritas.cob.userservice.api.authorization.Authorities.Authority;
@@ -14,6 +17,8 @@ import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatCreateGroup
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatLoginException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatPostWelcomeMessageException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatRemoveSystemMessagesException;
+import de.caritas.cob.userservice.api.facade.rollback.RollbackFacade;
+import de.caritas.cob.userservice.api.facade.rollback.RollbackUserAccountInformation;
 import de.caritas.cob.userservice.api.helper.Helper;
 import de.caritas.cob.userservice.api.helper.MonitoringStructureProvider;
 import de.caritas.cob.userservice.api.helper.RocketChatRoomNameGenerator;
@@ -35,9 +40,16 @@ import de.caritas.cob.userservice.api.repository.user.User;
 import de.caritas.cob.userservice.api.repository.useragency.UserAgency;
 import de.caritas.cob.userservice.api.service.agency.AgencyService;
 import de.caritas.cob.userservice.api.service.helper.KeycloakAdminClientService;
+import de.caritas.cob.userservice.api.service.importjob.ImportCheckpointService;
+import de.caritas.cob.userservice.api.service.importjob.ImportJob;
+import de.caritas.cob.userservice.api.service.importjob.ImportJobRegistry;
+import de.caritas.cob.userservice.api.service.importjob.ImportType;
+import de.caritas.cob.userservice.api.service.importjob.ServiceCallLimiter;
+import de.caritas.cob.userservice.api.service.importjob.ServiceCallLimiter.Permit;
 import de.caritas.cob.userservice.api.service.message.MessageServiceProvider;
 import de.caritas.cob.userservice.api.service.rocketchat.RocketChatCredentialsProvider;
 import de.caritas.cob.userservice.api.service.rocketchat.RocketChatService;
+import de.caritas.cob.userservice.api.service.securityheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.api.service.session.SessionService;
 import de.caritas.cob.userservice.api.service.user.UserService;
 import java.io.File;
@@ -48,28 +60,40 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.validator.routines.EmailValidator;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 /**
- * Imports the askers from the created CSV file of the old Caritas system.
+ * Imports the askers from the created CSV file of the old Caritas system. The import runs in the
+ * background: the file is read in chunks and the records of a chunk are imported concurrently.
+ * Every completely imported record is stored as checkpoint, so that a restarted import skips it.
+ * The accounts and groups of a record which fails are removed again, so that the record can be
+ * imported by a restarted import.
  */
 @Service
 @RequiredArgsConstructor
@@ -89,6 +113,16 @@ public class AskerImportService {
   private String welcomeMsgFilename;
   @Value("${asker.import.welcome.message.filename.replace.value}")
   private String welcomeMsgFilenameReplaceValue;
+  @Value("${asker.import.chunkSize}")
+  private int chunkSize;
+  @Value("${asker.import.technical.username}")
+  private String technicalUsername;
+  @Value("${asker.import.technical.password}")
+  private String technicalPassword;
+  @Value("${asker.import.keycloak.concurrency}")
+  private int keycloakConcurrency;
+  @Value("${asker.import.rocketchat.concurrency}")
+  private int rocketChatConcurrency;
 
   private final String NEWLINE_CHAR = "\r\n";
   private final String IMPORT_CHARSET = "UTF-8";
@@ -110,445 +144,591 @@ public class AskerImportService {
   private final @NonNull UserHelper userHelper;
   private final @NonNull UserAgencyService userAgencyService;
   private final @NonNull RocketChatCredentialsProvider rocketChatCredentialsProvider;
+  private final @NonNull ImportJobRegistry importJobRegistry;
+  private final @NonNull ImportCheckpointService importCheckpointService;
+  private final @NonNull RollbackFacade rollbackFacade;
+  private final @NonNull KeycloakService keycloakService;
+  private final @NonNull SecurityHeaderSupplier securityHeaderSupplier;
+  @Qualifier(ASKER_IMPORT_EXECUTOR)
+  private final @NonNull Executor importExecutor;
+  @Qualifier(ASKER_IMPORT_WORKER_EXECUTOR)
+  private final @NonNull Executor workerExecutor;
   private final RocketChatRoomNameGenerator rocketChatRoomNameGenerator = new RocketChatRoomNameGenerator();
 
+  private ServiceCallLimiter keycloakCallLimiter;
+  private ServiceCallLimiter rocketChatCallLimiter;
+
+  @PostConstruct
+  public void initialize() {
+    this.keycloakCallLimiter = new ServiceCallLimiter(this.keycloakConcurrency);
+    this.rocketChatCallLimiter = new ServiceCallLimiter(this.rocketChatConcurrency);
+  }
+
+  /**
+   * Starts the import of askers without session by a predefined import list (for the format see
+   * readme.md) in the background.
+   *
+   * @return the {@link ImportJob} to poll the progress
+   */
+  public ImportJob startImportForAskersWithoutSession() {
+    ImportJob importJob = this.importJobRegistry.registerImportJob(
+        ImportType.ASKER_WITHOUT_SESSION, protocolFilename + "." + System.currentTimeMillis());
+    this.importExecutor.execute(() -> runImport(importJob, importFilenameAskerWithoutSession,
+        this::importAskerWithoutSession));
+    return importJob;
+  }
+
+  /**
+   * Starts the import of askers by a predefined import list (for the format see readme.md) in the
+   * background.
+   *
+   * @return the {@link ImportJob} to poll the progress
+   */
+  public ImportJob startImport() {
+    ImportJob importJob = this.importJobRegistry.registerImportJob(ImportType.ASKER,
+        protocolFilename + "." + System.currentTimeMillis());
+    this.importExecutor.execute(() -> startImportWithSystemUser(importJob));
+    return importJob;
+  }
+
   /**
-   * Imports askers without session by a predefined import list (for the format see readme.md)
+   * Returns the import job with the given id.
+   *
+   * @param jobId the id of the import job
+   * @return the {@link ImportJob}
    */
-  public void startImportForAskersWithoutSession() {
+  public ImportJob findImportJob(String jobId) {
+    return this.importJobRegistry.findImportJob(jobId);
+  }
 
-    String protocolFile = protocolFilename + "." + System.currentTimeMillis();
-    Reader in;
-    Iterable<CSVRecord> records = null;
+  private void startImportWithSystemUser(ImportJob importJob) {
+    String protocolFile = importJob.getProtocolFile();
+    String systemUserId;
 
+    // Log in Rocket.Chat system message user to get the token and read in welcome messages
     try {
+      ResponseEntity<LoginResponseDTO> rcSystemUserResonse = rocketChatCredentialsProvider
+          .loginUser(ROCKET_CHAT_SYSTEM_USER_USERNAME, ROCKET_CHAT_SYSTEM_USER_PASSWORD);
+      systemUserId = rcSystemUserResonse.getBody().getData().getUserId();
+      String systemUserToken = rcSystemUserResonse.getBody().getData().getAuthToken();
+
+      if (rcSystemUserResonse.getStatusCode() != HttpStatus.OK
+          || systemUserId == null || systemUserToken == null) {
+        throw new ImportException("Could not log in Rocket.Chat system message user.");
+      }
 
-      in = new FileReader(importFilenameAskerWithoutSession);
-      records = CSVFormat.DEFAULT.parse(in);
+      getWelcomeMessageMap(protocolFile);
 
+    } catch (ImportException importExcetion) {
+      writeToImportLog(importExcetion.getMessage(), protocolFile);
+      importJob.fail();
+      return;
     } catch (Exception exception) {
       writeToImportLog(
-          String.format("Error while reading import file: %s",
+          String.format(
+              "Error while logging in Rocket.Chat system message user: %s",
               org.apache.commons.lang3.exception.ExceptionUtils.getStackTrace(exception)),
           protocolFile);
+      importJob.fail();
       return;
     }
 
-    for (CSVRecord csvRecord : records) {
-
-      try {
-        ImportRecordAskerWithoutSession record = getImportRecordAskerWithoutSession(csvRecord);
+    runImport(importJob, importFilenameAsker,
+        (csvRecord, importedResources, protocol) -> importAsker(csvRecord, systemUserId,
+            importedResources, protocol));
+  }
 
-        // Check if username is valid
-        if (!userHelper.isUsernameValid(record.getUsername())) {
-          writeToImportLog(String.format("Username length is invalid. Skipping import for user %s",
-              record.getUsername()), protocolFile);
-          continue;
+  private void runImport(ImportJob importJob, String importFilename,
+      RecordImporter recordImporter) {
+    String protocolFile = importJob.getProtocolFile();
+    Set<String> importedRecordKeys =
+        this.importCheckpointService.loadImportedRecordKeys(importJob.getImportType());
+
+    try (Reader in = new FileReader(importFilename);
+        CSVParser records = CSVFormat.DEFAULT.parse(in)) {
+      List<CSVRecord> chunk = new ArrayList<>(this.chunkSize);
+      for (CSVRecord csvRecord : records) {
+        chunk.add(csvRecord);
+        if (chunk.size() == this.chunkSize) {
+          importChunk(importJob, chunk, importedRecordKeys, recordImporter);
+          chunk.clear();
         }
+      }
+      importChunk(importJob, chunk, importedRecordKeys, recordImporter);
+      importJob.finish();
+    } catch (Exception exception) {
+      writeToImportLog(
+          String.format("Error while running import: %s",
+              org.apache.commons.lang3.exception.ExceptionUtils.getStackTrace(exception)),
+          protocolFile);
+      importJob.fail();
+    }
 
-        // Get the agency
-        AgencyDTO agencyDTO = agencyService
-            .getAgencyWithoutCaching(Long.valueOf(record.getAgencyId()));
-
-        if (agencyDTO == null) {
-          throw new ImportException(String
-              .format("Could not get consulting type (agency) for user %s", record.getUsername()));
-        }
+    writeToImportLog(String.format("Import finished with status %s: %s", importJob.getStatus(),
+        importJob.toImportJobDTO()), protocolFile);
+  }
 
-        // Check if decoded username is already taken
-        if (!keycloakAdminClientService.isUsernameAvailable(record.getUsername())) {
-          writeToImportLog(String.format(
-              "Could not create Keycloak user %s - username or e-mail address is already taken.",
-              record.getUsername()), protocolFile);
-          continue;
-        }
+  /**
+   * Imports the records of a chunk concurrently. The service calls of the records, e.g. to post
+   * the welcome message, are authenticated with a token of the technical import user, because
+   * there is no authenticated user on the worker threads. A new token is obtained for every chunk,
+   * so it does not expire during a long running import.
+   */
+  private void importChunk(ImportJob importJob, List<CSVRecord> chunk,
+      Set<String> importedRecordKeys, RecordImporter recordImporter) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+    String accessToken = obtainTechnicalUserAccessToken();
+    List<CompletableFuture<Void>> recordImports = new ArrayList<>();
+    for (CSVRecord csvRecord : chunk) {
+      if (importedRecordKeys.contains(getRecordKey(csvRecord))) {
+        importJob.recordAlreadyImported();
+      } else {
+        recordImports.add(CompletableFuture.runAsync(
+            () -> securityHeaderSupplier.runWithAccessToken(accessToken,
+                () -> importRecord(importJob, csvRecord, recordImporter)),
+            this.workerExecutor));
+      }
+    }
+    CompletableFuture.allOf(recordImports.toArray(new CompletableFuture[0])).join();
+  }
 
-        UserDTO userDTO =
-            convertAskerWithoutSessionToUserDTO(record, agencyDTO.getConsultingType());
+  private String obtainTechnicalUserAccessToken() {
+    try (Permit permit = keycloakCallLimiter.acquire()) {
+      return keycloakService.loginUser(technicalUsername, technicalPassword).getAccessToken();
+    }
+  }
 
-        // Create Keycloak user
-        KeycloakCreateUserResponseDTO response =
-            keycloakAdminClientService.createKeycloakUser(userDTO, "", "");
-        String keycloakUserId = response.getUserId();
+  private void importRecord(ImportJob importJob, CSVRecord csvRecord,
+      RecordImporter recordImporter) {
+    String protocolFile = importJob.getProtocolFile();
+    ImportedResources importedResources = new ImportedResources();
+    try {
+      if (recordImporter.importRecord(csvRecord, importedResources, protocolFile)
+          == RecordImportResult.IMPORTED) {
+        this.importCheckpointService.markImported(importJob.getImportType(),
+            getRecordKey(csvRecord));
+        importJob.recordImported();
+      } else {
+        importJob.recordSkipped();
+      }
+    } catch (ImportException | InternalServerErrorException
+        | RocketChatPostWelcomeMessageException | RocketChatLoginException
+        | RocketChatCreateGroupException exception) {
+      writeToImportLog(exception.getMessage(), protocolFile);
+      failRecord(importJob, csvRecord, importedResources);
+    } catch (CustomValidationHttpStatusException e) {
+      writeToImportLog(String.format("Could not create Keycloak user for user %s - username or "
+          + "e-mail address is already taken.", getRecordKey(csvRecord)), protocolFile);
+      failRecord(importJob, csvRecord, importedResources);
+    } catch (Exception exception) {
+      writeToImportLog(org.apache.commons.lang3.exception.ExceptionUtils.getStackTrace(exception),
+          protocolFile);
+      failRecord(importJob, csvRecord, importedResources);
+    }
+  }
 
-        if (record.getEmail() == null || record.getEmail().equals(StringUtils.EMPTY)) {
-          userDTO.setEmail(userHelper.getDummyEmail(keycloakUserId));
-          keycloakAdminClientService.updateDummyEmail(keycloakUserId, userDTO);
-        }
+  private void failRecord(ImportJob importJob, CSVRecord csvRecord,
+      ImportedResources importedResources) {
+    rollBackRecord(csvRecord, importedResources, importJob.getProtocolFile());
+    importJob.recordFailed();
+  }
 
-        // Set Keycloak password
-        keycloakAdminClientService.updatePassword(keycloakUserId, record.getPassword());
-
-        // Set asker/user role
-        keycloakAdminClientService.updateUserRole(keycloakUserId);
-
-        // Create user in MariaDB
-        ConsultingTypeSettings consultingTypeSettings =
-            consultingTypeManager.getConsultingTypeSettings(agencyDTO.getConsultingType());
-        User dbUser =
-            userService.createUser(keycloakUserId, record.getIdOld(), record.getUsernameEncoded(),
-                userDTO.getEmail(), consultingTypeSettings.isLanguageFormal());
-        if (dbUser.getUserId() == null || dbUser.getUserId().equals(StringUtils.EMPTY)) {
-          throw new ImportException(
-              String.format("Could not create user %s in mariaDB", record.getUsername()));
-        }
+  /**
+   * Removes the groups and accounts created for a failed record in reverse order. A failing step
+   * is logged and does not prevent the following steps.
+   */
+  private void rollBackRecord(CSVRecord csvRecord, ImportedResources importedResources,
+      String protocolFile) {
+    if (importedResources.isEmpty()) {
+      return;
+    }
+    for (String rcGroupId : importedResources.getRcGroupIds()) {
+      try {
+        rocketChatService.deleteGroupAsTechnicalUser(rcGroupId);
+      } catch (Exception e) {
+        writeToImportLog(String.format("Could not roll back Rocket.Chat group %s of user %s",
+            rcGroupId, getRecordKey(csvRecord)), protocolFile);
+      }
+    }
+    if (importedResources.getRcUserId() != null) {
+      try {
+        rocketChatService.deleteUser(importedResources.getRcUserId());
+      } catch (Exception e) {
+        writeToImportLog(String.format("Could not roll back Rocket.Chat user %s of user %s",
+            importedResources.getRcUserId(), getRecordKey(csvRecord)), protocolFile);
+      }
+    }
+    try {
+      rollbackFacade.rollBackUserAccount(RollbackUserAccountInformation.builder()
+          .userId(importedResources.getKeycloakUserId())
+          .user(importedResources.getUser())
+          .session(importedResources.getSession())
+          .userAgency(importedResources.getUserAgency())
+          .rollBackUserAccount(true)
+          .build());
+      writeToImportLog(String.format("Import of user %s has been rolled back",
+          getRecordKey(csvRecord)), protocolFile);
+    } catch (Exception e) {
+      writeToImportLog(String.format("Could not roll back user %s: %s", getRecordKey(csvRecord),
+          org.apache.commons.lang3.exception.ExceptionUtils.getStackTrace(e)), protocolFile);
+    }
+  }
 
-        // Log in user to Rocket.Chat
-        ResponseEntity<LoginResponseDTO> rcUserResponse =
-            rocketChatService.loginUserFirstTime(record.getUsernameEncoded(), record.getPassword());
-        String rcUserToken = rcUserResponse.getBody().getData().getAuthToken();
-        String rcUserId = rcUserResponse.getBody().getData().getUserId();
-        if (rcUserToken == null || rcUserToken.equals(StringUtils.EMPTY) || rcUserId == null
-            || rcUserId.equals(StringUtils.EMPTY)) {
-          throw new ImportException(
-              String.format("Could not log in user %s into Rocket.Chat", record.getUsername()));
-        }
+  /**
+   * The username identifies a record in both import formats, because it has to be unique.
+   */
+  private String getRecordKey(CSVRecord csvRecord) {
+    return csvRecord.size() > 1 ? StringUtils.trim(csvRecord.get(1)) : null;
+  }
 
-        // Log out user from Rocket.Chat
-        RocketChatCredentials rocketChatUserCredentials = RocketChatCredentials.builder()
-            .rocketChatToken(rcUserToken).rocketChatUserId(rcUserId).build();
-        rocketChatService.logoutUser(rocketChatUserCredentials);
-
-        // Update rcUserId in user table
-        dbUser.setRcUserId(rcUserId);
-        User updatedUser = userService.saveUser(dbUser);
-        if (updatedUser.getUserId() == null || updatedUser.getUserId().equals(StringUtils.EMPTY)) {
-          throw new ImportException(String
-              .format("Could not update Rocket.Chat user id for user %s", record.getUsername()));
-        }
+  private RecordImportResult importAskerWithoutSession(CSVRecord csvRecord,
+      ImportedResources importedResources, String protocolFile) throws RocketChatLoginException {
 
-        // Create user-agency-relation
-        UserAgency userAgency = getUserAgency(dbUser, agencyDTO.getId());
-        userAgencyService.saveUserAgency(userAgency);
-
-        writeToImportLog(String.format("User with old id %s and username %s imported. New id: %s",
-            record.getIdOld(), record.getUsername(), dbUser.getUserId()), protocolFile);
-
-      } catch (ImportException importException) {
-        writeToImportLog(importException.getMessage(), protocolFile);
-        break;
-      } catch (InternalServerErrorException serviceException) {
-        writeToImportLog(serviceException.getMessage(), protocolFile);
-        break;
-      } catch (RocketChatLoginException rcLoginException) {
-        writeToImportLog(rcLoginException.getMessage(), protocolFile);
-        break;
-      } catch (CustomValidationHttpStatusException e) {
-        writeToImportLog(String.format(
-            "Could not create Keycloak user for user %s - username or e-mail address is already taken.",
-            getImportRecordAskerWithoutSession(csvRecord).getUsername()), protocolFile);
-        break;
-      } catch (Exception exception) {
-        writeToImportLog(org.apache.commons.lang3.exception.ExceptionUtils.getStackTrace(exception),
-            protocolFile);
-        break;
-      }
+    ImportRecordAskerWithoutSession record = getImportRecordAskerWithoutSession(csvRecord);
 
+    // Check if username is valid
+    if (!userHelper.isUsernameValid(record.getUsername())) {
+      writeToImportLog(String.format("Username length is invalid. Skipping import for user %s",
+          record.getUsername()), protocolFile);
+      return RecordImportResult.SKIPPED;
     }
 
-  }
+    // Get the agency
+    AgencyDTO agencyDTO = agencyService
+        .getAgencyWithoutCaching(Long.valueOf(record.getAgencyId()));
 
-  /**
-   * Imports askers by a predefined import list (for the format see readme.md)
-   */
-  public void startImport() {
+    if (agencyDTO == null) {
+      throw new ImportException(String
+          .format("Could not get consulting type (agency) for user %s", record.getUsername()));
+    }
 
-    String protocolFile = protocolFilename + "." + System.currentTimeMillis();
-    Reader in;
-    Iterable<CSVRecord> records = null;
-    String systemUserId;
-    String systemUserToken;
-    Map<ConsultingType, String> welcomeMessageMap = null;
+    UserDTO userDTO =
+        convertAskerWithoutSessionToUserDTO(record, agencyDTO.getConsultingType());
+    String keycloakUserId;
 
-    // Read in asker import file, log in Rocket.Chat system message user to get the token and read
-    // in welcome messages
-    try {
-      in = new FileReader(importFilenameAsker);
-      records = CSVFormat.DEFAULT.parse(in);
+    try (Permit permit = keycloakCallLimiter.acquire()) {
+      // Check if decoded username is already taken
+      if (!keycloakAdminClientService.isUsernameAvailable(record.getUsername())) {
+        writeToImportLog(String.format(
+            "Could not create Keycloak user %s - username or e-mail address is already taken.",
+            record.getUsername()), protocolFile);
+        return RecordImportResult.SKIPPED;
+      }
 
-      ResponseEntity<LoginResponseDTO> rcSystemUserResonse = rocketChatCredentialsProvider
-          .loginUser(ROCKET_CHAT_SYSTEM_USER_USERNAME, ROCKET_CHAT_SYSTEM_USER_PASSWORD);
-      systemUserId = rcSystemUserResonse.getBody().getData().getUserId();
-      systemUserToken = rcSystemUserResonse.getBody().getData().getAuthToken();
+      // Create Keycloak user
+      KeycloakCreateUserResponseDTO response =
+          keycloakAdminClientService.createKeycloakUser(userDTO, "", "");
+      keycloakUserId = response.getUserId();
+      importedResources.setKeycloakUserId(keycloakUserId);
 
-      if (rcSystemUserResonse == null || rcSystemUserResonse.getStatusCode() != HttpStatus.OK
-          || systemUserId == null || systemUserToken == null) {
-        throw new ImportException("Could not log in Rocket.Chat system message user.");
+      if (record.getEmail() == null || record.getEmail().equals(StringUtils.EMPTY)) {
+        userDTO.setEmail(userHelper.getDummyEmail(keycloakUserId));
+        keycloakAdminClientService.updateDummyEmail(keycloakUserId, userDTO);
       }
 
-      welcomeMessageMap = getWelcomeMessageMap(protocolFile);
+      // Set Keycloak password
+      keycloakAdminClientService.updatePassword(keycloakUserId, record.getPassword());
 
-    } catch (ImportException importExcetion) {
-      writeToImportLog(importExcetion.getMessage(), protocolFile);
-      return;
-    } catch (Exception exception) {
-      writeToImportLog(
-          String.format(
-              "Error while reading import file or logging in Rocket.Chat system message user: %s",
-              org.apache.commons.lang3.exception.ExceptionUtils.getStackTrace(exception)),
-          protocolFile);
-      return;
+      // Set asker/user role
+      keycloakAdminClientService.updateUserRole(keycloakUserId);
     }
 
-    for (CSVRecord csvRecord : records) {
+    // Create user in MariaDB
+    ConsultingTypeSettings consultingTypeSettings =
+        consultingTypeManager.getConsultingTypeSettings(agencyDTO.getConsultingType());
+    User dbUser =
+        userService.createUser(keycloakUserId, record.getIdOld(), record.getUsernameEncoded(),
+            userDTO.getEmail(), consultingTypeSettings.isLanguageFormal());
+    importedResources.setUser(dbUser);
+    if (dbUser.getUserId() == null || dbUser.getUserId().equals(StringUtils.EMPTY)) {
+      throw new ImportException(
+          String.format("Could not create user %s in mariaDB", record.getUsername()));
+    }
 
-      try {
-        ImportRecordAsker record = getImportRecordAsker(csvRecord);
+    String rcUserId;
+    try (Permit permit = rocketChatCallLimiter.acquire()) {
+      // Log in user to Rocket.Chat
+      ResponseEntity<LoginResponseDTO> rcUserResponse =
+          rocketChatService.loginUserFirstTime(record.getUsernameEncoded(), record.getPassword());
+      String rcUserToken = rcUserResponse.getBody().getData().getAuthToken();
+      rcUserId = rcUserResponse.getBody().getData().getUserId();
+      importedResources.setRcUserId(rcUserId);
+      if (rcUserToken == null || rcUserToken.equals(StringUtils.EMPTY) || rcUserId == null
+          || rcUserId.equals(StringUtils.EMPTY)) {
+        throw new ImportException(
+            String.format("Could not log in user %s into Rocket.Chat", record.getUsername()));
+      }
 
-        // Check if username is valid
-        if (!userHelper.isUsernameValid(record.getUsername())) {
-          writeToImportLog(String.format("Username length is invalid. Skipping import for user %s",
-              record.getUsername()), protocolFile);
-          continue;
-        }
+      // Log out user from Rocket.Chat
+      RocketChatCredentials rocketChatUserCredentials = RocketChatCredentials.builder()
+          .rocketChatToken(rcUserToken).rocketChatUserId(rcUserId).build();
+      rocketChatService.logoutUser(rocketChatUserCredentials);
+    }
 
-        // Get the agency for the consulting type
-        AgencyDTO agencyDTO = agencyService
-            .getAgencyWithoutCaching(Long.valueOf(record.getAgencyId()));
+    // Update rcUserId in user table
+    dbUser.setRcUserId(rcUserId);
+    User updatedUser = userService.saveUser(dbUser);
+    if (updatedUser.getUserId() == null || updatedUser.getUserId().equals(StringUtils.EMPTY)) {
+      throw new ImportException(String
+          .format("Could not update Rocket.Chat user id for user %s", record.getUsername()));
+    }
 
-        if (agencyDTO == null) {
-          throw new ImportException(String
-              .format("Could not get consulting type (agency) for user %s", record.getUsername()));
-        }
+    // Create user-agency-relation
+    UserAgency userAgency = getUserAgency(dbUser, agencyDTO.getId());
+    importedResources.setUserAgency(userAgencyService.saveUserAgency(userAgency));
 
-        // Check if consultant exists and is in agency
-        Optional<Consultant> consultant = consultantService.getConsultant(record.getConsultantId());
-        if (!consultant.isPresent()) {
-          writeToImportLog(
-              String.format("Consultant with id %s does not exist. Skipping import of user %s",
-                  record.getConsultantId(), record.getUsername()),
-              protocolFile);
-          continue;
-        }
-        if (!consultant.get().getConsultantAgencies().stream()
-            .anyMatch(agency -> Objects.equals(agency.getAgencyId(), record.getAgencyId()))) {
-          writeToImportLog(
-              String.format("Consultant with id %s is not in agency %s. Skipping import of user %s",
-                  record.getConsultantId(), record.getAgencyId(), record.getUsername()),
-              protocolFile);
-          continue;
-        }
+    writeToImportLog(String.format("User with old id %s and username %s imported. New id: %s",
+        record.getIdOld(), record.getUsername(), dbUser.getUserId()), protocolFile);
+    return RecordImportResult.IMPORTED;
+  }
 
-        UserDTO userDTO = convertAskerToUserDTO(record, agencyDTO.getConsultingType());
+  private RecordImportResult importAsker(CSVRecord csvRecord, String systemUserId,
+      ImportedResources importedResources, String protocolFile) throws Exception {
 
-        // Check if decoded username is already taken
-        if (!keycloakAdminClientService.isUsernameAvailable(record.getUsername())) {
-          writeToImportLog(String.format(
-              "Could not create Keycloak user %s - username or e-mail address is already taken.",
-              record.getUsername()), protocolFile);
-          continue;
-        }
+    ImportRecordAsker record = getImportRecordAsker(csvRecord);
 
-        // Create Keycloak user
-        KeycloakCreateUserResponseDTO response =
-            keycloakAdminClientService.createKeycloakUser(userDTO, "", "");
-        String keycloakUserId = response.getUserId();
+    // Check if username is valid
+    if (!userHelper.isUsernameValid(record.getUsername())) {
+      writeToImportLog(String.format("Username length is invalid. Skipping import for user %s",
+          record.getUsername()), protocolFile);
+      return RecordImportResult.SKIPPED;
+    }
 
-        if (record.getEmail() == null || record.getEmail().equals(StringUtils.EMPTY)) {
-          userDTO.setEmail(userHelper.getDummyEmail(keycloakUserId));
-          keycloakAdminClientService.updateDummyEmail(keycloakUserId, userDTO);
-        }
+    // Get the agency for the consulting type
+    AgencyDTO agencyDTO = agencyService
+        .getAgencyWithoutCaching(Long.valueOf(record.getAgencyId()));
 
-        // Set Keycloak password
-        keycloakAdminClientService.updatePassword(keycloakUserId, record.getPassword());
-
-        // Set asker/user role
-        keycloakAdminClientService.updateUserRole(keycloakUserId);
-
-        // Create user in MariaDB
-        ConsultingTypeSettings consultingTypeSettings =
-            consultingTypeManager.getConsultingTypeSettings(agencyDTO.getConsultingType());
-        User dbUser =
-            userService.createUser(keycloakUserId, record.getIdOld(), record.getUsernameEncoded(),
-                userDTO.getEmail(), consultingTypeSettings.isLanguageFormal());
-        if (dbUser.getUserId() == null || dbUser.getUserId().equals(StringUtils.EMPTY)) {
-          throw new ImportException(
-              String.format("Could not create user %s in mariaDB", record.getUsername()));
-        }
+    if (agencyDTO == null) {
+      throw new ImportException(String
+          .format("Could not get consulting type (agency) for user %s", record.getUsername()));
+    }
 
-        // Initialize Session (need session id for Rocket.Chat group name)
-        Session session = sessionService
-            .initializeSession(dbUser, userDTO, isTrue(agencyDTO.getTeamAgency()));
-        if (session.getId() == null) {
-          throw new ImportException(
-              String.format("Could not create session for user %s", record.getUsername()));
-        }
+    // Check if consultant exists and is in agency
+    Optional<Consultant> consultant = consultantService.getConsultant(record.getConsultantId());
+    if (!consultant.isPresent()) {
+      writeToImportLog(
+          String.format("Consultant with id %s does not exist. Skipping import of user %s",
+              record.getConsultantId(), record.getUsername()),
+          protocolFile);
+      return RecordImportResult.SKIPPED;
+    }
+    if (!consultant.get().getConsultantAgencies().stream()
+        .anyMatch(agency -> Objects.equals(agency.getAgencyId(), record.getAgencyId()))) {
+      writeToImportLog(
+          String.format("Consultant with id %s is not in agency %s. Skipping import of user %s",
+              record.getConsultantId(), record.getAgencyId(), record.getUsername()),
+          protocolFile);
+      return RecordImportResult.SKIPPED;
+    }
 
-        // Log in user to Rocket.Chat
-        ResponseEntity<LoginResponseDTO> rcUserResponse =
-            rocketChatService.loginUserFirstTime(record.getUsernameEncoded(), record.getPassword());
-        String rcUserToken = rcUserResponse.getBody().getData().getAuthToken();
-        String rcUserId = rcUserResponse.getBody().getData().getUserId();
-        if (rcUserToken == null || rcUserToken.equals(StringUtils.EMPTY) || rcUserId == null
-            || rcUserId.equals(StringUtils.EMPTY)) {
-          throw new ImportException(
-              String.format("Could not log in user %s into Rocket.Chat", record.getUsername()));
-        }
+    UserDTO userDTO = convertAskerToUserDTO(record, agencyDTO.getConsultingType());
+    String keycloakUserId;
 
-        // Create Rocket.Chat group
-        RocketChatCredentials rocketChatUserCredentials = RocketChatCredentials.builder()
-            .rocketChatToken(rcUserToken).rocketChatUserId(rcUserId).build();
-        String rcGroupId =
-            rocketChatService
-                .createPrivateGroup(rocketChatRoomNameGenerator.generateGroupName(session),
-                    rocketChatUserCredentials).get().getGroup().getId();
-        if (rcGroupId == null || rcGroupId.equals(StringUtils.EMPTY)) {
-          throw new ImportException(String.format("Could not create Rocket.Chat group for user %s",
-              record.getUsername()));
-        }
+    try (Permit permit = keycloakCallLimiter.acquire()) {
+      // Check if decoded username is already taken
+      if (!keycloakAdminClientService.isUsernameAvailable(record.getUsername())) {
+        writeToImportLog(String.format(
+            "Could not create Keycloak user %s - username or e-mail address is already taken.",
+            record.getUsername()), protocolFile);
+        return RecordImportResult.SKIPPED;
+      }
 
-        // Log out user from Rocket.Chat
-        rocketChatService.logoutUser(rocketChatUserCredentials);
+      // Create Keycloak user
+      KeycloakCreateUserResponseDTO response =
+          keycloakAdminClientService.createKeycloakUser(userDTO, "", "");
+      keycloakUserId = response.getUserId();
+      importedResources.setKeycloakUserId(keycloakUserId);
 
-        // Update rcUserId in user table
-        dbUser.setRcUserId(rcUserId);
-        User updatedUser = userService.saveUser(dbUser);
-        if (updatedUser.getUserId() == null || updatedUser.getUserId().equals(StringUtils.EMPTY)) {
-          throw new ImportException(String
-              .format("Could not update Rocket.Chat user id for user %s", record.getUsername()));
-        }
+      if (record.getEmail() == null || record.getEmail().equals(StringUtils.EMPTY)) {
+        userDTO.setEmail(userHelper.getDummyEmail(keycloakUserId));
+        keycloakAdminClientService.updateDummyEmail(keycloakUserId, userDTO);
+      }
 
-        List<ConsultantAgency> agencyList =
-            consultantAgencyService.findConsultantsByAgencyId(record.getAgencyId());
+      // Set Keycloak password
+      keycloakAdminClientService.updatePassword(keycloakUserId, record.getPassword());
 
-        // Create feedback group and add consultants if enabled for this agency/consulting type
-        if (consultingTypeSettings.isFeedbackChat()) {
-          String rcFeedbackGroupId = rocketChatService
-              .createPrivateGroupWithSystemUser(
-                  rocketChatRoomNameGenerator.generateFeedbackGroupName(session))
-              .get().getGroup().getId();
-          if (rcFeedbackGroupId == null || rcFeedbackGroupId.equals(StringUtils.EMPTY)) {
-            throw new ImportException(String.format(
-                "Could not create Rocket.Chat feedback group for user %s", record.getUsername()));
-          }
+      // Set asker/user role
+      keycloakAdminClientService.updateUserRole(keycloakUserId);
+    }
 
-          // Add the assigned consultant and all consultants of the session's agency to the feedback
-          // group that have the right to view all feedback sessions
-          for (ConsultantAgency agency : agencyList) {
-            if (keycloakAdminClientService.userHasAuthority(agency.getConsultant().getId(),
-                Authority.VIEW_ALL_FEEDBACK_SESSIONS)
-                || agency.getConsultant().getId().equals(record.getConsultantId())) {
-              rocketChatService.addUserToGroup(agency.getConsultant().getRocketChatId(),
-                  rcFeedbackGroupId);
-            }
-          }
+    // Create user in MariaDB
+    ConsultingTypeSettings consultingTypeSettings =
+        consultingTypeManager.getConsultingTypeSettings(agencyDTO.getConsultingType());
+    User dbUser =
+        userService.createUser(keycloakUserId, record.getIdOld(), record.getUsernameEncoded(),
+            userDTO.getEmail(), consultingTypeSettings.isLanguageFormal());
+    importedResources.setUser(dbUser);
+    if (dbUser.getUserId() == null || dbUser.getUserId().equals(StringUtils.EMPTY)) {
+      throw new ImportException(
+          String.format("Could not create user %s in mariaDB", record.getUsername()));
+    }
 
-          // Remove all system messages from feedback group
-          try {
-            rocketChatService.removeSystemMessages(rcFeedbackGroupId,
-                nowInUtc().minusHours(Helper.ONE_DAY_IN_HOURS), nowInUtc());
-          } catch (RocketChatRemoveSystemMessagesException e) {
-            throw new ImportException(String.format(
-                "Could not remove system messages from feedback group id %s for user %s",
-                rcFeedbackGroupId, record.getUsername()));
-          }
+    // Initialize Session (need session id for Rocket.Chat group name)
+    Session session = sessionService
+        .initializeSession(dbUser, userDTO, isTrue(agencyDTO.getTeamAgency()));
+    importedResources.setSession(session);
+    if (session.getId() == null) {
+      throw new ImportException(
+          String.format("Could not create session for user %s", record.getUsername()));
+    }
 
-          // Update the session's feedback group id
-          sessionService.updateFeedbackGroupId(session, rcFeedbackGroupId);
-        }
+    String rcUserId;
+    String rcGroupId;
+    try (Permit permit = rocketChatCallLimiter.acquire()) {
+      // Log in user to Rocket.Chat
+      ResponseEntity<LoginResponseDTO> rcUserResponse =
+          rocketChatService.loginUserFirstTime(record.getUsernameEncoded(), record.getPassword());
+      String rcUserToken = rcUserResponse.getBody().getData().getAuthToken();
+      rcUserId = rcUserResponse.getBody().getData().getUserId();
+      importedResources.setRcUserId(rcUserId);
+      if (rcUserToken == null || rcUserToken.equals(StringUtils.EMPTY) || rcUserId == null
+          || rcUserId.equals(StringUtils.EMPTY)) {
+        throw new ImportException(
+            String.format("Could not log in user %s into Rocket.Chat", record.getUsername()));
+      }
 
-        // Update session data by Rocket.Chat group id and consultant id
-        session.setConsultant(consultant.get());
-        session.setGroupId(rcGroupId);
-        session.setEnquiryMessageDate(nowInUtc());
-        session.setStatus(SessionStatus.IN_PROGRESS);
-        session.setCreateDate(nowInUtc());
-        session.setUpdateDate(nowInUtc());
-        Session updatedSession = sessionService.saveSession(session);
-        if (updatedSession.getId() == null) {
-          throw new ImportException(
-              String.format("Could update session for user %s", record.getUsername()));
-        }
+      // Create Rocket.Chat group
+      RocketChatCredentials rocketChatUserCredentials = RocketChatCredentials.builder()
+          .rocketChatToken(rcUserToken).rocketChatUserId(rcUserId).build();
+      rcGroupId =
+          rocketChatService
+              .createPrivateGroup(rocketChatRoomNameGenerator.generateGroupName(session),
+                  rocketChatUserCredentials).get().getGroup().getId();
+      importedResources.addRcGroupId(rcGroupId);
+      if (rcGroupId == null || rcGroupId.equals(StringUtils.EMPTY)) {
+        throw new ImportException(String.format("Could not create Rocket.Chat group for user %s",
+            record.getUsername()));
+      }
 
-        // Add consultant(s) to Rocket.Chat group
-        if (isTrue(agencyDTO.getTeamAgency())) {
-          if (agencyList != null) {
-            for (ConsultantAgency agency : agencyList) {
-              // If feedback chat enabled add all main consultants and the assigned consultant. If
-              // it is a "normal" team session add all consultants.
-              if (consultingTypeSettings.isFeedbackChat()) {
-                if (keycloakAdminClientService.userHasAuthority(agency.getConsultant().getId(),
-                    Authority.VIEW_ALL_FEEDBACK_SESSIONS)
-                    || agency.getConsultant().getId().equals(record.getConsultantId())) {
-                  rocketChatService.addUserToGroup(agency.getConsultant().getRocketChatId(),
-                      rcGroupId);
-                }
-              } else {
-                rocketChatService.addUserToGroup(agency.getConsultant().getRocketChatId(),
-                    rcGroupId);
-              }
-            }
-          }
+      // Log out user from Rocket.Chat
+      rocketChatService.logoutUser(rocketChatUserCredentials);
+    }
 
-        } else {
-          rocketChatService.addUserToGroup(consultant.get().getRocketChatId(), rcGroupId);
-        }
+    // Update rcUserId in user table
+    dbUser.setRcUserId(rcUserId);
+    User updatedUser = userService.saveUser(dbUser);
+    if (updatedUser.getUserId() == null || updatedUser.getUserId().equals(StringUtils.EMPTY)) {
+      throw new ImportException(String
+          .format("Could not update Rocket.Chat user id for user %s", record.getUsername()));
+    }
 
-        // Add system message user to Rocket.Chat group
-        rocketChatService.addUserToGroup(systemUserId, rcGroupId);
+    List<ConsultantAgency> agencyList =
+        consultantAgencyService.findConsultantsByAgencyId(record.getAgencyId());
+    List<Consultant> feedbackConsultants = consultingTypeSettings.isFeedbackChat()
+        ? findFeedbackConsultants(agencyList, record.getConsultantId()) : emptyList();
+
+    // Create feedback group and add consultants if enabled for this agency/consulting type
+    if (consultingTypeSettings.isFeedbackChat()) {
+      try (Permit permit = rocketChatCallLimiter.acquire()) {
+        String rcFeedbackGroupId = rocketChatService
+            .createPrivateGroupWithSystemUser(
+                rocketChatRoomNameGenerator.generateFeedbackGroupName(session))
+            .get().getGroup().getId();
+        importedResources.addRcGroupId(rcFeedbackGroupId);
+        if (rcFeedbackGroupId == null || rcFeedbackGroupId.equals(StringUtils.EMPTY)) {
+          throw new ImportException(String.format(
+              "Could not create Rocket.Chat feedback group for user %s", record.getUsername()));
+        }
 
-        // Send welcome message
-        messageServiceProvider
-            .postWelcomeMessageIfConfigured(rcGroupId, dbUser, consultingTypeSettings,
-                CreateEnquiryExceptionInformation.builder().build());
+        // Add the assigned consultant and all consultants of the session's agency to the feedback
+        // group that have the right to view all feedback sessions
+        for (Consultant feedbackConsultant : feedbackConsultants) {
+          rocketChatService.addUserToGroup(feedbackConsultant.getRocketChatId(),
+              rcFeedbackGroupId);
+        }
 
-        // Remove all system messages from group
+        // Remove all system messages from feedback group
         try {
-          rocketChatService.removeSystemMessages(rcGroupId,
+          rocketChatService.removeSystemMessages(rcFeedbackGroupId,
               nowInUtc().minusHours(Helper.ONE_DAY_IN_HOURS), nowInUtc());
         } catch (RocketChatRemoveSystemMessagesException e) {
-          throw new ImportException(
-              String.format("Could not remove system messages from group id %s for user %s",
-                  rcGroupId, record.getUsername()));
+          throw new ImportException(String.format(
+              "Could not remove system messages from feedback group id %s for user %s",
+              rcFeedbackGroupId, record.getUsername()));
         }
 
-        // Create an initial monitoring data set for the session
-        if (consultingTypeSettings.getMonitoringFile() != null
-            && !consultingTypeSettings.getMonitoringFile().equals(StringUtils.EMPTY)) {
-          MonitoringDTO monitoringDTO =
-              monitoringStructureProvider.getMonitoringInitialList(agencyDTO.getConsultingType());
-          if (monitoringDTO != null) {
-            monitoringService.updateMonitoring(session.getId(), monitoringDTO);
-          } else {
-            throw new ImportException(String.format("Could not get initial monitoring for user %s",
-                record.getUsername()));
+        // Update the session's feedback group id
+        sessionService.updateFeedbackGroupId(session, rcFeedbackGroupId);
+      }
+    }
+
+    // Update session data by Rocket.Chat group id and consultant id
+    session.setConsultant(consultant.get());
+    session.setGroupId(rcGroupId);
+    session.setEnquiryMessageDate(nowInUtc());
+    session.setLatestMessageDate(session.getEnquiryMessageDate());
+    session.setStatus(SessionStatus.IN_PROGRESS);
+    session.setCreateDate(nowInUtc());
+    session.setUpdateDate(nowInUtc());
+    Session updatedSession = sessionService.saveSession(session);
+    if (updatedSession.getId() == null) {
+      throw new ImportException(
+          String.format("Could update session for user %s", record.getUsername()));
+    }
+
+    try (Permit permit = rocketChatCallLimiter.acquire()) {
+      // Add consultant(s) to Rocket.Chat group
+      if (isTrue(agencyDTO.getTeamAgency())) {
+        // If feedback chat enabled add all main consultants and the assigned consultant. If it is
+        // a "normal" team session add all consultants.
+        if (consultingTypeSettings.isFeedbackChat()) {
+          for (Consultant feedbackConsultant : feedbackConsultants) {
+            rocketChatService.addUserToGroup(feedbackConsultant.getRocketChatId(), rcGroupId);
+          }
+        } else if (agencyList != null) {
+          for (ConsultantAgency agency : agencyList) {
+            rocketChatService.addUserToGroup(agency.getConsultant().getRocketChatId(),
+                rcGroupId);
           }
         }
 
-        // Save session data
-        sessionDataService.saveSessionData(session, fromUserDTO(userDTO));
-
-        writeToImportLog(String.format("User with old id %s and username %s imported. New id: %s",
-            record.getIdOld(), record.getUsername(), dbUser.getUserId()), protocolFile);
-
-      } catch (ImportException importException) {
-        writeToImportLog(importException.getMessage(), protocolFile);
-        break;
-      } catch (InternalServerErrorException | RocketChatPostWelcomeMessageException serviceException) {
-        writeToImportLog(serviceException.getMessage(), protocolFile);
-        break;
-      } catch (RocketChatLoginException rcLoginException) {
-        writeToImportLog(rcLoginException.getMessage(), protocolFile);
-        break;
-      } catch (RocketChatCreateGroupException rcCreateGroupException) {
-        writeToImportLog(rcCreateGroupException.getMessage(), protocolFile);
-        break;
-      } catch (Exception exception) {
-        writeToImportLog(org.apache.commons.lang3.exception.ExceptionUtils.getStackTrace(exception),
-            protocolFile);
-        break;
+      } else {
+        rocketChatService.addUserToGroup(consultant.get().getRocketChatId(), rcGroupId);
       }
 
+      // Add system message user to Rocket.Chat group
+      rocketChatService.addUserToGroup(systemUserId, rcGroupId);
+
+      // Send welcome message
+      messageServiceProvider
+          .postWelcomeMessageIfConfigured(rcGroupId, dbUser, consultingTypeSettings,
+              CreateEnquiryExceptionInformation.builder().build());
+
+      // Remove all system messages from group
+      try {
+        rocketChatService.removeSystemMessages(rcGroupId,
+            nowInUtc().minusHours(Helper.ONE_DAY_IN_HOURS), nowInUtc());
+      } catch (RocketChatRemoveSystemMessagesException e) {
+        throw new ImportException(
+            String.format("Could not remove system messages from group id %s for user %s",
+                rcGroupId, record.getUsername()));
+      }
     }
 
-    try {
-      in.close();
-    } catch (IOException e) {
-      e.printStackTrace();
+    // Create an initial monitoring data set for the session
+    if (consultingTypeSettings.getMonitoringFile() != null
+        && !consultingTypeSettings.getMonitoringFile().equals(StringUtils.EMPTY)) {
+      MonitoringDTO monitoringDTO =
+          monitoringStructureProvider.getMonitoringInitialList(agencyDTO.getConsultingType());
+      if (monitoringDTO != null) {
+        monitoringService.updateMonitoring(session.getId(), monitoringDTO);
+      } else {
+        throw new ImportException(String.format("Could not get initial monitoring for user %s",
+            record.getUsername()));
+      }
     }
+
+    // Save session data
+    sessionDataService.saveSessionData(session, fromUserDTO(userDTO));
+
+    writeToImportLog(String.format("User with old id %s and username %s imported. New id: %s",
+        record.getIdOld(), record.getUsername(), dbUser.getUserId()), protocolFile);
+    return RecordImportResult.IMPORTED;
   }
 
-  private void writeToImportLog(String message, String protocolFile) {
+  private synchronized void writeToImportLog(String message, String protocolFile) {
     try {
       Files.write(Paths.get(protocolFile), (message + NEWLINE_CHAR).getBytes(IMPORT_LOG_CHARSET),
           StandardOpenOption.CREATE, StandardOpenOption.APPEND);
@@ -697,4 +877,61 @@ public class AskerImportService {
     String password;
   }
 
+  private enum RecordImportResult {
+    IMPORTED,
+    SKIPPED
+  }
+
+  /**
+   * Returns the assigned consultant and all consultants of the agency that have the right to view
+   * all feedback sessions. The Keycloak calls are made before any Rocket.Chat permit is acquired,
+   * so they are limited by the Keycloak limit only.
+   */
+  private List<Consultant> findFeedbackConsultants(List<ConsultantAgency> agencyList,
+      String assignedConsultantId) {
+    if (agencyList == null) {
+      return emptyList();
+    }
+    try (Permit permit = keycloakCallLimiter.acquire()) {
+      return agencyList.stream()
+          .map(ConsultantAgency::getConsultant)
+          .filter(consultant -> consultant.getId().equals(assignedConsultantId)
+              || keycloakAdminClientService.userHasAuthority(consultant.getId(),
+              Authority.VIEW_ALL_FEEDBACK_SESSIONS))
+          .collect(Collectors.toList());
+    }
+  }
+
+  /**
+   * The accounts and groups created so far for one record.
+   */
+  @Getter
+  @Setter
+  private static class ImportedResources {
+
+    String keycloakUserId;
+    User user;
+    Session session;
+    UserAgency userAgency;
+    String rcUserId;
+    final List<String> rcGroupIds = new ArrayList<>();
+
+    void addRcGroupId(String rcGroupId) {
+      if (StringUtils.isNotEmpty(rcGroupId)) {
+        this.rcGroupIds.add(rcGroupId);
+      }
+    }
+
+    boolean isEmpty() {
+      return keycloakUserId == null && user == null && rcUserId == null && rcGroupIds.isEmpty();
+    }
+  }
+
+  @FunctionalInterface
+  private interface RecordImporter {
+
+    RecordImportResult importRecord(CSVRecord csvRecord, ImportedResources importedResources,
+        String protocolFile) throws Exception;
+  }
+
 }
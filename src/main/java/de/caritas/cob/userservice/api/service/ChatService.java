@@ -1,5 +1,7 @@
 package de.caritas.cob.userservice.api.service;
 
+import static java.util.Collections.emptyList;
+import static org.apache.commons.collections4.SetUtils.emptyIfNull;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 
 import de.caritas.cob.userservice.api.exception.httpresponses.BadRequestException;
@@ -24,6 +26,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -53,12 +56,23 @@ public class ChatService {
     Set<Long> agencyIds = consultant.getConsultantAgencies().stream()
         .map(ConsultantAgency::getAgencyId)
         .collect(Collectors.toSet());
-    return chatRepository.findByAgencyIds(agencyIds).stream()
-        .map(this::convertChatToConsultantSessionResponseDTO)
+    List<Chat> chats = chatRepository.findByAgencyIds(agencyIds);
+    Map<Long, List<String>> moderatorsByAgencyId = findChatModeratorsByAgencyId(chats);
+    return chats.stream()
+        .map(chat -> convertChatToConsultantSessionResponseDTO(chat, moderatorsByAgencyId))
         .collect(Collectors.toList());
   }
 
-  private ConsultantSessionResponseDTO convertChatToConsultantSessionResponseDTO(Chat chat) {
+  private Map<Long, List<String>> findChatModeratorsByAgencyId(List<Chat> chats) {
+    Set<Long> chatAgencyIds = chats.stream()
+        .flatMap(chat -> emptyIfNull(chat.getChatAgencies()).stream())
+        .map(ChatAgency::getAgencyId)
+        .collect(Collectors.toSet());
+    return consultantService.findConsultantRocketChatIdsByAgencyIds(chatAgencyIds);
+  }
+
+  private ConsultantSessionResponseDTO convertChatToConsultantSessionResponseDTO(Chat chat,
+      Map<Long, List<String>> moderatorsByAgencyId) {
     return new ConsultantSessionResponseDTO()
         .chat(new UserChatDTO(chat.getId(), chat.getTopic(),
             LocalDate.of(chat.getStartDate().getYear(), chat.getStartDate().getMonth(),
@@ -67,16 +81,21 @@ public class ChatService {
                 chat.getStartDate().getSecond()),
             chat.getDuration(), isTrue(chat.isRepetitive()), isTrue(chat.isActive()),
             chat.getConsultingType().getValue(), null, null, false, chat.getGroupId(), null, false,
-            getChatModerators(chat.getChatAgencies()), chat.getStartDate()))
+            getChatModerators(chat.getChatAgencies(), moderatorsByAgencyId),
+            chat.getStartDate()))
         .consultant(new SessionConsultantForConsultantDTO()
             .id(chat.getChatOwner().getId())
             .firstName(chat.getChatOwner().getFirstName())
             .lastName(chat.getChatOwner().getLastName()));
   }
 
-  private String[] getChatModerators(Set<ChatAgency> chatAgencies) {
-    return consultantService.findConsultantsByAgencyIds(chatAgencies).stream()
-        .map(Consultant::getRocketChatId)
+  private String[] getChatModerators(Set<ChatAgency> chatAgencies,
+      Map<Long, List<String>> moderatorsByAgencyId) {
+    return emptyIfNull(chatAgencies).stream()
+        .map(ChatAgency::getAgencyId)
+        .distinct()
+        .flatMap(agencyId -> moderatorsByAgencyId.getOrDefault(agencyId, emptyList()).stream())
+        .distinct()
         .toArray(String[]::new);
   }
 
@@ -108,12 +127,14 @@ public class ChatService {
    */
   public List<UserSessionResponseDTO> getChatsForUserId(String userId) {
     List<Chat> chats = chatRepository.findByUserId(userId);
+    Map<Long, List<String>> moderatorsByAgencyId = findChatModeratorsByAgencyId(chats);
     return chats.stream()
-        .map(this::convertChatToUserSessionResponseDTO)
+        .map(chat -> convertChatToUserSessionResponseDTO(chat, moderatorsByAgencyId))
         .collect(Collectors.toList());
   }
 
-  private UserSessionResponseDTO convertChatToUserSessionResponseDTO(Chat chat) {
+  private UserSessionResponseDTO convertChatToUserSessionResponseDTO(Chat chat,
+      Map<Long, List<String>> moderatorsByAgencyId) {
     return new UserSessionResponseDTO().chat(new UserChatDTO(chat.getId(), chat.getTopic(),
         LocalDate.of(chat.getStartDate().getYear(), chat.getStartDate().getMonth(),
             chat.getStartDate().getDayOfMonth()),
@@ -121,7 +142,7 @@ public class ChatService {
             chat.getStartDate().getSecond()),
         chat.getDuration(), isTrue(chat.isRepetitive()), isTrue(chat.isActive()),
         chat.getConsultingType().getValue(), null, null, false, chat.getGroupId(), null, false,
-        getChatModerators(chat.getChatAgencies()), chat.getStartDate()));
+        getChatModerators(chat.getChatAgencies(), moderatorsByAgencyId), chat.getStartDate()));
   }
 
   /**
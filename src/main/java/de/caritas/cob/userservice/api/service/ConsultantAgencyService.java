@@ -8,10 +8,12 @@ import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErro
 import de.caritas.cob.userservice.api.model.ConsultantResponseDTO;
 import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgency;
 import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgencyRepository;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.collections4.IterableUtils;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -30,6 +32,17 @@ public class ConsultantAgencyService {
     return consultantAgencyRepository.save(consultantAgency);
   }
 
+  /**
+   * Save the given {@link ConsultantAgency} instances to the database in one batch.
+   *
+   * @param consultantAgencies the {@link ConsultantAgency} instances
+   * @return the saved {@link ConsultantAgency} instances
+   */
+  public List<ConsultantAgency> saveConsultantAgencies(
+      Collection<ConsultantAgency> consultantAgencies) {
+    return IterableUtils.toList(consultantAgencyRepository.saveAll(consultantAgencies));
+  }
+
   /**
    * Returns a List of {@link ConsultantAgency} Consultants with the given agency ID.
    *
@@ -1,5 +1,7 @@
 package de.caritas.cob.userservice.api.service;
 
+import static de.caritas.cob.userservice.config.ExecutorConfig.CONSULTANT_IMPORT_EXECUTOR;
+import static java.util.Collections.singletonList;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 
 import de.caritas.cob.userservice.api.admin.service.consultant.create.ConsultantCreatorService;
@@ -12,9 +14,14 @@ import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeManag
 import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeSettings;
 import de.caritas.cob.userservice.api.model.AgencyDTO;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
+import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgency;
 import de.caritas.cob.userservice.api.repository.session.ConsultingType;
 import de.caritas.cob.userservice.api.service.agency.AgencyService;
 import de.caritas.cob.userservice.api.service.helper.KeycloakAdminClientService;
+import de.caritas.cob.userservice.api.service.importjob.ConsultantImportReport;
+import de.caritas.cob.userservice.api.service.importjob.ConsultantImportReport.Phase;
+import de.caritas.cob.userservice.api.service.importjob.ConsultantImportReport.RecordResult;
+import de.caritas.cob.userservice.api.service.importjob.ConsultantImportReport.RecordStatus;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.Reader;
@@ -23,11 +30,19 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -35,7 +50,9 @@ import lombok.Setter;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVRecord;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.commons.validator.routines.EmailValidator;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -55,6 +72,9 @@ public class ConsultantImportService {
   private final @NonNull UserHelper userHelper;
   private final @NonNull ConsultantCreatorService consultantCreatorService;
   private final @NonNull ConsultantAgencyRelationCreatorService consultantAgencyRelationCreatorService;
+  private final @NonNull ConsultantAgencyService consultantAgencyService;
+  @Qualifier(CONSULTANT_IMPORT_EXECUTOR)
+  private final @NonNull Executor accountCreationExecutor;
 
   private static final String DELIMITER = ",";
   private static final String AGENCY_ROLE_DELIMITER = ";";
@@ -62,206 +82,419 @@ public class ConsultantImportService {
   private static final boolean FORMAL_LANGUAGE_DEFAULT = true;
   private static final boolean TEAM_CONSULTANT_DEFAULT = false;
   private static final String NEWLINE_CHAR = "\r\n";
-  private String protocolFile;
-
+  private static final String REPORT_FILE_SUFFIX = ".json";
+
+  /**
+   * Imports the consultants of the import file in phases. All agencies referenced in the file are
+   * fetched with one request, the Keycloak and Rocket.Chat accounts are created concurrently, the
+   * database rows are saved in JDBC batches and finally the consultants are added to the Rocket.Chat
+   * groups of their agencies with one batch per group. The progress and the result of each record
+   * are written to a json report next to the protocol file.
+   */
   public void startImport() {
 
-    this.protocolFile = protocolFilename + "." + System.currentTimeMillis();
-
-    Reader in;
-    List<CSVRecord> records;
-    String logMessage;
-    Consultant consultant = null;
+    ImportProtocol protocol =
+        new ImportProtocol(protocolFilename + "." + System.currentTimeMillis());
+    ConsultantImportReport report = new ConsultantImportReport();
 
     try {
-      in = new FileReader(importFilename);
-      records = CSVFormat.DEFAULT.parse(in).getRecords();
+      List<ConsultantImport> consultantImports = parseRecords(readRecords(), report, protocol);
+
+      protocol.startPhase(report, Phase.PREFETCH_AGENCIES);
+      Map<Long, AgencyDTO> agenciesById = prefetchAgencies(consultantImports, protocol);
+      pending(consultantImports).forEach(consultantImport -> prepareImport(consultantImport,
+          agenciesById, protocol));
+
+      protocol.startPhase(report, Phase.CREATE_ACCOUNTS);
+      createAccounts(consultantImports, protocol);
+
+      protocol.startPhase(report, Phase.SAVE_DATABASE);
+      saveConsultantsAndAgencyRelations(consultantImports, agenciesById, protocol);
+
+      protocol.startPhase(report, Phase.JOIN_ROCKET_CHAT_GROUPS);
+      report.addFailedRocketChatGroupIds(
+          joinRocketChatGroups(consultantImports, agenciesById, protocol));
+
+      protocol.startPhase(report, Phase.FINISHED);
+    } catch (RuntimeException exception) {
+      protocol.write(String.format("Import failed: %s", exception.getMessage()));
+      report.fail(exception.getMessage());
+      protocol.writeReport(report);
+      throw exception;
+    }
+  }
+
+  private List<CSVRecord> readRecords() {
+    try (Reader in = new FileReader(importFilename)) {
+      return CSVFormat.DEFAULT.parse(in).getRecords();
     } catch (Exception exception) {
       throw new InternalServerErrorException(exception.getMessage());
     }
+  }
 
+  private List<ConsultantImport> parseRecords(List<CSVRecord> records,
+      ConsultantImportReport report, ImportProtocol protocol) {
+    List<ConsultantImport> consultantImports = new ArrayList<>();
     for (CSVRecord record : records) {
-
+      RecordResult result = report.addRecord(record.getRecordNumber());
       try {
-
+        result.setUsername(StringUtils.trim(record.get(2)));
         ImportRecord importRecord = getImportRecord(record);
+        result.setConsultantId(importRecord.getConsultantId());
+        consultantImports.add(
+            new ConsultantImport(result, importRecord, getAgencyRoleSets(importRecord)));
+      } catch (Exception exception) {
+        protocol.fail(result, exception.getMessage());
+      }
+    }
+    return consultantImports;
+  }
 
-        // Check if username is valid
-        if (importRecord.getConsultantId() == null
-            && !userHelper.isUsernameValid(importRecord.getUsername())) {
-          writeToImportLog(String.format("Username length is invalid. Skipping import for %s",
-              importRecord.getUsername()));
-          continue;
-        }
+  private List<AgencyRoleSet> getAgencyRoleSets(ImportRecord importRecord) {
+    List<AgencyRoleSet> agencyRoleSets = new ArrayList<>();
+    for (String agencyRoleSet : importRecord.getAgenciesAndRoleSets().split(DELIMITER)) {
 
-        String[] agencyRoleSetArray = importRecord.getAgenciesAndRoleSets().split(DELIMITER);
+      if (!agencyRoleSet.contains(AGENCY_ROLE_DELIMITER)) {
+        throw new ImportException(
+            String.format("Consultant %s could not be imported: Invalid agency roleset %s",
+                importRecord.getUsername(), agencyRoleSet));
+      }
+      String[] agencyRoleArray = agencyRoleSet.split(AGENCY_ROLE_DELIMITER);
 
-        HashSet<String> roles = new HashSet<>();
-        HashSet<Long> agencyIds = new HashSet<>();
-        List<Boolean> formalLanguageList = new ArrayList<>();
-        for (String agencyRoleSet : agencyRoleSetArray) {
+      if (!NumberUtils.isDigits(agencyRoleArray[0])) {
+        throw new ImportException(
+            String.format("Consultant %s could not be imported: Invalid agency id %s",
+                importRecord.getUsername(), agencyRoleArray[0]));
+      }
+      agencyRoleSets.add(new AgencyRoleSet(Long.valueOf(agencyRoleArray[0]), agencyRoleArray[1]));
+    }
+    return agencyRoleSets;
+  }
 
-          if (!agencyRoleSet.contains(AGENCY_ROLE_DELIMITER)) {
-            throw new ImportException(
-                String.format("Consultant %s could not be imported: Invalid agency roleset %s",
-                    importRecord.getUsername(), agencyRoleSet));
-          }
-          String[] agencyRoleArray = agencyRoleSet.split(AGENCY_ROLE_DELIMITER);
+  private Map<Long, AgencyDTO> prefetchAgencies(List<ConsultantImport> consultantImports,
+      ImportProtocol protocol) {
+    List<Long> agencyIds = consultantImports.stream()
+        .flatMap(consultantImport -> consultantImport.getAgencyRoleSets().stream())
+        .map(AgencyRoleSet::getAgencyId)
+        .distinct()
+        .collect(Collectors.toList());
+    if (agencyIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
 
-          AgencyDTO agency = agencyService
-              .getAgencyWithoutCaching(Long.valueOf(agencyRoleArray[0]));
+    Map<Long, AgencyDTO> agenciesById = agencyService.getAgenciesWithoutCaching(agencyIds).stream()
+        .collect(Collectors.toMap(AgencyDTO::getId, Function.identity(), (first, second) -> first));
+    protocol.write(String.format("Prefetched %s of %s agencies.", agenciesById.size(),
+        agencyIds.size()));
+    return agenciesById;
+  }
 
-          if (agency == null) {
-            throw new ImportException(
-                String.format("Consultant %s could not be imported: Invalid agency id %s",
-                    importRecord.getUsername(), agencyRoleArray[0]));
-          }
+  private void prepareImport(ConsultantImport consultantImport,
+      Map<Long, AgencyDTO> agenciesById, ImportProtocol protocol) {
+    ImportRecord importRecord = consultantImport.getImportRecord();
 
-          agencyIds.add(Long.valueOf(agencyRoleArray[0]));
+    try {
+      // Check if username is valid
+      if (importRecord.getConsultantId() == null
+          && !userHelper.isUsernameValid(importRecord.getUsername())) {
+        protocol.skip(consultantImport, String.format(
+            "Username length is invalid. Skipping import for %s", importRecord.getUsername()));
+        return;
+      }
 
-          Optional<ConsultingType> consultingType = Optional.of(agency.getConsultingType());
+      List<Boolean> formalLanguageList = new ArrayList<>();
+      for (AgencyRoleSet agencyRoleSet : consultantImport.getAgencyRoleSets()) {
 
-          ConsultingTypeSettings consultingTypeSettings =
-              consultingTypeManager.getConsultingTypeSettings(consultingType.get());
+        AgencyDTO agency = agenciesById.get(agencyRoleSet.getAgencyId());
 
-          if (!consultingTypeSettings.getRoles().getConsultant().getRoleNames()
-              .containsKey(agencyRoleArray[1])) {
-            throw new ImportException(String.format(
-                "Consultant %s could not be imported: invalid role set %s for agency id %s and consulting type %s",
-                importRecord.getUsername(), agencyRoleArray[1], agencyRoleArray[0],
-                consultingType.get().getValue()));
-          }
+        if (agency == null) {
+          throw new ImportException(
+              String.format("Consultant %s could not be imported: Invalid agency id %s",
+                  importRecord.getUsername(), agencyRoleSet.getAgencyId()));
+        }
 
-          for (Map.Entry<String, List<String>> roleSet : consultingTypeSettings.getRoles()
-              .getConsultant().getRoleNames().entrySet()) {
-            if (roleSet.getKey().equals(agencyRoleArray[1])) {
-              roles.addAll(roleSet.getValue());
-              break;
-            }
-          }
+        consultantImport.getAgencyIds().add(agencyRoleSet.getAgencyId());
 
-          formalLanguageList.add(consultingTypeSettings.isLanguageFormal());
+        ConsultingType consultingType = agency.getConsultingType();
 
-          if (isTrue(agency.getTeamAgency())) {
-            importRecord.setTeamConsultant(true);
-          }
+        ConsultingTypeSettings consultingTypeSettings =
+            consultingTypeManager.getConsultingTypeSettings(consultingType);
 
+        Map<String, List<String>> roleNames =
+            consultingTypeSettings.getRoles().getConsultant().getRoleNames();
+        if (!roleNames.containsKey(agencyRoleSet.getRoleSet())) {
+          throw new ImportException(String.format(
+              "Consultant %s could not be imported: invalid role set %s for agency id %s and consulting type %s",
+              importRecord.getUsername(), agencyRoleSet.getRoleSet(), agencyRoleSet.getAgencyId(),
+              consultingType.getValue()));
         }
 
-        if (formalLanguageList.size() == 1) {
-          importRecord.setFormalLanguage(formalLanguageList.get(0));
-        } else {
-          if (formalLanguageList.contains(Boolean.TRUE)
-              && formalLanguageList.contains(Boolean.FALSE)) {
-            importRecord.setFormalLanguage(FORMAL_LANGUAGE_DEFAULT);
-          } else {
-            importRecord.setFormalLanguage(formalLanguageList.get(0));
-          }
-        }
+        consultantImport.getRoles().addAll(roleNames.get(agencyRoleSet.getRoleSet()));
 
-        if (importRecord.getConsultantId() == null) {
-          Optional<Consultant> consultantOptional = consultantService
-              .findConsultantByUsernameOrEmail(importRecord.getUsername(), importRecord.getEmail());
-
-          if (consultantOptional.isPresent()) {
-            writeToImportLog(
-                String.format(
-                    "Consultant with username %s (%s) exists and won't be "
-                        + "imported.", importRecord.getUsername(),
-                    importRecord.getUsernameEncoded()));
-            continue;
-          }
+        formalLanguageList.add(consultingTypeSettings.isLanguageFormal());
 
-          // Check if decoded username is already taken
-          if (!keycloakAdminClientService.isUsernameAvailable(importRecord.getUsername())) {
-            writeToImportLog(String.format(
-                "Could not create Keycloak user for old id %s - username or e-mail address is already taken.",
-                importRecord.getIdOld()));
-            continue;
-          }
+        if (isTrue(agency.getTeamAgency())) {
+          importRecord.setTeamConsultant(true);
+        }
+
+      }
 
+      if (formalLanguageList.size() == 1) {
+        importRecord.setFormalLanguage(formalLanguageList.get(0));
+      } else {
+        if (formalLanguageList.contains(Boolean.TRUE)
+            && formalLanguageList.contains(Boolean.FALSE)) {
+          importRecord.setFormalLanguage(FORMAL_LANGUAGE_DEFAULT);
         } else {
+          importRecord.setFormalLanguage(formalLanguageList.get(0));
+        }
+      }
+
+      if (importRecord.getConsultantId() == null) {
+        Optional<Consultant> consultantOptional = consultantService
+            .findConsultantByUsernameOrEmail(importRecord.getUsername(), importRecord.getEmail());
 
-          Optional<Consultant> currentConsultant =
-              consultantService.getConsultant(importRecord.getConsultantId());
-
-          if (currentConsultant.isPresent()) {
-            UsernameTranscoder usernameTranscoder = new UsernameTranscoder();
-            if (!importRecord.getUsername()
-                .equals(usernameTranscoder.decodeUsername(currentConsultant.get().getUsername()))) {
-              writeToImportLog(String.format(
-                  "Username of consultant with id %s has changed (From %s to %s). Name changing currently not implemented. Skipped entry.",
-                  importRecord.getConsultantId(),
-                  usernameTranscoder.decodeUsername(currentConsultant.get().getUsername()),
-                  importRecord.getUsername()));
-              continue;
-            }
-          } else {
-            writeToImportLog(String.format("Consultant with id %s not found. Skipped entry.",
-                importRecord.getConsultantId()));
-            continue;
+        if (consultantOptional.isPresent()) {
+          protocol.skip(consultantImport,
+              String.format(
+                  "Consultant with username %s (%s) exists and won't be "
+                      + "imported.", importRecord.getUsername(),
+                  importRecord.getUsernameEncoded()));
+        }
+
+      } else {
+
+        Optional<Consultant> currentConsultant =
+            consultantService.getConsultant(importRecord.getConsultantId());
+
+        if (currentConsultant.isPresent()) {
+          UsernameTranscoder usernameTranscoder = new UsernameTranscoder();
+          if (!importRecord.getUsername()
+              .equals(usernameTranscoder.decodeUsername(currentConsultant.get().getUsername()))) {
+            protocol.skip(consultantImport, String.format(
+                "Username of consultant with id %s has changed (From %s to %s). Name changing currently not implemented. Skipped entry.",
+                importRecord.getConsultantId(),
+                usernameTranscoder.decodeUsername(currentConsultant.get().getUsername()),
+                importRecord.getUsername()));
+            return;
           }
+          consultantImport.setConsultant(currentConsultant.get());
+        } else {
+          protocol.skip(consultantImport, String.format(
+              "Consultant with id %s not found. Skipped entry.", importRecord.getConsultantId()));
         }
+      }
+
+    } catch (Exception exception) {
+      protocol.fail(consultantImport.getResult(), exception.getMessage());
+    }
+  }
 
-        logMessage = "=== BEGIN === " + importRecord.getUsername() + " ===";
-        writeToImportLog(logMessage);
+  private void createAccounts(List<ConsultantImport> consultantImports,
+      ImportProtocol protocol) {
+    CompletableFuture<?>[] accountCreations = pending(consultantImports)
+        .filter(ConsultantImport::isNewConsultant)
+        .map(consultantImport -> CompletableFuture.runAsync(
+            () -> createAccount(consultantImport, protocol), this.accountCreationExecutor))
+        .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(accountCreations).join();
+  }
 
-        if (importRecord.getConsultantId() == null) {
-          consultant = this.consultantCreatorService.createNewConsultant(importRecord, roles);
+  private void createAccount(ConsultantImport consultantImport, ImportProtocol protocol) {
+    ImportRecord importRecord = consultantImport.getImportRecord();
 
-          importRecord.setConsultantId(consultant.getId());
-          logMessage = "Keycloak-ID: " + consultant.getId();
-          writeToImportLog(logMessage);
+    try {
+      // Check if decoded username is already taken
+      if (!keycloakAdminClientService.isUsernameAvailable(importRecord.getUsername())) {
+        protocol.skip(consultantImport, String.format(
+            "Could not create Keycloak user for old id %s - username or e-mail address is already taken.",
+            importRecord.getIdOld()));
+        return;
+      }
 
-          logMessage = "Roles: " + String.join(",", roles);
-          writeToImportLog(logMessage);
+      Consultant consultant = this.consultantCreatorService
+          .createNewConsultantAccounts(importRecord, consultantImport.getRoles());
+      consultantImport.setConsultant(consultant);
+      consultantImport.getResult().setConsultantId(consultant.getId());
 
-          logMessage = "RocketChat-ID: " + consultant.getRocketChatId();
-          writeToImportLog(logMessage);
-        }
+      protocol.write("=== BEGIN === " + importRecord.getUsername() + " ===" + NEWLINE_CHAR
+          + "Keycloak-ID: " + consultant.getId() + NEWLINE_CHAR
+          + "Roles: " + String.join(",", consultantImport.getRoles()) + NEWLINE_CHAR
+          + "RocketChat-ID: " + consultant.getRocketChatId() + NEWLINE_CHAR
+          + "=== END === " + importRecord.getUsername() + " ===" + NEWLINE_CHAR);
+    } catch (Exception exception) {
+      protocol.fail(consultantImport.getResult(),
+          String.format("Consultant %s could not be imported: %s", importRecord.getUsername(),
+              exception.getMessage()));
+    }
+  }
 
-        // create relations to agencies
-        logMessage = "Agencies: " + agencyIds.stream().map(String::valueOf)
-            .collect(Collectors.joining(","));
-        writeToImportLog(logMessage);
-        this.consultantAgencyRelationCreatorService
-            .createConsultantAgencyRelations(importRecord.getConsultantId(), agencyIds, roles,
-                this::writeToImportLog);
-
-        logMessage = "=== END === " + importRecord.getUsername() + " ===" + NEWLINE_CHAR;
-        writeToImportLog(logMessage);
-
-      } catch (ImportException wontImportException) {
-        writeToImportLog(wontImportException.getMessage());
-        break;
-      } catch (Exception fileNotFoundException) {
-        fileNotFoundException.printStackTrace();
-        break;
+  private void saveConsultantsAndAgencyRelations(List<ConsultantImport> consultantImports,
+      Map<Long, AgencyDTO> agenciesById, ImportProtocol protocol) {
+    saveNewConsultants(pending(consultantImports)
+        .filter(ConsultantImport::isNewConsultant)
+        .collect(Collectors.toList()), protocol);
+
+    Map<ConsultantImport, List<ConsultantAgency>> consultantAgenciesByImport =
+        new LinkedHashMap<>();
+    List<ConsultantImport> changedConsultantImports = new ArrayList<>();
+    pending(consultantImports).forEach(consultantImport -> {
+      Consultant consultant = consultantImport.getConsultant();
+      boolean wasTeamConsultant = consultant.isTeamConsultant();
+      try {
+        consultantAgenciesByImport.put(consultantImport, this.consultantAgencyRelationCreatorService
+            .buildConsultantAgencyRelations(consultant, consultantImport.getAgencyIds(),
+                consultantImport.getRoles(), agenciesById));
+      } catch (Exception exception) {
+        failSavedConsultant(consultantImport, protocol,
+            String.format("Agencies of consultant %s could not be assigned: %s",
+                consultantImport.getImportRecord().getUsername(), exception.getMessage()));
+        return;
       }
+      if (wasTeamConsultant != consultant.isTeamConsultant()) {
+        changedConsultantImports.add(consultantImport);
+      }
+    });
+
+    saveChangedConsultants(changedConsultantImports, protocol);
+    consultantAgenciesByImport.keySet().removeIf(
+        consultantImport -> !consultantImport.getResult().isPending());
+    saveConsultantAgencies(consultantAgenciesByImport, protocol);
 
+    pending(consultantImports).forEach(consultantImport -> consultantImport.getResult().complete(
+        consultantImport.isNewConsultant() ? RecordStatus.IMPORTED : RecordStatus.UPDATED,
+        "Agencies: " + consultantImport.getAgencyIds().stream().map(String::valueOf)
+            .collect(Collectors.joining(","))));
+  }
+
+  /**
+   * Inserts the new consultants in one batch. If the batch fails, e.g. because one record
+   * violates a constraint, the consultants are inserted one by one, so that only the failing
+   * records are rolled back and reported as failed.
+   */
+  private void saveNewConsultants(List<ConsultantImport> newConsultantImports,
+      ImportProtocol protocol) {
+    try {
+      consultantService.createConsultants(newConsultantImports.stream()
+          .map(ConsultantImport::getConsultant)
+          .collect(Collectors.toList()));
+    } catch (RuntimeException batchException) {
+      protocol.write(String.format("Consultants could not be saved in one batch, saving them "
+          + "one by one: %s", batchException.getMessage()));
+      newConsultantImports.forEach(
+          consultantImport -> saveNewConsultant(consultantImport, protocol));
     }
+  }
 
+  private void saveNewConsultant(ConsultantImport consultantImport, ImportProtocol protocol) {
     try {
-      in.close();
-    } catch (IOException e) {
-      e.printStackTrace();
+      consultantService.createConsultants(singletonList(consultantImport.getConsultant()));
+    } catch (RuntimeException exception) {
+      consultantCreatorService.rollBackConsultantAccounts(consultantImport.getConsultant());
+      protocol.fail(consultantImport.getResult(),
+          String.format("Consultant %s could not be saved: %s",
+              consultantImport.getImportRecord().getUsername(), exception.getMessage()));
     }
   }
 
-  private void writeToImportLog(String message) {
-    if (message.length() < 1) {
+  private void saveChangedConsultants(List<ConsultantImport> changedConsultantImports,
+      ImportProtocol protocol) {
+    if (changedConsultantImports.isEmpty()) {
       return;
     }
+    try {
+      consultantService.saveConsultants(changedConsultantImports.stream()
+          .map(ConsultantImport::getConsultant)
+          .collect(Collectors.toList()));
+    } catch (RuntimeException batchException) {
+      protocol.write(String.format("Changed consultants could not be saved in one batch, saving "
+          + "them one by one: %s", batchException.getMessage()));
+      changedConsultantImports.forEach(
+          consultantImport -> saveChangedConsultant(consultantImport, protocol));
+    }
+  }
+
+  private void saveChangedConsultant(ConsultantImport consultantImport,
+      ImportProtocol protocol) {
+    try {
+      consultantService.saveConsultant(consultantImport.getConsultant());
+    } catch (RuntimeException exception) {
+      failSavedConsultant(consultantImport, protocol,
+          String.format("Consultant %s could not be updated: %s",
+              consultantImport.getImportRecord().getUsername(), exception.getMessage()));
+    }
+  }
+
+  /**
+   * Saves the agency relations of all records in one batch. If the batch fails, the relations are
+   * saved record by record, so that only the failing records are rolled back and reported as
+   * failed.
+   */
+  private void saveConsultantAgencies(
+      Map<ConsultantImport, List<ConsultantAgency>> consultantAgenciesByImport,
+      ImportProtocol protocol) {
+    try {
+      consultantAgencyService.saveConsultantAgencies(consultantAgenciesByImport.values().stream()
+          .flatMap(List::stream)
+          .collect(Collectors.toList()));
+    } catch (RuntimeException batchException) {
+      protocol.write(String.format("Agency relations could not be saved in one batch, saving "
+          + "them one by one: %s", batchException.getMessage()));
+      consultantAgenciesByImport.forEach((consultantImport, consultantAgencies) ->
+          saveConsultantAgenciesOfRecord(consultantImport, consultantAgencies, protocol));
+    }
+  }
 
+  private void saveConsultantAgenciesOfRecord(ConsultantImport consultantImport,
+      List<ConsultantAgency> consultantAgencies, ImportProtocol protocol) {
     try {
-      Files
-          .write(Paths.get(protocolFile), (message + NEWLINE_CHAR).getBytes(StandardCharsets.UTF_8),
-              StandardOpenOption.CREATE, StandardOpenOption.APPEND);
-    } catch (IOException e) {
-      e.printStackTrace();
+      consultantAgencyService.saveConsultantAgencies(consultantAgencies);
+    } catch (RuntimeException exception) {
+      failSavedConsultant(consultantImport, protocol,
+          String.format("Agencies of consultant %s could not be saved: %s",
+              consultantImport.getImportRecord().getUsername(), exception.getMessage()));
     }
   }
 
+  /**
+   * Reports the record as failed. A consultant created by this import is removed from the
+   * database and its accounts are rolled back, so that the record can be imported again.
+   */
+  private void failSavedConsultant(ConsultantImport consultantImport, ImportProtocol protocol,
+      String message) {
+    if (consultantImport.isNewConsultant()) {
+      try {
+        consultantService.deleteConsultant(consultantImport.getConsultant());
+        consultantCreatorService.rollBackConsultantAccounts(consultantImport.getConsultant());
+      } catch (RuntimeException exception) {
+        protocol.write(String.format("Consultant %s could not be rolled back: %s",
+            consultantImport.getImportRecord().getUsername(), exception.getMessage()));
+      }
+    }
+    protocol.fail(consultantImport.getResult(), message);
+  }
+
+  private Set<String> joinRocketChatGroups(List<ConsultantImport> consultantImports,
+      Map<Long, AgencyDTO> agenciesById, ImportProtocol protocol) {
+    Map<Long, List<Consultant>> consultantsByAgencyId = new LinkedHashMap<>();
+    consultantImports.stream()
+        .filter(consultantImport -> consultantImport.getResult().getStatus()
+            == RecordStatus.IMPORTED
+            || consultantImport.getResult().getStatus() == RecordStatus.UPDATED)
+        .forEach(consultantImport -> consultantImport.getAgencyIds().forEach(
+            agencyId -> consultantsByAgencyId.computeIfAbsent(agencyId, id -> new ArrayList<>())
+                .add(consultantImport.getConsultant())));
+
+    return this.consultantAgencyRelationCreatorService
+        .addConsultantsToSessionsOfAgencies(consultantsByAgencyId, agenciesById,
+            protocol::write);
+  }
+
+  private Stream<ConsultantImport> pending(List<ConsultantImport> consultantImports) {
+    return consultantImports.stream()
+        .filter(consultantImport -> consultantImport.getResult().isPending());
+  }
+
   private ImportRecord getImportRecord(CSVRecord record) {
     ImportRecord importRecord = new ImportRecord();
     importRecord
@@ -313,4 +546,81 @@ public class ConsultantImportService {
 
   }
 
+  @Getter
+  @RequiredArgsConstructor
+  private static class AgencyRoleSet {
+
+    private final Long agencyId;
+    private final String roleSet;
+
+  }
+
+  /**
+   * The protocol and report files of one import run. Each run gets its own instance, so concurrent
+   * runs do not write to the files of each other.
+   */
+  @RequiredArgsConstructor
+  private static class ImportProtocol {
+
+    private final String protocolFile;
+
+    void skip(ConsultantImport consultantImport, String message) {
+      write(message);
+      consultantImport.getResult().complete(RecordStatus.SKIPPED, message);
+    }
+
+    void fail(RecordResult result, String message) {
+      write(message);
+      result.complete(RecordStatus.FAILED, message);
+    }
+
+    void startPhase(ConsultantImportReport report, Phase phase) {
+      report.startPhase(phase);
+      writeReport(report);
+    }
+
+    void writeReport(ConsultantImportReport report) {
+      try {
+        report.writeTo(protocolFile + REPORT_FILE_SUFFIX);
+      } catch (IOException e) {
+        LogService.logInternalServerError(
+            String.format("Consultant import report %s could not be written", protocolFile), e);
+      }
+    }
+
+    synchronized void write(String message) {
+      if (message.length() < 1) {
+        return;
+      }
+
+      try {
+        Files.write(Paths.get(protocolFile),
+            (message + NEWLINE_CHAR).getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+      } catch (IOException e) {
+        LogService.logInternalServerError(
+            String.format("Consultant import protocol %s could not be written", protocolFile), e);
+      }
+    }
+
+  }
+
+  @Getter
+  @Setter
+  @RequiredArgsConstructor
+  private static class ConsultantImport {
+
+    private final RecordResult result;
+    private final ImportRecord importRecord;
+    private final List<AgencyRoleSet> agencyRoleSets;
+    private final Set<Long> agencyIds = new LinkedHashSet<>();
+    private final Set<String> roles = new HashSet<>();
+    private Consultant consultant;
+
+    boolean isNewConsultant() {
+      return this.importRecord.getConsultantId() == null;
+    }
+
+  }
+
 }
@@ -2,22 +2,29 @@ package de.caritas.cob.userservice.api.service;
 
 import de.caritas.cob.userservice.api.helper.AuthenticatedUser;
 import de.caritas.cob.userservice.api.helper.UsernameTranscoder;
-import de.caritas.cob.userservice.api.repository.chatagency.ChatAgency;
+import de.caritas.cob.userservice.api.repository.consultant.AgencyConsultantRocketChatId;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
 import de.caritas.cob.userservice.api.repository.consultant.ConsultantRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.collections4.IterableUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class ConsultantService {
 
   private final @NonNull ConsultantRepository consultantRepository;
+  private final @NonNull EntityManager entityManager;
 
   /**
    * Save a {@link Consultant} to the database.
@@ -29,6 +36,39 @@ public class ConsultantService {
     return consultantRepository.save(consultant);
   }
 
+  /**
+   * Inserts the given new {@link Consultant} instances in one transaction. The consultants are
+   * persisted instead of saved, because saving an entity with an assigned id merges it with a
+   * select per row. The inserts are sent as JDBC batches of hibernate.jdbc.batch_size.
+   *
+   * @param consultants the new {@link Consultant} instances
+   * @return the created {@link Consultant} instances
+   */
+  @Transactional
+  public List<Consultant> createConsultants(Collection<Consultant> consultants) {
+    consultants.forEach(entityManager::persist);
+    return new ArrayList<>(consultants);
+  }
+
+  /**
+   * Save the given {@link Consultant} instances to the database in one batch.
+   *
+   * @param consultants the {@link Consultant} instances
+   * @return the saved {@link Consultant} instances
+   */
+  public List<Consultant> saveConsultants(Collection<Consultant> consultants) {
+    return IterableUtils.toList(consultantRepository.saveAll(consultants));
+  }
+
+  /**
+   * Deletes the given {@link Consultant} from the database.
+   *
+   * @param consultant the {@link Consultant}
+   */
+  public void deleteConsultant(Consultant consultant) {
+    consultantRepository.delete(consultant);
+  }
+
   /**
    * Load a {@link Consultant}.
    *
@@ -108,15 +148,19 @@ public class ConsultantService {
   }
 
   /**
-   * Find consultants by agency ID.
+   * Find the Rocket.Chat ids of all consultants assigned to the given agencies.
    *
-   * @param chatAgencies {@link Set} of {@link ChatAgency}
-   * @return {@link List} of {@link Consultant}
+   * @param agencyIds the agency ids
+   * @return {@link Map} of the Rocket.Chat ids of the consultants by agency id
    */
-  public List<Consultant> findConsultantsByAgencyIds(Set<ChatAgency> chatAgencies) {
-    List<Long> agencyIds =
-        chatAgencies.stream().map(ChatAgency::getAgencyId).collect(Collectors.toList());
-
-    return consultantRepository.findByConsultantAgenciesAgencyIdInAndDeleteDateIsNull(agencyIds);
+  public Map<Long, List<String>> findConsultantRocketChatIdsByAgencyIds(
+      Collection<Long> agencyIds) {
+    if (agencyIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    return consultantRepository.findRocketChatIdsByAgencyIds(agencyIds).stream()
+        .collect(Collectors.groupingBy(AgencyConsultantRocketChatId::getAgencyId,
+            Collectors.mapping(AgencyConsultantRocketChatId::getRocketChatId,
+                Collectors.toList())));
   }
 }
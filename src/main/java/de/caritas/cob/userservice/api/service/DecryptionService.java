@@ -5,8 +5,13 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,18 +30,26 @@ public class DecryptionService {
 
   private static final String ENCRYPTED_MESSAGE_FLAG = "enc:";
 
+  private static final ThreadLocal<Cipher> CIPHER = ThreadLocal.withInitial(
+      DecryptionService::createCipher);
+
   @Value("${service.encryption.appkey}")
   private String fragment_applicationKey;
 
-  private String fragment_masterKey = INITIAL_MASTER_KEY;
+  @Value("${service.encryption.keyCacheSize}")
+  private int keyCacheSize;
+
+  private volatile SecretKeySpecCache secretKeySpecCache =
+      new SecretKeySpecCache(INITIAL_MASTER_KEY);
 
   /**
-   * Updates the master key fragment
+   * Updates the master key fragment. All cached keys derived from the previous master key are
+   * discarded.
    * 
    * @param masterKey The master key fragment
    */
   public void updateMasterKey(String masterKey) {
-    this.fragment_masterKey = masterKey;
+    this.secretKeySpecCache = new SecretKeySpecCache(masterKey);
   }
 
   /**
@@ -45,7 +58,7 @@ public class DecryptionService {
    * @return the current master key
    */
   public String getMasterKey() {
-    return this.fragment_masterKey;
+    return this.secretKeySpecCache.masterKey;
   }
 
   /**
@@ -60,25 +73,38 @@ public class DecryptionService {
   /**
    * Prepares the SecretKeySpec for a given key
    * 
+   * @param masterKey the master key fragment
    * @param secret the key for the generation
    * @return The SecretKeySpec based on the key or <null> in case of an error
    * @throws NoSuchAlgorithmException
    * @throws UnsupportedEncodingException
    */
-  private SecretKeySpec generateSecretKeySpec(String secret)
+  private SecretKeySpec generateSecretKeySpec(String masterKey, String secret)
       throws UnsupportedEncodingException, NoSuchAlgorithmException {
 
-    if (getMasterKey().equals(INITIAL_MASTER_KEY)) {
-      throw new NoMasterKeyException("No MasterKey found - please provide a MasterKey!");
-    }
-
-    byte[] keyByte = (getMasterKey() + secret + getApplicationKey()).getBytes("UTF-8");
+    byte[] keyByte = (masterKey + secret + getApplicationKey()).getBytes("UTF-8");
     MessageDigest sha = MessageDigest.getInstance(MESSAGE_DIGEST_METHOD);
     keyByte = sha.digest(keyByte);
     keyByte = Arrays.copyOf(keyByte, 16);
     return new SecretKeySpec(keyByte, SECRET_KEY_SPEC_METHOD);
   }
 
+  private SecretKeySpec obtainSecretKeySpec(String secret)
+      throws UnsupportedEncodingException, NoSuchAlgorithmException {
+
+    SecretKeySpecCache cache = this.secretKeySpecCache;
+    if (cache.masterKey.equals(INITIAL_MASTER_KEY)) {
+      throw new NoMasterKeyException("No MasterKey found - please provide a MasterKey!");
+    }
+
+    SecretKeySpec keySpec = cache.keySpecs.get(secret);
+    if (keySpec == null) {
+      keySpec = generateSecretKeySpec(cache.masterKey, secret);
+      cache.keySpecs.put(secret, keySpec);
+    }
+    return keySpec;
+  }
+
   /**
    * Decrypts a given message with the given secret
    * 
@@ -95,8 +121,8 @@ public class DecryptionService {
     messageToDecrypt = messageToDecrypt.substring(ENCRYPTED_MESSAGE_FLAG.length());
 
     try {
-      SecretKeySpec keySpec = generateSecretKeySpec(secret);
-      Cipher cipher = Cipher.getInstance(CIPHER_METHODS);
+      SecretKeySpec keySpec = obtainSecretKeySpec(secret);
+      Cipher cipher = CIPHER.get();
       cipher.init(Cipher.DECRYPT_MODE, keySpec);
       return new String(cipher.doFinal(Base64.getDecoder().decode(messageToDecrypt)));
     } catch (BadPaddingException e) {
@@ -108,4 +134,47 @@ public class DecryptionService {
     }
   }
 
+  /**
+   * Decrypts the given messages with the secret they are mapped to.
+   *
+   * @param messagesBySecret the messages to decrypt mapped by their secret, e.g. the group id
+   * @return the decrypted messages mapped by their secret
+   */
+  public Map<String, String> decryptAll(Map<String, String> messagesBySecret)
+      throws CustomCryptoException {
+
+    Map<String, String> decryptedMessages = new LinkedHashMap<>(messagesBySecret.size());
+    for (Entry<String, String> entry : messagesBySecret.entrySet()) {
+      decryptedMessages.put(entry.getKey(), decrypt(entry.getValue(), entry.getKey()));
+    }
+    return decryptedMessages;
+  }
+
+  private static Cipher createCipher() {
+    try {
+      return Cipher.getInstance(CIPHER_METHODS);
+    } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Bounded LRU cache of derived keys which belongs to exactly one master key.
+   */
+  private class SecretKeySpecCache {
+
+    private final String masterKey;
+    private final Map<String, SecretKeySpec> keySpecs = Collections.synchronizedMap(
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Entry<String, SecretKeySpec> eldest) {
+            return size() > keyCacheSize;
+          }
+        });
+
+    private SecretKeySpecCache(String masterKey) {
+      this.masterKey = masterKey;
+    }
+  }
+
 }
@@ -3,6 +3,7 @@ package de.caritas.cob.userservice.api.service;
 import static java.util.Objects.nonNull;
 
 import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
+import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -15,6 +16,7 @@ import de.caritas.cob.userservice.api.helper.MonitoringStructureProvider;
 import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeSettings;
 import de.caritas.cob.userservice.api.model.monitoring.MonitoringDTO;
 import de.caritas.cob.userservice.api.repository.monitoring.Monitoring;
+import de.caritas.cob.userservice.api.repository.monitoring.MonitoringBatchRepository;
 import de.caritas.cob.userservice.api.repository.monitoring.MonitoringRepository;
 import de.caritas.cob.userservice.api.repository.monitoring.MonitoringType;
 import de.caritas.cob.userservice.api.repository.monitoringoption.MonitoringOption;
@@ -28,12 +30,15 @@ import de.caritas.cob.userservice.api.repository.session.Session;
 public class MonitoringService {
 
   private final MonitoringRepository monitoringRepository;
+  private final MonitoringBatchRepository monitoringBatchRepository;
   private final MonitoringStructureProvider monitoringStructureProvider;
 
   @Autowired
   public MonitoringService(MonitoringRepository monitoringRepository,
+      MonitoringBatchRepository monitoringBatchRepository,
       MonitoringStructureProvider monitoringStructureProvider) {
     this.monitoringRepository = monitoringRepository;
+    this.monitoringBatchRepository = monitoringBatchRepository;
     this.monitoringStructureProvider = monitoringStructureProvider;
   }
 
@@ -93,7 +98,7 @@ public class MonitoringService {
       List<Monitoring> monitoringList =
           monitoringStructureProvider.createMonitoringList(monitoringDTO, sessionId);
 
-      monitoringRepository.saveAll(monitoringList);
+      monitoringBatchRepository.upsertAll(monitoringList);
 
     } catch (DataAccessException ex) {
       throw new InternalServerErrorException("Database error while saving monitoring data.",
@@ -113,7 +118,7 @@ public class MonitoringService {
       List<Monitoring> monitoringList =
           monitoringStructureProvider.createMonitoringList(monitoringDTO, sessionId);
 
-      monitoringRepository.deleteAll(monitoringList);
+      monitoringBatchRepository.deleteAll(monitoringList);
 
     } catch (DataAccessException ex) {
       throw new InternalServerErrorException("Database error while deleting monitoring data.",
@@ -127,10 +132,11 @@ public class MonitoringService {
     Map<String, Object> map = new LinkedHashMap<>();
 
     if (nonNull(monitoringList)) {
+      Map<MonitoringType, LinkedHashMap<String, Object>> monitoringByType =
+          groupByMonitoringType(monitoringList);
       for (MonitoringType type : MonitoringType.values()) {
         if (type.getConsultingType().equals(consultingType)) {
-          map.put(type.getKey(),
-              convertToMonitoring(type, monitoringList));
+          map.put(type.getKey(), monitoringByType.getOrDefault(type, new LinkedHashMap<>()));
         }
       }
     }
@@ -138,31 +144,28 @@ public class MonitoringService {
     return monitoringStructureProvider.sortMonitoringMap(map, consultingType);
   }
 
-  private LinkedHashMap<String, Object> convertToMonitoring(MonitoringType type,
+  private Map<MonitoringType, LinkedHashMap<String, Object>> groupByMonitoringType(
       List<Monitoring> monitoringList) {
 
-    LinkedHashMap<String, Object> map = new LinkedHashMap<>();
+    Map<MonitoringType, LinkedHashMap<String, Object>> monitoringByType =
+        new EnumMap<>(MonitoringType.class);
 
     for (Monitoring monitoring : monitoringList) {
-      if (monitoring.getMonitoringType().getKey().equals(type.getKey())) {
-        map.put(monitoring.getKey(), nonNull(monitoring.getValue()) ? monitoring.getValue()
-            : convertToMonitoringOption(type, monitoring.getKey(), monitoringList));
-      }
+      LinkedHashMap<String, Object> map = monitoringByType
+          .computeIfAbsent(monitoring.getMonitoringType(), type -> new LinkedHashMap<>());
+      map.put(monitoring.getKey(), nonNull(monitoring.getValue()) ? monitoring.getValue()
+          : convertToMonitoringOption(monitoring));
     }
 
-    return map;
+    return monitoringByType;
   }
 
-  private LinkedHashMap<String, Object> convertToMonitoringOption(MonitoringType type,
-      String monitoringKey, List<Monitoring> monitoringList) {
+  private LinkedHashMap<String, Object> convertToMonitoringOption(Monitoring monitoring) {
     LinkedHashMap<String, Object> map = new LinkedHashMap<>();
 
-    for (Monitoring monitoring : monitoringList) {
-      if (monitoring.getMonitoringType().getKey().equals(type.getKey())
-          && monitoringKey.equals(monitoring.getKey())) {
-        for (MonitoringOption option : monitoring.getMonitoringOptionList()) {
-          map.put(option.getKey(), option.getValue());
-        }
+    if (nonNull(monitoring.getMonitoringOptionList())) {
+      for (MonitoringOption option : monitoring.getMonitoringOptionList()) {
+        map.put(option.getKey(), option.getValue());
       }
     }
 
@@ -6,11 +6,14 @@ import com.google.firebase.FirebaseOptions;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MulticastMessage;
 import com.google.firebase.messaging.Notification;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import lombok.SneakyThrows;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.io.FileUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
@@ -23,6 +26,8 @@ import org.springframework.stereotype.Service;
 @Service
 public class PushMessageService {
 
+  private static final int MAX_MULTICAST_TOKENS = 500;
+
   @Value("${firebase.configuration.push-notifications.enabled}")
   private boolean isEnabled;
 
@@ -65,9 +70,7 @@ public class PushMessageService {
       return;
     }
     Message message = Message.builder()
-        .setNotification(Notification.builder()
-            .setBody(pushNotificationMessage)
-            .build())
+        .setNotification(buildNotification())
         .setToken(registrationToken)
         .build();
 
@@ -78,4 +81,41 @@ public class PushMessageService {
     }
   }
 
+  /**
+   * Sends a push notification message to all mobile devices with given registration tokens. The
+   * tokens are sent as multicast messages with up to 500 tokens each.
+   *
+   * @param registrationTokens the mobile device identifiers
+   */
+  public void pushNewMessageEvents(List<String> registrationTokens) {
+    if (!this.isEnabled || registrationTokens.isEmpty()) {
+      return;
+    }
+    ListUtils.partition(registrationTokens, MAX_MULTICAST_TOKENS)
+        .forEach(this::pushMulticastMessage);
+  }
+
+  private void pushMulticastMessage(List<String> registrationTokens) {
+    MulticastMessage message = MulticastMessage.builder()
+        .setNotification(buildNotification())
+        .addAllTokens(registrationTokens)
+        .build();
+
+    try {
+      var batchResponse = this.firebaseMessaging.sendMulticast(message);
+      if (batchResponse.getFailureCount() > 0) {
+        LogService.logWarn(String.format("Unable to push %s of %s new message notifications",
+            batchResponse.getFailureCount(), registrationTokens.size()));
+      }
+    } catch (FirebaseMessagingException e) {
+      LogService.logWarn(e);
+    }
+  }
+
+  private Notification buildNotification() {
+    return Notification.builder()
+        .setBody(pushNotificationMessage)
+        .build();
+  }
+
 }
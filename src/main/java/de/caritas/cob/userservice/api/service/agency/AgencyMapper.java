@@ -0,0 +1,44 @@
+package de.caritas.cob.userservice.api.service.agency;
+
+import static java.util.Objects.isNull;
+
+import de.caritas.cob.userservice.agencyserivce.generated.web.model.AgencyResponseDTO;
+import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
+import de.caritas.cob.userservice.api.model.AgencyDTO;
+import de.caritas.cob.userservice.api.repository.session.ConsultingType;
+
+/**
+ * Mapper class to map the agency model of the AgencyService to the {@link AgencyDTO} of the
+ * userservice.
+ */
+public class AgencyMapper {
+
+  /**
+   * Maps the given {@link AgencyResponseDTO} to an {@link AgencyDTO}.
+   *
+   * @param agencyResponseDTO the agency of the AgencyService
+   * @return the mapped {@link AgencyDTO}
+   */
+  public AgencyDTO toAgencyDTO(AgencyResponseDTO agencyResponseDTO) {
+    return new AgencyDTO()
+        .id(agencyResponseDTO.getId())
+        .name(agencyResponseDTO.getName())
+        .postcode(agencyResponseDTO.getPostcode())
+        .city(agencyResponseDTO.getCity())
+        .description(agencyResponseDTO.getDescription())
+        .teamAgency(agencyResponseDTO.getTeamAgency())
+        .offline(agencyResponseDTO.getOffline())
+        .consultingType(toConsultingType(agencyResponseDTO.getConsultingType()));
+  }
+
+  private ConsultingType toConsultingType(Integer consultingTypeId) {
+    if (isNull(consultingTypeId)) {
+      return null;
+    }
+    return ConsultingType.valueOf(consultingTypeId)
+        .orElseThrow(() -> new InternalServerErrorException(String.format(
+            "Consulting type %s of agency in agencyservice is unknown in userservice",
+            consultingTypeId)));
+  }
+
+}
@@ -1,22 +1,28 @@
 package de.caritas.cob.userservice.api.service.agency;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import de.caritas.cob.userservice.agencyserivce.generated.ApiClient;
+import static java.util.Objects.nonNull;
+
 import de.caritas.cob.userservice.agencyserivce.generated.web.AgencyControllerApi;
-import de.caritas.cob.userservice.agencyserivce.generated.web.model.AgencyResponseDTO;
 import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
 import de.caritas.cob.userservice.api.model.AgencyDTO;
 import de.caritas.cob.userservice.api.repository.session.ConsultingType;
-import de.caritas.cob.userservice.api.service.securityheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.config.CachingConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.http.HttpHeaders;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
 /**
@@ -26,8 +32,26 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class AgencyService {
 
+  static final String METRIC_PREFIX = "agency.cache";
+
   private final @NonNull AgencyControllerApi agencyControllerApi;
-  private final @NonNull SecurityHeaderSupplier securityHeaderSupplier;
+  private final @NonNull CacheManager cacheManager;
+  private final @NonNull MeterRegistry meterRegistry;
+  private final AgencyMapper agencyMapper = new AgencyMapper();
+
+  private Counter cacheHitCounter;
+  private Counter cacheMissCounter;
+  private Timer cacheLoadTimer;
+
+  /**
+   * Registers the metrics of the agency cache.
+   */
+  @PostConstruct
+  public void initialize() {
+    this.cacheHitCounter = this.meterRegistry.counter(METRIC_PREFIX + ".hits");
+    this.cacheMissCounter = this.meterRegistry.counter(METRIC_PREFIX + ".misses");
+    this.cacheLoadTimer = this.meterRegistry.timer(METRIC_PREFIX + ".load");
+  }
 
   /**
    * Returns the {@link AgencyDTO} for the provided agencyId. Agency will be cached for further
@@ -36,9 +60,8 @@ public class AgencyService {
    * @param agencyId {@link AgencyDTO#getId()}
    * @return AgencyDTO {@link AgencyDTO}
    */
-  @Cacheable(value = CachingConfig.AGENCY_CACHE, key = "#agencyId")
   public AgencyDTO getAgency(Long agencyId) {
-    return getAgenciesFromAgencyService(Collections.singletonList(agencyId))
+    return getAgencies(Collections.singletonList(agencyId))
         .iterator()
         .next();
   }
@@ -57,15 +80,47 @@ public class AgencyService {
   }
 
   /**
-   * Returns List of {@link AgencyDTO} for provided agencyIds. Agencies will be cached for further
-   * requests.
+   * Returns List of {@link AgencyDTO} for provided agencyIds in the order of the ids. Agencies are
+   * cached by their id, so only the agencies missing in the cache are fetched with one request.
    *
    * @param agencyIds List of {@link AgencyDTO#getId()}
    * @return List<AgencyDTO> List of {@link AgencyDTO}
    */
-  @Cacheable(value = CachingConfig.AGENCY_CACHE, key = "#agencyIds")
   public List<AgencyDTO> getAgencies(List<Long> agencyIds) {
-    return getAgenciesFromAgencyService(agencyIds);
+    Cache agencyCache = obtainAgencyCache();
+    Map<Long, AgencyDTO> agenciesById = new HashMap<>();
+    List<Long> missingAgencyIds = new ArrayList<>();
+    agencyIds.stream()
+        .distinct()
+        .forEach(agencyId -> {
+          AgencyDTO cachedAgency = agencyCache.get(agencyId, AgencyDTO.class);
+          if (nonNull(cachedAgency)) {
+            agenciesById.put(agencyId, cachedAgency);
+          } else {
+            missingAgencyIds.add(agencyId);
+          }
+        });
+    this.cacheHitCounter.increment(agenciesById.size());
+    this.cacheMissCounter.increment(missingAgencyIds.size());
+
+    if (!missingAgencyIds.isEmpty()) {
+      this.cacheLoadTimer.record(() -> getAgenciesFromAgencyService(missingAgencyIds))
+          .forEach(agency -> {
+            agencyCache.put(agency.getId(), agency);
+            agenciesById.put(agency.getId(), agency);
+          });
+    }
+
+    return agencyIds.stream()
+        .map(agenciesById::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
+  private Cache obtainAgencyCache() {
+    return Optional.ofNullable(this.cacheManager.getCache(CachingConfig.AGENCY_CACHE))
+        .orElseThrow(() -> new InternalServerErrorException(
+            String.format("Cache %s is not configured", CachingConfig.AGENCY_CACHE)));
   }
 
   /**
@@ -75,9 +130,8 @@ public class AgencyService {
    * @return List<AgencyDTO> List of {@link AgencyDTO}
    */
   private List<AgencyDTO> getAgenciesFromAgencyService(List<Long> agencyIds) {
-    addDefaultHeaders(this.agencyControllerApi.getApiClient());
     return this.agencyControllerApi.getAgenciesByIds(agencyIds).stream()
-        .map(this::fromOriginalAgency)
+        .map(this.agencyMapper::toAgencyDTO)
         .collect(Collectors.toList());
   }
 
@@ -88,29 +142,12 @@ public class AgencyService {
    * @return List of {@link AgencyDTO}
    */
   public List<AgencyDTO> getAgenciesByConsultingType(ConsultingType consultingType) {
-    addDefaultHeaders(this.agencyControllerApi.getApiClient());
     return this.agencyControllerApi.getAgenciesByConsultingType(consultingType.getValue())
         .stream()
-        .map(this::fromOriginalAgency)
+        .map(this.agencyMapper::toAgencyDTO)
         .collect(Collectors.toList());
   }
 
-  private void addDefaultHeaders(ApiClient apiClient) {
-    HttpHeaders headers = this.securityHeaderSupplier.getCsrfHttpHeaders();
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
-  }
-
-  private AgencyDTO fromOriginalAgency(AgencyResponseDTO agencyResponseDTO) {
-    ObjectMapper objectMapper = new ObjectMapper();
-    try {
-      return objectMapper
-          .readValue(objectMapper.writeValueAsString(agencyResponseDTO), AgencyDTO.class);
-    } catch (JsonProcessingException e) {
-      throw new InternalServerErrorException("Model definition of agency in userservice does not "
-          + "match the definition of agencyservice");
-    }
-  }
-
   /**
    * Returns the {@link AgencyDTO} for the provided agencyId. Agency won't be cached for further
    * requests.
@@ -1,17 +1,46 @@
 package de.caritas.cob.userservice.api.service.helper;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.ToDoubleFunction;
+import javax.annotation.PreDestroy;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+import javax.ws.rs.client.ClientResponseContext;
+import javax.ws.rs.client.ClientResponseFilter;
+import javax.ws.rs.core.Response.Status;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Synchronized;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.jboss.resteasy.client.jaxrs.ResteasyClient;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.jboss.resteasy.client.jaxrs.engines.ApacheHttpClient43Engine;
 import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.KeycloakBuilder;
 import org.keycloak.admin.client.resource.RealmResource;
 import org.keycloak.admin.client.resource.UsersResource;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
- * Accessor class to provide the keycloak connection.
+ * Accessor class to provide the keycloak connection. One admin client with a bounded connection
+ * pool is shared by the whole service. Its token manager refreshes the admin token before expiry
+ * and invalidates it after a 401 response, so the following call authenticates again.
  */
 @Service
+@RequiredArgsConstructor
 public class KeycloakAdminClientAccessor {
 
+  static final String METRIC_PREFIX = "keycloak.admin.client";
+  private static final String TOKEN_ENDPOINT_PATH = "/protocol/openid-connect/token";
+
   @Value("${keycloak.auth-server-url}")
   private String keycloakServerUrl;
 
@@ -27,6 +56,16 @@ public class KeycloakAdminClientAccessor {
   @Value("${keycloakService.admin.clientId}")
   private String keycloakClientId;
 
+  @Value("${keycloakService.admin.connectionPoolSize}")
+  private int connectionPoolSize;
+
+  @Value("${keycloakService.admin.minTokenValiditySeconds}")
+  private long minTokenValiditySeconds;
+
+  private final @NonNull MeterRegistry meterRegistry;
+
+  private volatile Keycloak keycloak;
+
   /**
    * Returnes the {@link UsersResource} of current realm.
    *
@@ -46,9 +85,93 @@ public class KeycloakAdminClientAccessor {
   }
 
   private Keycloak getInstance() {
-    return Keycloak
-        .getInstance(this.keycloakServerUrl, this.keycloakRealm, this.keycloakUsername,
-            this.keycloakPassword, this.keycloakClientId);
+    if (isNull(this.keycloak)) {
+      initializeInstance();
+    }
+    return this.keycloak;
+  }
+
+  @Synchronized
+  private void initializeInstance() {
+    if (isNull(this.keycloak)) {
+      this.keycloak = buildInstance();
+    }
+  }
+
+  private Keycloak buildInstance() {
+    var instance = KeycloakBuilder.builder()
+        .serverUrl(this.keycloakServerUrl)
+        .realm(this.keycloakRealm)
+        .username(this.keycloakUsername)
+        .password(this.keycloakPassword)
+        .clientId(this.keycloakClientId)
+        .resteasyClient(buildPooledResteasyClient())
+        .build();
+    instance.tokenManager().setMinTokenValidity(this.minTokenValiditySeconds);
+    return instance;
+  }
+
+  private ResteasyClient buildPooledResteasyClient() {
+    var connectionManager = new PoolingHttpClientConnectionManager();
+    connectionManager.setMaxTotal(this.connectionPoolSize);
+    connectionManager.setDefaultMaxPerRoute(this.connectionPoolSize);
+    registerConnectionPoolGauges(connectionManager);
+
+    var httpClient = HttpClientBuilder.create()
+        .setConnectionManager(connectionManager)
+        .build();
+    ResteasyClient resteasyClient = new ResteasyClientBuilder()
+        .httpEngine(new ApacheHttpClient43Engine(httpClient, true))
+        .build();
+    return resteasyClient.register(new MetricsFilter(
+        this.meterRegistry.counter(METRIC_PREFIX + ".token.requests"),
+        this.meterRegistry.counter(METRIC_PREFIX + ".unauthorized.responses")));
+  }
+
+  private void registerConnectionPoolGauges(PoolingHttpClientConnectionManager connectionManager) {
+    registerPoolGauge(connectionManager, "leased", PoolStats::getLeased);
+    registerPoolGauge(connectionManager, "available", PoolStats::getAvailable);
+    registerPoolGauge(connectionManager, "pending", PoolStats::getPending);
+    registerPoolGauge(connectionManager, "max", PoolStats::getMax);
+  }
+
+  private void registerPoolGauge(PoolingHttpClientConnectionManager connectionManager,
+      String name, ToDoubleFunction<PoolStats> statistic) {
+    Gauge.builder(METRIC_PREFIX + ".connections." + name, connectionManager,
+        manager -> statistic.applyAsDouble(manager.getTotalStats()))
+        .register(this.meterRegistry);
+  }
+
+  /**
+   * Closes the shared admin client and its connection pool.
+   */
+  @PreDestroy
+  public void close() {
+    if (nonNull(this.keycloak)) {
+      this.keycloak.close();
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static class MetricsFilter implements ClientRequestFilter, ClientResponseFilter {
+
+    private final @NonNull Counter tokenRequestCounter;
+    private final @NonNull Counter unauthorizedResponseCounter;
+
+    @Override
+    public void filter(ClientRequestContext requestContext) {
+      if (requestContext.getUri().getPath().endsWith(TOKEN_ENDPOINT_PATH)) {
+        this.tokenRequestCounter.increment();
+      }
+    }
+
+    @Override
+    public void filter(ClientRequestContext requestContext,
+        ClientResponseContext responseContext) {
+      if (responseContext.getStatus() == Status.UNAUTHORIZED.getStatusCode()) {
+        this.unauthorizedResponseCounter.increment();
+      }
+    }
   }
 
 }
@@ -2,8 +2,10 @@ package de.caritas.cob.userservice.api.service.helper;
 
 import static de.caritas.cob.userservice.api.exception.httpresponses.customheader.HttpStatusExceptionReason.EMAIL_NOT_AVAILABLE;
 import static de.caritas.cob.userservice.api.exception.httpresponses.customheader.HttpStatusExceptionReason.USERNAME_NOT_AVAILABLE;
+import static de.caritas.cob.userservice.config.CachingConfig.ROLE_MEMBER_CACHE;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
 
 import de.caritas.cob.userservice.api.authorization.Authorities;
 import de.caritas.cob.userservice.api.authorization.UserRole;
@@ -17,14 +19,17 @@ import de.caritas.cob.userservice.api.model.registration.UserDTO;
 import de.caritas.cob.userservice.api.service.LogService;
 import java.net.URI;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
+import javax.ws.rs.NotFoundException;
 import javax.ws.rs.core.Response;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.Synchronized;
+import org.keycloak.admin.client.resource.RoleResource;
 import org.keycloak.admin.client.resource.UserResource;
 import org.keycloak.admin.client.resource.UsersResource;
 import org.keycloak.representations.idm.CredentialRepresentation;
@@ -32,6 +37,8 @@ import org.keycloak.representations.idm.ErrorRepresentation;
 import org.keycloak.representations.idm.RoleRepresentation;
 import org.keycloak.representations.idm.UserRepresentation;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -55,10 +62,14 @@ public class KeycloakAdminClientService {
   @Value("${keycloakApi.error.email}")
   private String keycloakErrorEmail;
 
+  @Value("${keycloakService.roleMembers.pageSize}")
+  private int roleMembersPageSize;
+
   private final UsernameTranscoder usernameTranscoder = new UsernameTranscoder();
 
   private final @NonNull UserHelper userHelper;
   private final @NonNull KeycloakAdminClientAccessor keycloakAdminClientAccessor;
+  private final @NonNull CacheManager cacheManager;
 
   /**
    * Creates a user in Keycloak and returns its Keycloak user ID.
@@ -217,6 +228,7 @@ public class KeycloakAdminClientService {
       }
     }
 
+    evictRoleMembers(roleName);
     if (!isRoleUpdated) {
       throw new KeycloakException("Could not update user role");
     }
@@ -319,13 +331,19 @@ public class KeycloakAdminClientService {
    * @param userId the userId
    */
   public void deleteUser(String userId) {
-    this.keycloakAdminClientAccessor.getUsersResource()
-        .get(userId)
-        .remove();
+    try {
+      this.keycloakAdminClientAccessor.getUsersResource()
+          .get(userId)
+          .remove();
+    } finally {
+      evictAllRoleMembers();
+    }
   }
 
   /**
-   * Returns true if the given user has the provided authority.
+   * Returns true if the given user has the provided authority. Only the members of the roles
+   * granting the authority are loaded. They are loaded in bulk per role and cached for a short
+   * time, so checking many consultants needs one Keycloak call per role instead of one per user.
    *
    * @param userId    Keycloak user ID
    * @param authority Keycloak authority
@@ -333,12 +351,9 @@ public class KeycloakAdminClientService {
    */
   public boolean userHasAuthority(String userId, String authority) {
     try {
-      return getUserRoles(userId).stream()
-          .map(role -> UserRole.getRoleByValue(role.getName()))
-          .filter(Optional::isPresent)
-          .map(Optional::get)
-          .map(Authorities::getAuthoritiesByUserRole)
-          .anyMatch(currentAuthority -> currentAuthority.contains(authority));
+      return Stream.of(UserRole.values())
+          .filter(userRole -> Authorities.getAuthoritiesByUserRole(userRole).contains(authority))
+          .anyMatch(userRole -> getRoleMemberIds(userRole.getValue()).contains(userId));
     } catch (Exception ex) {
       var error = String.format("Could not get roles for user id %s", userId);
       LogService.logKeycloakError(error, ex);
@@ -347,7 +362,8 @@ public class KeycloakAdminClientService {
   }
 
   /**
-   * Returns true if the given user has the provided role.
+   * Returns true if the given user has the provided role. The members of the role are loaded in
+   * bulk and cached for a short time.
    *
    * @param userId   Keycloak user ID
    * @param userRole Keycloak role
@@ -355,12 +371,8 @@ public class KeycloakAdminClientService {
    */
   public boolean userHasRole(String userId, String userRole) {
     try {
-      return getUserRoles(userId).stream()
-          .map(this::toUserRole)
-          .filter(Optional::isPresent)
-          .map(Optional::get)
-          .map(UserRole::getValue)
-          .anyMatch(userRole::equals);
+      return UserRole.getRoleByValue(userRole).isPresent()
+          && getRoleMemberIds(userRole).contains(userId);
     } catch (Exception ex) {
       var error = String.format("Could not get roles for user id %s", userId);
       LogService.logKeycloakError(error, ex);
@@ -368,16 +380,39 @@ public class KeycloakAdminClientService {
     }
   }
 
-  private Optional<UserRole> toUserRole(RoleRepresentation roleRepresentation) {
-    return UserRole.getRoleByValue(roleRepresentation.getName());
+  private Set<String> getRoleMemberIds(String roleName) {
+    return roleMemberCache().get(roleName, () -> loadRoleMemberIds(roleName));
   }
 
-  private List<RoleRepresentation> getUserRoles(String userId) {
-    return this.keycloakAdminClientAccessor.getUsersResource()
-        .get(userId)
+  private Set<String> loadRoleMemberIds(String roleName) {
+    RoleResource roleResource = this.keycloakAdminClientAccessor.getRealmResource()
         .roles()
-        .realmLevel()
-        .listAll();
+        .get(roleName);
+    Set<String> memberIds = new HashSet<>();
+    try {
+      Set<UserRepresentation> members;
+      var firstResult = 0;
+      do {
+        members = roleResource.getRoleUserMembers(firstResult, this.roleMembersPageSize);
+        members.forEach(member -> memberIds.add(member.getId()));
+        firstResult += this.roleMembersPageSize;
+      } while (members.size() == this.roleMembersPageSize);
+    } catch (NotFoundException e) {
+      LogService.logDebug(String.format("Role %s does not exist in Keycloak", roleName));
+    }
+    return Collections.unmodifiableSet(memberIds);
+  }
+
+  private void evictRoleMembers(String roleName) {
+    roleMemberCache().evict(roleName);
+  }
+
+  private void evictAllRoleMembers() {
+    roleMemberCache().clear();
+  }
+
+  private Cache roleMemberCache() {
+    return requireNonNull(this.cacheManager.getCache(ROLE_MEMBER_CACHE));
   }
 
   /**
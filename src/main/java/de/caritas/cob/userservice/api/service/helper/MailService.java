@@ -1,14 +1,11 @@
 package de.caritas.cob.userservice.api.service.helper;
 
 import de.caritas.cob.userservice.api.service.LogService;
-import de.caritas.cob.userservice.api.service.securityheader.SecurityHeaderSupplier;
-import de.caritas.cob.userservice.mailservice.generated.ApiClient;
 import de.caritas.cob.userservice.mailservice.generated.web.MailsControllerApi;
 import de.caritas.cob.userservice.mailservice.generated.web.model.MailsDTO;
 import de.caritas.cob.userservice.mailservice.generated.web.model.ErrorMailDTO;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 
 /**
@@ -20,7 +17,6 @@ public class MailService {
 
   private static final String MAIL_SERVICE_ERROR_MESSAGE = "Error while calling the MailService";
 
-  private final @NonNull SecurityHeaderSupplier securityHeaderSupplier;
   private final @NonNull MailsControllerApi mailsControllerApi;
 
   /**
@@ -29,7 +25,6 @@ public class MailService {
    * @param mailsDTO the transfer object to be handled in MailService
    */
   public void sendEmailNotification(MailsDTO mailsDTO) {
-    addSecurityHeaders();
     try {
       this.mailsControllerApi.sendMails(mailsDTO);
     } catch (Exception e) {
@@ -37,19 +32,12 @@ public class MailService {
     }
   }
 
-  private void addSecurityHeaders() {
-    HttpHeaders header = securityHeaderSupplier.getCsrfHttpHeaders();
-    ApiClient apiClient = this.mailsControllerApi.getApiClient();
-    header.forEach((name, value) -> apiClient.addDefaultHeader(name, value.iterator().next()));
-  }
-
   /**
    * Send a error email notification via the MailService to configured error recipients.
    *
    * @param errorMailDTO the transfer object to be handled in MailService
    */
   public void sendErrorEmailNotification(ErrorMailDTO errorMailDTO) {
-    addSecurityHeaders();
     try {
       this.mailsControllerApi.sendErrorMail(errorMailDTO);
     } catch (Exception e) {
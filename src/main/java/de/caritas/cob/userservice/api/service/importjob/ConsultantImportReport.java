@@ -0,0 +1,127 @@
+package de.caritas.cob.userservice.api.service.importjob;
+
+import static de.caritas.cob.userservice.localdatetime.CustomLocalDateTime.nowInUtc;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Machine readable progress and result of one consultant import. The report is written as json
+ * file after each phase of the import, so that the progress can be followed while the import is
+ * running.
+ */
+@Getter
+public class ConsultantImportReport {
+
+  public enum Phase {
+    PARSE_RECORDS, PREFETCH_AGENCIES, CREATE_ACCOUNTS, SAVE_DATABASE, JOIN_ROCKET_CHAT_GROUPS,
+    FINISHED, FAILED
+  }
+
+  public enum RecordStatus {
+    PENDING, IMPORTED, UPDATED, SKIPPED, FAILED
+  }
+
+  private final String startDate = nowInUtc().toString();
+  private String updateDate = startDate;
+  private Phase phase = Phase.PARSE_RECORDS;
+  private String message;
+  private final List<RecordResult> records = new ArrayList<>();
+  private final Set<String> failedRocketChatGroupIds = new TreeSet<>();
+
+  /**
+   * Adds the result of a new record to the report.
+   *
+   * @param line the line of the record in the import file
+   * @return the {@link RecordResult} of the record
+   */
+  public RecordResult addRecord(long line) {
+    RecordResult recordResult = new RecordResult(line);
+    this.records.add(recordResult);
+    return recordResult;
+  }
+
+  public void startPhase(Phase phase) {
+    this.phase = phase;
+  }
+
+  public void addFailedRocketChatGroupIds(Set<String> groupIds) {
+    this.failedRocketChatGroupIds.addAll(groupIds);
+  }
+
+  public void fail(String message) {
+    this.phase = Phase.FAILED;
+    this.message = message;
+  }
+
+  public long getImportedRecords() {
+    return countRecords(RecordStatus.IMPORTED);
+  }
+
+  public long getUpdatedRecords() {
+    return countRecords(RecordStatus.UPDATED);
+  }
+
+  public long getSkippedRecords() {
+    return countRecords(RecordStatus.SKIPPED);
+  }
+
+  public long getFailedRecords() {
+    return countRecords(RecordStatus.FAILED);
+  }
+
+  private long countRecords(RecordStatus status) {
+    return this.records.stream()
+        .filter(recordResult -> recordResult.getStatus() == status)
+        .count();
+  }
+
+  /**
+   * Writes the current state of the report as json to the given file.
+   *
+   * @param reportFile the file to write to
+   * @throws IOException if the file could not be written
+   */
+  public void writeTo(String reportFile) throws IOException {
+    this.updateDate = nowInUtc().toString();
+    new ObjectMapper().writerWithDefaultPrettyPrinter()
+        .writeValue(Paths.get(reportFile).toFile(), this);
+  }
+
+  /**
+   * Result of one record of the import file.
+   */
+  @Getter
+  @Setter
+  public static class RecordResult {
+
+    private final long line;
+    private String username;
+    private String consultantId;
+    private RecordStatus status = RecordStatus.PENDING;
+    private String message;
+
+    RecordResult(long line) {
+      this.line = line;
+    }
+
+    public void complete(RecordStatus status, String message) {
+      this.status = status;
+      this.message = message;
+    }
+
+    @JsonIgnore
+    public boolean isPending() {
+      return this.status == RecordStatus.PENDING;
+    }
+  }
+
+}
@@ -0,0 +1,42 @@
+package de.caritas.cob.userservice.api.service.importjob;
+
+import static de.caritas.cob.userservice.localdatetime.CustomLocalDateTime.nowInUtc;
+
+import de.caritas.cob.userservice.api.repository.importcheckpoint.ImportCheckpoint;
+import de.caritas.cob.userservice.api.repository.importcheckpoint.ImportCheckpointRepository;
+import java.util.Set;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service to persist which records of an import file have been imported completely, so that a
+ * restarted import skips them.
+ */
+@Service
+@RequiredArgsConstructor
+public class ImportCheckpointService {
+
+  private final @NonNull ImportCheckpointRepository importCheckpointRepository;
+
+  /**
+   * Loads the keys of all records of the given type which have been imported completely.
+   *
+   * @param importType the {@link ImportType}
+   * @return the keys of the imported records
+   */
+  public Set<String> loadImportedRecordKeys(ImportType importType) {
+    return this.importCheckpointRepository.findRecordKeysByImportType(importType);
+  }
+
+  /**
+   * Stores that the record with the given key has been imported completely.
+   *
+   * @param importType the {@link ImportType}
+   * @param recordKey  the key of the record
+   */
+  public void markImported(ImportType importType, String recordKey) {
+    this.importCheckpointRepository.save(new ImportCheckpoint(importType, recordKey, nowInUtc()));
+  }
+
+}
@@ -0,0 +1,76 @@
+package de.caritas.cob.userservice.api.service.importjob;
+
+import de.caritas.cob.userservice.api.model.ImportJobDTO;
+import de.caritas.cob.userservice.api.model.ImportJobDTO.ImportTypeEnum;
+import de.caritas.cob.userservice.api.model.ImportJobDTO.StatusEnum;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+
+/**
+ * Progress of one import running in the background. The counters are updated concurrently by the
+ * import workers.
+ */
+@Getter
+public class ImportJob {
+
+  private final String jobId = UUID.randomUUID().toString();
+  private final ImportType importType;
+  private final String protocolFile;
+  private volatile StatusEnum status = StatusEnum.RUNNING;
+  private final AtomicInteger importedRecords = new AtomicInteger();
+  private final AtomicInteger alreadyImportedRecords = new AtomicInteger();
+  private final AtomicInteger skippedRecords = new AtomicInteger();
+  private final AtomicInteger failedRecords = new AtomicInteger();
+
+  ImportJob(ImportType importType, String protocolFile) {
+    this.importType = importType;
+    this.protocolFile = protocolFile;
+  }
+
+  public void recordImported() {
+    this.importedRecords.incrementAndGet();
+  }
+
+  public void recordAlreadyImported() {
+    this.alreadyImportedRecords.incrementAndGet();
+  }
+
+  public void recordSkipped() {
+    this.skippedRecords.incrementAndGet();
+  }
+
+  public void recordFailed() {
+    this.failedRecords.incrementAndGet();
+  }
+
+  public void finish() {
+    this.status = StatusEnum.FINISHED;
+  }
+
+  public void fail() {
+    this.status = StatusEnum.FAILED;
+  }
+
+  public boolean isRunning() {
+    return this.status == StatusEnum.RUNNING;
+  }
+
+  /**
+   * Creates a snapshot of the current progress.
+   *
+   * @return the {@link ImportJobDTO}
+   */
+  public ImportJobDTO toImportJobDTO() {
+    return new ImportJobDTO()
+        .jobId(this.jobId)
+        .importType(ImportTypeEnum.fromValue(this.importType.name()))
+        .status(this.status)
+        .protocolFile(this.protocolFile)
+        .importedRecords(this.importedRecords.get())
+        .alreadyImportedRecords(this.alreadyImportedRecords.get())
+        .skippedRecords(this.skippedRecords.get())
+        .failedRecords(this.failedRecords.get());
+  }
+
+}
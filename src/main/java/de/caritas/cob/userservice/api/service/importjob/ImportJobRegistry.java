@@ -0,0 +1,55 @@
+package de.caritas.cob.userservice.api.service.importjob;
+
+import de.caritas.cob.userservice.api.exception.httpresponses.ConflictException;
+import de.caritas.cob.userservice.api.exception.httpresponses.NotFoundException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps track of the import jobs of this instance, so that their progress can be polled. The jobs
+ * are only known to the instance running them, so the guard against concurrent imports does not
+ * span several instances of the service. Imports have to be started on one instance only.
+ */
+@Component
+public class ImportJobRegistry {
+
+  private final Map<String, ImportJob> importJobs = new ConcurrentHashMap<>();
+
+  /**
+   * Registers a new running import job. Only one job per {@link ImportType} may run at a time on
+   * this instance, because concurrent runs would import the same records twice. Finished jobs of
+   * the same type are removed, so only the latest job per type can be polled after it finished.
+   *
+   * @param importType   the {@link ImportType}
+   * @param protocolFile the file the import protocol is written to
+   * @return the registered {@link ImportJob}
+   */
+  public synchronized ImportJob registerImportJob(ImportType importType, String protocolFile) {
+    boolean isAlreadyRunning = this.importJobs.values().stream()
+        .anyMatch(importJob -> importJob.getImportType() == importType && importJob.isRunning());
+    if (isAlreadyRunning) {
+      throw new ConflictException(String.format("An import of type %s is already running",
+          importType));
+    }
+    this.importJobs.values().removeIf(importJob -> importJob.getImportType() == importType);
+    ImportJob importJob = new ImportJob(importType, protocolFile);
+    this.importJobs.put(importJob.getJobId(), importJob);
+    return importJob;
+  }
+
+  /**
+   * Returns the import job with the given id.
+   *
+   * @param jobId the id of the import job
+   * @return the {@link ImportJob}
+   */
+  public ImportJob findImportJob(String jobId) {
+    ImportJob importJob = this.importJobs.get(jobId);
+    if (importJob == null) {
+      throw new NotFoundException(String.format("Import job with id %s not found", jobId));
+    }
+    return importJob;
+  }
+
+}
@@ -0,0 +1,9 @@
+package de.caritas.cob.userservice.api.service.importjob;
+
+/**
+ * The types of file based imports.
+ */
+public enum ImportType {
+  ASKER,
+  ASKER_WITHOUT_SESSION
+}
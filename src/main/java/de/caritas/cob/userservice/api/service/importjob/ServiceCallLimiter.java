@@ -0,0 +1,36 @@
+package de.caritas.cob.userservice.api.service.importjob;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Limits the number of concurrent calls of import workers to one external service.
+ */
+public class ServiceCallLimiter {
+
+  private final Semaphore permits;
+
+  public ServiceCallLimiter(int maxConcurrentCalls) {
+    this.permits = new Semaphore(maxConcurrentCalls, true);
+  }
+
+  /**
+   * Waits until a call is permitted. The returned {@link Permit} has to be closed after the call,
+   * preferably by a try-with-resources statement.
+   *
+   * @return the {@link Permit}
+   */
+  public Permit acquire() {
+    this.permits.acquireUninterruptibly();
+    return this.permits::release;
+  }
+
+  /**
+   * Permit for calls to the limited service.
+   */
+  public interface Permit extends AutoCloseable {
+
+    @Override
+    void close();
+  }
+
+}
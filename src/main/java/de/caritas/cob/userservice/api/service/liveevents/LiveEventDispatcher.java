@@ -0,0 +1,129 @@
+package de.caritas.cob.userservice.api.service.liveevents;
+
+import static java.util.Objects.nonNull;
+
+import de.caritas.cob.userservice.api.service.LogService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded pipeline to run live event notifications outside of the request thread. Events with the
+ * same coalescing key which arrive within the coalescing window are merged into one execution.
+ * If the configured capacity of pending events is reached, new events are dropped.
+ */
+@Component
+@RequiredArgsConstructor
+public class LiveEventDispatcher {
+
+  static final String METRIC_PREFIX = "live.event.pipeline";
+
+  @Value("${live.event.pipeline.workers}")
+  private int workers;
+
+  @Value("${live.event.pipeline.capacity}")
+  private int capacity;
+
+  @Value("${live.event.pipeline.coalescingWindowMillis}")
+  private long coalescingWindowMillis;
+
+  private final @NonNull MeterRegistry meterRegistry;
+
+  private final Map<String, PendingEvent> pendingEvents = new ConcurrentHashMap<>();
+  private ScheduledThreadPoolExecutor executor;
+  private Counter coalescedCounter;
+  private Counter droppedCounter;
+  private Timer latencyTimer;
+
+  /**
+   * Creates the dedicated executor and registers the pipeline metrics.
+   */
+  @PostConstruct
+  public void initialize() {
+    this.executor = new ScheduledThreadPoolExecutor(this.workers,
+        new CustomizableThreadFactory("LiveEvent-"));
+    Gauge.builder(METRIC_PREFIX + ".queue.depth", this.pendingEvents, Map::size)
+        .register(this.meterRegistry);
+    this.coalescedCounter = this.meterRegistry.counter(METRIC_PREFIX + ".events.coalesced");
+    this.droppedCounter = this.meterRegistry.counter(METRIC_PREFIX + ".events.dropped");
+    this.latencyTimer = this.meterRegistry.timer(METRIC_PREFIX + ".latency");
+  }
+
+  /**
+   * Queues the given task. If a task with the same coalescing key is still pending, the given
+   * task is merged into the pending one.
+   *
+   * @param coalescingKey the key identifying equal events
+   * @param task the notification task to execute
+   * @return true if the event has been queued or coalesced, false if it has been dropped
+   */
+  public boolean dispatch(String coalescingKey, Runnable task) {
+    var scheduled = new AtomicBoolean();
+    var pendingEvent = this.pendingEvents.compute(coalescingKey, (key, existingEvent) -> {
+      if (nonNull(existingEvent)) {
+        this.coalescedCounter.increment();
+        return existingEvent;
+      }
+      if (this.pendingEvents.size() >= this.capacity) {
+        this.droppedCounter.increment();
+        return null;
+      }
+      scheduled.set(true);
+      return new PendingEvent(task, System.nanoTime());
+    });
+
+    if (scheduled.get()) {
+      this.executor.schedule(() -> execute(coalescingKey), this.coalescingWindowMillis,
+          TimeUnit.MILLISECONDS);
+    }
+    return nonNull(pendingEvent);
+  }
+
+  private void execute(String coalescingKey) {
+    var pendingEvent = this.pendingEvents.remove(coalescingKey);
+    if (nonNull(pendingEvent)) {
+      try {
+        pendingEvent.getTask().run();
+      } catch (RuntimeException e) {
+        LogService.logInternalServerError(
+            String.format("Unable to process live event %s", coalescingKey), e);
+      } finally {
+        this.latencyTimer.record(System.nanoTime() - pendingEvent.getQueuedAt(),
+            TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+
+  /**
+   * Stops the executor after all pending events have been processed.
+   */
+  @PreDestroy
+  public void shutdown() {
+    if (nonNull(this.executor)) {
+      this.executor.shutdown();
+    }
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  private static class PendingEvent {
+
+    private final @NonNull Runnable task;
+    private final long queuedAt;
+  }
+
+}
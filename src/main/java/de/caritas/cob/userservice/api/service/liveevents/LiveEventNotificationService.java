@@ -19,6 +19,7 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
 
@@ -34,6 +35,7 @@ public class LiveEventNotificationService {
   private final @NonNull AuthenticatedUser authenticatedUser;
   private final @NonNull PushMessageService pushMessageService;
   private final @NonNull UserService userService;
+  private final @NonNull LiveEventDispatcher liveEventDispatcher;
 
   private static final String RC_GROUP_ID_MESSAGE_TEMPLATE = "Rocket.Chat group ID: %s";
   private static final String NEW_ANONYMOUS_ENQUIRY_MESSAGE_TEMPLATE =
@@ -67,25 +69,28 @@ public class LiveEventNotificationService {
   }
 
   /**
-   * Collects all relevant user or consultant ids of chats and sessions and sends a new
-   * direct message to the live service.
+   * Queues a new direct message event. All relevant user or consultant ids of chats and sessions
+   * are collected asynchronously and notified via the live service and mobile push
+   * notifications. Repeated events of the same initiator for the same group are coalesced.
    *
    * @param rcGroupId the rocket chat group id used to observe relevant users
    */
   public void sendLiveDirectMessageEventToUsers(String rcGroupId) {
     if (isNotBlank(rcGroupId)) {
-      List<String> userIds = this.userIdsProviderFactory.byRocketChatGroup(rcGroupId)
-          .collectUserIds(rcGroupId).stream()
-          .filter(this::notInitiatingUser)
-          .collect(Collectors.toList());
-
-      triggerDirectMessageLiveEvent(userIds, rcGroupId);
-      triggerMobilePushNotification(userIds);
+      var initiatingUserId = this.authenticatedUser.getUserId();
+      this.liveEventDispatcher.dispatch(rcGroupId + ":" + initiatingUserId,
+          () -> notifyUsersOfDirectMessage(rcGroupId, initiatingUserId));
     }
   }
 
-  private boolean notInitiatingUser(String userId) {
-    return !userId.equals(this.authenticatedUser.getUserId());
+  private void notifyUsersOfDirectMessage(String rcGroupId, String initiatingUserId) {
+    List<String> userIds = this.userIdsProviderFactory.byRocketChatGroup(rcGroupId)
+        .collectUserIds(rcGroupId).stream()
+        .filter(userId -> !userId.equals(initiatingUserId))
+        .collect(Collectors.toList());
+
+    triggerDirectMessageLiveEvent(userIds, rcGroupId);
+    triggerMobilePushNotification(userIds);
   }
 
   private void triggerDirectMessageLiveEvent(List<String> userIds, String rcGroupId) {
@@ -106,17 +111,14 @@ public class LiveEventNotificationService {
   }
 
   private void triggerMobilePushNotification(List<String> userIds) {
-    userIds.forEach(this::sendPushNotificationForUser);
-  }
-
-  private void sendPushNotificationForUser(String userId) {
-    this.userService.getUser(userId)
-        .ifPresent(this::sendPushNotificationIfUserHasMobileToken);
-  }
-
-  private void sendPushNotificationIfUserHasMobileToken(User user) {
-    if (isNotBlank(user.getMobileToken())) {
-      this.pushMessageService.pushNewMessageEvent(user.getMobileToken());
+    if (isNotEmpty(userIds)) {
+      List<String> mobileTokens = this.userService.getUsers(userIds).stream()
+          .map(User::getMobileToken)
+          .filter(StringUtils::isNotBlank)
+          .collect(Collectors.toList());
+      if (isNotEmpty(mobileTokens)) {
+        this.pushMessageService.pushNewMessageEvents(mobileTokens);
+      }
     }
   }
 
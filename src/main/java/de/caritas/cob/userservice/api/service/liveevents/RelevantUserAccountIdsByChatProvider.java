@@ -4,14 +4,9 @@ import static java.util.Collections.emptyList;
 
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatGetGroupMembersException;
 import de.caritas.cob.userservice.api.model.rocketchat.group.GroupMemberDTO;
-import de.caritas.cob.userservice.api.repository.consultant.Consultant;
-import de.caritas.cob.userservice.api.repository.user.User;
-import de.caritas.cob.userservice.api.service.ConsultantService;
 import de.caritas.cob.userservice.api.service.LogService;
 import de.caritas.cob.userservice.api.service.rocketchat.RocketChatService;
-import de.caritas.cob.userservice.api.service.user.UserService;
 import java.util.List;
-import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -25,8 +20,7 @@ import org.springframework.stereotype.Component;
 public class RelevantUserAccountIdsByChatProvider implements UserIdsProvider {
 
   private final @NonNull RocketChatService rocketChatService;
-  private final @NonNull UserService userService;
-  private final @NonNull ConsultantService consultantService;
+  private final @NonNull RocketChatUserAccountIdResolver rocketChatUserAccountIdResolver;
 
   /**
    * Collects all relevant user ids of a chat.
@@ -47,17 +41,10 @@ public class RelevantUserAccountIdsByChatProvider implements UserIdsProvider {
 
   private List<String> extractDependentUserIds(String rcGroupId)
       throws RocketChatGetGroupMembersException {
-    return this.rocketChatService.getMembersOfGroup(rcGroupId).parallelStream()
+    List<String> rcUserIds = this.rocketChatService.getMembersOfGroup(rcGroupId).stream()
         .map(GroupMemberDTO::get_id)
-        .map(this::toUserAccountId)
-        .filter(Objects::nonNull)
         .collect(Collectors.toList());
-  }
-
-  private String toUserAccountId(String rcUserId) {
-    return this.userService.findUserByRcUserId(rcUserId).map(User::getUserId)
-        .orElse(this.consultantService.getConsultantByRcUserId(rcUserId).map(Consultant::getId)
-            .orElse(null));
+    return this.rocketChatUserAccountIdResolver.resolveAccountIds(rcUserIds);
   }
 
 }
@@ -0,0 +1,60 @@
+package de.caritas.cob.userservice.api.service.liveevents;
+
+import static de.caritas.cob.userservice.config.CachingConfig.RC_USER_ACCOUNT_ID_CACHE;
+import static de.caritas.cob.userservice.config.CachingConfig.RC_USER_NO_ACCOUNT_ID_CACHE;
+import static java.util.Objects.nonNull;
+
+import de.caritas.cob.userservice.api.repository.consultant.Consultant;
+import de.caritas.cob.userservice.api.repository.user.User;
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Entity listener for {@link User} and {@link Consultant} evicting the cached account id of the
+ * related Rocket.Chat user whenever an account is created, changed or deleted. Only the cache of
+ * this instance is evicted and bulk updates bypass the listener, which is why ids without account
+ * are cached with a short time to live only.
+ */
+@RequiredArgsConstructor
+public class RocketChatUserAccountIdCacheEvictionListener {
+
+  private final @NonNull CacheManager cacheManager;
+
+  /**
+   * Evicts the cache entries of the Rocket.Chat user id of the given account.
+   *
+   * @param account the persisted, updated or removed {@link User} or {@link Consultant}
+   */
+  @PostPersist
+  @PostUpdate
+  @PostRemove
+  public void evictRocketChatUserId(Object account) {
+    String rcUserId = extractRocketChatUserId(account);
+    if (nonNull(rcUserId)) {
+      evict(RC_USER_ACCOUNT_ID_CACHE, rcUserId);
+      evict(RC_USER_NO_ACCOUNT_ID_CACHE, rcUserId);
+    }
+  }
+
+  private void evict(String cacheName, String rcUserId) {
+    var cache = this.cacheManager.getCache(cacheName);
+    if (nonNull(cache)) {
+      cache.evict(rcUserId);
+    }
+  }
+
+  private String extractRocketChatUserId(Object account) {
+    if (account instanceof User) {
+      return ((User) account).getRcUserId();
+    }
+    if (account instanceof Consultant) {
+      return ((Consultant) account).getRocketChatId();
+    }
+    return null;
+  }
+
+}
@@ -0,0 +1,99 @@
+package de.caritas.cob.userservice.api.service.liveevents;
+
+import static de.caritas.cob.userservice.config.CachingConfig.RC_USER_ACCOUNT_ID_CACHE;
+import static de.caritas.cob.userservice.config.CachingConfig.RC_USER_NO_ACCOUNT_ID_CACHE;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+import de.caritas.cob.userservice.api.repository.consultant.ConsultantRepository;
+import de.caritas.cob.userservice.api.repository.user.UserRepository;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves Rocket.Chat user ids to the ids of the related asker or consultant accounts. Results
+ * are kept in a bounded cache. Ids without a related account (e.g. technical users) are kept in a
+ * separate cache with a short time to live, because an account created by another instance or by
+ * a bulk update does not evict them. Entries are evicted by the
+ * {@link RocketChatUserAccountIdCacheEvictionListener}.
+ */
+@Component
+@RequiredArgsConstructor
+public class RocketChatUserAccountIdResolver {
+
+  private final @NonNull UserRepository userRepository;
+  private final @NonNull ConsultantRepository consultantRepository;
+  private final @NonNull CacheManager cacheManager;
+
+  /**
+   * Resolves the account ids for the given Rocket.Chat user ids. Uncached ids are loaded with at
+   * most one query for askers and one for consultants.
+   *
+   * @param rcUserIds the Rocket.Chat user ids
+   * @return the account ids in the order of the given Rocket.Chat user ids, ids without related
+   *         account are omitted
+   */
+  public List<String> resolveAccountIds(List<String> rcUserIds) {
+    Cache cache = requireNonNull(this.cacheManager.getCache(RC_USER_ACCOUNT_ID_CACHE));
+    Cache noAccountCache =
+        requireNonNull(this.cacheManager.getCache(RC_USER_NO_ACCOUNT_ID_CACHE));
+    Map<String, String> accountIdsByRcUserId = new HashMap<>();
+    Set<String> uncachedRcUserIds = new LinkedHashSet<>();
+
+    rcUserIds.forEach(rcUserId -> {
+      ValueWrapper cachedAccountId = cache.get(rcUserId);
+      if (nonNull(cachedAccountId)) {
+        accountIdsByRcUserId.put(rcUserId, (String) cachedAccountId.get());
+      } else if (isNull(noAccountCache.get(rcUserId))) {
+        uncachedRcUserIds.add(rcUserId);
+      }
+    });
+
+    if (!uncachedRcUserIds.isEmpty()) {
+      Map<String, String> loadedAccountIds = loadAccountIds(uncachedRcUserIds);
+      uncachedRcUserIds.forEach(rcUserId -> {
+        String accountId = loadedAccountIds.get(rcUserId);
+        if (isNull(accountId)) {
+          noAccountCache.put(rcUserId, Boolean.TRUE);
+        } else {
+          cache.put(rcUserId, accountId);
+        }
+      });
+      accountIdsByRcUserId.putAll(loadedAccountIds);
+    }
+
+    return rcUserIds.stream()
+        .map(accountIdsByRcUserId::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
+  private Map<String, String> loadAccountIds(Set<String> rcUserIds) {
+    Map<String, String> accountIdsByRcUserId = new HashMap<>();
+    this.userRepository.findByRcUserIdInAndDeleteDateIsNull(rcUserIds)
+        .forEach(user -> accountIdsByRcUserId.put(user.getRcUserId(), user.getUserId()));
+
+    Set<String> remainingRcUserIds = rcUserIds.stream()
+        .filter(rcUserId -> !accountIdsByRcUserId.containsKey(rcUserId))
+        .collect(Collectors.toSet());
+    if (!remainingRcUserIds.isEmpty()) {
+      this.consultantRepository.findByRocketChatIdInAndDeleteDateIsNull(remainingRcUserIds)
+          .forEach(consultant -> accountIdsByRcUserId
+              .put(consultant.getRocketChatId(), consultant.getId()));
+    }
+    return accountIdsByRcUserId;
+  }
+
+}
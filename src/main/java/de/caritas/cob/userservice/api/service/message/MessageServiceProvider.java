@@ -11,15 +11,12 @@ import de.caritas.cob.userservice.api.helper.UsernameTranscoder;
 import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeSettings;
 import de.caritas.cob.userservice.api.repository.user.User;
 import de.caritas.cob.userservice.api.service.rocketchat.RocketChatCredentialsProvider;
-import de.caritas.cob.userservice.api.service.securityheader.SecurityHeaderSupplier;
-import de.caritas.cob.userservice.messageservice.generated.ApiClient;
 import de.caritas.cob.userservice.messageservice.generated.web.MessageControllerApi;
 import de.caritas.cob.userservice.messageservice.generated.web.model.AliasOnlyMessageDTO;
 import de.caritas.cob.userservice.messageservice.generated.web.model.MessageDTO;
 import de.caritas.cob.userservice.messageservice.generated.web.model.MessageType;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
 
@@ -32,7 +29,6 @@ public class MessageServiceProvider {
 
   private final @NonNull MessageControllerApi messageControllerApi;
   private final @NonNull RocketChatCredentialsProvider rocketChatCredentialsProvider;
-  private final @NonNull SecurityHeaderSupplier securityHeaderSupplier;
 
   /**
    * Posts an enquiry message via the MessageService to the given Rocket.Chat group ID.
@@ -59,8 +55,6 @@ public class MessageServiceProvider {
   }
 
   private void postMessage(String message, RocketChatCredentials rcCredentials, String rcGroupId) {
-
-    addDefaultHeaders(this.messageControllerApi.getApiClient());
     this.messageControllerApi.createMessage(rcCredentials.getRocketChatToken(),
         rcCredentials.getRocketChatUserId(), rcGroupId, new MessageDTO().message(message));
   }
@@ -130,7 +124,6 @@ public class MessageServiceProvider {
   private void postAliasOnlyMessage(String rcGroupId, MessageType messageType,
       CreateEnquiryExceptionInformation exceptionInformation)
       throws RocketChatPostFurtherStepsMessageException {
-    addDefaultHeaders(this.messageControllerApi.getApiClient());
     try {
       this.messageControllerApi.saveAliasOnlyMessage(rcGroupId, new AliasOnlyMessageDTO()
           .messageType(messageType));
@@ -141,9 +134,4 @@ public class MessageServiceProvider {
               rcGroupId), exception, exceptionInformation);
     }
   }
-
-  private void addDefaultHeaders(ApiClient apiClient) {
-    HttpHeaders headers = this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
-  }
 }
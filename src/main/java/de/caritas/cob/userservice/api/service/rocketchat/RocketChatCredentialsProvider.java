@@ -1,5 +1,6 @@
 package de.caritas.cob.userservice.api.service.rocketchat;
 
+import static de.caritas.cob.userservice.config.RocketChatClientConfig.ROCKET_CHAT_REST_TEMPLATE;
 import static de.caritas.cob.userservice.localdatetime.CustomLocalDateTime.nowInUtc;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -15,6 +16,7 @@ import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -54,7 +56,8 @@ public class RocketChatCredentialsProvider {
   @Value("${rocket.chat.header.user.id}")
   private String rocketChatHeaderUserId;
 
-  private final @NonNull RestTemplate restTemplate;
+  @Qualifier(ROCKET_CHAT_REST_TEMPLATE)
+  private final @NonNull RestTemplate rocketChatRestTemplate;
 
   // Tokens
   private final AtomicReference<RocketChatCredentials> techUserA = new AtomicReference<>();
@@ -200,7 +203,8 @@ public class RocketChatCredentialsProvider {
       HttpEntity<MultiValueMap<String, String>> request =
           new HttpEntity<>(map, headers);
 
-      return restTemplate.postForEntity(rocketChatApiUserLogin, request, LoginResponseDTO.class);
+      return rocketChatRestTemplate.postForEntity(rocketChatApiUserLogin, request,
+          LoginResponseDTO.class);
     } catch (Exception ex) {
       throw new RocketChatLoginException(
           String.format("Could not login user (%s) in Rocket.Chat", username));
@@ -221,8 +225,8 @@ public class RocketChatCredentialsProvider {
 
       HttpEntity<Void> request = new HttpEntity<>(headers);
 
-      ResponseEntity<LogoutResponseDTO> response =
-          restTemplate.postForEntity(rocketChatApiUserLogout, request, LogoutResponseDTO.class);
+      ResponseEntity<LogoutResponseDTO> response = rocketChatRestTemplate.postForEntity(
+          rocketChatApiUserLogout, request, LogoutResponseDTO.class);
 
       return response.getStatusCode() == HttpStatus.OK;
 
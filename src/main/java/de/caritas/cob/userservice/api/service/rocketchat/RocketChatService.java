@@ -1,5 +1,6 @@
 package de.caritas.cob.userservice.api.service.rocketchat;
 
+import static de.caritas.cob.userservice.config.RocketChatClientConfig.ROCKET_CHAT_REST_TEMPLATE;
 import static de.caritas.cob.userservice.localdatetime.CustomLocalDateTime.nowInUtc;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -49,6 +50,7 @@ import java.util.Optional;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -109,7 +111,8 @@ public class RocketChatService {
   @Value("${rocket.chat.api.rooms.clean.history}")
   private String rocketChatApiCleanRoomHistory;
 
-  private final @NonNull RestTemplate restTemplate;
+  @Qualifier(ROCKET_CHAT_REST_TEMPLATE)
+  private final @NonNull RestTemplate rocketChatRestTemplate;
   private final @NonNull RocketChatCredentialsProvider rcCredentialHelper;
 
   /**
@@ -129,8 +132,8 @@ public class RocketChatService {
       GroupCreateBodyDTO groupCreateBodyDto = new GroupCreateBodyDTO(name, false);
       HttpEntity<GroupCreateBodyDTO> request =
           new HttpEntity<>(groupCreateBodyDto, headers);
-      response =
-          restTemplate.postForObject(rocketChatApiGroupCreateUrl, request, GroupResponseDTO.class);
+      response = rocketChatRestTemplate.postForObject(rocketChatApiGroupCreateUrl, request,
+          GroupResponseDTO.class);
 
     } catch (RestClientResponseException ex) {
       throw new RocketChatCreateGroupException(ex);
@@ -215,7 +218,7 @@ public class RocketChatService {
       GroupDeleteBodyDTO groupDeleteBodyDto = new GroupDeleteBodyDTO(groupId);
       HttpEntity<GroupDeleteBodyDTO> request =
           new HttpEntity<>(groupDeleteBodyDto, headers);
-      response = restTemplate.postForObject(rocketChatApiGroupDeleteUrl, request,
+      response = rocketChatRestTemplate.postForObject(rocketChatApiGroupDeleteUrl, request,
           GroupDeleteResponseDTO.class);
 
     } catch (Exception ex) {
@@ -295,7 +298,8 @@ public class RocketChatService {
 
       HttpEntity<LdapLoginDTO> request = new HttpEntity<>(ldapLoginDTO, headers);
 
-      return restTemplate.postForEntity(rocketChatApiUserLogin, request, LoginResponseDTO.class);
+      return rocketChatRestTemplate.postForEntity(rocketChatApiUserLogin, request,
+          LoginResponseDTO.class);
     } catch (Exception ex) {
       throw new RocketChatLoginException(
           String.format("Could not login user (%s) in Rocket.Chat for the first time", username));
@@ -315,8 +319,8 @@ public class RocketChatService {
 
       HttpEntity<Void> request = new HttpEntity<>(headers);
 
-      ResponseEntity<LogoutResponseDTO> response =
-          restTemplate.postForEntity(rocketChatApiUserLogout, request, LogoutResponseDTO.class);
+      ResponseEntity<LogoutResponseDTO> response = rocketChatRestTemplate.postForEntity(
+          rocketChatApiUserLogout, request, LogoutResponseDTO.class);
 
       return response.getStatusCode() == HttpStatus.OK;
 
@@ -344,8 +348,8 @@ public class RocketChatService {
       GroupAddUserBodyDTO body = new GroupAddUserBodyDTO(rcUserId, rcGroupId);
       HttpEntity<GroupAddUserBodyDTO> request = new HttpEntity<>(body, header);
 
-      response =
-          restTemplate.postForObject(rocketChatApiGroupAddUserUrl, request, GroupResponseDTO.class);
+      response = rocketChatRestTemplate.postForObject(rocketChatApiGroupAddUserUrl, request,
+          GroupResponseDTO.class);
 
     } catch (Exception ex) {
       throw new RocketChatAddUserToGroupException(String.format(
@@ -386,7 +390,7 @@ public class RocketChatService {
       HttpEntity<GroupRemoveUserBodyDTO> request =
           new HttpEntity<>(body, header);
 
-      response = restTemplate.postForObject(rocketChatApiGroupRemoveUserUrl, request,
+      response = rocketChatRestTemplate.postForObject(rocketChatApiGroupRemoveUserUrl, request,
           GroupResponseDTO.class);
 
     } catch (Exception ex) {
@@ -481,7 +485,7 @@ public class RocketChatService {
       HttpHeaders header = getStandardHttpHeaders(systemUser);
       HttpEntity<GroupAddUserBodyDTO> request = new HttpEntity<>(header);
 
-      response = restTemplate.exchange(buildGetGroupMembersPath(rcGroupId),
+      response = rocketChatRestTemplate.exchange(buildGetGroupMembersPath(rcGroupId),
           HttpMethod.GET, request, GroupMemberResponseDTO.class);
 
     } catch (Exception ex) {
@@ -543,7 +547,7 @@ public class RocketChatService {
           (isNotEmpty(users)) ? users : new String[]{});
       HttpEntity<GroupCleanHistoryDTO> request = new HttpEntity<>(body, header);
 
-      response = restTemplate.postForObject(rocketChatApiCleanRoomHistory, request,
+      response = rocketChatRestTemplate.postForObject(rocketChatApiCleanRoomHistory, request,
           StandardResponseDTO.class);
 
     } catch (Exception ex) {
@@ -572,8 +576,8 @@ public class RocketChatService {
       HttpHeaders header = getStandardHttpHeaders(rocketChatCredentials);
       HttpEntity<Void> request = new HttpEntity<>(header);
 
-      response = restTemplate.exchange(rocketChatApiSubscriptionsGet, HttpMethod.GET, request,
-          SubscriptionsGetDTO.class);
+      response = rocketChatRestTemplate.exchange(rocketChatApiSubscriptionsGet, HttpMethod.GET,
+          request, SubscriptionsGetDTO.class);
 
     } catch (HttpStatusCodeException ex) {
       if (ex.getStatusCode().equals(HttpStatus.UNAUTHORIZED)) {
@@ -606,8 +610,8 @@ public class RocketChatService {
       HttpHeaders header = getStandardHttpHeaders(rocketChatCredentials);
       HttpEntity<Void> request = new HttpEntity<>(header);
 
-      response =
-          restTemplate.exchange(rocketChatApiRoomsGet, HttpMethod.GET, request, RoomsGetDTO.class);
+      response = rocketChatRestTemplate.exchange(rocketChatApiRoomsGet, HttpMethod.GET, request,
+          RoomsGetDTO.class);
 
     } catch (Exception ex) {
       throw new InternalServerErrorException(String.format(
@@ -640,7 +644,7 @@ public class RocketChatService {
 
       String fields = "{\"userRooms\":1}";
       String url = rocketChatApiUserInfo + "?userId=" + rcUserId + "&fields={fields}";
-      response = restTemplate
+      response = rocketChatRestTemplate
           .exchange(url, HttpMethod.GET, request, UserInfoResponseDTO.class, fields);
 
     } catch (RestClientResponseException | RocketChatUserNotInitializedException ex) {
@@ -687,7 +691,7 @@ public class RocketChatService {
       throws RocketChatUserNotInitializedException {
     HttpEntity<UserUpdateRequestDTO> request = buildRocketChatUserUpdateRequestEntity(requestDTO);
 
-    ResponseEntity<UserInfoResponseDTO> response = restTemplate
+    ResponseEntity<UserInfoResponseDTO> response = rocketChatRestTemplate
         .exchange(rocketChatApiUserUpdate, HttpMethod.POST, request, UserInfoResponseDTO.class);
 
     if (isResponseNotSuccess(response)) {
@@ -731,7 +735,7 @@ public class RocketChatService {
     HttpHeaders header = getStandardHttpHeaders(technicalUser);
     HttpEntity<UserDeleteBodyDTO> request = new HttpEntity<>(requestDTO, header);
 
-    ResponseEntity<UserInfoResponseDTO> response = restTemplate
+    ResponseEntity<UserInfoResponseDTO> response = rocketChatRestTemplate
         .exchange(rocketChatApiUserDelete, HttpMethod.POST, request, UserInfoResponseDTO.class);
 
     if (isResponseNotSuccess(response)) {
@@ -0,0 +1,80 @@
+package de.caritas.cob.userservice.api.service.rocketchat.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Interceptor to cap the number of concurrent Rocket.Chat calls. A call waiting longer than the
+ * configured time for a free slot is rejected with a {@link ResourceAccessException}, so a slow
+ * Rocket.Chat node can not block all request threads.
+ */
+public class RocketChatBulkheadInterceptor implements ClientHttpRequestInterceptor {
+
+  static final String REJECTED_METRIC = "rocket.chat.client.rejected";
+
+  private final Semaphore permits;
+  private final int maxConcurrentCalls;
+  private final long maxWaitMillis;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Creates the interceptor.
+   *
+   * @param maxConcurrentCalls the maximum number of concurrent Rocket.Chat calls
+   * @param maxWaitMillis      the maximum time in milliseconds to wait for a free slot
+   * @param meterRegistry      the {@link MeterRegistry} to count the rejected calls
+   */
+  public RocketChatBulkheadInterceptor(int maxConcurrentCalls, long maxWaitMillis,
+      @NonNull MeterRegistry meterRegistry) {
+    this.permits = new Semaphore(maxConcurrentCalls, true);
+    this.maxConcurrentCalls = maxConcurrentCalls;
+    this.maxWaitMillis = maxWaitMillis;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Executes the request if a slot is available within the configured wait time.
+   *
+   * @param request   the outgoing {@link HttpRequest}
+   * @param body      the body of the request
+   * @param execution the {@link ClientHttpRequestExecution}
+   * @return the {@link ClientHttpResponse}
+   * @throws IOException in case of I/O errors
+   */
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+      ClientHttpRequestExecution execution) throws IOException {
+    acquirePermit(request);
+    try {
+      return execution.execute(request, body);
+    } finally {
+      this.permits.release();
+    }
+  }
+
+  private void acquirePermit(HttpRequest request) {
+    String endpoint = RocketChatEndpoint.nameOf(request.getURI());
+    try {
+      if (this.permits.tryAcquire(this.maxWaitMillis, TimeUnit.MILLISECONDS)) {
+        return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ResourceAccessException(String.format(
+          "Interrupted while waiting for a free slot to call Rocket.Chat endpoint %s", endpoint));
+    }
+    this.meterRegistry.counter(REJECTED_METRIC, "endpoint", endpoint).increment();
+    throw new ResourceAccessException(String.format(
+        "Call to Rocket.Chat endpoint %s rejected, %s calls are already running", endpoint,
+        this.maxConcurrentCalls));
+  }
+
+}
@@ -0,0 +1,33 @@
+package de.caritas.cob.userservice.api.service.rocketchat.client;
+
+import static java.util.Objects.isNull;
+
+import java.net.URI;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Resolves the name of the called Rocket.Chat endpoint (e.g. groups.members) from a request uri.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class RocketChatEndpoint {
+
+  static final String UNKNOWN = "unknown";
+
+  /**
+   * Returns the Rocket.Chat endpoint name, i.e. the last segment of the path of the given uri.
+   *
+   * @param uri the request {@link URI}
+   * @return the endpoint name or "unknown" if the uri does not contain a path
+   */
+  public static String nameOf(URI uri) {
+    String path = uri.getPath();
+    if (isNull(path)) {
+      return UNKNOWN;
+    }
+    String endpoint = StringUtils.substringAfterLast(StringUtils.removeEnd(path, "/"), "/");
+    return StringUtils.isBlank(endpoint) ? UNKNOWN : endpoint;
+  }
+
+}
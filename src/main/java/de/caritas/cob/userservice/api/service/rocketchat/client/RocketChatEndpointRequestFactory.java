@@ -0,0 +1,47 @@
+package de.caritas.cob.userservice.api.service.rocketchat.client;
+
+import static java.util.Objects.isNull;
+
+import java.net.URI;
+import java.util.Map;
+import lombok.NonNull;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.protocol.HttpContext;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * Request factory for Rocket.Chat calls which applies endpoint specific timeouts. Calls to
+ * endpoints without an own {@link RequestConfig} use the defaults of the given http client.
+ */
+public class RocketChatEndpointRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+  private final Map<String, RequestConfig> requestConfigsByEndpoint;
+
+  /**
+   * Creates the request factory.
+   *
+   * @param httpClient               the pooled {@link HttpClient}
+   * @param requestConfigsByEndpoint the {@link RequestConfig} per Rocket.Chat endpoint name
+   */
+  public RocketChatEndpointRequestFactory(@NonNull HttpClient httpClient,
+      @NonNull Map<String, RequestConfig> requestConfigsByEndpoint) {
+    super(httpClient);
+    this.requestConfigsByEndpoint = requestConfigsByEndpoint;
+  }
+
+  @Override
+  protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+    RequestConfig requestConfig =
+        this.requestConfigsByEndpoint.get(RocketChatEndpoint.nameOf(uri));
+    if (isNull(requestConfig)) {
+      return null;
+    }
+    HttpClientContext context = HttpClientContext.create();
+    context.setRequestConfig(requestConfig);
+    return context;
+  }
+
+}
@@ -0,0 +1,52 @@
+package de.caritas.cob.userservice.api.service.rocketchat.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Interceptor to record the duration of each Rocket.Chat call in a timer tagged with the called
+ * endpoint (e.g. groups.members), the http method and the response status.
+ */
+@RequiredArgsConstructor
+public class RocketChatMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+  static final String TIMER_METRIC = "rocket.chat.client.requests";
+  static final String IO_ERROR_STATUS = "IO_ERROR";
+
+  private final @NonNull MeterRegistry meterRegistry;
+
+  /**
+   * Executes the request and records its duration.
+   *
+   * @param request   the outgoing {@link HttpRequest}
+   * @param body      the body of the request
+   * @param execution the {@link ClientHttpRequestExecution}
+   * @return the {@link ClientHttpResponse}
+   * @throws IOException in case of I/O errors
+   */
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+      ClientHttpRequestExecution execution) throws IOException {
+    Timer.Sample sample = Timer.start(this.meterRegistry);
+    String status = IO_ERROR_STATUS;
+    try {
+      ClientHttpResponse response = execution.execute(request, body);
+      status = String.valueOf(response.getRawStatusCode());
+      return response;
+    } finally {
+      sample.stop(Timer.builder(TIMER_METRIC)
+          .tag("endpoint", RocketChatEndpoint.nameOf(request.getURI()))
+          .tag("method", request.getMethodValue())
+          .tag("status", status)
+          .register(this.meterRegistry));
+    }
+  }
+
+}
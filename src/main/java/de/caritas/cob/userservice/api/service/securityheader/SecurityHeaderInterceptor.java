@@ -0,0 +1,41 @@
+package de.caritas.cob.userservice.api.service.securityheader;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Interceptor to add the security headers (e.g. CSRF token) to each outgoing request of a
+ * generated API client. The headers are obtained per request, so concurrent requests never share
+ * their tokens and the shared {@link org.springframework.web.client.RestTemplate} of the API
+ * client stays unchanged. Headers already set by the API client take precedence.
+ */
+@RequiredArgsConstructor
+public class SecurityHeaderInterceptor implements ClientHttpRequestInterceptor {
+
+  private final @NonNull Supplier<HttpHeaders> securityHeaders;
+
+  /**
+   * Adds the security headers to the given request and executes it.
+   *
+   * @param request   the outgoing {@link HttpRequest}
+   * @param body      the body of the request
+   * @param execution the {@link ClientHttpRequestExecution}
+   * @return the {@link ClientHttpResponse}
+   * @throws IOException in case of I/O errors
+   */
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+      ClientHttpRequestExecution execution) throws IOException {
+    HttpHeaders requestHeaders = request.getHeaders();
+    this.securityHeaders.get().forEach(requestHeaders::putIfAbsent);
+    return execution.execute(request, body);
+  }
+
+}
@@ -1,5 +1,7 @@
 package de.caritas.cob.userservice.api.service.securityheader;
 
+import static java.util.Objects.nonNull;
+
 import de.caritas.cob.userservice.api.helper.AuthenticatedUser;
 import java.util.UUID;
 import lombok.NonNull;
@@ -20,6 +22,7 @@ public class SecurityHeaderSupplier {
   private String csrfCookieProperty;
 
   private final @NonNull AuthenticatedUser authenticatedUser;
+  private final ThreadLocal<String> accessTokenOverride = new ThreadLocal<>();
 
   /**
    * Returns a {@link HttpHeaders} instance with needed settings for the services API (CSRF Token).
@@ -44,8 +47,30 @@ public class SecurityHeaderSupplier {
     return header;
   }
 
+  /**
+   * Runs the given task on the current thread with the given access token instead of the token of
+   * the authenticated user. Background jobs use this for their service calls, because there is no
+   * authenticated user outside of a request.
+   *
+   * @param accessToken the Keycloak access token to use
+   * @param task        the task to run
+   */
+  public void runWithAccessToken(String accessToken, Runnable task) {
+    this.accessTokenOverride.set(accessToken);
+    try {
+      task.run();
+    } finally {
+      this.accessTokenOverride.remove();
+    }
+  }
+
   private void addKeycloakAuthorizationHeader(HttpHeaders httpHeaders) {
-    httpHeaders.add("Authorization", "Bearer " + authenticatedUser.getAccessToken());
+    httpHeaders.add("Authorization", "Bearer " + getAccessToken());
+  }
+
+  private String getAccessToken() {
+    String accessToken = this.accessTokenOverride.get();
+    return nonNull(accessToken) ? accessToken : authenticatedUser.getAccessToken();
   }
 
   private HttpHeaders addCsrfValues(HttpHeaders httpHeaders) {
@@ -0,0 +1,86 @@
+package de.caritas.cob.userservice.api.service.session;
+
+import static java.util.Objects.nonNull;
+
+import de.caritas.cob.userservice.api.model.rocketchat.room.RoomsUpdateDTO;
+import de.caritas.cob.userservice.api.repository.session.SessionBatchRepository;
+import de.caritas.cob.userservice.api.service.LogService;
+import de.caritas.cob.userservice.api.service.rocketchat.RocketChatCredentialsProvider;
+import de.caritas.cob.userservice.api.service.rocketchat.RocketChatService;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.collections4.ListUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the latest message date of the existing sessions with the date of the last message of
+ * their Rocket.Chat groups. The migration initialized the column with the enquiry message date,
+ * so the session list streaming must not be enabled before this backfill has run once. The system
+ * user is a member of all session groups, so one rooms request returns all of them.
+ */
+@Component
+@RequiredArgsConstructor
+public class LatestMessageDateBackfill {
+
+  @Value("${session.list.latestMessageDate.backfill.enabled}")
+  private boolean isEnabled;
+
+  @Value("${session.list.latestMessageDate.backfill.batchSize}")
+  private int batchSize;
+
+  private final @NonNull RocketChatService rocketChatService;
+  private final @NonNull RocketChatCredentialsProvider rocketChatCredentialsProvider;
+  private final @NonNull SessionBatchRepository sessionBatchRepository;
+
+  /**
+   * Runs the backfill after the start of the service if it is enabled.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillIfEnabled() {
+    if (this.isEnabled) {
+      backfill();
+    }
+  }
+
+  /**
+   * Writes the date of the last message of every Rocket.Chat group of the system user to the
+   * session of the group. A date is never moved backwards, so dates recorded for new messages in
+   * the meantime are kept.
+   */
+  public void backfill() {
+    try {
+      Map<String, LocalDateTime> lastMessageDates = rocketChatService
+          .getRoomsOfUser(rocketChatCredentialsProvider.getSystemUser()).stream()
+          .filter(room -> nonNull(room.getLastMessage())
+              && nonNull(room.getLastMessage().getTimestamp()))
+          .collect(Collectors.toMap(RoomsUpdateDTO::getId, this::toLastMessageDate,
+              (first, second) -> first));
+
+      List<String> rcGroupIds = new ArrayList<>(lastMessageDates.keySet());
+      for (List<String> batch : ListUtils.partition(rcGroupIds, this.batchSize)) {
+        this.sessionBatchRepository.updateLatestMessageDates(batch.stream()
+            .collect(Collectors.toMap(Function.identity(), lastMessageDates::get)));
+      }
+      LogService.logInfo(String.format(
+          "Backfilled the latest message date of %s Rocket.Chat groups", rcGroupIds.size()));
+    } catch (Exception e) {
+      LogService.logInternalServerError("Unable to backfill the latest message dates", e);
+    }
+  }
+
+  private LocalDateTime toLastMessageDate(RoomsUpdateDTO room) {
+    return LocalDateTime.ofInstant(room.getLastMessage().getTimestamp().toInstant(),
+        ZoneOffset.UTC);
+  }
+
+}
@@ -0,0 +1,72 @@
+package de.caritas.cob.userservice.api.service.session;
+
+import static de.caritas.cob.userservice.localdatetime.CustomLocalDateTime.nowInUtc;
+import static java.util.Objects.nonNull;
+
+import de.caritas.cob.userservice.api.repository.session.SessionBatchRepository;
+import de.caritas.cob.userservice.api.service.LogService;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects the dates of new messages per Rocket.Chat group and writes them to the sessions with
+ * one batch per flush interval, so that posting a message does not wait for a database update.
+ * Several messages of one group within an interval result in one update.
+ */
+@Component
+@RequiredArgsConstructor
+public class LatestMessageDateRecorder {
+
+  private final @NonNull SessionBatchRepository sessionBatchRepository;
+
+  private final Map<String, LocalDateTime> pendingDates = new ConcurrentHashMap<>();
+
+  /**
+   * Records the current date as date of the latest message of the given Rocket.Chat group.
+   *
+   * @param rcGroupId the Rocket.Chat group id
+   */
+  public void record(String rcGroupId) {
+    recordDate(rcGroupId, nowInUtc());
+  }
+
+  private void recordDate(String rcGroupId, LocalDateTime messageDate) {
+    this.pendingDates.merge(rcGroupId, messageDate,
+        (pendingDate, newDate) -> newDate.isAfter(pendingDate) ? newDate : pendingDate);
+  }
+
+  /**
+   * Writes all recorded dates to the database. Dates which could not be written are recorded
+   * again and retried with the next flush.
+   */
+  @Scheduled(fixedDelayString = "${session.list.latestMessageDate.flushIntervalMillis}")
+  @PreDestroy
+  public void flush() {
+    Map<String, LocalDateTime> latestMessageDates = new HashMap<>();
+    this.pendingDates.keySet().forEach(rcGroupId -> {
+      LocalDateTime messageDate = this.pendingDates.remove(rcGroupId);
+      if (nonNull(messageDate)) {
+        latestMessageDates.put(rcGroupId, messageDate);
+      }
+    });
+    if (latestMessageDates.isEmpty()) {
+      return;
+    }
+
+    try {
+      this.sessionBatchRepository.updateLatestMessageDates(latestMessageDates);
+    } catch (RuntimeException e) {
+      LogService.logInternalServerError(String.format(
+          "Unable to store the latest message date of %s sessions", latestMessageDates.size()), e);
+      latestMessageDates.forEach(this::recordDate);
+    }
+  }
+
+}
@@ -11,6 +11,7 @@ import de.caritas.cob.userservice.api.exception.httpresponses.BadRequestExceptio
 import de.caritas.cob.userservice.api.exception.httpresponses.ForbiddenException;
 import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
 import de.caritas.cob.userservice.api.exception.httpresponses.NotFoundException;
+import de.caritas.cob.userservice.api.helper.Helper;
 import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeManager;
 import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeSettings;
 import de.caritas.cob.userservice.api.model.AgencyDTO;
@@ -30,13 +31,20 @@ import de.caritas.cob.userservice.api.repository.user.User;
 import de.caritas.cob.userservice.api.service.agency.AgencyService;
 import de.caritas.cob.userservice.api.service.ConsultantService;
 import de.caritas.cob.userservice.api.service.LogService;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Service;
 
 /**
@@ -50,6 +58,7 @@ public class SessionService {
   private final @NonNull AgencyService agencyService;
   private final @NonNull ConsultantService consultantService;
   private final @NonNull ConsultingTypeManager consultingTypeManager;
+  private final @NonNull LatestMessageDateRecorder latestMessageDateRecorder;
 
   /**
    * Returns the sessions for a user
@@ -240,6 +249,29 @@ public class SessionService {
     return emptyList();
   }
 
+  /**
+   * Retrieves one page of the related enquiries of given {@link Consultant} sorted by enquiry
+   * message date ascending.
+   *
+   * @param consultant the consultant
+   * @param pageable   the page number and size to retrieve
+   * @return the requested {@link Page} of {@link ConsultantSessionResponseDTO}s
+   */
+  public Page<ConsultantSessionResponseDTO> getEnquiryPageForConsultant(Consultant consultant,
+      Pageable pageable) {
+    Set<ConsultantAgency> consultantAgencies = consultant.getConsultantAgencies();
+    if (isNotEmpty(consultantAgencies)) {
+      List<Long> consultantAgencyIds = consultantAgencies.stream()
+          .map(ConsultantAgency::getAgencyId)
+          .collect(Collectors.toList());
+      return this.sessionRepository.findByAgencyIdInAndConsultantIsNullAndStatus(
+          consultantAgencyIds, SessionStatus.NEW,
+          withSort(pageable, Sort.by(Direction.ASC, "enquiryMessageDate")))
+          .map(session -> new SessionMapper().toConsultantSessionDto(session));
+    }
+    return Page.empty(pageable);
+  }
+
   private List<ConsultantSessionResponseDTO> retrieveEnquiriesForConsultantAgencies(
       Set<ConsultantAgency> consultantAgencies, RegistrationType registrationType) {
     List<Long> consultantAgencyIds = consultantAgencies.stream()
@@ -282,6 +314,41 @@ public class SessionService {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Retrieves one page of the related active sessions of given {@link Consultant} sorted by the
+   * date of the latest message descending. The latest message of the resulting
+   * {@link ConsultantSessionResponseDTO}s is set to the stored date of the latest message.
+   *
+   * @param consultant the consultant
+   * @param pageable   the page number and size to retrieve
+   * @return the requested {@link Page} of {@link ConsultantSessionResponseDTO}s
+   */
+  public Page<ConsultantSessionResponseDTO> getActiveSessionPageForConsultant(
+      Consultant consultant, Pageable pageable) {
+    return this.sessionRepository.findByConsultantAndStatus(consultant, SessionStatus.IN_PROGRESS,
+        withSort(pageable, Sort.by(Direction.DESC, "latestMessageDate")))
+        .map(session -> new SessionMapper().toConsultantSessionDto(session)
+            .latestMessage(nonNull(session.getLatestMessageDate())
+                ? Date.from(session.getLatestMessageDate().toInstant(ZoneOffset.UTC))
+                : Helper.UNIXTIME_0));
+  }
+
+  private Pageable withSort(Pageable pageable, Sort sort) {
+    return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+        sort.and(Sort.by("id")));
+  }
+
+  /**
+   * Stores the current date as date of the latest message for the session with the given
+   * Rocket.Chat group id. The date is written asynchronously by the
+   * {@link LatestMessageDateRecorder}.
+   *
+   * @param rcGroupId the Rocket.Chat group id
+   */
+  public void updateLatestMessageDate(String rcGroupId) {
+    this.latestMessageDateRecorder.record(rcGroupId);
+  }
+
   private List<UserSessionResponseDTO> convertToUserSessionResponseDTO(List<Session> sessions,
       List<AgencyDTO> agencies) {
     return sessions.stream()
@@ -3,9 +3,7 @@ package de.caritas.cob.userservice.api.service.sessionlist;
 import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
-import de.caritas.cob.userservice.api.container.RocketChatCredentials;
 import de.caritas.cob.userservice.api.container.RocketChatRoomInformation;
-import de.caritas.cob.userservice.api.facade.sessionlist.RocketChatRoomInformationProvider;
 import de.caritas.cob.userservice.api.helper.Helper;
 import de.caritas.cob.userservice.api.helper.SessionListAnalyser;
 import de.caritas.cob.userservice.api.model.ConsultantSessionResponseDTO;
@@ -26,28 +24,20 @@ import org.springframework.stereotype.Service;
 public class ConsultantChatEnricher {
 
   private final @NonNull SessionListAnalyser sessionListAnalyser;
-  private final @NonNull RocketChatRoomInformationProvider rocketChatRoomInformationProvider;
 
   /**
    * Enriches the given session with the following information from Rocket.Chat. - last message -
    * last message date - messages read
    *
    * @param consultantSessionResponseDTO the session to be enriched
-   * @param rcToken                      the Rocket.Chat authentiaction token of the current
+   * @param rocketChatRoomInformation    the {@link RocketChatRoomInformation} of the current
    *                                     consultant
    * @param consultant                   the {@link Consultant}
    * @return the enriched {@link ConsultantSessionResponseDTO}
    */
   public ConsultantSessionResponseDTO updateRequiredConsultantChatValues(
-      ConsultantSessionResponseDTO consultantSessionResponseDTO, String rcToken,
-      Consultant consultant) {
-
-    var rocketChatRoomInformation = this.rocketChatRoomInformationProvider
-        .retrieveRocketChatInformation(RocketChatCredentials.builder()
-            .rocketChatToken(rcToken)
-            .rocketChatUserId(consultant.getRocketChatId())
-            .build());
-
+      ConsultantSessionResponseDTO consultantSessionResponseDTO,
+      RocketChatRoomInformation rocketChatRoomInformation, Consultant consultant) {
     return updateRequiredChatValues(rocketChatRoomInformation, consultant.getRocketChatId(),
         consultantSessionResponseDTO);
   }
@@ -1,8 +1,6 @@
 package de.caritas.cob.userservice.api.service.sessionlist;
 
-import de.caritas.cob.userservice.api.container.RocketChatCredentials;
 import de.caritas.cob.userservice.api.container.RocketChatRoomInformation;
-import de.caritas.cob.userservice.api.facade.sessionlist.RocketChatRoomInformationProvider;
 import de.caritas.cob.userservice.api.helper.Helper;
 import de.caritas.cob.userservice.api.helper.SessionListAnalyser;
 import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeManager;
@@ -10,7 +8,6 @@ import de.caritas.cob.userservice.api.model.ConsultantSessionResponseDTO;
 import de.caritas.cob.userservice.api.model.SessionDTO;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
 import de.caritas.cob.userservice.api.repository.session.ConsultingType;
-import de.caritas.cob.userservice.api.service.sessionlist.AvailableLastMessageUpdater;
 import java.util.Optional;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -25,28 +22,22 @@ import org.springframework.stereotype.Service;
 public class ConsultantSessionEnricher {
 
   private final @NonNull SessionListAnalyser sessionListAnalyser;
-  private final @NonNull RocketChatRoomInformationProvider rocketChatRoomInformationProvider;
   private final @NonNull ConsultingTypeManager consultingTypeManager;
 
   /**
    * Enriches the given session with the following information from Rocket.Chat. "last message",
-   * "last message date", and "messages read".
+   * "last message date", and "messages read". The {@link RocketChatRoomInformation} is expected
+   * to be retrieved once per session list request and shared for all sessions of the list.
    *
    * @param consultantSessionResponseDTO the session to be enriched
-   * @param rcToken                      the Rocket.Chat authentiaction token of the current
+   * @param rocketChatRoomInformation    the {@link RocketChatRoomInformation} of the current
    *                                     consultant
    * @param consultant                   the {@link Consultant}
    * @return the enriched {@link ConsultantSessionResponseDTO}
    */
   public ConsultantSessionResponseDTO updateRequiredConsultantSessionValues(
-      ConsultantSessionResponseDTO consultantSessionResponseDTO, String rcToken,
-      Consultant consultant) {
-
-    var rocketChatRoomInformation = this.rocketChatRoomInformationProvider
-        .retrieveRocketChatInformation(RocketChatCredentials.builder()
-            .rocketChatToken(rcToken)
-            .rocketChatUserId(consultant.getRocketChatId())
-            .build());
+      ConsultantSessionResponseDTO consultantSessionResponseDTO,
+      RocketChatRoomInformation rocketChatRoomInformation, Consultant consultant) {
 
     SessionDTO session = consultantSessionResponseDTO.getSession();
     String groupId = session.getGroupId();
@@ -2,11 +2,15 @@ package de.caritas.cob.userservice.api.service.sessionlist;
 
 import static java.util.Collections.emptyList;
 import static java.util.Objects.nonNull;
+import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 
+import de.caritas.cob.userservice.api.container.RocketChatCredentials;
+import de.caritas.cob.userservice.api.container.RocketChatRoomInformation;
 import de.caritas.cob.userservice.api.container.SessionListQueryParameter;
 import de.caritas.cob.userservice.api.exception.httpresponses.BadRequestException;
+import de.caritas.cob.userservice.api.facade.sessionlist.RocketChatRoomInformationProvider;
 import de.caritas.cob.userservice.api.model.ConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.model.ConsultantSessionResponseDTO;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
@@ -21,6 +25,9 @@ import java.util.List;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
@@ -31,6 +38,7 @@ public class ConsultantSessionListService {
   private final @NonNull ChatService chatService;
   private final @NonNull ConsultantSessionEnricher consultantSessionEnricher;
   private final @NonNull ConsultantChatEnricher consultantChatEnricher;
+  private final @NonNull RocketChatRoomInformationProvider rocketChatRoomInformationProvider;
 
   /**
    * Returns a list of {@link ConsultantSessionResponseDTO} for the specified consultant id and
@@ -56,6 +64,81 @@ public class ConsultantSessionListService {
     return mergeConsultantSessionsAndChats(consultant, sessions, chats, rcAuthToken);
   }
 
+  /**
+   * Returns one page of the session list of the specified consultant. The sessions are sorted and
+   * paged by the database, so only the sessions of the requested page are enriched with
+   * Rocket.Chat data. Chats of the consultant are merged into the page by their latest message.
+   *
+   * @param consultant                {@link Consultant}
+   * @param rcAuthToken               Rocket.Chat Token
+   * @param sessionListQueryParameter session list query parameters as {@link SessionListQueryParameter}
+   * @return the response dto containing the requested page
+   */
+  public ConsultantSessionListResponseDTO retrieveSessionPageForAuthenticatedConsultant(
+      Consultant consultant, String rcAuthToken,
+      SessionListQueryParameter sessionListQueryParameter) {
+
+    var sessionStatus = getVerifiedSessionStatus(sessionListQueryParameter.getSessionStatus());
+    int offset = sessionListQueryParameter.getOffset();
+    int count = sessionListQueryParameter.getCount();
+
+    List<ConsultantSessionResponseDTO> chats = sessionStatus.equals(SessionStatus.IN_PROGRESS)
+        ? this.chatService.getChatsForConsultant(consultant) : emptyList();
+    RocketChatRoomInformation rocketChatRoomInformation = null;
+    List<ConsultantSessionResponseDTO> pageContent;
+    long totalSessions;
+
+    if (isEmpty(chats) && offset % count == 0) {
+      Page<ConsultantSessionResponseDTO> sessionPage = retrieveSessionPageForStatus(consultant,
+          sessionStatus, PageRequest.of(offset / count, count));
+      pageContent = sessionPage.getContent();
+      totalSessions = sessionPage.getTotalElements();
+    } else {
+      // the page does not start at a page boundary of the database or has to be merged with the
+      // chats, so all sessions up to the end of the requested page are loaded without enrichment
+      Page<ConsultantSessionResponseDTO> sessionPage = retrieveSessionPageForStatus(consultant,
+          sessionStatus, PageRequest.of(0, offset + count));
+      List<ConsultantSessionResponseDTO> sessionsAndChats = new ArrayList<>(
+          sessionPage.getContent());
+      if (isNotEmpty(chats)) {
+        rocketChatRoomInformation = retrieveRocketChatRoomInformation(rcAuthToken, consultant);
+        sessionsAndChats.addAll(
+            updateConsultantChatValues(chats, rocketChatRoomInformation, consultant));
+        sortSessionsByLastMessageDateDesc(sessionsAndChats);
+      }
+      pageContent = offset < sessionsAndChats.size()
+          ? sessionsAndChats.subList(offset, Math.min(offset + count, sessionsAndChats.size()))
+          : emptyList();
+      totalSessions = sessionPage.getTotalElements();
+    }
+
+    List<ConsultantSessionResponseDTO> sessionsOfPage = pageContent.stream()
+        .filter(sessionOrChat -> nonNull(sessionOrChat.getSession()))
+        .collect(Collectors.toList());
+    if (isNotEmpty(sessionsOfPage)) {
+      updateConsultantSessionValues(sessionsOfPage, nonNull(rocketChatRoomInformation)
+          ? rocketChatRoomInformation : retrieveRocketChatRoomInformation(rcAuthToken, consultant),
+          consultant);
+    }
+
+    return new ConsultantSessionListResponseDTO()
+        .sessions(pageContent)
+        .offset(offset)
+        .count(pageContent.size())
+        .total(Math.toIntExact(totalSessions) + chats.size());
+  }
+
+  private Page<ConsultantSessionResponseDTO> retrieveSessionPageForStatus(Consultant consultant,
+      SessionStatus sessionStatus, Pageable pageable) {
+    if (sessionStatus.equals(SessionStatus.NEW)) {
+      return this.sessionService.getEnquiryPageForConsultant(consultant, pageable);
+    }
+    if (sessionStatus.equals(SessionStatus.IN_PROGRESS)) {
+      return this.sessionService.getActiveSessionPageForConsultant(consultant, pageable);
+    }
+    return Page.empty(pageable);
+  }
+
   private List<ConsultantSessionResponseDTO> retrieveSessionsForStatus(Consultant consultant,
       Integer status) {
     var sessionStatus = getVerifiedSessionStatus(status);
@@ -91,7 +174,8 @@ public class ConsultantSessionListService {
     List<ConsultantSessionResponseDTO> teamSessions =
         sessionService.getTeamSessionsForConsultant(consultant);
 
-    updateConsultantSessionValues(teamSessions, rcAuthToken, consultant);
+    updateConsultantSessionValues(teamSessions,
+        retrieveRocketChatRoomInformation(rcAuthToken, consultant), consultant);
     sortSessionsByLastMessageDateDesc(teamSessions);
 
     if (sessionListQueryParameter.getSessionFilter().equals(SessionFilter.FEEDBACK)) {
@@ -105,19 +189,33 @@ public class ConsultantSessionListService {
       Consultant consultant, List<ConsultantSessionResponseDTO> sessions,
       List<ConsultantSessionResponseDTO> chats, String rcAuthToken) {
     List<ConsultantSessionResponseDTO> allSessions = new ArrayList<>();
+    if (isEmpty(sessions) && isEmpty(chats)) {
+      return allSessions;
+    }
+
+    var rocketChatRoomInformation = retrieveRocketChatRoomInformation(rcAuthToken, consultant);
 
     if (isNotEmpty(sessions)) {
       allSessions.addAll(
-          updateConsultantSessionValues(sessions, rcAuthToken, consultant));
+          updateConsultantSessionValues(sessions, rocketChatRoomInformation, consultant));
     }
 
     if (isNotEmpty(chats)) {
       allSessions.addAll(
-          updateConsultantChatValues(chats, rcAuthToken, consultant));
+          updateConsultantChatValues(chats, rocketChatRoomInformation, consultant));
     }
     return allSessions;
   }
 
+  private RocketChatRoomInformation retrieveRocketChatRoomInformation(String rcAuthToken,
+      Consultant consultant) {
+    return this.rocketChatRoomInformationProvider
+        .retrieveRocketChatInformation(RocketChatCredentials.builder()
+            .rocketChatToken(rcAuthToken)
+            .rocketChatUserId(consultant.getRocketChatId())
+            .build());
+  }
+
   private void sortSessionsByLastMessageDateDesc(List<ConsultantSessionResponseDTO> sessions) {
     sessions.sort(Comparator.comparing(ConsultantSessionResponseDTO::getLatestMessage).reversed());
   }
@@ -130,18 +228,21 @@ public class ConsultantSessionListService {
   }
 
   private List<ConsultantSessionResponseDTO> updateConsultantSessionValues(
-      List<ConsultantSessionResponseDTO> sessions, String rcAuthToken, Consultant consultant) {
+      List<ConsultantSessionResponseDTO> sessions,
+      RocketChatRoomInformation rocketChatRoomInformation, Consultant consultant) {
     return sessions.stream()
         .map(session -> this.consultantSessionEnricher
-            .updateRequiredConsultantSessionValues(session, rcAuthToken, consultant))
+            .updateRequiredConsultantSessionValues(session, rocketChatRoomInformation,
+                consultant))
         .collect(Collectors.toList());
   }
 
   private List<ConsultantSessionResponseDTO> updateConsultantChatValues(
-      List<ConsultantSessionResponseDTO> chats, String rcAuthToken, Consultant consultant) {
+      List<ConsultantSessionResponseDTO> chats,
+      RocketChatRoomInformation rocketChatRoomInformation, Consultant consultant) {
     return chats.stream()
         .map(chat -> this.consultantChatEnricher
-            .updateRequiredConsultantChatValues(chat, rcAuthToken, consultant))
+            .updateRequiredConsultantChatValues(chat, rocketChatRoomInformation, consultant))
         .collect(Collectors.toList());
   }
 
@@ -7,6 +7,7 @@ import de.caritas.cob.userservice.api.helper.AuthenticatedUser;
 import de.caritas.cob.userservice.api.helper.UsernameTranscoder;
 import de.caritas.cob.userservice.api.repository.user.User;
 import de.caritas.cob.userservice.api.repository.user.UserRepository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import lombok.NonNull;
@@ -67,6 +68,16 @@ public class UserService {
     return userRepository.findByUserIdAndDeleteDateIsNull(userId);
   }
 
+  /**
+   * Loads all not deleted {@link User}s with one of the given ids.
+   *
+   * @param userIds the ids of the users to search for
+   * @return a {@link List} containing the found {@link User}s
+   */
+  public List<User> getUsers(Collection<String> userIds) {
+    return userRepository.findByUserIdInAndDeleteDateIsNull(userIds);
+  }
+
   /**
    * Saves an {@link User} to the database.
    *
@@ -1,75 +1,82 @@
 package de.caritas.cob.userservice.api.service.user.anonymous;
 
-import static java.lang.Integer.parseInt;
-import static java.util.Collections.sort;
+import static de.caritas.cob.userservice.localdatetime.CustomLocalDateTime.nowInUtc;
+import static org.apache.commons.lang3.StringUtils.isNumeric;
+import static org.apache.commons.lang3.StringUtils.startsWith;
 import static org.apache.commons.lang3.StringUtils.substringAfter;
 
 import de.caritas.cob.userservice.api.helper.UsernameTranscoder;
+import de.caritas.cob.userservice.api.repository.anonymoususername.AnonymousUsernameFreeId;
+import de.caritas.cob.userservice.api.repository.anonymoususername.AnonymousUsernameFreeIdRepository;
 import de.caritas.cob.userservice.api.service.user.UserService;
-import java.util.LinkedList;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 /**
- * Registry to generate, hold and handle all current anonymous usernames.
+ * Registry to generate and release anonymous usernames. The numbers of deleted anonymous users
+ * are kept in the database and are claimed again with an atomic delete statement, new numbers are
+ * taken from a database sequence. This keeps the usernames unique across all instances without
+ * any lock in the application.
  */
 @Component
 @RequiredArgsConstructor
 public class AnonymousUsernameRegistry {
 
+  private static final int FREE_ID_CANDIDATES = 10;
+
   private final @NonNull UserService userService;
+  private final @NonNull AnonymousUsernameFreeIdRepository anonymousUsernameFreeIdRepository;
   private final UsernameTranscoder usernameTranscoder = new UsernameTranscoder();
 
   @Value("${anonymous.username.prefix}")
   private String usernamePrefix;
 
-  private static final LinkedList<Integer> ID_REGISTRY = new LinkedList<>();
-
   /**
    * Generates an unique anonymous username.
    *
    * @return encoded unique anonymous username
    */
-  public synchronized String generateUniqueUsername() {
+  public String generateUniqueUsername() {
 
     String username;
     do {
-      username = generateUsername();
-      ID_REGISTRY.add(obtainUsernameId(username));
+      username = usernamePrefix + obtainSmallestPossibleId();
     } while (isUsernameOccupied(username));
 
-
     return usernameTranscoder.encodeUsername(username);
   }
 
-  private String generateUsername() {
-    return usernamePrefix + obtainSmallestPossibleId();
-  }
-
-  private int obtainSmallestPossibleId() {
-
-    var smallestId = 1;
-    sort(ID_REGISTRY);
-
-    for (int i : ID_REGISTRY) {
-      if (smallestId < i) {
-        return smallestId;
-      }
-      smallestId = i + 1;
-    }
-
-    return smallestId;
+  private long obtainSmallestPossibleId() {
+    return anonymousUsernameFreeIdRepository
+        .findByOrderByIdAsc(PageRequest.of(0, FREE_ID_CANDIDATES)).stream()
+        .map(AnonymousUsernameFreeId::getId)
+        .filter(id -> anonymousUsernameFreeIdRepository.claimById(id) == 1)
+        .findFirst()
+        .orElseGet(anonymousUsernameFreeIdRepository::nextUnusedId);
   }
 
   private boolean isUsernameOccupied(String username) {
-    return userService.findUserByUsername(username)
-        .stream()
-        .count() > 0;
+    return userService.findUserByUsername(username).isPresent();
   }
 
-  private int obtainUsernameId(String username) {
-    return parseInt(substringAfter(username, usernamePrefix));
+  /**
+   * Releases the number of the given anonymous username, so that it can be assigned again.
+   * Usernames not generated by this registry are ignored.
+   *
+   * @param username the encoded or decoded username of a deleted user
+   */
+  public void releaseUsername(String username) {
+    if (username == null) {
+      return;
+    }
+    String decodedUsername = usernameTranscoder.decodeUsername(username);
+    String usernameId = substringAfter(decodedUsername, usernamePrefix);
+    if (startsWith(decodedUsername, usernamePrefix) && isNumeric(usernameId)) {
+      anonymousUsernameFreeIdRepository.save(
+          new AnonymousUsernameFreeId(Long.parseLong(usernameId), nowInUtc()));
+    }
   }
 }
@@ -4,12 +4,14 @@ import de.caritas.cob.userservice.api.admin.service.consultant.ConsultantReindex
 import javax.persistence.EntityManagerFactory;
 import org.hibernate.search.jpa.FullTextEntityManager;
 import org.hibernate.search.jpa.Search;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.context.annotation.PropertySources;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
@@ -37,8 +39,9 @@ public class AppConfig {
     return validatorFactoryBean;
   }
 
-  // RestTemplate Bean
+  // RestTemplate Bean, primary because the Rocket.Chat services have their own RestTemplate
   @Bean
+  @Primary
   public RestTemplate restTemplate(RestTemplateBuilder builder) {
     return builder.build();
   }
@@ -46,13 +49,20 @@ public class AppConfig {
   /**
    * Builds an indexer for hibernate search.
    *
-   * @param entityManagerFactory the manager factory bean
-   * @return an {@link AgencyReindexer} used to reindex entities
+   * @param entityManagerFactory   the manager factory bean
+   * @param batchSizeToLoadObjects the number of entities loaded per batch
+   * @param threadsToLoadObjects   the number of threads loading the entities
+   * @param waitForIndexing        true if the startup waits until all entities are indexed
+   * @return an {@link ConsultantReindexer} used to reindex entities
    */
   @Bean
-  public ConsultantReindexer consultantReindexer(EntityManagerFactory entityManagerFactory) {
+  public ConsultantReindexer consultantReindexer(EntityManagerFactory entityManagerFactory,
+      @Value("${consultant.index.batchSizeToLoadObjects}") int batchSizeToLoadObjects,
+      @Value("${consultant.index.threadsToLoadObjects}") int threadsToLoadObjects,
+      @Value("${consultant.index.waitOnStartup}") boolean waitForIndexing) {
     FullTextEntityManager manager =
         Search.getFullTextEntityManager(entityManagerFactory.createEntityManager());
-    return new ConsultantReindexer(manager);
+    return new ConsultantReindexer(manager, batchSizeToLoadObjects, threadsToLoadObjects,
+        waitForIndexing);
   }
 }
@@ -24,7 +24,28 @@ public class CachingConfig {
   @Value("${cache.agencies.configuration.timeToLiveSeconds}")
   private long timeToLiveSeconds;
 
+  @Value("${cache.rcuseraccountids.configuration.maxEntriesLocalHeap}")
+  private long rcUserAccountIdsMaxEntriesLocalHeap;
+
+  @Value("${cache.rcuseraccountids.configuration.timeToLiveSeconds}")
+  private long rcUserAccountIdsTimeToLiveSeconds;
+
+  @Value("${cache.rcusernoaccountids.configuration.maxEntriesLocalHeap}")
+  private long rcUserNoAccountIdsMaxEntriesLocalHeap;
+
+  @Value("${cache.rcusernoaccountids.configuration.timeToLiveSeconds}")
+  private long rcUserNoAccountIdsTimeToLiveSeconds;
+
+  @Value("${cache.rolemembers.configuration.maxEntriesLocalHeap}")
+  private long roleMembersMaxEntriesLocalHeap;
+
+  @Value("${cache.rolemembers.configuration.timeToLiveSeconds}")
+  private long roleMembersTimeToLiveSeconds;
+
   public static final String AGENCY_CACHE = "agencyCache";
+  public static final String RC_USER_ACCOUNT_ID_CACHE = "rcUserAccountIdCache";
+  public static final String RC_USER_NO_ACCOUNT_ID_CACHE = "rcUserNoAccountIdCache";
+  public static final String ROLE_MEMBER_CACHE = "roleMemberCache";
 
   @Bean(destroyMethod = "shutdown")
   public net.sf.ehcache.CacheManager ehCacheManager() {
@@ -34,8 +55,32 @@ public class CachingConfig {
     cacheConfiguration.setEternal(eternal);
     cacheConfiguration.setTimeToIdleSeconds(timeToIdleSeconds);
     cacheConfiguration.setTimeToLiveSeconds(timeToLiveSeconds);
+
+    CacheConfiguration rcUserAccountIdCacheConfiguration = new CacheConfiguration();
+    rcUserAccountIdCacheConfiguration.setName(RC_USER_ACCOUNT_ID_CACHE);
+    rcUserAccountIdCacheConfiguration.setMaxEntriesLocalHeap(rcUserAccountIdsMaxEntriesLocalHeap);
+    rcUserAccountIdCacheConfiguration.setEternal(false);
+    rcUserAccountIdCacheConfiguration.setTimeToLiveSeconds(rcUserAccountIdsTimeToLiveSeconds);
+
+    CacheConfiguration rcUserNoAccountIdCacheConfiguration = new CacheConfiguration();
+    rcUserNoAccountIdCacheConfiguration.setName(RC_USER_NO_ACCOUNT_ID_CACHE);
+    rcUserNoAccountIdCacheConfiguration
+        .setMaxEntriesLocalHeap(rcUserNoAccountIdsMaxEntriesLocalHeap);
+    rcUserNoAccountIdCacheConfiguration.setEternal(false);
+    rcUserNoAccountIdCacheConfiguration
+        .setTimeToLiveSeconds(rcUserNoAccountIdsTimeToLiveSeconds);
+
+    CacheConfiguration roleMemberCacheConfiguration = new CacheConfiguration();
+    roleMemberCacheConfiguration.setName(ROLE_MEMBER_CACHE);
+    roleMemberCacheConfiguration.setMaxEntriesLocalHeap(roleMembersMaxEntriesLocalHeap);
+    roleMemberCacheConfiguration.setEternal(false);
+    roleMemberCacheConfiguration.setTimeToLiveSeconds(roleMembersTimeToLiveSeconds);
+
     net.sf.ehcache.config.Configuration config = new net.sf.ehcache.config.Configuration();
     config.addCache(cacheConfiguration);
+    config.addCache(rcUserAccountIdCacheConfiguration);
+    config.addCache(rcUserNoAccountIdCacheConfiguration);
+    config.addCache(roleMemberCacheConfiguration);
 
     return net.sf.ehcache.CacheManager.newInstance(config);
   }
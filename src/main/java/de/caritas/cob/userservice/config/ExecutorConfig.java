@@ -0,0 +1,108 @@
+package de.caritas.cob.userservice.config;
+
+import de.caritas.cob.userservice.api.service.importjob.ImportType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Provides the executors of the scheduled background jobs. Each job gets one executor for the
+ * lifetime of the service, so runs do not create and tear down their own thread pools. The
+ * executors are shut down with the application context. Beans using an executor select it by
+ * {@link Qualifier} with one of the bean name constants, because several executors exist.
+ */
+@Configuration
+public class ExecutorConfig {
+
+  public static final String VIOLATION_REPORT_EXECUTOR = "violationReportExecutor";
+  public static final String DELETE_WORKFLOW_EXECUTOR = "deleteWorkflowExecutor";
+  public static final String ROCKET_CHAT_GROUP_OPERATIONS_EXECUTOR =
+      "rocketChatGroupOperationsExecutor";
+  public static final String ASKER_IMPORT_EXECUTOR = "askerImportExecutor";
+  public static final String ASKER_IMPORT_WORKER_EXECUTOR = "askerImportWorkerExecutor";
+  public static final String CONSULTANT_IMPORT_EXECUTOR = "consultantImportExecutor";
+
+  /**
+   * Executor to fetch the Rocket.Chat rooms of consultants for the violation report.
+   *
+   * @param concurrency the maximum number of concurrent fetches
+   * @return the {@link ThreadPoolTaskExecutor}
+   */
+  @Bean(VIOLATION_REPORT_EXECUTOR)
+  public ThreadPoolTaskExecutor violationReportExecutor(
+      @Value("${violation.report.missingRooms.concurrency}") int concurrency) {
+    return buildFixedSizeExecutor(concurrency, "ViolationReport-");
+  }
+
+  /**
+   * Executor to delete the accounts of one page of the delete workflow.
+   *
+   * @param concurrency the maximum number of concurrent deletions
+   * @return the {@link ThreadPoolTaskExecutor}
+   */
+  @Bean(DELETE_WORKFLOW_EXECUTOR)
+  public ThreadPoolTaskExecutor deleteWorkflowExecutor(
+      @Value("${user.account.deleteworkflow.concurrency}") int concurrency) {
+    return buildFixedSizeExecutor(concurrency, "DeleteWorkflow-");
+  }
+
+  /**
+   * Executor to run the operations of independent Rocket.Chat groups concurrently.
+   *
+   * @param concurrency the maximum number of groups processed at the same time
+   * @return the {@link ThreadPoolTaskExecutor}
+   */
+  @Bean(ROCKET_CHAT_GROUP_OPERATIONS_EXECUTOR)
+  public ThreadPoolTaskExecutor rocketChatGroupOperationsExecutor(
+      @Value("${rocket.chat.group.operations.concurrency}") int concurrency) {
+    return buildFixedSizeExecutor(concurrency, "RocketChatGroup-");
+  }
+
+  /**
+   * Executor to run the asker import jobs in the background. One thread per {@link ImportType} is
+   * enough, because only one job of each type runs at the same time.
+   *
+   * @return the {@link ThreadPoolTaskExecutor}
+   */
+  @Bean(ASKER_IMPORT_EXECUTOR)
+  public ThreadPoolTaskExecutor askerImportExecutor() {
+    return buildFixedSizeExecutor(ImportType.values().length, "AskerImport-");
+  }
+
+  /**
+   * Executor to import the records of one chunk of an asker import.
+   *
+   * @param concurrency the maximum number of records imported at the same time
+   * @return the {@link ThreadPoolTaskExecutor}
+   */
+  @Bean(ASKER_IMPORT_WORKER_EXECUTOR)
+  public ThreadPoolTaskExecutor askerImportWorkerExecutor(
+      @Value("${asker.import.concurrency}") int concurrency) {
+    return buildFixedSizeExecutor(concurrency, "AskerImportWorker-");
+  }
+
+  /**
+   * Executor to create the Keycloak and Rocket.Chat accounts of the consultant import.
+   *
+   * @param concurrency the maximum number of accounts created at the same time
+   * @return the {@link ThreadPoolTaskExecutor}
+   */
+  @Bean(CONSULTANT_IMPORT_EXECUTOR)
+  public ThreadPoolTaskExecutor consultantImportExecutor(
+      @Value("${consultant.import.concurrency}") int concurrency) {
+    return buildFixedSizeExecutor(concurrency, "ConsultantImport-");
+  }
+
+  private ThreadPoolTaskExecutor buildFixedSizeExecutor(int poolSize, String threadNamePrefix) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setThreadNamePrefix(threadNamePrefix);
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.initialize();
+    return executor;
+  }
+
+}
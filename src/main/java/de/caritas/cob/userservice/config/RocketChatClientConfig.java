@@ -0,0 +1,108 @@
+package de.caritas.cob.userservice.config;
+
+import static java.util.Objects.nonNull;
+
+import de.caritas.cob.userservice.api.service.rocketchat.client.RocketChatBulkheadInterceptor;
+import de.caritas.cob.userservice.api.service.rocketchat.client.RocketChatEndpointRequestFactory;
+import de.caritas.cob.userservice.api.service.rocketchat.client.RocketChatMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Configuration of the http client used for all Rocket.Chat calls.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class RocketChatClientConfig {
+
+  public static final String ROCKET_CHAT_REST_TEMPLATE = "rocketChatRestTemplate";
+
+  private final @NonNull RocketChatClientProperties properties;
+
+  /**
+   * Request factory with a pooled http client and endpoint specific timeouts for Rocket.Chat.
+   *
+   * @return the {@link RocketChatEndpointRequestFactory}
+   */
+  @Bean
+  public RocketChatEndpointRequestFactory rocketChatRequestFactory() {
+    PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+    connectionManager.setMaxTotal(this.properties.getMaxConnections());
+    connectionManager.setDefaultMaxPerRoute(this.properties.getMaxConnections());
+
+    RequestConfig defaultRequestConfig = RequestConfig.custom()
+        .setConnectTimeout(this.properties.getConnectTimeoutMillis())
+        .setSocketTimeout(this.properties.getReadTimeoutMillis())
+        .setConnectionRequestTimeout((int) this.properties.getBulkheadWaitMillis())
+        .build();
+
+    CloseableHttpClient httpClient = HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(defaultRequestConfig)
+        .setKeepAliveStrategy((response, context) -> {
+          long keepAliveByServer = DefaultConnectionKeepAliveStrategy.INSTANCE
+              .getKeepAliveDuration(response, context);
+          return keepAliveByServer > 0 ? keepAliveByServer : this.properties.getKeepAliveMillis();
+        })
+        .evictExpiredConnections()
+        .evictIdleConnections(this.properties.getKeepAliveMillis(), TimeUnit.MILLISECONDS)
+        .disableCookieManagement()
+        .build();
+
+    Map<String, RequestConfig> requestConfigsByEndpoint = this.properties.getEndpoints()
+        .entrySet().stream()
+        .collect(Collectors.toMap(Entry::getKey,
+            entry -> endpointRequestConfig(defaultRequestConfig, entry.getValue())));
+    return new RocketChatEndpointRequestFactory(httpClient, requestConfigsByEndpoint);
+  }
+
+  private RequestConfig endpointRequestConfig(RequestConfig defaultRequestConfig,
+      RocketChatClientProperties.Endpoint endpoint) {
+    RequestConfig.Builder builder = RequestConfig.copy(defaultRequestConfig);
+    if (nonNull(endpoint.getConnectTimeoutMillis())) {
+      builder.setConnectTimeout(endpoint.getConnectTimeoutMillis());
+    }
+    if (nonNull(endpoint.getReadTimeoutMillis())) {
+      builder.setSocketTimeout(endpoint.getReadTimeoutMillis());
+    }
+    return builder.build();
+  }
+
+  /**
+   * RestTemplate for all Rocket.Chat calls. Concurrent calls are capped and each call is timed per
+   * endpoint. The Rocket.Chat services select it by {@link
+   * org.springframework.beans.factory.annotation.Qualifier} with {@link #ROCKET_CHAT_REST_TEMPLATE},
+   * all other beans get the primary {@link RestTemplate}.
+   *
+   * @param restTemplateBuilder      the {@link RestTemplateBuilder}
+   * @param rocketChatRequestFactory the {@link RocketChatEndpointRequestFactory}
+   * @param meterRegistry            the {@link MeterRegistry}
+   * @return the Rocket.Chat {@link RestTemplate}
+   */
+  @Bean(ROCKET_CHAT_REST_TEMPLATE)
+  public RestTemplate rocketChatRestTemplate(RestTemplateBuilder restTemplateBuilder,
+      RocketChatEndpointRequestFactory rocketChatRequestFactory, MeterRegistry meterRegistry) {
+    return restTemplateBuilder
+        .requestFactory(() -> rocketChatRequestFactory)
+        .additionalInterceptors(
+            new RocketChatBulkheadInterceptor(this.properties.getMaxConcurrentCalls(),
+                this.properties.getBulkheadWaitMillis(), meterRegistry),
+            new RocketChatMetricsInterceptor(meterRegistry))
+        .build();
+  }
+
+}
@@ -0,0 +1,37 @@
+package de.caritas.cob.userservice.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings of the http client used for all Rocket.Chat calls.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "rocket.chat.client")
+public class RocketChatClientProperties {
+
+  private int maxConnections;
+  private int maxConcurrentCalls;
+  private long bulkheadWaitMillis;
+  private int connectTimeoutMillis;
+  private int readTimeoutMillis;
+  private long keepAliveMillis;
+  private Map<String, Endpoint> endpoints = new HashMap<>();
+
+  /**
+   * Timeouts of a single Rocket.Chat endpoint, overriding the default timeouts if set.
+   */
+  @Getter
+  @Setter
+  public static class Endpoint {
+    private Integer connectTimeoutMillis;
+    private Integer readTimeoutMillis;
+  }
+
+}
@@ -80,7 +80,7 @@ public class SecurityConfig extends KeycloakWebSecurityConfigurerAdapter {
             Authority.ASSIGN_CONSULTANT_TO_SESSION)
         .antMatchers("/users/consultants").hasAuthority(Authority.VIEW_AGENCY_CONSULTANTS)
         .antMatchers("/users/consultants/import", "/users/askers/import",
-            "/users/askersWithoutSession/import")
+            "/users/askers/import/{jobId:[0-9A-Za-z-]+}", "/users/askersWithoutSession/import")
         .hasAuthority(Authority.TECHNICAL_DEFAULT)
         .antMatchers("/liveproxy/send")
         .hasAnyAuthority(Authority.USER_DEFAULT, Authority.CONSULTANT_DEFAULT)
@@ -93,7 +93,9 @@ public class SecurityConfig extends KeycloakWebSecurityConfigurerAdapter {
         .hasAuthority(Authority.UPDATE_CHAT).antMatchers("/useradmin", "/useradmin/**")
         .hasAuthority(Authority.USER_ADMIN)
         .antMatchers("/users/consultants/sessions/{sessionId:[0-9]+}")
-        .hasAuthority(Authority.CONSULTANT_DEFAULT).anyRequest().denyAll();
+        .hasAuthority(Authority.CONSULTANT_DEFAULT)
+        .antMatchers("/actuator/prometheus").hasAuthority(Authority.TECHNICAL_DEFAULT)
+        .anyRequest().denyAll();
   }
 
   /**
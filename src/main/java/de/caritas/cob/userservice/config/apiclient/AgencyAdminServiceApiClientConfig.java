@@ -2,6 +2,8 @@ package de.caritas.cob.userservice.config.apiclient;
 
 import de.caritas.cob.userservice.agencyadminserivce.generated.ApiClient;
 import de.caritas.cob.userservice.agencyadminserivce.generated.web.AdminAgencyControllerApi;
+import de.caritas.cob.userservice.api.service.securityheader.SecurityHeaderInterceptor;
+import de.caritas.cob.userservice.api.service.securityheader.SecurityHeaderSupplier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
@@ -31,12 +33,16 @@ public class AgencyAdminServiceApiClientConfig {
   /**
    * AgencyAdminService API client bean.
    *
-   * @param restTemplate {@link RestTemplate}
+   * @param restTemplateFactory    {@link ServiceApiRestTemplateFactory}
+   * @param securityHeaderSupplier {@link SecurityHeaderSupplier}
    * @return the AgencyAdminService {@link ApiClient}
    */
   @Bean
   @Primary
-  public ApiClient adminAgencyApiClient(RestTemplate restTemplate) {
+  public ApiClient adminAgencyApiClient(ServiceApiRestTemplateFactory restTemplateFactory,
+      SecurityHeaderSupplier securityHeaderSupplier) {
+    RestTemplate restTemplate = restTemplateFactory.create(
+        new SecurityHeaderInterceptor(securityHeaderSupplier::getKeycloakAndCsrfHttpHeaders));
     return new ApiClient(restTemplate).setBasePath(this.agencyAdminServiceApiUrl);
   }
 
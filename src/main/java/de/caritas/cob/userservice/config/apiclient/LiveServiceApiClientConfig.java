@@ -6,7 +6,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
-import org.springframework.web.client.RestTemplate;
 
 /**
  * Configuration class for the LiveService API client.
@@ -31,13 +30,13 @@ public class LiveServiceApiClientConfig {
   /**
    * LiveService API client bean.
    *
-   * @param restTemplate {@link RestTemplate}
+   * @param restTemplateFactory {@link ServiceApiRestTemplateFactory}
    * @return the LiveService {@link ApiClient}
    */
   @Bean
   @Primary
-  public ApiClient liveServiceApiClient(RestTemplate restTemplate) {
-    return new ApiClient(restTemplate).setBasePath(this.liveServiceApiUrl);
+  public ApiClient liveServiceApiClient(ServiceApiRestTemplateFactory restTemplateFactory) {
+    return new ApiClient(restTemplateFactory.create()).setBasePath(this.liveServiceApiUrl);
   }
 
 }
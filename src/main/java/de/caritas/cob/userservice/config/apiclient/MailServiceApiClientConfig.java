@@ -1,5 +1,7 @@
 package de.caritas.cob.userservice.config.apiclient;
 
+import de.caritas.cob.userservice.api.service.securityheader.SecurityHeaderInterceptor;
+import de.caritas.cob.userservice.api.service.securityheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.mailservice.generated.ApiClient;
 import de.caritas.cob.userservice.mailservice.generated.web.MailsControllerApi;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,7 +23,10 @@ public class MailServiceApiClientConfig {
 
   @Bean
   @Primary
-  public ApiClient mailServiceApiClient(RestTemplate restTemplate) {
+  public ApiClient mailServiceApiClient(ServiceApiRestTemplateFactory restTemplateFactory,
+      SecurityHeaderSupplier securityHeaderSupplier) {
+    RestTemplate restTemplate = restTemplateFactory
+        .create(new SecurityHeaderInterceptor(securityHeaderSupplier::getCsrfHttpHeaders));
     return new ApiClient(restTemplate).setBasePath(this.mailServiceApiUrl);
   }
 
@@ -1,5 +1,7 @@
 package de.caritas.cob.userservice.config.apiclient;
 
+import de.caritas.cob.userservice.api.service.securityheader.SecurityHeaderInterceptor;
+import de.caritas.cob.userservice.api.service.securityheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.messageservice.generated.ApiClient;
 import de.caritas.cob.userservice.messageservice.generated.web.MessageControllerApi;
 import org.springframework.beans.factory.annotation.Value;
@@ -31,12 +33,16 @@ public class MessageServiceApiClientConfig {
   /**
    * MessageService API client bean.
    *
-   * @param restTemplate {@link RestTemplate}
+   * @param restTemplateFactory    {@link ServiceApiRestTemplateFactory}
+   * @param securityHeaderSupplier {@link SecurityHeaderSupplier}
    * @return the MessageService {@link ApiClient}
    */
   @Bean
   @Primary
-  public ApiClient messageServiceApiClient(RestTemplate restTemplate) {
+  public ApiClient messageServiceApiClient(ServiceApiRestTemplateFactory restTemplateFactory,
+      SecurityHeaderSupplier securityHeaderSupplier) {
+    RestTemplate restTemplate = restTemplateFactory.create(
+        new SecurityHeaderInterceptor(securityHeaderSupplier::getKeycloakAndCsrfHttpHeaders));
     return new ApiClient(restTemplate).setBasePath(this.messageServiceApiUrl);
   }
 }
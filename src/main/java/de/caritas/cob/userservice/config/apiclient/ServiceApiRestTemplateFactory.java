@@ -0,0 +1,107 @@
+package de.caritas.cob.userservice.config.apiclient;
+
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Factory for the {@link RestTemplate} instances of the generated service API clients. All
+ * created templates share one pooled HTTP client, so connections to the services are kept alive
+ * and reused across the clients.
+ */
+@Component
+@RequiredArgsConstructor
+public class ServiceApiRestTemplateFactory {
+
+  @Value("${service.api.client.pool.maxTotal}")
+  private int maxTotalConnections;
+
+  @Value("${service.api.client.pool.maxPerRoute}")
+  private int maxConnectionsPerRoute;
+
+  @Value("${service.api.client.connectTimeoutMillis}")
+  private int connectTimeoutMillis;
+
+  @Value("${service.api.client.connectionRequestTimeoutMillis}")
+  private int connectionRequestTimeoutMillis;
+
+  @Value("${service.api.client.socketTimeoutMillis}")
+  private int socketTimeoutMillis;
+
+  @Value("${service.api.client.keepAliveMillis}")
+  private long keepAliveMillis;
+
+  private final @NonNull RestTemplateBuilder restTemplateBuilder;
+
+  private HttpComponentsClientHttpRequestFactory requestFactory;
+
+  /**
+   * Builds the pooled HTTP client shared by all created {@link RestTemplate} instances.
+   */
+  @PostConstruct
+  public void initialize() {
+    PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+    connectionManager.setMaxTotal(this.maxTotalConnections);
+    connectionManager.setDefaultMaxPerRoute(this.maxConnectionsPerRoute);
+
+    RequestConfig requestConfig = RequestConfig.custom()
+        .setConnectTimeout(this.connectTimeoutMillis)
+        .setConnectionRequestTimeout(this.connectionRequestTimeoutMillis)
+        .setSocketTimeout(this.socketTimeoutMillis)
+        .build();
+
+    CloseableHttpClient httpClient = HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(requestConfig)
+        .setKeepAliveStrategy(keepAliveStrategy())
+        .evictExpiredConnections()
+        .evictIdleConnections(this.keepAliveMillis, TimeUnit.MILLISECONDS)
+        .disableCookieManagement()
+        .build();
+    this.requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+  }
+
+  private ConnectionKeepAliveStrategy keepAliveStrategy() {
+    return (response, context) -> {
+      long keepAliveByServer = DefaultConnectionKeepAliveStrategy.INSTANCE
+          .getKeepAliveDuration(response, context);
+      return keepAliveByServer > 0 ? keepAliveByServer : this.keepAliveMillis;
+    };
+  }
+
+  /**
+   * Creates a new {@link RestTemplate} using the shared pooled HTTP client.
+   *
+   * @param interceptors the {@link ClientHttpRequestInterceptor}s applied to each request
+   * @return the created {@link RestTemplate}
+   */
+  public RestTemplate create(ClientHttpRequestInterceptor... interceptors) {
+    return this.restTemplateBuilder
+        .requestFactory(() -> this.requestFactory)
+        .additionalInterceptors(interceptors)
+        .build();
+  }
+
+  /**
+   * Closes the shared HTTP client and all of its pooled connections.
+   */
+  @PreDestroy
+  public void destroy() throws Exception {
+    this.requestFactory.destroy();
+  }
+
+}
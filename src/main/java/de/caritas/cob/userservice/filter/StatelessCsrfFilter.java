@@ -9,14 +9,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.access.AccessDeniedHandlerImpl;
@@ -57,18 +55,30 @@ public class StatelessCsrfFilter extends OncePerRequestFilter {
 
   private String retrieveCsrfCookieValue(HttpServletRequest request) {
     final Cookie[] cookies = request.getCookies();
-    return isNull(cookies) ? null : Stream.of(cookies)
-        .filter(cookie -> cookie.getName()
-            .equals(this.csrfSecurityProperties.getCookie().getProperty()))
-        .map(Cookie::getValue)
-        .findFirst()
-        .orElse(null);
+    if (isNull(cookies)) {
+      return null;
+    }
+    String csrfCookieName = this.csrfSecurityProperties.getCookie().getProperty();
+    for (Cookie cookie : cookies) {
+      if (cookie.getName().equals(csrfCookieName)) {
+        return cookie.getValue();
+      }
+    }
+    return null;
   }
 
-  @RequiredArgsConstructor
   private static final class DefaultRequiresCsrfMatcher implements RequestMatcher {
     private final Pattern allowedMethods = Pattern.compile("^(HEAD|TRACE|OPTIONS)$");
-    private final @NonNull CsrfSecurityProperties csrfSecurityProperties;
+    private final CsrfSecurityProperties csrfSecurityProperties;
+    private final SubstringWhitelistMatcher whitelistUriMatcher;
+
+    private DefaultRequiresCsrfMatcher(@NonNull CsrfSecurityProperties csrfSecurityProperties) {
+      this.csrfSecurityProperties = csrfSecurityProperties;
+      List<String> csrfWhitelist = new ArrayList<>(
+          Arrays.asList(csrfSecurityProperties.getWhitelist().getConfigUris()));
+      csrfWhitelist.addAll(Arrays.asList(csrfSecurityProperties.getWhitelist().getAdminUris()));
+      this.whitelistUriMatcher = new SubstringWhitelistMatcher(csrfWhitelist);
+    }
 
     @Override
     public boolean matches(HttpServletRequest request) {
@@ -76,11 +86,7 @@ public class StatelessCsrfFilter extends OncePerRequestFilter {
     }
 
     private boolean isWhiteListUrl(HttpServletRequest request) {
-      List<String> csrfWhitelist = new ArrayList<>(
-          Arrays.asList(csrfSecurityProperties.getWhitelist().getConfigUris()));
-      csrfWhitelist.addAll(Arrays.asList(csrfSecurityProperties.getWhitelist().getAdminUris()));
-      return csrfWhitelist.parallelStream()
-          .anyMatch(request.getRequestURI().toLowerCase()::contains);
+      return this.whitelistUriMatcher.isContainedIn(request.getRequestURI().toLowerCase());
     }
 
     private boolean isWhiteListHeader(HttpServletRequest request) {
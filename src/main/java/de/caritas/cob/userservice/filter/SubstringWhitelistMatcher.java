@@ -0,0 +1,133 @@
+package de.caritas.cob.userservice.filter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Matcher to check if a text contains at least one of the configured patterns. The patterns are
+ * compiled once into an Aho-Corasick automaton, so a check reads every character of the text only
+ * once, independent of the number of patterns, and does not allocate any objects.
+ */
+final class SubstringWhitelistMatcher {
+
+  private static final int ROOT = 0;
+  private static final int UNKNOWN_CHARACTER = 0;
+
+  private final int[] characterColumns;
+  private final int[][] transitions;
+  private final boolean[] accepting;
+
+  /**
+   * Compiles the given patterns.
+   *
+   * @param patterns the patterns to search for
+   */
+  SubstringWhitelistMatcher(Collection<String> patterns) {
+    this.characterColumns = buildCharacterColumns(patterns);
+    int columnCount = Arrays.stream(this.characterColumns).max().orElse(UNKNOWN_CHARACTER) + 1;
+
+    List<int[]> gotoFunction = new ArrayList<>();
+    List<Boolean> output = new ArrayList<>();
+    gotoFunction.add(newState(columnCount));
+    output.add(false);
+    for (String pattern : patterns) {
+      int state = ROOT;
+      for (int i = 0; i < pattern.length(); i++) {
+        int column = this.characterColumns[pattern.charAt(i)];
+        if (gotoFunction.get(state)[column] == -1) {
+          gotoFunction.get(state)[column] = gotoFunction.size();
+          gotoFunction.add(newState(columnCount));
+          output.add(false);
+        }
+        state = gotoFunction.get(state)[column];
+      }
+      output.set(state, true);
+    }
+
+    this.transitions = gotoFunction.toArray(new int[0][]);
+    this.accepting = new boolean[output.size()];
+    for (int state = 0; state < output.size(); state++) {
+      this.accepting[state] = output.get(state);
+    }
+    buildFailureTransitions(columnCount);
+  }
+
+  private static int[] buildCharacterColumns(Collection<String> patterns) {
+    int maxCharacter = patterns.stream()
+        .flatMapToInt(String::chars)
+        .max()
+        .orElse(0);
+    int[] columns = new int[maxCharacter + 1];
+    int nextColumn = 1;
+    for (String pattern : patterns) {
+      for (int i = 0; i < pattern.length(); i++) {
+        if (columns[pattern.charAt(i)] == UNKNOWN_CHARACTER) {
+          columns[pattern.charAt(i)] = nextColumn++;
+        }
+      }
+    }
+    return columns;
+  }
+
+  private static int[] newState(int columnCount) {
+    int[] state = new int[columnCount];
+    Arrays.fill(state, -1);
+    return state;
+  }
+
+  private void buildFailureTransitions(int columnCount) {
+    int[] failure = new int[this.transitions.length];
+    Deque<Integer> queue = new ArrayDeque<>();
+    for (int column = 0; column < columnCount; column++) {
+      int next = this.transitions[ROOT][column];
+      if (next == -1) {
+        this.transitions[ROOT][column] = ROOT;
+      } else {
+        failure[next] = ROOT;
+        queue.add(next);
+      }
+    }
+    while (!queue.isEmpty()) {
+      int state = queue.poll();
+      this.accepting[state] |= this.accepting[failure[state]];
+      for (int column = 0; column < columnCount; column++) {
+        int next = this.transitions[state][column];
+        if (next == -1) {
+          this.transitions[state][column] = this.transitions[failure[state]][column];
+        } else {
+          failure[next] = this.transitions[failure[state]][column];
+          queue.add(next);
+        }
+      }
+    }
+  }
+
+  /**
+   * Checks if the given text contains at least one of the patterns.
+   *
+   * @param text the text to check
+   * @return true if one of the patterns is a substring of the text
+   */
+  boolean isContainedIn(String text) {
+    int state = ROOT;
+    if (this.accepting[state]) {
+      return true;
+    }
+    for (int i = 0; i < text.length(); i++) {
+      char character = text.charAt(i);
+      int column =
+          character < this.characterColumns.length ? this.characterColumns[character]
+              : UNKNOWN_CHARACTER;
+      state = this.transitions[state][column];
+      if (this.accepting[state]) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
@@ -0,0 +1,3 @@
+DROP INDEX `idx_consultant_id_status_latest_message_date` ON `userservice`.`session`;
+ALTER TABLE `userservice`.`session`
+DROP `latest_message_date`;
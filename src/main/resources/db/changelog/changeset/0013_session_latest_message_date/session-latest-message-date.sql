@@ -0,0 +1,5 @@
+ALTER TABLE `userservice`.`session`
+ADD `latest_message_date` datetime NULL AFTER `message_date`;
+UPDATE `userservice`.`session` SET `latest_message_date` = `message_date`;
+CREATE INDEX `idx_consultant_id_status_latest_message_date`
+    ON `userservice`.`session` (`consultant_id`, `status`, `latest_message_date`);
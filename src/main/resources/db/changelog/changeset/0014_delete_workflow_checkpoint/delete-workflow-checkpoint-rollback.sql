@@ -0,0 +1 @@
+DROP TABLE `userservice`.`delete_workflow_checkpoint`;
\ No newline at end of file
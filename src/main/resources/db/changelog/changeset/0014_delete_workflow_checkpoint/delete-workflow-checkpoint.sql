@@ -0,0 +1,6 @@
+CREATE TABLE `userservice`.`delete_workflow_checkpoint` (
+  `source_type` varchar(20) COLLATE utf8_unicode_ci NOT NULL,
+  `last_processed_id` varchar(36) COLLATE utf8_unicode_ci NOT NULL,
+  `update_date` datetime DEFAULT NULL,
+  PRIMARY KEY (`source_type`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE=utf8_unicode_ci;
\ No newline at end of file
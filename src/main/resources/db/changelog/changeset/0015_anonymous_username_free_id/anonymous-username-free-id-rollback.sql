@@ -0,0 +1,2 @@
+DROP SEQUENCE `userservice`.`sequence_anonymous_username`;
+DROP TABLE `userservice`.`anonymous_username_free_id`;
\ No newline at end of file
@@ -0,0 +1,11 @@
+CREATE TABLE `userservice`.`anonymous_username_free_id` (
+  `id` bigint(21) unsigned NOT NULL,
+  `create_date` datetime NOT NULL DEFAULT UTC_TIMESTAMP(),
+  PRIMARY KEY (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE=utf8_unicode_ci;
+CREATE SEQUENCE `userservice`.`sequence_anonymous_username`
+INCREMENT BY 1
+MINVALUE = 1
+NOMAXVALUE
+START WITH 1
+CACHE 100;
\ No newline at end of file
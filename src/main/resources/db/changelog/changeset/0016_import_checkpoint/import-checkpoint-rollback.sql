@@ -0,0 +1 @@
+DROP TABLE `userservice`.`import_checkpoint`;
\ No newline at end of file
@@ -0,0 +1,6 @@
+CREATE TABLE `userservice`.`import_checkpoint` (
+  `import_type` varchar(30) COLLATE utf8_unicode_ci NOT NULL,
+  `record_key` varchar(255) COLLATE utf8_unicode_ci NOT NULL,
+  `create_date` datetime DEFAULT NULL,
+  PRIMARY KEY (`import_type`, `record_key`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE=utf8_unicode_ci;
\ No newline at end of file
@@ -1,18 +1,11 @@
 package de.caritas.cob.userservice.api.admin.report.registry;
 
 import static java.util.Arrays.asList;
-import static java.util.Collections.emptyList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
-import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.timeout;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import de.caritas.cob.userservice.api.admin.report.model.AgencyDependedViolationReportRule;
 import de.caritas.cob.userservice.api.admin.report.model.ViolationReportRule;
 import java.util.List;
 import java.util.Map;
@@ -33,14 +26,11 @@ public class ViolationRuleRegistryTest {
   @Mock
   private ApplicationContext applicationContext;
 
-  @Mock
-  private AgencyDependedViolationReportRule agencyDependedViolationReportRule;
-
   @Before
   public void setup() {
     Map<String, ViolationReportRule> mockedBeans = mock(Map.class);
     List<ViolationReportRule> mockedRules = asList(mock(ViolationReportRule.class),
-        agencyDependedViolationReportRule);
+        mock(ViolationReportRule.class));
     when(mockedBeans.values()).thenReturn(mockedRules);
     when(this.applicationContext.getBeansOfType(ViolationReportRule.class)).thenReturn(mockedBeans);
   }
@@ -50,19 +40,17 @@ public class ViolationRuleRegistryTest {
     this.violationRuleRegistry.initialize();
 
     List<ViolationReportRule> registeredRules = this.violationRuleRegistry
-        .getViolationReportRules(emptyList());
+        .getViolationReportRules();
 
     assertThat(registeredRules, hasSize(2));
-    verify(agencyDependedViolationReportRule, times(1)).setAllAgencies(anyList());
   }
 
   @Test
   public void getViolationReportRules_Should_returnEmptyList_When_regitryIsNotInitialized() {
     List<ViolationReportRule> registeredRules = this.violationRuleRegistry
-        .getViolationReportRules(emptyList());
+        .getViolationReportRules();
 
     assertThat(registeredRules, hasSize(0));
-    verifyNoInteractions(agencyDependedViolationReportRule);
   }
 
 }
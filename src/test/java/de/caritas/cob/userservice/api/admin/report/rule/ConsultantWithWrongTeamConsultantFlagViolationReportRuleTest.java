@@ -2,47 +2,31 @@ package de.caritas.cob.userservice.api.admin.report.rule;
 
 import static de.caritas.cob.userservice.api.model.ViolationDTO.ViolationTypeEnum.CONSULTANT;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.when;
 
 import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
-import de.caritas.cob.userservice.api.admin.service.agency.AgencyAdminService;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportContext;
 import de.caritas.cob.userservice.api.model.ViolationDTO;
-import de.caritas.cob.userservice.api.repository.consultant.ConsultantRepository;
 import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgency;
-import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgencyRepository;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.jeasy.random.EasyRandom;
 import org.junit.Test;
-import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.MockitoJUnitRunner;
 
-@RunWith(MockitoJUnitRunner.class)
 public class ConsultantWithWrongTeamConsultantFlagViolationReportRuleTest {
 
-  @InjectMocks
-  private ConsultantWithWrongTeamConsultantFlagViolationReportRule reportRule;
-
-  @Mock
-  private ConsultantAgencyRepository consultantAgencyRepository;
-
-  @Mock
-  private AgencyAdminService agencyAdminService;
-
-  @Mock
-  private ConsultantRepository consultantRepository;
+  private final ConsultantWithWrongTeamConsultantFlagViolationReportRule reportRule =
+      new ConsultantWithWrongTeamConsultantFlagViolationReportRule();
 
   @Test
   public void generateViolations_Should_returnEmptyList_When_noViolationExists() {
-    List<ViolationDTO> violations = this.reportRule.generateViolations();
+    List<ViolationDTO> violations = this.reportRule.generateViolations(
+        new ViolationReportContext(emptyList(), emptyList(), emptyList(), emptySet()));
 
     assertThat(violations, hasSize(0));
   }
@@ -52,13 +36,12 @@ public class ConsultantWithWrongTeamConsultantFlagViolationReportRuleTest {
     ConsultantAgency violatedConsultantAgency = new EasyRandom().nextObject(ConsultantAgency.class);
     violatedConsultantAgency.setAgencyId(1L);
     violatedConsultantAgency.getConsultant().setTeamConsultant(true);
-    when(this.consultantRepository.findAll())
-        .thenReturn(singletonList(violatedConsultantAgency.getConsultant()));
-    when(this.consultantAgencyRepository.findAll())
-        .thenReturn(singletonList(violatedConsultantAgency));
-    this.reportRule.setAllAgencies(singletonList(new AgencyAdminResponseDTO().id(1L).teamAgency(false)));
+    ViolationReportContext context = new ViolationReportContext(
+        singletonList(new AgencyAdminResponseDTO().id(1L).teamAgency(false)),
+        singletonList(violatedConsultantAgency.getConsultant()),
+        singletonList(violatedConsultantAgency), emptySet());
 
-    List<ViolationDTO> violations = this.reportRule.generateViolations();
+    List<ViolationDTO> violations = this.reportRule.generateViolations(context);
 
     assertThat(violations, hasSize(1));
     ViolationDTO resultViolation = violations.iterator().next();
@@ -95,22 +78,38 @@ public class ConsultantWithWrongTeamConsultantFlagViolationReportRuleTest {
     consultantAgencies.get(8).getConsultant().setTeamConsultant(false);
     consultantAgencies.get(9).setAgencyId(5L);
     consultantAgencies.get(9).getConsultant().setTeamConsultant(true);
-    when(this.consultantAgencyRepository.findAll()).thenReturn(consultantAgencies);
-    this.reportRule.setAllAgencies(asList(
-        new AgencyAdminResponseDTO().id(1L).teamAgency(false),
-        new AgencyAdminResponseDTO().id(2L).teamAgency(false),
-        new AgencyAdminResponseDTO().id(3L).teamAgency(false),
-        new AgencyAdminResponseDTO().id(4L).teamAgency(false),
-        new AgencyAdminResponseDTO().id(5L).teamAgency(false)
-    ));
-    when(this.consultantRepository.findAll()).thenReturn(
+    ViolationReportContext context = new ViolationReportContext(
+        asList(
+            new AgencyAdminResponseDTO().id(1L).teamAgency(false),
+            new AgencyAdminResponseDTO().id(2L).teamAgency(false),
+            new AgencyAdminResponseDTO().id(3L).teamAgency(false),
+            new AgencyAdminResponseDTO().id(4L).teamAgency(false),
+            new AgencyAdminResponseDTO().id(5L).teamAgency(false)),
         consultantAgencies.stream()
             .map(ConsultantAgency::getConsultant)
-            .collect(Collectors.toList()));
+            .collect(Collectors.toList()),
+        consultantAgencies, emptySet());
 
-    List<ViolationDTO> violations = this.reportRule.generateViolations();
+    List<ViolationDTO> violations = this.reportRule.generateViolations(context);
 
     assertThat(violations, hasSize(5));
   }
 
+  @Test
+  public void generateViolations_Should_returnNoViolation_When_teamConsultantHasTeamAgency() {
+    ConsultantAgency consultantAgency = new EasyRandom().nextObject(ConsultantAgency.class);
+    consultantAgency.setAgencyId(1L);
+    consultantAgency.getConsultant().setTeamConsultant(true);
+    ViolationReportContext context = new ViolationReportContext(
+        asList(
+            new AgencyAdminResponseDTO().id(1L).teamAgency(true),
+            new AgencyAdminResponseDTO().id(2L).teamAgency(false)),
+        singletonList(consultantAgency.getConsultant()),
+        singletonList(consultantAgency), emptySet());
+
+    List<ViolationDTO> violations = this.reportRule.generateViolations(context);
+
+    assertThat(violations, hasSize(0));
+  }
+
 }
@@ -2,38 +2,31 @@ package de.caritas.cob.userservice.api.admin.report.rule;
 
 import static de.caritas.cob.userservice.api.model.ViolationDTO.ViolationTypeEnum.CONSULTANT;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
 
 import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportContext;
 import de.caritas.cob.userservice.api.model.ViolationDTO;
 import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgency;
-import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgencyRepository;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.jeasy.random.EasyRandom;
 import org.junit.Test;
-import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.MockitoJUnitRunner;
 
-@RunWith(MockitoJUnitRunner.class)
 public class InvalidAgencyForConsultantViolationReportRuleTest {
 
-  @InjectMocks
-  private InvalidAgencyForConsultantViolationReportRule reportRule;
-
-  @Mock
-  private ConsultantAgencyRepository consultantAgencyRepository;
+  private final InvalidAgencyForConsultantViolationReportRule reportRule =
+      new InvalidAgencyForConsultantViolationReportRule();
 
   @Test
   public void generateViolations_Should_returnEmptyList_When_noViolationExists() {
-    List<ViolationDTO> violations = this.reportRule.generateViolations();
+    List<ViolationDTO> violations = this.reportRule.generateViolations(
+        new ViolationReportContext(emptyList(), emptyList(), emptyList(), emptySet()));
 
     assertThat(violations, hasSize(0));
   }
@@ -42,11 +35,12 @@ public class InvalidAgencyForConsultantViolationReportRuleTest {
   public void generateViolations_Should_returnExpectedViolation_When_oneViolatedConsultantExists() {
     ConsultantAgency violatedConsultantAgency = new EasyRandom().nextObject(ConsultantAgency.class);
     violatedConsultantAgency.setAgencyId(1L);
-    when(this.consultantAgencyRepository.findByAgencyIdAndDeleteDateIsNull(any()))
-        .thenReturn(singletonList(violatedConsultantAgency));
-    this.reportRule.setAllAgencies(singletonList(new AgencyAdminResponseDTO().id(1L)));
+    violatedConsultantAgency.setDeleteDate(null);
+    ViolationReportContext context = new ViolationReportContext(
+        singletonList(new AgencyAdminResponseDTO().id(1L)),
+        emptyList(), singletonList(violatedConsultantAgency), emptySet());
 
-    List<ViolationDTO> violations = this.reportRule.generateViolations();
+    List<ViolationDTO> violations = this.reportRule.generateViolations(context);
 
     assertThat(violations, hasSize(1));
     ViolationDTO resultViolation = violations.iterator().next();
@@ -72,27 +66,32 @@ public class InvalidAgencyForConsultantViolationReportRuleTest {
     consultantAgencies.get(4).setAgencyId(3L);
     consultantAgencies.get(6).setAgencyId(4L);
     consultantAgencies.get(9).setAgencyId(5L);
-    when(this.consultantAgencyRepository.findByAgencyIdAndDeleteDateIsNull(1L))
-        .thenReturn(singletonList(consultantAgencies.get(0)));
-    when(this.consultantAgencyRepository.findByAgencyIdAndDeleteDateIsNull(2L))
-        .thenReturn(singletonList(consultantAgencies.get(2)));
-    when(this.consultantAgencyRepository.findByAgencyIdAndDeleteDateIsNull(3L))
-        .thenReturn(singletonList(consultantAgencies.get(4)));
-    when(this.consultantAgencyRepository.findByAgencyIdAndDeleteDateIsNull(4L))
-        .thenReturn(singletonList(consultantAgencies.get(6)));
-    when(this.consultantAgencyRepository.findByAgencyIdAndDeleteDateIsNull(5L))
-        .thenReturn(singletonList(consultantAgencies.get(9)));
-    this.reportRule.setAllAgencies(asList(
-        new AgencyAdminResponseDTO().id(1L),
-        new AgencyAdminResponseDTO().id(2L),
-        new AgencyAdminResponseDTO().id(3L),
-        new AgencyAdminResponseDTO().id(4L),
-        new AgencyAdminResponseDTO().id(5L)
-    ));
-
-    List<ViolationDTO> violations = this.reportRule.generateViolations();
+    consultantAgencies.forEach(consultantAgency -> consultantAgency.setDeleteDate(null));
+    ViolationReportContext context = new ViolationReportContext(
+        asList(
+            new AgencyAdminResponseDTO().id(1L),
+            new AgencyAdminResponseDTO().id(2L),
+            new AgencyAdminResponseDTO().id(3L),
+            new AgencyAdminResponseDTO().id(4L),
+            new AgencyAdminResponseDTO().id(5L)),
+        emptyList(), consultantAgencies, emptySet());
+
+    List<ViolationDTO> violations = this.reportRule.generateViolations(context);
 
     assertThat(violations, hasSize(5));
   }
 
+  @Test
+  public void generateViolations_Should_ignoreDeletedConsultantAgencyRelations() {
+    ConsultantAgency deletedConsultantAgency = new EasyRandom().nextObject(ConsultantAgency.class);
+    deletedConsultantAgency.setAgencyId(1L);
+    ViolationReportContext context = new ViolationReportContext(
+        singletonList(new AgencyAdminResponseDTO().id(1L)),
+        emptyList(), singletonList(deletedConsultantAgency), emptySet());
+
+    List<ViolationDTO> violations = this.reportRule.generateViolations(context);
+
+    assertThat(violations, hasSize(0));
+  }
+
 }
@@ -1,36 +1,32 @@
 package de.caritas.cob.userservice.api.admin.report.rule;
 
 import static de.caritas.cob.userservice.api.model.ViolationDTO.ViolationTypeEnum.CONSULTANT;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
-import static org.mockito.Mockito.when;
 
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportContext;
 import de.caritas.cob.userservice.api.model.ViolationDTO;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
-import de.caritas.cob.userservice.api.repository.consultant.ConsultantRepository;
+import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgency;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.jeasy.random.EasyRandom;
 import org.junit.Test;
-import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.MockitoJUnitRunner;
 
-@RunWith(MockitoJUnitRunner.class)
 public class MissingAgencyForConsultantViolationReportRuleTest {
 
-  @InjectMocks
-  private MissingAgencyForConsultantViolationReportRule reportRule;
-
-  @Mock
-  private ConsultantRepository consultantRepository;
+  private final MissingAgencyForConsultantViolationReportRule reportRule =
+      new MissingAgencyForConsultantViolationReportRule();
 
   @Test
   public void generateViolations_Should_returnEmptyList_When_noViolationExists() {
-    List<ViolationDTO> violations = this.reportRule.generateViolations();
+    List<ViolationDTO> violations = this.reportRule.generateViolations(
+        new ViolationReportContext(emptyList(), emptyList(), emptyList(), emptySet()));
 
     assertThat(violations, hasSize(0));
   }
@@ -38,10 +34,10 @@ public class MissingAgencyForConsultantViolationReportRuleTest {
   @Test
   public void generateViolations_Should_returnExpectedViolation_When_oneViolatedConsultantExists() {
     Consultant violatedConsultant = new EasyRandom().nextObject(Consultant.class);
-    violatedConsultant.setConsultantAgencies(null);
-    when(this.consultantRepository.findAll()).thenReturn(singletonList(violatedConsultant));
+    ViolationReportContext context = new ViolationReportContext(emptyList(),
+        singletonList(violatedConsultant), emptyList(), emptySet());
 
-    List<ViolationDTO> violations = this.reportRule.generateViolations();
+    List<ViolationDTO> violations = this.reportRule.generateViolations(context);
 
     assertThat(violations, hasSize(1));
     ViolationDTO resultViolation = violations.iterator().next();
@@ -61,16 +57,38 @@ public class MissingAgencyForConsultantViolationReportRuleTest {
   public void generateViolations_Should_returnViolationsOnlyForConsultantsWithoutAgency() {
     List<Consultant> consultants = new EasyRandom().objects(Consultant.class, 10)
         .collect(Collectors.toList());
-    consultants.get(0).setConsultantAgencies(null);
-    consultants.get(2).setConsultantAgencies(null);
-    consultants.get(4).setConsultantAgencies(null);
-    consultants.get(6).setConsultantAgencies(null);
-    consultants.get(9).setConsultantAgencies(null);
-    when(this.consultantRepository.findAll()).thenReturn(consultants);
+    List<ConsultantAgency> consultantAgencies = List.of(
+        activeConsultantAgency(consultants.get(1)),
+        activeConsultantAgency(consultants.get(3)),
+        activeConsultantAgency(consultants.get(5)),
+        activeConsultantAgency(consultants.get(7)),
+        activeConsultantAgency(consultants.get(8)));
+    ViolationReportContext context = new ViolationReportContext(emptyList(), consultants,
+        consultantAgencies, emptySet());
 
-    List<ViolationDTO> violations = this.reportRule.generateViolations();
+    List<ViolationDTO> violations = this.reportRule.generateViolations(context);
 
     assertThat(violations, hasSize(5));
   }
 
+  @Test
+  public void generateViolations_Should_returnViolation_When_consultantHasOnlyDeletedAgencies() {
+    Consultant violatedConsultant = new EasyRandom().nextObject(Consultant.class);
+    ConsultantAgency deletedConsultantAgency = activeConsultantAgency(violatedConsultant);
+    deletedConsultantAgency.setDeleteDate(LocalDateTime.now());
+    ViolationReportContext context = new ViolationReportContext(emptyList(),
+        singletonList(violatedConsultant), singletonList(deletedConsultantAgency), emptySet());
+
+    List<ViolationDTO> violations = this.reportRule.generateViolations(context);
+
+    assertThat(violations, hasSize(1));
+  }
+
+  private ConsultantAgency activeConsultantAgency(Consultant consultant) {
+    return ConsultantAgency.builder()
+        .consultant(consultant)
+        .agencyId(1L)
+        .build();
+  }
+
 }
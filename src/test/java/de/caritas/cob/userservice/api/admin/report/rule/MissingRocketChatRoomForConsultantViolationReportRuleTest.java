@@ -9,34 +9,45 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
 
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportContext;
 import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
 import de.caritas.cob.userservice.api.model.ViolationDTO;
 import de.caritas.cob.userservice.api.model.rocketchat.user.UserInfoResponseDTO;
 import de.caritas.cob.userservice.api.model.rocketchat.user.UserRoomDTO;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
-import de.caritas.cob.userservice.api.repository.consultant.ConsultantRepository;
 import de.caritas.cob.userservice.api.repository.session.Session;
 import de.caritas.cob.userservice.api.repository.session.SessionRepository;
+import de.caritas.cob.userservice.api.repository.session.SessionStatus;
 import de.caritas.cob.userservice.api.service.LogService;
 import de.caritas.cob.userservice.api.service.rocketchat.RocketChatService;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.jeasy.random.EasyRandom;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
 @RunWith(MockitoJUnitRunner.class)
 public class MissingRocketChatRoomForConsultantViolationReportRuleTest {
 
-  @InjectMocks
   private MissingRocketChatRoomForConsultantViolationReportRule reportRule;
 
+  private final ExecutorService violationReportExecutor = Executors.newFixedThreadPool(2);
+
   @Mock
-  private ConsultantRepository consultantRepository;
+  private ViolationReportContext violationReportContext;
 
   @Mock
   private SessionRepository sessionRepository;
@@ -44,11 +55,55 @@ public class MissingRocketChatRoomForConsultantViolationReportRuleTest {
   @Mock
   private RocketChatService rocketChatService;
 
+  @Before
+  public void setup() {
+    this.reportRule = new MissingRocketChatRoomForConsultantViolationReportRule(
+        this.sessionRepository, this.rocketChatService, this.violationReportExecutor);
+    setField(this.reportRule, "pageSize", 2);
+  }
+
+  @After
+  public void tearDown() {
+    this.violationReportExecutor.shutdownNow();
+  }
+
   @Test
   public void generateViolations_Should_returnEmptyList_When_noViolationExists() {
-    List<ViolationDTO> violations = this.reportRule.generateViolations();
+    when(this.sessionRepository.findByStatusWithConsultantOrderByConsultantId(any(), any()))
+        .thenReturn(new SliceImpl<>(emptyList()));
+
+    List<ViolationDTO> violations = this.reportRule.generateViolations(violationReportContext);
 
     assertThat(violations, hasSize(0));
+    verifyNoInteractions(this.rocketChatService);
+  }
+
+  @Test
+  public void generateViolations_Should_fetchRoomsOfConsultantOnlyOnce_When_consultantHasSessionsOnMultiplePages() {
+    EasyRandom easyRandom = new EasyRandom();
+    Consultant consultant = easyRandom.nextObject(Consultant.class);
+    Consultant otherConsultant = easyRandom.nextObject(Consultant.class);
+    List<Session> sessions = asList(easyRandom.nextObject(Session.class),
+        easyRandom.nextObject(Session.class), easyRandom.nextObject(Session.class));
+    sessions.get(0).setConsultant(consultant);
+    sessions.get(1).setConsultant(otherConsultant);
+    sessions.get(2).setConsultant(otherConsultant);
+    UserInfoResponseDTO userInfoResponseDTO = easyRandom.nextObject(UserInfoResponseDTO.class);
+    userInfoResponseDTO.getUser().setRooms(emptyList());
+
+    when(this.sessionRepository.findByStatusWithConsultantOrderByConsultantId(
+        SessionStatus.IN_PROGRESS, PageRequest.of(0, 2)))
+        .thenReturn(new SliceImpl<>(sessions.subList(0, 2), PageRequest.of(0, 2), true));
+    when(this.sessionRepository.findByStatusWithConsultantOrderByConsultantId(
+        SessionStatus.IN_PROGRESS, PageRequest.of(1, 2)))
+        .thenReturn(new SliceImpl<>(sessions.subList(2, 3), PageRequest.of(1, 2), false));
+    when(this.rocketChatService.getUserInfo(any())).thenReturn(userInfoResponseDTO);
+
+    List<ViolationDTO> violations = this.reportRule.generateViolations(violationReportContext);
+
+    assertThat(violations, hasSize(3));
+    verify(this.rocketChatService, times(1)).getUserInfo(consultant.getRocketChatId());
+    verify(this.rocketChatService, times(1)).getUserInfo(otherConsultant.getRocketChatId());
   }
 
   @Test
@@ -60,12 +115,11 @@ public class MissingRocketChatRoomForConsultantViolationReportRuleTest {
         new EasyRandom().nextObject(UserInfoResponseDTO.class);
     userInfoResponseDTO.getUser().setRooms(emptyList());
 
-    when(this.consultantRepository.findAll()).thenReturn(singletonList(violatedConsultant));
-    when(this.sessionRepository.findByConsultantAndStatus(any(), any()))
-        .thenReturn(singletonList(violatedSession));
+    when(this.sessionRepository.findByStatusWithConsultantOrderByConsultantId(any(), any()))
+        .thenReturn(new SliceImpl<>(singletonList(violatedSession)));
     when(this.rocketChatService.getUserInfo(any())).thenReturn(userInfoResponseDTO);
 
-    List<ViolationDTO> violations = this.reportRule.generateViolations();
+    List<ViolationDTO> violations = this.reportRule.generateViolations(violationReportContext);
 
     assertThat(violations, hasSize(1));
     ViolationDTO resultViolation = violations.iterator().next();
@@ -87,12 +141,11 @@ public class MissingRocketChatRoomForConsultantViolationReportRuleTest {
     userInfoResponseDTO.getUser()
         .setRooms(singletonList(new UserRoomDTO(violatedSession.getGroupId())));
 
-    when(this.consultantRepository.findAll()).thenReturn(singletonList(violatedConsultant));
-    when(this.sessionRepository.findByConsultantAndStatus(any(), any()))
-        .thenReturn(singletonList(violatedSession));
+    when(this.sessionRepository.findByStatusWithConsultantOrderByConsultantId(any(), any()))
+        .thenReturn(new SliceImpl<>(singletonList(violatedSession)));
     when(this.rocketChatService.getUserInfo(any())).thenReturn(userInfoResponseDTO);
 
-    List<ViolationDTO> violations = this.reportRule.generateViolations();
+    List<ViolationDTO> violations = this.reportRule.generateViolations(violationReportContext);
 
     assertThat(violations, hasSize(1));
     ViolationDTO resultViolation = violations.iterator().next();
@@ -113,12 +166,11 @@ public class MissingRocketChatRoomForConsultantViolationReportRuleTest {
     userInfoResponseDTO.getUser()
         .setRooms(singletonList(new UserRoomDTO(violatedSession.getFeedbackGroupId())));
 
-    when(this.consultantRepository.findAll()).thenReturn(singletonList(violatedConsultant));
-    when(this.sessionRepository.findByConsultantAndStatus(any(), any()))
-        .thenReturn(singletonList(violatedSession));
+    when(this.sessionRepository.findByStatusWithConsultantOrderByConsultantId(any(), any()))
+        .thenReturn(new SliceImpl<>(singletonList(violatedSession)));
     when(this.rocketChatService.getUserInfo(any())).thenReturn(userInfoResponseDTO);
 
-    List<ViolationDTO> violations = this.reportRule.generateViolations();
+    List<ViolationDTO> violations = this.reportRule.generateViolations(violationReportContext);
 
     assertThat(violations, hasSize(1));
     ViolationDTO resultViolation = violations.iterator().next();
@@ -139,12 +191,11 @@ public class MissingRocketChatRoomForConsultantViolationReportRuleTest {
         new UserRoomDTO(violatedSession.getGroupId()),
         new UserRoomDTO(violatedSession.getFeedbackGroupId())));
 
-    when(this.consultantRepository.findAll()).thenReturn(singletonList(violatedConsultant));
-    when(this.sessionRepository.findByConsultantAndStatus(any(), any()))
-        .thenReturn(singletonList(violatedSession));
+    when(this.sessionRepository.findByStatusWithConsultantOrderByConsultantId(any(), any()))
+        .thenReturn(new SliceImpl<>(singletonList(violatedSession)));
     when(this.rocketChatService.getUserInfo(any())).thenReturn(userInfoResponseDTO);
 
-    List<ViolationDTO> violations = this.reportRule.generateViolations();
+    List<ViolationDTO> violations = this.reportRule.generateViolations(violationReportContext);
 
     assertThat(violations, hasSize(0));
   }
@@ -160,14 +211,13 @@ public class MissingRocketChatRoomForConsultantViolationReportRuleTest {
         new UserRoomDTO(violatedSession.getGroupId()),
         new UserRoomDTO(violatedSession.getFeedbackGroupId())));
 
-    when(this.consultantRepository.findAll()).thenReturn(singletonList(violatedConsultant));
-    when(this.sessionRepository.findByConsultantAndStatus(any(), any()))
-        .thenReturn(singletonList(violatedSession));
+    when(this.sessionRepository.findByStatusWithConsultantOrderByConsultantId(any(), any()))
+        .thenReturn(new SliceImpl<>(singletonList(violatedSession)));
     when(this.rocketChatService.getUserInfo(any()))
         .thenThrow(new InternalServerErrorException("message", new RuntimeException("caused "
             + "message"), LogService::logRocketChatError));
 
-    List<ViolationDTO> violations = this.reportRule.generateViolations();
+    List<ViolationDTO> violations = this.reportRule.generateViolations(violationReportContext);
 
     assertThat(violations, hasSize(1));
     assertThat(violations.get(0).getReason(), is("caused message"));
@@ -1,17 +1,20 @@
 package de.caritas.cob.userservice.api.admin.report.rule;
 
 import static de.caritas.cob.userservice.api.model.ViolationDTO.ViolationTypeEnum.ASKER;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.when;
 
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportContext;
 import de.caritas.cob.userservice.api.model.ViolationDTO;
 import de.caritas.cob.userservice.api.repository.user.User;
 import de.caritas.cob.userservice.api.repository.user.UserRepository;
-import de.caritas.cob.userservice.api.repository.useragency.UserAgencyRepository;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.jeasy.random.EasyRandom;
 import org.junit.Test;
@@ -29,12 +32,9 @@ public class MissingSessionAndChatForAskerViolationReportRuleTest {
   @Mock
   private UserRepository userRepository;
 
-  @Mock
-  private UserAgencyRepository userAgencyRepository;
-
   @Test
   public void generateViolations_Should_returnEmptyList_When_noViolationExists() {
-    List<ViolationDTO> violations = this.reportRule.generateViolations();
+    List<ViolationDTO> violations = this.reportRule.generateViolations(emptyContext());
 
     assertThat(violations, hasSize(0));
   }
@@ -42,10 +42,9 @@ public class MissingSessionAndChatForAskerViolationReportRuleTest {
   @Test
   public void generateViolations_Should_returnExpectedViolation_When_oneViolatedAskerExists() {
     User violatedUser = new EasyRandom().nextObject(User.class);
-    violatedUser.setSessions(null);
     when(this.userRepository.findAll()).thenReturn(singletonList(violatedUser));
 
-    List<ViolationDTO> violations = this.reportRule.generateViolations();
+    List<ViolationDTO> violations = this.reportRule.generateViolations(emptyContext());
 
     assertThat(violations, hasSize(1));
     ViolationDTO resultViolation = violations.iterator().next();
@@ -58,16 +57,20 @@ public class MissingSessionAndChatForAskerViolationReportRuleTest {
   public void generateViolations_Should_returnViolationsOnlyForAskersWithoutSessions() {
     List<User> users = new EasyRandom().objects(User.class, 10)
         .collect(Collectors.toList());
-    users.get(0).setSessions(null);
-    users.get(2).setSessions(null);
-    users.get(4).setSessions(null);
-    users.get(6).setSessions(null);
-    users.get(9).setSessions(null);
+    Set<String> userIdsWithSessionOrChat = Set.of(users.get(1).getUserId(),
+        users.get(3).getUserId(), users.get(5).getUserId(), users.get(7).getUserId(),
+        users.get(8).getUserId());
     when(this.userRepository.findAll()).thenReturn(users);
 
-    List<ViolationDTO> violations = this.reportRule.generateViolations();
+    List<ViolationDTO> violations = this.reportRule.generateViolations(
+        new ViolationReportContext(emptyList(), emptyList(), emptyList(),
+            userIdsWithSessionOrChat));
 
     assertThat(violations, hasSize(5));
   }
 
+  private ViolationReportContext emptyContext() {
+    return new ViolationReportContext(emptyList(), emptyList(), emptyList(), emptySet());
+  }
+
 }
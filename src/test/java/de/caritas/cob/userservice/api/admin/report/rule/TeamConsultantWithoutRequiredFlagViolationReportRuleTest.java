@@ -2,38 +2,31 @@ package de.caritas.cob.userservice.api.admin.report.rule;
 
 import static de.caritas.cob.userservice.api.model.ViolationDTO.ViolationTypeEnum.CONSULTANT;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
 
 import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportContext;
 import de.caritas.cob.userservice.api.model.ViolationDTO;
 import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgency;
-import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgencyRepository;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.jeasy.random.EasyRandom;
 import org.junit.Test;
-import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.MockitoJUnitRunner;
 
-@RunWith(MockitoJUnitRunner.class)
 public class TeamConsultantWithoutRequiredFlagViolationReportRuleTest {
 
-  @InjectMocks
-  private TeamConsultantWithoutRequiredFlagViolationReportRule reportRule;
-
-  @Mock
-  private ConsultantAgencyRepository consultantAgencyRepository;
+  private final TeamConsultantWithoutRequiredFlagViolationReportRule reportRule =
+      new TeamConsultantWithoutRequiredFlagViolationReportRule();
 
   @Test
   public void generateViolations_Should_returnEmptyList_When_noViolationExists() {
-    List<ViolationDTO> violations = this.reportRule.generateViolations();
+    List<ViolationDTO> violations = this.reportRule.generateViolations(
+        new ViolationReportContext(emptyList(), emptyList(), emptyList(), emptySet()));
 
     assertThat(violations, hasSize(0));
   }
@@ -43,12 +36,12 @@ public class TeamConsultantWithoutRequiredFlagViolationReportRuleTest {
     ConsultantAgency violatedConsultantAgency = new EasyRandom().nextObject(ConsultantAgency.class);
     violatedConsultantAgency.setAgencyId(1L);
     violatedConsultantAgency.getConsultant().setTeamConsultant(false);
-    when(this.consultantAgencyRepository.findByAgencyIdAndDeleteDateIsNull(any()))
-        .thenReturn(singletonList(violatedConsultantAgency));
-    this.reportRule
-        .setAllAgencies(singletonList(new AgencyAdminResponseDTO().id(1L).teamAgency(true)));
+    violatedConsultantAgency.setDeleteDate(null);
+    ViolationReportContext context = new ViolationReportContext(
+        singletonList(new AgencyAdminResponseDTO().id(1L).teamAgency(true)),
+        emptyList(), singletonList(violatedConsultantAgency), emptySet());
 
-    List<ViolationDTO> violations = this.reportRule.generateViolations();
+    List<ViolationDTO> violations = this.reportRule.generateViolations(context);
 
     assertThat(violations, hasSize(1));
     ViolationDTO resultViolation = violations.iterator().next();
@@ -80,25 +73,17 @@ public class TeamConsultantWithoutRequiredFlagViolationReportRuleTest {
     consultantAgencies.get(6).getConsultant().setTeamConsultant(false);
     consultantAgencies.get(9).setAgencyId(5L);
     consultantAgencies.get(9).getConsultant().setTeamConsultant(false);
-    when(this.consultantAgencyRepository.findByAgencyIdAndDeleteDateIsNull(1L))
-        .thenReturn(singletonList(consultantAgencies.get(0)));
-    when(this.consultantAgencyRepository.findByAgencyIdAndDeleteDateIsNull(2L))
-        .thenReturn(singletonList(consultantAgencies.get(2)));
-    when(this.consultantAgencyRepository.findByAgencyIdAndDeleteDateIsNull(3L))
-        .thenReturn(singletonList(consultantAgencies.get(4)));
-    when(this.consultantAgencyRepository.findByAgencyIdAndDeleteDateIsNull(4L))
-        .thenReturn(singletonList(consultantAgencies.get(6)));
-    when(this.consultantAgencyRepository.findByAgencyIdAndDeleteDateIsNull(5L))
-        .thenReturn(singletonList(consultantAgencies.get(9)));
-    this.reportRule.setAllAgencies(asList(
-        new AgencyAdminResponseDTO().id(1L).teamAgency(true),
-        new AgencyAdminResponseDTO().id(2L).teamAgency(true),
-        new AgencyAdminResponseDTO().id(3L).teamAgency(true),
-        new AgencyAdminResponseDTO().id(4L).teamAgency(true),
-        new AgencyAdminResponseDTO().id(5L).teamAgency(true)
-    ));
+    consultantAgencies.forEach(consultantAgency -> consultantAgency.setDeleteDate(null));
+    ViolationReportContext context = new ViolationReportContext(
+        asList(
+            new AgencyAdminResponseDTO().id(1L).teamAgency(true),
+            new AgencyAdminResponseDTO().id(2L).teamAgency(true),
+            new AgencyAdminResponseDTO().id(3L).teamAgency(true),
+            new AgencyAdminResponseDTO().id(4L).teamAgency(true),
+            new AgencyAdminResponseDTO().id(5L).teamAgency(true)),
+        emptyList(), consultantAgencies, emptySet());
 
-    List<ViolationDTO> violations = this.reportRule.generateViolations();
+    List<ViolationDTO> violations = this.reportRule.generateViolations(context);
 
     assertThat(violations, hasSize(5));
   }
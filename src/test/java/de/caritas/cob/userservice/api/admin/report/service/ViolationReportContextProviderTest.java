@@ -0,0 +1,80 @@
+package de.caritas.cob.userservice.api.admin.report.service;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.agencyadminserivce.generated.web.model.AgencyAdminResponseDTO;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportContext;
+import de.caritas.cob.userservice.api.admin.service.agency.AgencyAdminService;
+import de.caritas.cob.userservice.api.repository.consultant.ConsultantRepository;
+import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgency;
+import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgencyRepository;
+import de.caritas.cob.userservice.api.repository.session.SessionRepository;
+import de.caritas.cob.userservice.api.repository.useragency.UserAgencyRepository;
+import java.util.List;
+import org.jeasy.random.EasyRandom;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ViolationReportContextProviderTest {
+
+  @InjectMocks
+  private ViolationReportContextProvider violationReportContextProvider;
+
+  @Mock
+  private AgencyAdminService agencyAdminService;
+
+  @Mock
+  private ConsultantRepository consultantRepository;
+
+  @Mock
+  private ConsultantAgencyRepository consultantAgencyRepository;
+
+  @Mock
+  private SessionRepository sessionRepository;
+
+  @Mock
+  private UserAgencyRepository userAgencyRepository;
+
+  @Test
+  public void buildContext_Should_indexAgenciesAndConsultantAgencies() {
+    ConsultantAgency consultantAgency = new EasyRandom().nextObject(ConsultantAgency.class);
+    consultantAgency.setAgencyId(1L);
+    consultantAgency.setDeleteDate(null);
+    AgencyAdminResponseDTO agency = new AgencyAdminResponseDTO().id(1L);
+    when(this.agencyAdminService.retrieveAllAgencies()).thenReturn(singletonList(agency));
+    when(this.consultantAgencyRepository.findAll())
+        .thenReturn(singletonList(consultantAgency));
+
+    ViolationReportContext context = this.violationReportContextProvider.buildContext();
+
+    assertThat(context.getAgency(1L), is(agency));
+    assertThat(context.getAgency(2L), nullValue());
+    assertThat(context.getConsultantAgencies(consultantAgency.getConsultant().getId()),
+        contains(consultantAgency));
+    assertThat(context.getActiveConsultantAgencies(1L), contains(consultantAgency));
+    assertThat(context.hasActiveAgencyAssignment(consultantAgency.getConsultant().getId()),
+        is(true));
+  }
+
+  @Test
+  public void buildContext_Should_combineUserIdsOfSessionsAndChats() {
+    when(this.sessionRepository.findAllUserIds()).thenReturn(List.of("session user"));
+    when(this.userAgencyRepository.findAllUserIds()).thenReturn(List.of("chat user"));
+
+    ViolationReportContext context = this.violationReportContextProvider.buildContext();
+
+    assertThat(context.hasSessionOrChat("session user"), is(true));
+    assertThat(context.hasSessionOrChat("chat user"), is(true));
+    assertThat(context.hasSessionOrChat("other user"), is(false));
+  }
+
+}
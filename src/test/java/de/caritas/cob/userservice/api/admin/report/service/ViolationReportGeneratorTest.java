@@ -4,11 +4,14 @@ import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.notNullValue;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportContext;
+import de.caritas.cob.userservice.api.admin.report.model.ViolationReportRule;
 import de.caritas.cob.userservice.api.admin.report.registry.ViolationRuleRegistry;
-import de.caritas.cob.userservice.api.admin.service.agency.AgencyAdminService;
 import de.caritas.cob.userservice.api.model.ViolationDTO;
 import java.io.File;
 import java.io.IOException;
@@ -31,7 +34,10 @@ public class ViolationReportGeneratorTest {
   private ViolationRuleRegistry violationRuleRegistry;
 
   @Mock
-  private AgencyAdminService agencyAdminService;
+  private ViolationReportContextProvider violationReportContextProvider;
+
+  @Mock
+  private ViolationReportContext violationReportContext;
 
   @After
   public void cleanGeneratedFiles() throws IOException {
@@ -47,10 +53,10 @@ public class ViolationReportGeneratorTest {
 
   @Test
   public void generateReport_Should_returnFlattenedViolations_When_violationsAreFound() {
-    when(this.violationRuleRegistry.getViolationReportRules(any())).thenReturn(asList(
-        () -> asList(identifiedViolation("first"), identifiedViolation("second")),
-        () -> asList(identifiedViolation("third"), identifiedViolation("fourth")),
-        () -> asList(identifiedViolation("fifth"), identifiedViolation("sixth"))));
+    when(this.violationRuleRegistry.getViolationReportRules()).thenReturn(asList(
+        context -> asList(identifiedViolation("first"), identifiedViolation("second")),
+        context -> asList(identifiedViolation("third"), identifiedViolation("fourth")),
+        context -> asList(identifiedViolation("fifth"), identifiedViolation("sixth"))));
 
     List<ViolationDTO> violations = this.violationReportGenerator.generateReport();
 
@@ -58,6 +64,22 @@ public class ViolationReportGeneratorTest {
     violations.forEach(violationDTO -> assertThat(violationDTO.getIdentifier(), notNullValue()));
   }
 
+  @Test
+  public void generateReport_Should_passSameContextToAllRules() {
+    when(this.violationReportContextProvider.buildContext())
+        .thenReturn(this.violationReportContext);
+    ViolationReportRule firstRule = mock(ViolationReportRule.class);
+    ViolationReportRule secondRule = mock(ViolationReportRule.class);
+    when(this.violationRuleRegistry.getViolationReportRules())
+        .thenReturn(asList(firstRule, secondRule));
+
+    this.violationReportGenerator.generateReport();
+
+    verify(this.violationReportContextProvider, times(1)).buildContext();
+    verify(firstRule).generateViolations(this.violationReportContext);
+    verify(secondRule).generateViolations(this.violationReportContext);
+  }
+
   private ViolationDTO identifiedViolation(String identifier) {
     return new ViolationDTO().identifier(identifier);
   }
@@ -9,11 +9,22 @@ import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.startsWith;
 
 import de.caritas.cob.userservice.UserServiceApplication;
+import de.caritas.cob.userservice.api.admin.mapper.ConsultantAdminMapper;
 import de.caritas.cob.userservice.api.helper.UsernameTranscoder;
+import de.caritas.cob.userservice.api.model.ConsultantAdminResponseDTO;
 import de.caritas.cob.userservice.api.model.ConsultantDTO;
 import de.caritas.cob.userservice.api.model.ConsultantFilter;
 import de.caritas.cob.userservice.api.model.ConsultantSearchResultDTO;
 import de.caritas.cob.userservice.api.model.HalLink.MethodEnum;
+import de.caritas.cob.userservice.api.repository.consultant.Consultant;
+import de.caritas.cob.userservice.api.repository.consultant.ConsultantRepository;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +32,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 
@@ -30,9 +42,21 @@ import org.springframework.test.context.junit4.SpringRunner;
 @AutoConfigureTestDatabase(replace = Replace.ANY)
 public class ConsultantAdminFilterServiceIT {
 
+  private static final String UPDATE_ABSENCE_MESSAGE =
+      "UPDATE consultant SET absence_message = ? WHERE consultant_id = ?";
+
   @Autowired
   private ConsultantAdminFilterService consultantAdminFilterService;
 
+  @Autowired
+  private ConsultantRepository consultantRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
   @MockBean
   private UsernameTranscoder usernameTranscoder;
 
@@ -194,4 +218,66 @@ public class ConsultantAdminFilterServiceIT {
         endsWith("/useradmin/consultants?page=2&perPage=10"));
   }
 
+  @Test
+  public void findFilteredConsultants_Should_returnSameConsultantDataAsStoredInDatabase() {
+    Map<String, Consultant> consultantsById = StreamSupport
+        .stream(this.consultantRepository.findAll().spliterator(), false)
+        .collect(Collectors.toMap(Consultant::getId, Function.identity()));
+
+    ConsultantSearchResultDTO consultants = this.consultantAdminFilterService
+        .findFilteredConsultants(1, 100, new ConsultantFilter());
+
+    consultants.getEmbedded().stream()
+        .map(ConsultantAdminResponseDTO::getEmbedded)
+        .forEach(consultantDTO -> assertThat(consultantDTO, is(new ConsultantAdminMapper(
+            consultantsById.get(consultantDTO.getId())).mapData())));
+  }
+
+  @Test
+  public void findFilteredConsultants_Should_returnCurrentDatabaseData_When_indexWasNotUpdated() {
+    ConsultantDTO consultant = findFirstConsultant();
+    this.jdbcTemplate.update(UPDATE_ABSENCE_MESSAGE, "changed outside of the index",
+        consultant.getId());
+
+    try {
+      ConsultantDTO result = findFirstConsultant();
+
+      assertThat(result.getId(), is(consultant.getId()));
+      assertThat(result.getAbsenceMessage(), is("changed outside of the index"));
+    } finally {
+      this.jdbcTemplate.update(UPDATE_ABSENCE_MESSAGE, consultant.getAbsenceMessage(),
+          consultant.getId());
+    }
+  }
+
+  @Test
+  public void findFilteredConsultants_Should_executeSameNumberOfQueries_When_perPageIncreases() {
+    long queriesForOneConsultant = countQueriesOfSearchWithPerPage(1);
+    long queriesForTenConsultants = countQueriesOfSearchWithPerPage(10);
+
+    assertThat(queriesForOneConsultant, is(1L));
+    assertThat(queriesForTenConsultants, is(queriesForOneConsultant));
+  }
+
+  private long countQueriesOfSearchWithPerPage(int perPage) {
+    Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+    try {
+      ConsultantSearchResultDTO consultants = this.consultantAdminFilterService
+          .findFilteredConsultants(1, perPage, new ConsultantFilter());
+      assertThat(consultants.getEmbedded(), hasSize(perPage));
+      return statistics.getPrepareStatementCount();
+    } finally {
+      statistics.setStatisticsEnabled(false);
+    }
+  }
+
+  private ConsultantDTO findFirstConsultant() {
+    return this.consultantAdminFilterService
+        .findFilteredConsultants(1, 1, new ConsultantFilter())
+        .getEmbedded().get(0).getEmbedded();
+  }
+
 }
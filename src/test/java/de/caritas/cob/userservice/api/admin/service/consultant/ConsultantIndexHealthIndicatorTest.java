@@ -0,0 +1,47 @@
+package de.caritas.cob.userservice.api.admin.service.consultant;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ExecutionException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.boot.actuate.health.Status;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConsultantIndexHealthIndicatorTest {
+
+  @InjectMocks
+  private ConsultantIndexHealthIndicator consultantIndexHealthIndicator;
+
+  @Mock
+  private ConsultantReindexer consultantReindexer;
+
+  @Test
+  public void health_Should_beUp_When_indexingIsDone() throws Exception {
+    when(this.consultantReindexer.isIndexingDone()).thenReturn(true);
+
+    assertThat(this.consultantIndexHealthIndicator.health().getStatus(), is(Status.UP));
+  }
+
+  @Test
+  public void health_Should_beOutOfService_When_indexingIsInProgress() throws Exception {
+    when(this.consultantReindexer.isIndexingDone()).thenReturn(false);
+
+    assertThat(this.consultantIndexHealthIndicator.health().getStatus(),
+        is(Status.OUT_OF_SERVICE));
+  }
+
+  @Test
+  public void health_Should_beDown_When_indexingHasFailed() throws Exception {
+    when(this.consultantReindexer.isIndexingDone())
+        .thenThrow(new ExecutionException(new IllegalStateException("index failure")));
+
+    assertThat(this.consultantIndexHealthIndicator.health().getStatus(), is(Status.DOWN));
+  }
+
+}
@@ -0,0 +1,82 @@
+package de.caritas.cob.userservice.api.admin.service.consultant;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.hibernate.search.MassIndexer;
+import org.hibernate.search.jpa.FullTextEntityManager;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConsultantReindexerTest {
+
+  private final MassIndexer massIndexer = mock(MassIndexer.class, RETURNS_SELF);
+  private final CompletableFuture<Void> indexing = new CompletableFuture<>();
+
+  @Mock
+  private FullTextEntityManager fullTextEntityManager;
+
+  @Before
+  public void setup() {
+    when(this.fullTextEntityManager.createIndexer()).thenReturn(this.massIndexer);
+    doReturn(this.indexing).when(this.massIndexer).start();
+  }
+
+  @Test
+  public void afterPropertiesSet_Should_startIndexingWithConfiguredBatchSizeAndThreads()
+      throws Exception {
+    new ConsultantReindexer(this.fullTextEntityManager, 25, 4, false).afterPropertiesSet();
+
+    verify(this.massIndexer).batchSizeToLoadObjects(25);
+    verify(this.massIndexer).threadsToLoadObjects(4);
+    verify(this.massIndexer).start();
+  }
+
+  @Test
+  public void isIndexingDone_Should_returnFalseUntilIndexingHasFinished() throws Exception {
+    ConsultantReindexer consultantReindexer =
+        new ConsultantReindexer(this.fullTextEntityManager, 25, 4, false);
+
+    assertThat(consultantReindexer.isIndexingDone(), is(false));
+    consultantReindexer.afterPropertiesSet();
+    assertThat(consultantReindexer.isIndexingDone(), is(false));
+    this.indexing.complete(null);
+    assertThat(consultantReindexer.isIndexingDone(), is(true));
+  }
+
+  @Test(expected = ExecutionException.class)
+  public void isIndexingDone_Should_throwExecutionException_When_indexingHasFailed()
+      throws Exception {
+    ConsultantReindexer consultantReindexer =
+        new ConsultantReindexer(this.fullTextEntityManager, 25, 4, false);
+    consultantReindexer.afterPropertiesSet();
+
+    this.indexing.completeExceptionally(new IllegalStateException("index failure"));
+
+    consultantReindexer.isIndexingDone();
+  }
+
+  @Test
+  public void afterPropertiesSet_Should_returnWhenIndexingIsDone_When_waitingIsConfigured()
+      throws Exception {
+    ConsultantReindexer consultantReindexer =
+        new ConsultantReindexer(this.fullTextEntityManager, 25, 4, true);
+    this.indexing.complete(null);
+
+    consultantReindexer.afterPropertiesSet();
+
+    assertThat(consultantReindexer.isIndexingDone(), is(true));
+  }
+
+}
@@ -10,11 +10,15 @@ import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import de.caritas.cob.userservice.UserServiceApplication;
 import de.caritas.cob.userservice.api.exception.httpresponses.CustomValidationHttpStatusException;
 import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
+import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatDeleteUserException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatLoginException;
 import de.caritas.cob.userservice.api.helper.UsernameTranscoder;
 import de.caritas.cob.userservice.api.model.CreateConsultantDTO;
@@ -156,4 +160,17 @@ public class ConsultantCreatorServiceIT {
     }
   }
 
+  @Test
+  public void rollBackConsultantAccounts_Should_removeKeycloakUser_When_rocketChatUserCanNotBeRemoved()
+      throws RocketChatDeleteUserException {
+    Consultant consultant = this.easyRandom.nextObject(Consultant.class);
+    doThrow(new RocketChatDeleteUserException(new RuntimeException()))
+        .when(rocketChatService).deleteUser(consultant.getRocketChatId());
+
+    this.consultantCreatorService.rollBackConsultantAccounts(consultant);
+
+    verify(rocketChatService, times(1)).deleteUser(consultant.getRocketChatId());
+    verify(keycloakAdminClientService, times(1)).rollBackUser(consultant.getId());
+  }
+
 }
@@ -1,22 +1,40 @@
 package de.caritas.cob.userservice.api.admin.service.consultant.create.agencyrelation;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import de.caritas.cob.userservice.api.exception.httpresponses.BadRequestException;
 import de.caritas.cob.userservice.api.facade.RocketChatFacade;
 import de.caritas.cob.userservice.api.model.AgencyDTO;
 import de.caritas.cob.userservice.api.model.CreateConsultantAgencyDTO;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
 import de.caritas.cob.userservice.api.repository.consultant.ConsultantRepository;
+import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgency;
 import de.caritas.cob.userservice.api.repository.session.ConsultingType;
 import de.caritas.cob.userservice.api.repository.session.SessionRepository;
+import de.caritas.cob.userservice.api.repository.session.SessionStatus;
 import de.caritas.cob.userservice.api.service.ConsultantAgencyService;
 import de.caritas.cob.userservice.api.service.agency.AgencyService;
 import de.caritas.cob.userservice.api.service.helper.KeycloakAdminClientService;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -67,4 +85,56 @@ public class ConsultantAgencyRelationCreatorServiceTest {
 
   }
 
+  @Test
+  public void buildConsultantAgencyRelations_Should_usePrefetchedAgenciesAndMarkTeamConsultant() {
+    Consultant consultant = new Consultant();
+    consultant.setId("consultantId");
+    AgencyDTO teamAgency = new AgencyDTO()
+        .consultingType(ConsultingType.SUCHT)
+        .teamAgency(true)
+        .id(1L);
+    when(keycloakAdminClientService.userHasRole(any(), any())).thenReturn(true);
+
+    List<ConsultantAgency> consultantAgencies = this.consultantAgencyRelationCreatorService
+        .buildConsultantAgencyRelations(consultant, singleton(1L), singleton("role"),
+            singletonMap(1L, teamAgency));
+
+    assertThat(consultantAgencies, hasSize(1));
+    assertThat(consultantAgencies.get(0).getAgencyId(), is(1L));
+    assertThat(consultant.isTeamConsultant(), is(true));
+    verifyNoInteractions(agencyService, consultantAgencyService, sessionRepository);
+  }
+
+  @Test(expected = BadRequestException.class)
+  public void buildConsultantAgencyRelations_Should_throwBadRequestException_When_consultingTypesOfU25AgencyDiffer() {
+    Consultant consultant = new Consultant();
+    consultant.setId("consultantId");
+    Map<Long, AgencyDTO> agenciesById = new HashMap<>();
+    agenciesById.put(1L, new AgencyDTO().consultingType(ConsultingType.U25).id(1L));
+    agenciesById.put(2L, new AgencyDTO().consultingType(ConsultingType.SUCHT).id(2L));
+    when(keycloakAdminClientService.userHasRole(any(), any())).thenReturn(true);
+
+    this.consultantAgencyRelationCreatorService.buildConsultantAgencyRelations(consultant,
+        new LinkedHashSet<>(asList(1L, 2L)), singleton("role"), agenciesById);
+  }
+
+  @Test
+  public void addConsultantsToSessionsOfAgencies_Should_loadSessionsOncePerAgency() {
+    Consultant first = new Consultant();
+    Consultant second = new Consultant();
+    AgencyDTO agency = new AgencyDTO()
+        .consultingType(ConsultingType.SUCHT)
+        .id(1L);
+
+    Set<String> failedGroupIds = this.consultantAgencyRelationCreatorService
+        .addConsultantsToSessionsOfAgencies(singletonMap(1L, asList(first, second)),
+            singletonMap(1L, agency), message -> {
+            });
+
+    assertThat(failedGroupIds, is(empty()));
+    verify(sessionRepository, times(1))
+        .findByAgencyIdAndStatusAndConsultantIsNull(1L, SessionStatus.NEW);
+    verifyNoInteractions(agencyService);
+  }
+
 }
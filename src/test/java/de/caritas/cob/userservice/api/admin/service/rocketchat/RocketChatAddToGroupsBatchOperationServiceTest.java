@@ -0,0 +1,130 @@
+package de.caritas.cob.userservice.api.admin.service.rocketchat;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
+import de.caritas.cob.userservice.api.facade.RocketChatFacade;
+import de.caritas.cob.userservice.api.facade.RocketChatGroupOperations;
+import de.caritas.cob.userservice.api.repository.consultant.Consultant;
+import de.caritas.cob.userservice.api.repository.session.Session;
+import de.caritas.cob.userservice.api.repository.session.SessionStatus;
+import de.caritas.cob.userservice.api.service.helper.KeycloakAdminClientService;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.jeasy.random.EasyRandom;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RocketChatAddToGroupsBatchOperationServiceTest {
+
+  private final EasyRandom easyRandom = new EasyRandom();
+
+  @Mock
+  private RocketChatFacade rocketChatFacade;
+
+  @Mock
+  private KeycloakAdminClientService keycloakAdminClientService;
+
+  @Mock
+  private Consumer<String> logMethod;
+
+  @Test
+  public void addToGroups_Should_addAllConsultantsOfAGroupInOneGroupOperation() {
+    Session session = enquiryWithoutFeedbackGroup();
+    Consultant first = this.easyRandom.nextObject(Consultant.class);
+    Consultant second = this.easyRandom.nextObject(Consultant.class);
+    RocketChatGroupOperations group = givenGroupOperationsFor(session.getGroupId());
+
+    Set<String> failedGroupIds = RocketChatAddToGroupsBatchOperationService
+        .getInstance(this.rocketChatFacade, this.keycloakAdminClientService, this.logMethod)
+        .withConsultantOnSessions(first, singletonList(session))
+        .withConsultantOnSessions(second, singletonList(session))
+        .addToGroups();
+
+    assertThat(failedGroupIds, is(empty()));
+    verify(this.rocketChatFacade, times(1)).executeInGroups(any());
+    verify(group, times(1)).addUser(first.getRocketChatId());
+    verify(group, times(1)).addUser(second.getRocketChatId());
+  }
+
+  @Test
+  public void addToGroups_Should_returnFailedGroups_When_addingToAGroupFails() {
+    Session failing = enquiryWithoutFeedbackGroup();
+    Session succeeding = enquiryWithoutFeedbackGroup();
+    Consultant consultant = this.easyRandom.nextObject(Consultant.class);
+    RocketChatGroupOperations failingGroup = givenGroupOperationsFor(failing.getGroupId(),
+        succeeding.getGroupId());
+    doThrow(new InternalServerErrorException("error")).when(failingGroup)
+        .addUser(consultant.getRocketChatId());
+
+    Set<String> failedGroupIds = RocketChatAddToGroupsBatchOperationService
+        .getInstance(this.rocketChatFacade, this.keycloakAdminClientService, this.logMethod)
+        .withConsultantOnSessions(consultant, asList(failing, succeeding))
+        .addToGroups();
+
+    assertThat(failedGroupIds, contains(failing.getGroupId()));
+  }
+
+  @Test
+  public void addToGroups_Should_notCallRocketChat_When_noGroupHasBeenCollected() {
+    Session session = this.easyRandom.nextObject(Session.class);
+    session.setStatus(SessionStatus.INITIAL);
+    session.setFeedbackGroupId(null);
+
+    Set<String> failedGroupIds = RocketChatAddToGroupsBatchOperationService
+        .getInstance(this.rocketChatFacade, this.keycloakAdminClientService, this.logMethod)
+        .withConsultantOnSessions(this.easyRandom.nextObject(Consultant.class),
+            singletonList(session))
+        .addToGroups();
+
+    assertThat(failedGroupIds, is(empty()));
+    verifyNoInteractions(this.rocketChatFacade);
+  }
+
+  private Session enquiryWithoutFeedbackGroup() {
+    Session session = this.easyRandom.nextObject(Session.class);
+    session.setStatus(SessionStatus.NEW);
+    session.setFeedbackGroupId(null);
+    return session;
+  }
+
+  /**
+   * Executes the group operations like the facade does and returns the operations mock of the
+   * first given group, all other groups use a separate mock.
+   */
+  @SuppressWarnings("unchecked")
+  private RocketChatGroupOperations givenGroupOperationsFor(String groupId,
+      String... otherGroupIds) {
+    RocketChatGroupOperations group = mock(RocketChatGroupOperations.class);
+    when(group.getGroupId()).thenReturn(groupId);
+    RocketChatGroupOperations otherGroup = mock(RocketChatGroupOperations.class);
+    if (otherGroupIds.length > 0) {
+      when(otherGroup.getGroupId()).thenReturn(otherGroupIds[0]);
+    }
+    doAnswer(invocation -> {
+      Map<String, Consumer<RocketChatGroupOperations>> operations = invocation.getArgument(0);
+      operations.forEach((id, operation) -> operation.accept(id.equals(groupId) ? group
+          : otherGroup));
+      return null;
+    }).when(this.rocketChatFacade).executeInGroups(any());
+    return group;
+  }
+
+}
@@ -1,5 +1,6 @@
 package de.caritas.cob.userservice.api.admin.service.rocketchat;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
@@ -7,6 +8,7 @@ import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -135,4 +137,27 @@ public class RocketChatRemoveFromGroupOperationServiceTest {
     verify(this.rocketChatFacade, times(0)).removeUserFromGroup("rcId", "feedback");
   }
 
+  @Test
+  public void removeFromGroupsOrRollbackOnFailure_Should_retrieveMembersOfGroupOnlyOnce_When_severalConsultantsAreRemoved() {
+    when(this.session.getGroupId()).thenReturn("group");
+    Consultant otherConsultant = mock(Consultant.class);
+    when(this.consultant.getRocketChatId()).thenReturn("rcId");
+    when(otherConsultant.getRocketChatId()).thenReturn("otherRcId");
+    GroupMemberDTO groupMemberDTO = new GroupMemberDTO();
+    groupMemberDTO.set_id("rcId");
+    GroupMemberDTO otherGroupMemberDTO = new GroupMemberDTO();
+    otherGroupMemberDTO.set_id("otherRcId");
+    when(this.rocketChatFacade.retrieveRocketChatMembers("group"))
+        .thenReturn(asList(groupMemberDTO, otherGroupMemberDTO));
+
+    RocketChatRemoveFromGroupOperationService
+        .getInstance(this.rocketChatFacade, this.keycloakAdminClientService)
+        .onSessionConsultants(Map.of(session, asList(consultant, otherConsultant, consultant)))
+        .removeFromGroupsOrRollbackOnFailure();
+
+    verify(this.rocketChatFacade, times(1)).retrieveRocketChatMembers("group");
+    verify(this.rocketChatFacade, times(1)).removeUserFromGroup("rcId", "group");
+    verify(this.rocketChatFacade, times(1)).removeUserFromGroup("otherRcId", "group");
+  }
+
 }
@@ -1,19 +1,22 @@
 package de.caritas.cob.userservice.api.admin.service.user.anonymous;
 
 import static de.caritas.cob.userservice.testHelper.TestConstants.USER;
+import static java.util.Collections.emptyList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static org.powermock.reflect.internal.WhiteboxImpl.setInternalState;
 import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 import de.caritas.cob.userservice.api.helper.UsernameTranscoder;
+import de.caritas.cob.userservice.api.repository.anonymoususername.AnonymousUsernameFreeId;
+import de.caritas.cob.userservice.api.repository.anonymoususername.AnonymousUsernameFreeIdRepository;
 import de.caritas.cob.userservice.api.service.user.UserService;
 import de.caritas.cob.userservice.api.service.user.anonymous.AnonymousUsernameRegistry;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.junit.Before;
@@ -22,9 +25,9 @@ import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.powermock.modules.junit4.PowerMockRunner;
+import org.mockito.junit.MockitoJUnitRunner;
 
-@RunWith(PowerMockRunner.class)
+@RunWith(MockitoJUnitRunner.class)
 public class AnonymousUsernameRegistryTest {
 
   @InjectMocks
@@ -32,6 +35,8 @@ public class AnonymousUsernameRegistryTest {
   @Mock
   private UserService userService;
   @Mock
+  private AnonymousUsernameFreeIdRepository anonymousUsernameFreeIdRepository;
+  @Mock
   private UsernameTranscoder usernameTranscoder;
 
   @Before
@@ -41,75 +46,93 @@ public class AnonymousUsernameRegistryTest {
   }
 
   @Test
-  public void generateUniqueUsername_Should_GenerateUsernameWithMissingIdOfList_When_MissingUserIdNotExistingInDb() {
-    LinkedList<Integer> idRegistryListWithoutThree = new LinkedList<>(List.of(1, 2, 4, 5));
-    setIdRegistryField(idRegistryListWithoutThree);
+  public void generateUniqueUsername_Should_GenerateUsernameWithSmallestFreeId_When_FreeIdCanBeClaimed() {
+    givenFreeIds(3L, 5L);
+    when(anonymousUsernameFreeIdRepository.claimById(3L)).thenReturn(1);
     when(userService.findUserByUsername(any())).thenReturn(Optional.empty());
 
     anonymousUsernameRegistry.generateUniqueUsername();
 
-    ArgumentCaptor<String> argumentCaptor = ArgumentCaptor.forClass(String.class);
-    verify(usernameTranscoder, times(1)).encodeUsername(argumentCaptor.capture());
-    assertThat(argumentCaptor.getValue(), is("Ratsuchende_r 3"));
-  }
-
-  private void setIdRegistryField(LinkedList<Integer> idRegistryListWithoutThree) {
-    setInternalState(AnonymousUsernameRegistry.class, "ID_REGISTRY",
-        idRegistryListWithoutThree);
+    assertThat(encodedUsername(), is("Ratsuchende_r 3"));
+    verify(anonymousUsernameFreeIdRepository, never()).claimById(5L);
+    verify(anonymousUsernameFreeIdRepository, never()).nextUnusedId();
   }
 
   @Test
-  public void generateUniqueUsername_Should_GenerateUsernameWithSecondMissingIdOfList_When_FirstMissingUserIdIsExistingInDb() {
-    LinkedList<Integer> idRegistryListWithoutThree = new LinkedList<>(List.of(1, 2, 4, 6));
-    setIdRegistryField(idRegistryListWithoutThree);
-    when(userService.findUserByUsername("Ratsuchende_r 3")).thenReturn(Optional.of(USER));
-    when(userService.findUserByUsername("Ratsuchende_r 5")).thenReturn(Optional.empty());
+  public void generateUniqueUsername_Should_GenerateUsernameWithNextFreeId_When_SmallestFreeIdIsClaimedByOtherCaller() {
+    givenFreeIds(3L, 5L);
+    when(anonymousUsernameFreeIdRepository.claimById(3L)).thenReturn(0);
+    when(anonymousUsernameFreeIdRepository.claimById(5L)).thenReturn(1);
+    when(userService.findUserByUsername(any())).thenReturn(Optional.empty());
 
     anonymousUsernameRegistry.generateUniqueUsername();
 
-    ArgumentCaptor<String> argumentCaptor = ArgumentCaptor.forClass(String.class);
-    verify(usernameTranscoder, times(1)).encodeUsername(argumentCaptor.capture());
-    assertThat(argumentCaptor.getValue(), is("Ratsuchende_r 5"));
+    assertThat(encodedUsername(), is("Ratsuchende_r 5"));
   }
 
   @Test
-  public void generateUniqueUsername_Should_GenerateUsernameWithIdOne_When_ListIsEmptyAndUserNotExistingInDb() {
-    LinkedList<Integer> idRegistryListWithoutThree = new LinkedList<>();
-    setIdRegistryField(idRegistryListWithoutThree);
+  public void generateUniqueUsername_Should_GenerateUsernameWithSequenceValue_When_NoFreeIdExists() {
+    when(anonymousUsernameFreeIdRepository.findByOrderByIdAsc(any())).thenReturn(emptyList());
+    when(anonymousUsernameFreeIdRepository.nextUnusedId()).thenReturn(7L);
     when(userService.findUserByUsername(any())).thenReturn(Optional.empty());
 
     anonymousUsernameRegistry.generateUniqueUsername();
 
-    ArgumentCaptor<String> argumentCaptor = ArgumentCaptor.forClass(String.class);
-    verify(usernameTranscoder, times(1)).encodeUsername(argumentCaptor.capture());
-    assertThat(argumentCaptor.getValue(), is("Ratsuchende_r 1"));
+    assertThat(encodedUsername(), is("Ratsuchende_r 7"));
+    verify(anonymousUsernameFreeIdRepository, never()).claimById(any());
   }
 
   @Test
-  public void generateUniqueUsername_Should_GenerateUsernameWithIdGreaterThanBiggestListId_When_ListContainsContiguousIdsAndUserNotExistingInDb() {
-    LinkedList<Integer> idRegistryListWithoutThree = new LinkedList<>(List.of(1, 2, 3, 4, 5));
-    setIdRegistryField(idRegistryListWithoutThree);
-    when(userService.findUserByUsername(any())).thenReturn(Optional.empty());
+  public void generateUniqueUsername_Should_GenerateUsernameWithNextId_When_UsernameIsExistingInDb() {
+    when(anonymousUsernameFreeIdRepository.findByOrderByIdAsc(any())).thenReturn(emptyList());
+    when(anonymousUsernameFreeIdRepository.nextUnusedId()).thenReturn(1L, 2L);
+    when(userService.findUserByUsername("Ratsuchende_r 1")).thenReturn(Optional.of(USER));
+    when(userService.findUserByUsername("Ratsuchende_r 2")).thenReturn(Optional.empty());
 
     anonymousUsernameRegistry.generateUniqueUsername();
 
-    ArgumentCaptor<String> argumentCaptor = ArgumentCaptor.forClass(String.class);
-    verify(usernameTranscoder, times(1)).encodeUsername(argumentCaptor.capture());
-    assertThat(argumentCaptor.getValue(), is("Ratsuchende_r 6"));
+    assertThat(encodedUsername(), is("Ratsuchende_r 2"));
   }
 
   @Test
-  public void generateUniqueUsername_Should_GenerateUsernameWithIdGreaterThanBiggestListId_When_MissingIdsOfListHaveExistingUsersInDb() {
-    LinkedList<Integer> idRegistryListWithoutThree = new LinkedList<>(List.of(1, 2, 4, 6));
-    setIdRegistryField(idRegistryListWithoutThree);
-    when(userService.findUserByUsername("Ratsuchende_r 3")).thenReturn(Optional.of(USER));
-    when(userService.findUserByUsername("Ratsuchende_r 5")).thenReturn(Optional.of(USER));
-    when(userService.findUserByUsername("Ratsuchende_r 7")).thenReturn(Optional.empty());
+  public void releaseUsername_Should_SaveIdOfUsernameAsFreeId_When_UsernameIsAnonymousUsername() {
+    when(usernameTranscoder.decodeUsername("encoded")).thenReturn("Ratsuchende_r 12");
 
-    anonymousUsernameRegistry.generateUniqueUsername();
+    anonymousUsernameRegistry.releaseUsername("encoded");
+
+    ArgumentCaptor<AnonymousUsernameFreeId> argumentCaptor =
+        ArgumentCaptor.forClass(AnonymousUsernameFreeId.class);
+    verify(anonymousUsernameFreeIdRepository, times(1)).save(argumentCaptor.capture());
+    assertThat(argumentCaptor.getValue().getId(), is(12L));
+  }
+
+  @Test
+  public void releaseUsername_Should_NotSaveFreeId_When_UsernameIsNoAnonymousUsername() {
+    when(usernameTranscoder.decodeUsername("encoded")).thenReturn("registered user");
+
+    anonymousUsernameRegistry.releaseUsername("encoded");
+
+    verify(anonymousUsernameFreeIdRepository, never()).save(any());
+  }
+
+  @Test
+  public void releaseUsername_Should_NotSaveFreeId_When_UsernameIsNull() {
+    anonymousUsernameRegistry.releaseUsername(null);
+
+    verify(anonymousUsernameFreeIdRepository, never()).save(any());
+  }
+
+  private void givenFreeIds(Long... ids) {
+    List<AnonymousUsernameFreeId> freeIds = new ArrayList<>();
+    for (Long id : ids) {
+      freeIds.add(new AnonymousUsernameFreeId(id, null));
+    }
+    when(anonymousUsernameFreeIdRepository.findByOrderByIdAsc(any())).thenReturn(freeIds);
+  }
 
+  private String encodedUsername() {
     ArgumentCaptor<String> argumentCaptor = ArgumentCaptor.forClass(String.class);
     verify(usernameTranscoder, times(1)).encodeUsername(argumentCaptor.capture());
-    assertThat(argumentCaptor.getValue(), is("Ratsuchende_r 7"));
+    return argumentCaptor.getValue();
   }
 }
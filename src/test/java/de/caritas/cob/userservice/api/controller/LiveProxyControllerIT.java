@@ -9,6 +9,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import de.caritas.cob.userservice.api.authorization.RoleAuthorizationAuthorityMapper;
 import de.caritas.cob.userservice.api.service.liveevents.LiveEventNotificationService;
+import de.caritas.cob.userservice.api.service.session.SessionService;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,6 +35,9 @@ public class LiveProxyControllerIT {
   @MockBean
   private LiveEventNotificationService liveEventNotificationService;
 
+  @MockBean
+  private SessionService sessionService;
+
   @MockBean
   private RoleAuthorizationAuthorityMapper roleAuthorizationAuthorityMapper;
 
@@ -45,7 +49,7 @@ public class LiveProxyControllerIT {
     this.mockMvc.perform(post(LIVE_EVENT_PATH))
         .andExpect(status().isBadRequest());
 
-    verifyNoInteractions(liveEventNotificationService);
+    verifyNoInteractions(liveEventNotificationService, sessionService);
   }
 
   @Test
@@ -57,4 +61,13 @@ public class LiveProxyControllerIT {
     verify(liveEventNotificationService, times(1)).sendLiveDirectMessageEventToUsers(eq("id"));
   }
 
+  @Test
+  public void sendLiveEvent_Should_updateLatestMessageDateOfSession_When_rcGroupIdIsProvided()
+      throws Exception {
+    this.mockMvc.perform(post(LIVE_EVENT_PATH).param("rcGroupId", "id"))
+        .andExpect(status().isOk());
+
+    verify(sessionService, times(1)).updateLatestMessageDate(eq("id"));
+  }
+
 }
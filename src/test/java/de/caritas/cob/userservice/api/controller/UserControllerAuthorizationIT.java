@@ -3,6 +3,7 @@ package de.caritas.cob.userservice.api.controller;
 import static de.caritas.cob.userservice.testHelper.PathConstants.PATH_ACCEPT_ENQUIRY;
 import static de.caritas.cob.userservice.testHelper.PathConstants.PATH_CREATE_ENQUIRY_MESSAGE;
 import static de.caritas.cob.userservice.testHelper.PathConstants.PATH_DELETE_FLAG_USER_DELETED;
+import static de.caritas.cob.userservice.testHelper.PathConstants.PATH_GET_ASKER_IMPORT_JOB;
 import static de.caritas.cob.userservice.testHelper.PathConstants.PATH_GET_CHAT;
 import static de.caritas.cob.userservice.testHelper.PathConstants.PATH_GET_CHAT_MEMBERS;
 import static de.caritas.cob.userservice.testHelper.PathConstants.PATH_GET_CONSULTANTS;
@@ -851,6 +852,34 @@ public class UserControllerAuthorizationIT {
     verifyNoMoreInteractions(askerImportService);
   }
 
+  /**
+   * GET on /users/askers/import/{jobId} (role: technical)
+   */
+
+  @Test
+  public void getAskerImportJob_Should_ReturnUnauthorizedAndCallNoMethods_WhenNoKeycloakAuthorization()
+      throws Exception {
+
+    mvc.perform(get(PATH_GET_ASKER_IMPORT_JOB).cookie(csrfCookie).header(CSRF_HEADER, CSRF_VALUE)
+        .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isUnauthorized());
+
+    verifyNoMoreInteractions(askerImportService);
+  }
+
+  @Test
+  @WithMockUser(authorities = {Authority.CONSULTANT_DEFAULT, Authority.USER_DEFAULT,
+      Authority.USER_ADMIN})
+  public void getAskerImportJob_Should_ReturnForbiddenAndCallNoMethods_WhenNoTechnicalDefaultAuthority()
+      throws Exception {
+
+    mvc.perform(get(PATH_GET_ASKER_IMPORT_JOB).cookie(csrfCookie).header(CSRF_HEADER, CSRF_VALUE)
+        .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isForbidden());
+
+    verifyNoMoreInteractions(askerImportService);
+  }
+
   /**
    * POST on /users/askersWithoutSession/import (role: technical)
    */
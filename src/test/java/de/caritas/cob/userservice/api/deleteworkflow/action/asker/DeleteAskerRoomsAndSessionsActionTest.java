@@ -91,11 +91,12 @@ public class DeleteAskerRoomsAndSessionsActionTest {
     assertThat(workflowErrors, hasSize(0));
     verifyNoMoreInteractions(this.logger);
     verify(this.rocketChatService, times(2)).deleteGroupAsTechnicalUser(any());
-    verify(this.monitoringRepository, times(1)).findBySessionId(session.getId());
-    verify(this.monitoringRepository, times(1)).deleteAll(any());
-    verify(this.sessionDataRepository, times(1)).findBySessionId(session.getId());
-    verify(this.sessionDataRepository, times(1)).deleteAll(any());
-    verify(this.sessionRepository, times(1)).delete(session);
+    verify(this.monitoringRepository, times(1))
+        .deleteMonitoringOptionsBySessionIdIn(singletonList(session.getId()));
+    verify(this.monitoringRepository, times(1)).deleteBySessionIdIn(singletonList(session.getId()));
+    verify(this.sessionDataRepository, times(1))
+        .deleteBySessionIdIn(singletonList(session.getId()));
+    verify(this.sessionRepository, times(1)).deleteByIdIn(singletonList(session.getId()));
   }
 
   @Test
@@ -105,9 +106,10 @@ public class DeleteAskerRoomsAndSessionsActionTest {
     when(this.sessionRepository.findByUser(any())).thenReturn(singletonList(session));
     doThrow(new RocketChatDeleteGroupException(new RuntimeException())).when(this.rocketChatService)
         .deleteGroupAsTechnicalUser(any());
-    doThrow(new RuntimeException()).when(this.monitoringRepository).deleteAll(any());
-    doThrow(new RuntimeException()).when(this.sessionDataRepository).deleteAll(any());
-    doThrow(new RuntimeException()).when(this.sessionRepository).delete(any());
+    doThrow(new RuntimeException()).when(this.monitoringRepository).deleteBySessionIdIn(any());
+    doThrow(new RuntimeException()).when(this.sessionDataRepository)
+        .deleteBySessionIdIn(any());
+    doThrow(new RuntimeException()).when(this.sessionRepository).deleteByIdIn(any());
 
     List<DeletionWorkflowError> workflowErrors = this.deleteAskerRoomsAndSessionsAction
         .execute(new User());
@@ -124,15 +126,33 @@ public class DeleteAskerRoomsAndSessionsActionTest {
     when(this.sessionRepository.findByUser(any())).thenReturn(sessions);
     doThrow(new RocketChatDeleteGroupException(new RuntimeException())).when(this.rocketChatService)
         .deleteGroupAsTechnicalUser(any());
-    doThrow(new RuntimeException()).when(this.monitoringRepository).deleteAll(any());
-    doThrow(new RuntimeException()).when(this.sessionDataRepository).deleteAll(any());
-    doThrow(new RuntimeException()).when(this.sessionRepository).delete(any());
+    doThrow(new RuntimeException()).when(this.monitoringRepository).deleteBySessionIdIn(any());
+    doThrow(new RuntimeException()).when(this.sessionDataRepository)
+        .deleteBySessionIdIn(any());
+    doThrow(new RuntimeException()).when(this.sessionRepository).deleteByIdIn(any());
 
     List<DeletionWorkflowError> workflowErrors = this.deleteAskerRoomsAndSessionsAction
         .execute(new User());
 
     assertThat(workflowErrors, hasSize(15));
-    verify(this.logger, times(15)).error(anyString(), anyString());
+    verify(this.logger, times(9)).error(anyString(), anyString());
+  }
+
+  @Test
+  public void execute_Should_deleteDatabaseEntriesOfAllSessionsWithOneStatementEach() {
+    List<Session> sessions = new EasyRandom().objects(Session.class, 3)
+        .collect(Collectors.toList());
+    List<Long> sessionIds = sessions.stream().map(Session::getId).collect(Collectors.toList());
+    when(this.sessionRepository.findByUser(any())).thenReturn(sessions);
+
+    List<DeletionWorkflowError> workflowErrors = this.deleteAskerRoomsAndSessionsAction
+        .execute(new User());
+
+    assertThat(workflowErrors, hasSize(0));
+    verify(this.monitoringRepository, times(1)).deleteMonitoringOptionsBySessionIdIn(sessionIds);
+    verify(this.monitoringRepository, times(1)).deleteBySessionIdIn(sessionIds);
+    verify(this.sessionDataRepository, times(1)).deleteBySessionIdIn(sessionIds);
+    verify(this.sessionRepository, times(1)).deleteByIdIn(sessionIds);
   }
 
   @Test
@@ -164,7 +184,7 @@ public class DeleteAskerRoomsAndSessionsActionTest {
   public void execute_Should_returnExpectedWorkflowError_When_monitoringDeletionFails() {
     Session session = new EasyRandom().nextObject(Session.class);
     when(this.sessionRepository.findByUser(any())).thenReturn(singletonList(session));
-    doThrow(new RuntimeException()).when(this.monitoringRepository).deleteAll(any());
+    doThrow(new RuntimeException()).when(this.monitoringRepository).deleteBySessionIdIn(any());
 
     List<DeletionWorkflowError> workflowErrors = this.deleteAskerRoomsAndSessionsAction
         .execute(new User());
@@ -182,7 +202,8 @@ public class DeleteAskerRoomsAndSessionsActionTest {
   public void execute_Should_returnExpectedWorkflowError_When_sessionDataDeletionFails() {
     Session session = new EasyRandom().nextObject(Session.class);
     when(this.sessionRepository.findByUser(any())).thenReturn(singletonList(session));
-    doThrow(new RuntimeException()).when(this.sessionDataRepository).deleteAll(any());
+    doThrow(new RuntimeException()).when(this.sessionDataRepository)
+        .deleteBySessionIdIn(any());
 
     List<DeletionWorkflowError> workflowErrors = this.deleteAskerRoomsAndSessionsAction
         .execute(new User());
@@ -200,7 +221,7 @@ public class DeleteAskerRoomsAndSessionsActionTest {
   public void execute_Should_returnExpectedWorkflowError_When_sessionDeletionFails() {
     Session session = new EasyRandom().nextObject(Session.class);
     when(this.sessionRepository.findByUser(any())).thenReturn(singletonList(session));
-    doThrow(new RuntimeException()).when(this.sessionRepository).delete(any());
+    doThrow(new RuntimeException()).when(this.sessionRepository).deleteByIdIn(any());
 
     List<DeletionWorkflowError> workflowErrors = this.deleteAskerRoomsAndSessionsAction
         .execute(new User());
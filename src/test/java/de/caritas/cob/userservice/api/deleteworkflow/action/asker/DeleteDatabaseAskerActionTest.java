@@ -19,6 +19,7 @@ import de.caritas.cob.userservice.api.deleteworkflow.model.DeletionWorkflowError
 import de.caritas.cob.userservice.api.repository.user.User;
 import de.caritas.cob.userservice.api.repository.user.UserRepository;
 import de.caritas.cob.userservice.api.service.LogService;
+import de.caritas.cob.userservice.api.service.user.anonymous.AnonymousUsernameRegistry;
 import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
@@ -37,6 +38,9 @@ public class DeleteDatabaseAskerActionTest {
   @Mock
   private UserRepository userRepository;
 
+  @Mock
+  private AnonymousUsernameRegistry anonymousUsernameRegistry;
+
   @Mock
   private Logger logger;
 
@@ -59,6 +63,16 @@ public class DeleteDatabaseAskerActionTest {
     verifyNoMoreInteractions(this.logger);
   }
 
+  @Test
+  public void execute_Should_releaseUsername_When_deletionOfUserIsSuccessful() {
+    User user = new User();
+    user.setUsername("username");
+
+    this.deleteDatabaseAskerAction.execute(user);
+
+    verify(this.anonymousUsernameRegistry, times(1)).releaseUsername("username");
+  }
+
   @Test
   public void execute_Should_returnExpectedWorkflowErrorAndLogError_When_deletionOfUserFails() {
     doThrow(new RuntimeException()).when(this.userRepository).delete(any());
@@ -74,6 +88,7 @@ public class DeleteDatabaseAskerActionTest {
     assertThat(workflowErrors.get(0).getReason(), is("Unable to delete user"));
     assertThat(workflowErrors.get(0).getTimestamp(), notNullValue());
     verify(this.logger, times(1)).error(anyString(), anyString());
+    verifyNoMoreInteractions(this.anonymousUsernameRegistry);
   }
 
 }
@@ -33,6 +33,7 @@ import de.caritas.cob.userservice.api.repository.user.UserRepository;
 import de.caritas.cob.userservice.api.repository.useragency.UserAgencyRepository;
 import de.caritas.cob.userservice.api.service.helper.KeycloakAdminClientService;
 import de.caritas.cob.userservice.api.service.rocketchat.RocketChatService;
+import de.caritas.cob.userservice.api.service.user.anonymous.AnonymousUsernameRegistry;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -62,7 +63,8 @@ public class DeleteActionsRegistryTest {
   @Test
   public void getAskerDeleteActions_Should_returnDeleteActionsInExpectedOrder_When_askerDeleteActionAreRegistered() {
     List<DeleteAskerAction> deleteAskerActions = asList(
-        new DeleteDatabaseAskerAction(mock(UserRepository.class)),
+        new DeleteDatabaseAskerAction(mock(UserRepository.class),
+            mock(AnonymousUsernameRegistry.class)),
         new DeleteAskerRoomsAndSessionsAction(mock(SessionRepository.class), mock(
             SessionDataRepository.class), mock(MonitoringRepository.class),
             mock(RocketChatService.class)),
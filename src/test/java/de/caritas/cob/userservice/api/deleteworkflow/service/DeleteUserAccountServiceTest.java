@@ -1,13 +1,20 @@
 package de.caritas.cob.userservice.api.deleteworkflow.service;
 
+import static de.caritas.cob.userservice.api.deleteworkflow.model.DeletionSourceType.ASKER;
+import static de.caritas.cob.userservice.api.deleteworkflow.model.DeletionSourceType.CONSULTANT;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 import de.caritas.cob.userservice.api.deleteworkflow.action.DeleteRocketChatUserAction;
 import de.caritas.cob.userservice.api.deleteworkflow.action.asker.DeleteAskerAction;
@@ -21,18 +28,26 @@ import de.caritas.cob.userservice.api.repository.consultant.ConsultantRepository
 import de.caritas.cob.userservice.api.repository.user.User;
 import de.caritas.cob.userservice.api.repository.user.UserRepository;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.PageRequest;
 
 @RunWith(MockitoJUnitRunner.class)
 public class DeleteUserAccountServiceTest {
 
-  @InjectMocks
+  private static final int PAGE_SIZE = 2;
+
   private DeleteUserAccountService deleteUserAccountService;
 
+  private final ExecutorService deleteWorkflowExecutor = Executors.newFixedThreadPool(2);
+
   @Mock
   private UserRepository userRepository;
 
@@ -45,18 +60,37 @@ public class DeleteUserAccountServiceTest {
   @Mock
   private WorkflowErrorMailService workflowErrorMailService;
 
+  @Mock
+  private DeleteWorkflowCheckpointService deleteWorkflowCheckpointService;
+
+  @Before
+  public void setup() {
+    this.deleteUserAccountService = new DeleteUserAccountService(this.userRepository,
+        this.consultantRepository, this.deleteActionsRegistry, this.workflowErrorMailService,
+        this.deleteWorkflowCheckpointService, this.deleteWorkflowExecutor);
+    setField(deleteUserAccountService, "pageSize", PAGE_SIZE);
+    when(this.deleteWorkflowCheckpointService.loadCursor(any())).thenReturn("");
+  }
+
+  @After
+  public void tearDown() {
+    this.deleteWorkflowExecutor.shutdownNow();
+  }
+
   @Test
   public void deleteUserAccounts_Should_notPerformAnyDeletion_When_noUserAccountIsMarkedDeleted() {
     this.deleteUserAccountService.deleteUserAccounts();
 
     verifyNoMoreInteractions(this.workflowErrorMailService);
     verifyNoMoreInteractions(this.deleteActionsRegistry);
+    verify(this.deleteWorkflowCheckpointService, never()).saveCursor(any(), anyString());
   }
 
   @Test
   public void deleteUserAccounts_Should_performAskerDeletion_When_userIsMarkedAsDeleted() {
-    User user = new User();
-    when(this.userRepository.findAllByDeleteDateNotNull()).thenReturn(singletonList(user));
+    User user = userWithId("user");
+    when(this.userRepository.findByDeleteDateNotNullAndUserIdGreaterThanOrderByUserIdAsc("",
+        PageRequest.of(0, PAGE_SIZE))).thenReturn(singletonList(user));
     DeleteAskerAction deleteAskerAction = mock(DeleteDatabaseAskerAction.class);
     when(this.deleteActionsRegistry.getAskerDeleteActions())
         .thenReturn(singletonList(deleteAskerAction));
@@ -71,8 +105,9 @@ public class DeleteUserAccountServiceTest {
   @Test
   public void deleteUserAccounts_Should_performConsultantDeletion_When_consultantIsMarkedAsDeleted() {
     Consultant consultant = new Consultant();
-    when(this.consultantRepository.findAllByDeleteDateNotNull())
-        .thenReturn(singletonList(consultant));
+    consultant.setId("consultant");
+    when(this.consultantRepository.findByDeleteDateNotNullAndIdGreaterThanOrderByIdAsc("",
+        PageRequest.of(0, PAGE_SIZE))).thenReturn(singletonList(consultant));
     DeleteConsultantAction deleteConsultantAction = mock(DeleteDatabaseConsultantAction.class);
     when(this.deleteActionsRegistry.getConsultantDeleteActions())
         .thenReturn(singletonList(deleteConsultantAction));
@@ -87,10 +122,12 @@ public class DeleteUserAccountServiceTest {
   @Test
   public void deleteUserAccounts_Should_sendErrorMails_When_someActionsFail() {
     Consultant consultant = new Consultant();
-    when(this.consultantRepository.findAllByDeleteDateNotNull())
-        .thenReturn(singletonList(consultant));
-    User user = new User();
-    when(this.userRepository.findAllByDeleteDateNotNull()).thenReturn(singletonList(user));
+    consultant.setId("consultant");
+    when(this.consultantRepository.findByDeleteDateNotNullAndIdGreaterThanOrderByIdAsc(any(),
+        any())).thenReturn(singletonList(consultant));
+    User user = userWithId("user");
+    when(this.userRepository.findByDeleteDateNotNullAndUserIdGreaterThanOrderByUserIdAsc(any(),
+        any())).thenReturn(singletonList(user));
     DeleteRocketChatUserAction deleteRocketChatUserAction = mock(DeleteRocketChatUserAction.class);
     when(this.deleteActionsRegistry.getConsultantDeleteActions())
         .thenReturn(singletonList(deleteRocketChatUserAction));
@@ -108,4 +145,49 @@ public class DeleteUserAccountServiceTest {
     verify(this.workflowErrorMailService, times(1)).buildAndSendErrorMail(expectedErrors);
   }
 
+  @Test
+  public void deleteUserAccounts_Should_readPagesAfterLastIdAndStoreCheckpoints() {
+    User first = userWithId("a");
+    User second = userWithId("b");
+    User third = userWithId("c");
+    when(this.userRepository.findByDeleteDateNotNullAndUserIdGreaterThanOrderByUserIdAsc("",
+        PageRequest.of(0, PAGE_SIZE))).thenReturn(asList(first, second));
+    when(this.userRepository.findByDeleteDateNotNullAndUserIdGreaterThanOrderByUserIdAsc("b",
+        PageRequest.of(0, PAGE_SIZE))).thenReturn(singletonList(third));
+    DeleteAskerAction deleteAskerAction = mock(DeleteDatabaseAskerAction.class);
+    when(this.deleteActionsRegistry.getAskerDeleteActions())
+        .thenReturn(singletonList(deleteAskerAction));
+
+    this.deleteUserAccountService.deleteUserAccounts();
+
+    verify(deleteAskerAction).execute(first);
+    verify(deleteAskerAction).execute(second);
+    verify(deleteAskerAction).execute(third);
+    InOrder inOrder = inOrder(this.deleteWorkflowCheckpointService);
+    inOrder.verify(this.deleteWorkflowCheckpointService).saveCursor(ASKER, "b");
+    inOrder.verify(this.deleteWorkflowCheckpointService).saveCursor(ASKER, "c");
+    inOrder.verify(this.deleteWorkflowCheckpointService).clearCursor(ASKER);
+    verify(this.userRepository, times(2))
+        .findByDeleteDateNotNullAndUserIdGreaterThanOrderByUserIdAsc(anyString(), any());
+  }
+
+  @Test
+  public void deleteUserAccounts_Should_resumeAfterStoredCheckpoint() {
+    when(this.deleteWorkflowCheckpointService.loadCursor(CONSULTANT)).thenReturn("checkpoint");
+
+    this.deleteUserAccountService.deleteUserAccounts();
+
+    verify(this.userRepository).findByDeleteDateNotNullAndUserIdGreaterThanOrderByUserIdAsc(
+        eq(""), any());
+    verify(this.consultantRepository).findByDeleteDateNotNullAndIdGreaterThanOrderByIdAsc(
+        eq("checkpoint"), any());
+    verify(this.deleteWorkflowCheckpointService).clearCursor(CONSULTANT);
+  }
+
+  private User userWithId(String userId) {
+    User user = new User();
+    user.setUserId(userId);
+    return user;
+  }
+
 }
@@ -0,0 +1,53 @@
+package de.caritas.cob.userservice.api.deleteworkflow.service;
+
+import static de.caritas.cob.userservice.api.deleteworkflow.model.DeletionSourceType.ASKER;
+import static de.caritas.cob.userservice.api.deleteworkflow.model.DeletionSourceType.CONSULTANT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import de.caritas.cob.userservice.UserServiceApplication;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = UserServiceApplication.class)
+@TestPropertySource(properties = "spring.profiles.active=testing")
+@AutoConfigureTestDatabase(replace = Replace.ANY)
+public class DeleteWorkflowCheckpointServiceIT {
+
+  @Autowired
+  private DeleteWorkflowCheckpointService deleteWorkflowCheckpointService;
+
+  @After
+  public void cleanDatabase() {
+    this.deleteWorkflowCheckpointService.clearCursor(ASKER);
+    this.deleteWorkflowCheckpointService.clearCursor(CONSULTANT);
+  }
+
+  @Test
+  public void loadCursor_Should_returnLastSavedCursorPerSourceType() {
+    this.deleteWorkflowCheckpointService.saveCursor(ASKER, "first");
+    this.deleteWorkflowCheckpointService.saveCursor(ASKER, "second");
+    this.deleteWorkflowCheckpointService.saveCursor(CONSULTANT, "consultant");
+
+    assertThat(this.deleteWorkflowCheckpointService.loadCursor(ASKER), is("second"));
+    assertThat(this.deleteWorkflowCheckpointService.loadCursor(CONSULTANT), is("consultant"));
+  }
+
+  @Test
+  public void loadCursor_Should_returnInitialCursor_When_checkpointWasCleared() {
+    this.deleteWorkflowCheckpointService.saveCursor(ASKER, "first");
+
+    this.deleteWorkflowCheckpointService.clearCursor(ASKER);
+
+    assertThat(this.deleteWorkflowCheckpointService.loadCursor(ASKER), is(""));
+  }
+
+}
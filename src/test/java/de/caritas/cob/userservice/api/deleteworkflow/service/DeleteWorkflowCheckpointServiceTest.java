@@ -0,0 +1,76 @@
+package de.caritas.cob.userservice.api.deleteworkflow.service;
+
+import static de.caritas.cob.userservice.api.deleteworkflow.model.DeletionSourceType.ASKER;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.repository.deleteworkflowcheckpoint.DeleteWorkflowCheckpoint;
+import de.caritas.cob.userservice.api.repository.deleteworkflowcheckpoint.DeleteWorkflowCheckpointRepository;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DeleteWorkflowCheckpointServiceTest {
+
+  @InjectMocks
+  private DeleteWorkflowCheckpointService deleteWorkflowCheckpointService;
+
+  @Mock
+  private DeleteWorkflowCheckpointRepository deleteWorkflowCheckpointRepository;
+
+  @Test
+  public void loadCursor_Should_returnInitialCursor_When_noCheckpointExists() {
+    String cursor = this.deleteWorkflowCheckpointService.loadCursor(ASKER);
+
+    assertThat(cursor, is(""));
+  }
+
+  @Test
+  public void loadCursor_Should_returnLastProcessedId_When_checkpointExists() {
+    when(this.deleteWorkflowCheckpointRepository.findById(ASKER)).thenReturn(
+        Optional.of(new DeleteWorkflowCheckpoint(ASKER, "lastId", LocalDateTime.now())));
+
+    String cursor = this.deleteWorkflowCheckpointService.loadCursor(ASKER);
+
+    assertThat(cursor, is("lastId"));
+  }
+
+  @Test
+  public void saveCursor_Should_saveCheckpointWithLastProcessedId() {
+    this.deleteWorkflowCheckpointService.saveCursor(ASKER, "lastId");
+
+    ArgumentCaptor<DeleteWorkflowCheckpoint> captor =
+        ArgumentCaptor.forClass(DeleteWorkflowCheckpoint.class);
+    verify(this.deleteWorkflowCheckpointRepository).save(captor.capture());
+    assertThat(captor.getValue().getSourceType(), is(ASKER));
+    assertThat(captor.getValue().getLastProcessedId(), is("lastId"));
+    assertThat(captor.getValue().getUpdateDate(), notNullValue());
+  }
+
+  @Test
+  public void clearCursor_Should_deleteCheckpoint_When_checkpointExists() {
+    when(this.deleteWorkflowCheckpointRepository.existsById(ASKER)).thenReturn(true);
+
+    this.deleteWorkflowCheckpointService.clearCursor(ASKER);
+
+    verify(this.deleteWorkflowCheckpointRepository).deleteById(ASKER);
+  }
+
+  @Test
+  public void clearCursor_Should_notDeleteCheckpoint_When_noCheckpointExists() {
+    this.deleteWorkflowCheckpointService.clearCursor(ASKER);
+
+    verify(this.deleteWorkflowCheckpointRepository, never()).deleteById(ASKER);
+  }
+
+}
@@ -115,21 +115,21 @@ public class EmailNotificationFacadeTest {
   private final Session SESSION =
       new Session(1L, USER, CONSULTANT, ConsultingType.SUCHT, REGISTERED, "88045",
           AGENCY_ID, SessionStatus.INITIAL,
-          nowInUtc(), RC_GROUP_ID, null, null, IS_NO_TEAM_SESSION, IS_MONITORING, null, null);
+          nowInUtc(), null, RC_GROUP_ID, null, null, IS_NO_TEAM_SESSION, IS_MONITORING, null, null);
   private final Session SESSION_WITHOUT_CONSULTANT =
       new Session(1L, USER, null, ConsultingType.SUCHT, REGISTERED, "88045", AGENCY_ID,
-          SessionStatus.NEW, nowInUtc(), RC_GROUP_ID, null, null, IS_NO_TEAM_SESSION, IS_MONITORING,
-          null, null);
+          SessionStatus.NEW, nowInUtc(), null, RC_GROUP_ID, null, null, IS_NO_TEAM_SESSION,
+          IS_MONITORING, null, null);
   private final Session SESSION_IN_PROGRESS = new Session(1L, USER, CONSULTANT,
       ConsultingType.SUCHT, REGISTERED, "88045", AGENCY_ID, SessionStatus.IN_PROGRESS, nowInUtc(),
-      RC_GROUP_ID, null, null, IS_NO_TEAM_SESSION, IS_MONITORING, null, null);
+      null, RC_GROUP_ID, null, null, IS_NO_TEAM_SESSION, IS_MONITORING, null, null);
   private final Session SESSION_IN_PROGRESS_NO_EMAIL = new Session(1L, USER_NO_EMAIL,
       CONSULTANT_NO_EMAIL, ConsultingType.SUCHT, REGISTERED, "88045", AGENCY_ID,
-      SessionStatus.IN_PROGRESS, nowInUtc(), RC_GROUP_ID, null, null, IS_NO_TEAM_SESSION,
+      SessionStatus.IN_PROGRESS, nowInUtc(), null, RC_GROUP_ID, null, null, IS_NO_TEAM_SESSION,
       IS_MONITORING, null, null);
   private final Session TEAM_SESSION =
       new Session(1L, USER, CONSULTANT, ConsultingType.SUCHT, REGISTERED, "12345", AGENCY_ID,
-          SessionStatus.IN_PROGRESS, nowInUtc(), RC_GROUP_ID, null, null, IS_TEAM_SESSION,
+          SessionStatus.IN_PROGRESS, nowInUtc(), null, RC_GROUP_ID, null, null, IS_TEAM_SESSION,
           IS_MONITORING, null, null);
   private final AgencyDTO AGENCY_DTO = new AgencyDTO()
       .id(AGENCY_ID)
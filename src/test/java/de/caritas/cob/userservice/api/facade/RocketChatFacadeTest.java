@@ -1,11 +1,15 @@
 package de.caritas.cob.userservice.api.facade;
 
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatAddUserToGroupException;
@@ -13,21 +17,38 @@ import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatGetGroupMem
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatRemoveSystemMessagesException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatRemoveUserFromGroupException;
 import de.caritas.cob.userservice.api.service.rocketchat.RocketChatService;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
 public class RocketChatFacadeTest {
 
-  @InjectMocks
   private RocketChatFacade rocketChatFacade;
+  private ExecutorService groupOperationsExecutor;
 
   @Mock
   private RocketChatService rocketChatService;
 
+  @Before
+  public void setup() {
+    this.groupOperationsExecutor = Executors.newFixedThreadPool(2);
+    this.rocketChatFacade = new RocketChatFacade(this.rocketChatService,
+        this.groupOperationsExecutor);
+  }
+
+  @After
+  public void tearDown() {
+    this.groupOperationsExecutor.shutdownNow();
+  }
+
   @Test
   public void addUserToRocketChatGroup_Should_addUserToGroup()
       throws Exception {
@@ -155,4 +176,66 @@ public class RocketChatFacadeTest {
     this.rocketChatFacade.getStandardMembersOfGroup("");
   }
 
+  @Test
+  public void executeInGroup_Should_addAndRemoveTechnicalUserOnlyOnce_When_severalOperationsAreExecuted()
+      throws Exception {
+    this.rocketChatFacade.executeInGroup("group", group -> {
+      group.retrieveMembers();
+      group.removeUser("other");
+      group.addUser("user");
+      group.removeSystemMessages();
+    });
+
+    InOrder inOrder = inOrder(this.rocketChatService);
+    inOrder.verify(this.rocketChatService, times(1)).addTechnicalUserToGroup("group");
+    inOrder.verify(this.rocketChatService, times(1)).getMembersOfGroup("group");
+    inOrder.verify(this.rocketChatService, times(1)).removeUserFromGroup("other", "group");
+    inOrder.verify(this.rocketChatService, times(1)).addUserToGroup("user", "group");
+    inOrder.verify(this.rocketChatService, times(1))
+        .removeSystemMessages(eq("group"), any(), any());
+    inOrder.verify(this.rocketChatService, times(1)).removeTechnicalUserFromGroup("group");
+    verifyNoMoreInteractions(this.rocketChatService);
+  }
+
+  @Test
+  public void executeInGroup_Should_addRemovedUsersAgainAndRethrow_When_laterOperationFails()
+      throws Exception {
+    doThrow(new RocketChatAddUserToGroupException("")).when(this.rocketChatService)
+        .addUserToGroup("user", "group");
+
+    try {
+      this.rocketChatFacade.executeInGroup("group", group -> {
+        group.removeUser("other");
+        group.addUser("user");
+      });
+      fail("Expected exception: InternalServerErrorException");
+    } catch (InternalServerErrorException e) {
+      verify(this.rocketChatService, times(1)).addUserToGroup("other", "group");
+      verify(this.rocketChatService, never()).removeTechnicalUserFromGroup("group");
+    }
+  }
+
+  @Test
+  public void executeInGroups_Should_executeOperationsOfAllGroups() throws Exception {
+    this.rocketChatFacade.executeInGroups(Map.of(
+        "group", group -> group.addUser("user"),
+        "feedbackGroup", group -> group.addUser("user")));
+
+    verify(this.rocketChatService, times(1)).addUserToGroup("user", "group");
+    verify(this.rocketChatService, times(1)).addUserToGroup("user", "feedbackGroup");
+    verify(this.rocketChatService, times(1)).removeTechnicalUserFromGroup("group");
+    verify(this.rocketChatService, times(1)).removeTechnicalUserFromGroup("feedbackGroup");
+  }
+
+  @Test(expected = InternalServerErrorException.class)
+  public void executeInGroups_Should_rethrowException_When_operationsOfOneGroupFail()
+      throws Exception {
+    doThrow(new RocketChatAddUserToGroupException("")).when(this.rocketChatService)
+        .addUserToGroup("user", "feedbackGroup");
+
+    this.rocketChatFacade.executeInGroups(Map.of(
+        "group", group -> group.addUser("user"),
+        "feedbackGroup", group -> group.addUser("user")));
+  }
+
 }
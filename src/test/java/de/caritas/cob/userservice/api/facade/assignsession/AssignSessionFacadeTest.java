@@ -6,14 +6,18 @@ import static de.caritas.cob.userservice.api.facade.assignsession.AssignEnquiryF
 import static de.caritas.cob.userservice.testHelper.TestConstants.CONSULTANT_WITH_AGENCY;
 import static de.caritas.cob.userservice.testHelper.TestConstants.FEEDBACKSESSION_WITH_CONSULTANT;
 import static de.caritas.cob.userservice.testHelper.TestConstants.ROCKET_CHAT_SYSTEM_USER_ID;
+import static de.caritas.cob.userservice.api.authorization.Authorities.Authority.VIEW_ALL_PEER_SESSIONS;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.hibernate.validator.internal.util.CollectionHelper.asSet;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -22,6 +26,7 @@ import static org.springframework.test.util.ReflectionTestUtils.setField;
 import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
 import de.caritas.cob.userservice.api.facade.EmailNotificationFacade;
 import de.caritas.cob.userservice.api.facade.RocketChatFacade;
+import de.caritas.cob.userservice.api.facade.RocketChatGroupOperations;
 import de.caritas.cob.userservice.api.helper.AuthenticatedUser;
 import de.caritas.cob.userservice.api.model.rocketchat.group.GroupMemberDTO;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
@@ -34,7 +39,11 @@ import de.caritas.cob.userservice.api.service.LogService;
 import de.caritas.cob.userservice.api.service.helper.KeycloakAdminClientService;
 import de.caritas.cob.userservice.api.service.rocketchat.RocketChatRollbackService;
 import de.caritas.cob.userservice.api.service.session.SessionService;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.jeasy.random.EasyRandom;
 import org.junit.Before;
 import org.junit.Test;
@@ -75,10 +84,31 @@ public class AssignSessionFacadeTest {
         ROCKET_CHAT_SYSTEM_USER_ID);
   }
 
+  private final Map<String, RocketChatGroupOperations> groupsById = new HashMap<>();
+
+  @Before
+  public void setupRocketChatGroups() {
+    doAnswer(invocation -> {
+      Map<String, Consumer<RocketChatGroupOperations>> operationsByGroupId =
+          invocation.getArgument(0);
+      operationsByGroupId.forEach((groupId, operations) -> operations.accept(group(groupId)));
+      return null;
+    }).when(this.rocketChatFacade).executeInGroups(any());
+  }
+
+  private RocketChatGroupOperations group(String groupId) {
+    return this.groupsById.computeIfAbsent(groupId, id -> {
+      RocketChatGroupOperations group = mock(RocketChatGroupOperations.class);
+      lenient().when(group.getGroupId()).thenReturn(id);
+      return group;
+    });
+  }
+
   @Test(expected = InternalServerErrorException.class)
   public void assignSession_Should_ReturnInternalServerErrorAndLogErrorAndDoARollback_WhenAddConsultantToRcGroupFails_WhenSessionIsNoEnquiry() {
-    doThrow(new InternalServerErrorException("")).when(rocketChatFacade).addUserToRocketChatGroup(
-        CONSULTANT_WITH_AGENCY.getRocketChatId(), FEEDBACKSESSION_WITH_CONSULTANT.getGroupId());
+    RocketChatGroupOperations group = group(FEEDBACKSESSION_WITH_CONSULTANT.getGroupId());
+    doThrow(new InternalServerErrorException("")).when(group)
+        .addUser(CONSULTANT_WITH_AGENCY.getRocketChatId());
 
     assignSessionFacade.assignSession(FEEDBACKSESSION_WITH_CONSULTANT, CONSULTANT_WITH_AGENCY);
 
@@ -105,11 +135,13 @@ public class AssignSessionFacadeTest {
     Consultant consultant = new EasyRandom().nextObject(Consultant.class);
     consultant.setConsultantAgencies(asSet(consultantAgency));
     consultant.setRocketChatId("consultantRcId");
-    when(this.rocketChatFacade.retrieveRocketChatMembers(anyString())).thenReturn(asList(
+    List<GroupMemberDTO> members = asList(
         new GroupMemberDTO("userRcId", null, "name", null, null),
         new GroupMemberDTO("consultantRcId", null, "name", null, null),
         new GroupMemberDTO("otherRcId", null, "name", null, null)
-    ));
+    );
+    when(group(session.getGroupId()).retrieveMembers()).thenReturn(members);
+    when(group(session.getFeedbackGroupId()).retrieveMembers()).thenReturn(members);
     Consultant consultantToRemove = new EasyRandom().nextObject(Consultant.class);
     consultantToRemove.setRocketChatId("otherRcId");
     when(this.consultantService.getConsultantByRcUserId(anyString()))
@@ -122,13 +154,41 @@ public class AssignSessionFacadeTest {
         argThat(consultantSessionDTO ->
             consultantSessionDTO.getConsultant().equals(consultant)
                 && consultantSessionDTO.getSession().equals(session)));
-    verify(this.rocketChatFacade, atLeastOnce())
-        .removeUserFromGroup(eq(consultantToRemove.getRocketChatId()), eq(session.getGroupId()));
-    verify(this.rocketChatFacade, atLeastOnce())
-        .removeUserFromGroup(eq(consultantToRemove.getRocketChatId()),
-            eq(session.getFeedbackGroupId()));
+    verify(group(session.getGroupId()), times(1))
+        .removeUser(consultantToRemove.getRocketChatId());
+    verify(group(session.getFeedbackGroupId()), times(1))
+        .removeUser(consultantToRemove.getRocketChatId());
+    verify(group(session.getGroupId()), times(1)).addUser(consultant.getRocketChatId());
+    verify(group(session.getFeedbackGroupId()), times(1)).addUser(consultant.getRocketChatId());
+    verify(group(session.getGroupId()), times(1)).removeSystemMessages();
+    verify(group(session.getFeedbackGroupId()), times(1)).removeSystemMessages();
+    verify(this.rocketChatFacade, times(2)).executeInGroups(any());
     verify(this.emailNotificationFacade, times(1))
         .sendAssignEnquiryEmailNotification(any(), any(), any());
   }
 
+  @Test
+  public void assignSession_Should_keepOtherMembers_When_theyHaveAuthorityToViewAllSessions() {
+    Session session = new EasyRandom().nextObject(Session.class);
+    session.setTeamSession(false);
+    session.getUser().setRcUserId("userRcId");
+    Consultant consultant = new EasyRandom().nextObject(Consultant.class);
+    consultant.setRocketChatId("consultantRcId");
+    when(group(session.getGroupId()).retrieveMembers()).thenReturn(
+        singletonList(new GroupMemberDTO("otherRcId", null, "name", null, null)));
+    Consultant otherConsultant = new EasyRandom().nextObject(Consultant.class);
+    otherConsultant.setRocketChatId("otherRcId");
+    when(this.consultantService.getConsultantByRcUserId("otherRcId"))
+        .thenReturn(Optional.of(otherConsultant));
+    when(this.keycloakHelper.userHasAuthority(otherConsultant.getId(), VIEW_ALL_PEER_SESSIONS))
+        .thenReturn(true);
+    when(this.authenticatedUser.getUserId()).thenReturn("authenticatedUserId");
+
+    this.assignSessionFacade.assignSession(session, consultant);
+
+    verify(group(session.getGroupId()), never()).removeUser(anyString());
+    verify(group(session.getFeedbackGroupId()), never()).removeUser(anyString());
+    verify(group(session.getGroupId()), times(1)).addUser(consultant.getRocketChatId());
+  }
+
 }
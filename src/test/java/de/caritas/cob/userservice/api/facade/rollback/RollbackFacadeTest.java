@@ -4,6 +4,7 @@ package de.caritas.cob.userservice.api.facade.rollback;
 import static de.caritas.cob.userservice.testHelper.TestConstants.USER_ID;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import de.caritas.cob.userservice.api.repository.session.Session;
 import de.caritas.cob.userservice.api.repository.user.User;
@@ -13,6 +14,7 @@ import de.caritas.cob.userservice.api.service.session.SessionService;
 import de.caritas.cob.userservice.api.service.UserAgencyService;
 import de.caritas.cob.userservice.api.service.helper.KeycloakAdminClientService;
 import de.caritas.cob.userservice.api.service.user.UserService;
+import de.caritas.cob.userservice.api.service.user.anonymous.AnonymousUsernameRegistry;
 import org.jeasy.random.EasyRandom;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -35,6 +37,8 @@ public class RollbackFacadeTest {
   private UserService userService;
   @Mock
   private MonitoringService monitoringService;
+  @Mock
+  private AnonymousUsernameRegistry anonymousUsernameRegistry;
 
   @Test
   public void rollBackUserAccount_Should_DeleteSessionAndMonitoring_When_SessionIsGiven() {
@@ -93,4 +97,32 @@ public class RollbackFacadeTest {
 
     verify(userService, times(1)).deleteUser(user);
   }
+
+  @Test
+  public void rollBackUserAccount_Should_ReleaseUsername_When_UserIsGivenAndRollbackUserAccountFlagIsTrue() {
+    User user = new EasyRandom().nextObject(User.class);
+    RollbackUserAccountInformation rbUserInfo = RollbackUserAccountInformation
+        .builder()
+        .user(user)
+        .rollBackUserAccount(true)
+        .build();
+
+    rollbackFacade.rollBackUserAccount(rbUserInfo);
+
+    verify(anonymousUsernameRegistry, times(1)).releaseUsername(user.getUsername());
+  }
+
+  @Test
+  public void rollBackUserAccount_Should_NotReleaseUsername_When_RollbackUserAccountFlagIsFalse() {
+    User user = new EasyRandom().nextObject(User.class);
+    RollbackUserAccountInformation rbUserInfo = RollbackUserAccountInformation
+        .builder()
+        .user(user)
+        .rollBackUserAccount(false)
+        .build();
+
+    rollbackFacade.rollBackUserAccount(rbUserInfo);
+
+    verifyNoInteractions(anonymousUsernameRegistry);
+  }
 }
@@ -17,7 +17,11 @@ import static java.util.Objects.nonNull;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 import de.caritas.cob.userservice.api.container.SessionListQueryParameter;
 import de.caritas.cob.userservice.api.model.ConsultantSessionListResponseDTO;
@@ -27,6 +31,7 @@ import de.caritas.cob.userservice.api.model.UserSessionResponseDTO;
 import de.caritas.cob.userservice.api.repository.session.SessionFilter;
 import de.caritas.cob.userservice.api.service.sessionlist.ConsultantSessionListService;
 import de.caritas.cob.userservice.api.service.sessionlist.UserSessionListService;
+import java.util.ArrayList;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -217,6 +222,43 @@ public class SessionListFacadeTest {
     assertFalse(result.getSessions().get(0).getSession().getFeedbackRead());
   }
 
+  @Test
+  public void retrieveSessionsForAuthenticatedConsultant_Should_ReturnSessionPageOfDatabase_When_StreamingIsEnabled() {
+    setField(sessionListFacade, "streamingEnabled", true);
+    SessionListQueryParameter sessionListQueryParameter = createStandardSessionListQueryParameterObject(
+        OFFSET_0, COUNT_10, SessionFilter.ALL);
+    ConsultantSessionListResponseDTO sessionPage = new ConsultantSessionListResponseDTO();
+    when(consultantSessionListService.retrieveSessionPageForAuthenticatedConsultant(CONSULTANT,
+        RC_TOKEN, sessionListQueryParameter))
+        .thenReturn(sessionPage);
+
+    ConsultantSessionListResponseDTO result =
+        sessionListFacade.retrieveSessionsDtoForAuthenticatedConsultant(CONSULTANT, RC_TOKEN,
+            sessionListQueryParameter);
+
+    assertEquals(sessionPage, result);
+    verify(consultantSessionListService, never())
+        .retrieveSessionsForAuthenticatedConsultant(any(), any(), any());
+  }
+
+  @Test
+  public void retrieveSessionsForAuthenticatedConsultant_Should_FilterSessionsInMemory_When_StreamingIsEnabledAndFeedbackFilterIsSet() {
+    setField(sessionListFacade, "streamingEnabled", true);
+    SessionListQueryParameter sessionListQueryParameter = createStandardSessionListQueryParameterObject(
+        OFFSET_0, COUNT_10, SessionFilter.FEEDBACK);
+    when(consultantSessionListService.retrieveSessionsForAuthenticatedConsultant(CONSULTANT,
+        RC_TOKEN, sessionListQueryParameter))
+        .thenReturn(new ArrayList<>(CONSULTANT_SESSION_RESPONSE_DTO_LIST_WITH_ONE_FEEDBACK));
+
+    ConsultantSessionListResponseDTO result =
+        sessionListFacade.retrieveSessionsDtoForAuthenticatedConsultant(CONSULTANT, RC_TOKEN,
+            sessionListQueryParameter);
+
+    assertEquals(COUNT_1, result.getSessions().size());
+    verify(consultantSessionListService, never())
+        .retrieveSessionPageForAuthenticatedConsultant(any(), any(), any());
+  }
+
   /**
    * Method: retrieveTeamSessionsForAuthenticatedConsultant
    */
@@ -6,10 +6,12 @@ import static de.caritas.cob.userservice.testHelper.TestConstants.CONSULTANT_AGE
 import static de.caritas.cob.userservice.testHelper.TestConstants.CONSULTANT_AGENCY_3;
 import static de.caritas.cob.userservice.testHelper.TestConstants.CONSULTANT_WITH_AGENCY;
 import static de.caritas.cob.userservice.testHelper.TestConstants.GRANTED_AUTHORIZATION_CONSULTANT_DEFAULT;
+import static java.util.Collections.singletonList;
 import static org.hibernate.validator.internal.util.CollectionHelper.asSet;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
@@ -66,7 +68,8 @@ public class ConsultantDataProviderTest {
   @Test
   public void retrieveData_Should_ReturnUserDataResponseDTOWithAgencyDTO_When_ProvidedWithCorrectConsultant() {
     when(authenticatedUser.getRoles()).thenReturn(asSet(UserRole.CONSULTANT.getValue()));
-    when(agencyService.getAgency(AGENCY_ID)).thenReturn(AGENCY_DTO_SUCHT);
+    when(agencyService.getAgencies(singletonList(AGENCY_ID)))
+        .thenReturn(singletonList(AGENCY_DTO_SUCHT));
 
     List<AgencyDTO> result = consultantDataProvider.retrieveData(CONSULTANT_WITH_AGENCY)
         .getAgencies();
@@ -80,6 +83,7 @@ public class ConsultantDataProviderTest {
     Consultant consultant = Mockito.mock(Consultant.class);
     when(consultant.getConsultantAgencies())
         .thenReturn(asSet(CONSULTANT_AGENCY_2, CONSULTANT_AGENCY_3));
+    when(agencyService.getAgencies(any())).thenThrow(new RuntimeException());
     when(agencyService.getAgency(CONSULTANT_AGENCY_2.getId())).thenThrow(new RuntimeException());
     when(agencyService.getAgency(CONSULTANT_AGENCY_3.getId())).thenReturn(AGENCY_DTO_SUCHT);
 
@@ -90,9 +94,9 @@ public class ConsultantDataProviderTest {
 
   @Test
   public void retrieveData_Should_ReturnValidData() {
-    when(agencyService.getAgency(
-        CONSULTANT_WITH_AGENCY.getConsultantAgencies().stream().findFirst().get().getId()))
-        .thenReturn(AGENCY_DTO_SUCHT);
+    when(agencyService.getAgencies(singletonList(
+        CONSULTANT_WITH_AGENCY.getConsultantAgencies().stream().findFirst().get().getAgencyId())))
+        .thenReturn(singletonList(AGENCY_DTO_SUCHT));
 
     when(authenticatedUser.getGrantedAuthorities())
         .thenReturn(asSet(GRANTED_AUTHORIZATION_CONSULTANT_DEFAULT));
@@ -39,19 +39,20 @@ public class AuthenticatedUserHelperTest {
       USERNAME, FIRST_NAME, LAST_NAME, EMAIL, false, true, null, true, null, null, null, null, null,
       null);
   private final Session SESSION = new Session(SESSION_ID, null, CONSULTANT, SUCHT,
-      REGISTERED, POSTCODE, AGENCY_ID, SessionStatus.NEW, nowInUtc(), null, null, null,
+      REGISTERED, POSTCODE, AGENCY_ID, SessionStatus.NEW, nowInUtc(), null, null, null, null,
       false, false, null, null);
   private final Session SESSION_WITH_DIFFERENT_CONSULTANT =
       new Session(SESSION_ID, null, TEAM_CONSULTANT, SUCHT, REGISTERED, POSTCODE,
-          AGENCY_ID, SessionStatus.NEW, nowInUtc(), null, null, null,
+          AGENCY_ID, SessionStatus.NEW, nowInUtc(), null, null, null, null,
           false, false, null, null);
   private final Session TEAM_SESSION =
       new Session(TEAM_SESSION_ID, null, TEAM_CONSULTANT, SUCHT, REGISTERED, POSTCODE, AGENCY_ID,
-          SessionStatus.IN_PROGRESS, nowInUtc(), null, null, null, IS_TEAM_SESSION, IS_MONITORING,
-          null, null);
+          SessionStatus.IN_PROGRESS, nowInUtc(), null, null, null, null, IS_TEAM_SESSION,
+          IS_MONITORING, null, null);
   private final Session TEAM_SESSION_WITH_DIFFERENT_CONSULTANT =
       new Session(TEAM_SESSION_ID, null, CONSULTANT, SUCHT, REGISTERED, POSTCODE,
-          AGENCY_ID, SessionStatus.IN_PROGRESS, nowInUtc(), null, null, null, IS_TEAM_SESSION, IS_MONITORING,
+          AGENCY_ID, SessionStatus.IN_PROGRESS, nowInUtc(), null, null, null, null,
+          IS_TEAM_SESSION, IS_MONITORING,
           null, null);
 
   @InjectMocks
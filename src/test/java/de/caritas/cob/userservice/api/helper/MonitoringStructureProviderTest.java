@@ -1,6 +1,7 @@
 package de.caritas.cob.userservice.api.helper;
 
 import static de.caritas.cob.userservice.api.repository.session.ConsultingType.SUCHT;
+import static de.caritas.cob.userservice.api.repository.session.ConsultingType.U25;
 import static java.util.Collections.emptyMap;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
@@ -11,6 +12,8 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
@@ -219,6 +222,43 @@ public class MonitoringStructureProviderTest {
     assertThat(monitoringInitalList.getProperties().entrySet(), hasSize(2));
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void getMonitoringInitialList_Should_parseTemplateOnceAndReturnIndependentCopies() {
+    ConsultingTypeSettings settings = mock(ConsultingTypeSettings.class);
+    when(settings.getMonitoringFile()).thenReturn("/monitoring/sucht.json");
+    when(this.consultingTypeManager.getConsultingTypeSettings(SUCHT)).thenReturn(settings);
+
+    MonitoringDTO firstMonitoring = this.monitoringStructureProvider
+        .getMonitoringInitialList(SUCHT);
+    Map<String, Object> addictiveDrugs = (Map<String, Object>) firstMonitoring.getProperties()
+        .get(ADDICTIVE_DRUGS);
+    addictiveDrugs.put(ALCOHOL, true);
+    firstMonitoring.getProperties().remove("intervention");
+    MonitoringDTO secondMonitoring = this.monitoringStructureProvider
+        .getMonitoringInitialList(SUCHT);
+
+    verify(this.consultingTypeManager, times(1)).getConsultingTypeSettings(SUCHT);
+    assertThat(secondMonitoring.getProperties().entrySet(), hasSize(2));
+    assertThat(((Map<String, Object>) secondMonitoring.getProperties().get(ADDICTIVE_DRUGS))
+        .get(ALCOHOL), is(false));
+  }
+
+  @Test
+  public void initialize_Should_preloadTemplatesOfConsultingTypesWithMonitoringFileOnly() {
+    ConsultingTypeSettings suchtSettings = mock(ConsultingTypeSettings.class);
+    when(suchtSettings.getMonitoringFile()).thenReturn("/monitoring/sucht.json");
+    when(this.consultingTypeManager.getConsultingTypeSettings(any()))
+        .thenReturn(mock(ConsultingTypeSettings.class));
+    when(this.consultingTypeManager.getConsultingTypeSettings(SUCHT)).thenReturn(suchtSettings);
+
+    this.monitoringStructureProvider.initialize();
+    this.monitoringStructureProvider.getMonitoringInitialList(SUCHT);
+
+    verify(this.consultingTypeManager, times(2)).getConsultingTypeSettings(SUCHT);
+    verify(this.consultingTypeManager, times(1)).getConsultingTypeSettings(U25);
+  }
+
   @Test(expected = InternalServerErrorException.class)
   public void getMonitoringInitialList_Should_throwInternalServerErrorException_When_monitoringFilePathIsNull() {
     ConsultingTypeSettings settings = mock(ConsultingTypeSettings.class);
@@ -63,10 +63,10 @@ public class SessionDataProviderTest {
       "first name", "last name", "consultant@cob.de", false, false, null, false, null, null, null,
       null, null, null);
   private final Session INITIALIZED_SESSION_SUCHT = new Session(1L, USER, CONSULTANT,
-      SUCHT, REGISTERED, "99999", 0L, SessionStatus.INITIAL, null, null, null, null, false,
+      SUCHT, REGISTERED, "99999", 0L, SessionStatus.INITIAL, null, null, null, null, null, false,
       false, null, null);
   private final Session INITIALIZED_SESSION_U25 = new Session(1L, USER, CONSULTANT,
-      U25, REGISTERED, "99999", 0L, SessionStatus.INITIAL, null, null, null, null, false,
+      U25, REGISTERED, "99999", 0L, SessionStatus.INITIAL, null, null, null, null, null, false,
       false, null, null);
   private final SessionData SESSION_DATA_ADDICTIVE_DRUGS = new SessionData(new Session(),
       SessionDataType.REGISTRATION, SessionDataKeyRegistration.ADDICTIVE_DRUGS.getValue(), "1");
@@ -77,7 +77,7 @@ public class SessionDataProviderTest {
   private final List<SessionData> SESSION_DATA =
       Arrays.asList(SESSION_DATA_ADDICTIVE_DRUGS, SESSION_DATA_AGE, SESSION_DATA_GENDER);
   private final Session INITIALIZED_SESSION_WITH_SESSION_DATA = new Session(1L, USER, CONSULTANT,
-      SUCHT, REGISTERED, "99999", 1L, SessionStatus.IN_PROGRESS, nowInUtc(), null,
+      SUCHT, REGISTERED, "99999", 1L, SessionStatus.IN_PROGRESS, nowInUtc(), null, null,
       null, SESSION_DATA, IS_TEAM_SESSION, IS_MONITORING, null, null);
   private final SessionDataDTO SESSION_DATA_DTO = (SessionDataDTO) new SessionDataDTO()
       .addictiveDrugs(ADDICTIVE_DRUGS_VALUE).relation(RELATION_VALUE).gender(GENDER_VALUE)
@@ -0,0 +1,97 @@
+package de.caritas.cob.userservice.api.repository.monitoring;
+
+import static de.caritas.cob.userservice.api.repository.monitoring.MonitoringType.ADDICTIVE_DRUGS;
+import static de.caritas.cob.userservice.api.repository.monitoring.MonitoringType.INTERVENTION;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import de.caritas.cob.userservice.UserServiceApplication;
+import de.caritas.cob.userservice.api.repository.monitoringoption.MonitoringOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = UserServiceApplication.class)
+@TestPropertySource(properties = "spring.profiles.active=testing")
+@AutoConfigureTestDatabase(replace = Replace.ANY)
+public class MonitoringBatchRepositoryIT {
+
+  private static final Long SESSION_ID = 9999L;
+
+  @Autowired
+  private MonitoringBatchRepository monitoringBatchRepository;
+
+  @Autowired
+  private MonitoringRepository monitoringRepository;
+
+  @After
+  public void cleanDatabase() {
+    this.monitoringBatchRepository.deleteAll(buildMonitoringList(true));
+  }
+
+  @Test
+  public void upsertAll_Should_insertMonitoringWithOptions_When_sessionHasNoMonitoring() {
+    this.monitoringBatchRepository.upsertAll(buildMonitoringList(false));
+
+    Map<String, Monitoring> monitoringByKey = findMonitoringByKey();
+
+    assertThat(monitoringByKey.keySet(), containsInAnyOrder("alcohol", "drugs", "information"));
+    assertThat(monitoringByKey.get("alcohol").getValue(), is(false));
+    assertThat(monitoringByKey.get("drugs").getMonitoringOptionList(), hasSize(2));
+  }
+
+  @Test
+  public void upsertAll_Should_updateValues_When_monitoringAlreadyExists() {
+    this.monitoringBatchRepository.upsertAll(buildMonitoringList(false));
+
+    this.monitoringBatchRepository.upsertAll(buildMonitoringList(true));
+
+    Map<String, Monitoring> monitoringByKey = findMonitoringByKey();
+    assertThat(monitoringByKey.keySet(), hasSize(3));
+    assertThat(monitoringByKey.get("alcohol").getValue(), is(true));
+    assertThat(monitoringByKey.get("information").getValue(), is(true));
+    assertThat(monitoringByKey.get("drugs").getMonitoringOptionList().stream()
+        .allMatch(MonitoringOption::getValue), is(true));
+  }
+
+  @Test
+  public void deleteAll_Should_deleteMonitoringWithOptions() {
+    this.monitoringBatchRepository.upsertAll(buildMonitoringList(false));
+
+    this.monitoringBatchRepository.deleteAll(buildMonitoringList(false));
+
+    assertThat(this.monitoringRepository.findBySessionId(SESSION_ID), is(empty()));
+  }
+
+  private Map<String, Monitoring> findMonitoringByKey() {
+    return this.monitoringRepository.findBySessionId(SESSION_ID).stream()
+        .collect(Collectors.toMap(Monitoring::getKey, Function.identity()));
+  }
+
+  private List<Monitoring> buildMonitoringList(boolean value) {
+    Monitoring drugs = new Monitoring(SESSION_ID, ADDICTIVE_DRUGS, "drugs", null,
+        new ArrayList<>());
+    drugs.getMonitoringOptionList().addAll(asList(
+        new MonitoringOption(SESSION_ID, ADDICTIVE_DRUGS, "drugs", "cannabis", value, drugs),
+        new MonitoringOption(SESSION_ID, ADDICTIVE_DRUGS, "drugs", "others", value, drugs)));
+    return asList(new Monitoring(SESSION_ID, ADDICTIVE_DRUGS, "alcohol", value), drugs,
+        new Monitoring(SESSION_ID, INTERVENTION, "information", value));
+  }
+
+}
@@ -0,0 +1,316 @@
+package de.caritas.cob.userservice.api.service;
+
+import static de.caritas.cob.userservice.api.service.importjob.ImportType.ASKER_WITHOUT_SESSION;
+import static java.util.Collections.singleton;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import de.caritas.cob.userservice.api.exception.httpresponses.BadRequestException;
+import de.caritas.cob.userservice.api.facade.rollback.RollbackFacade;
+import de.caritas.cob.userservice.api.facade.rollback.RollbackUserAccountInformation;
+import de.caritas.cob.userservice.api.helper.AuthenticatedUser;
+import de.caritas.cob.userservice.api.helper.MonitoringStructureProvider;
+import de.caritas.cob.userservice.api.helper.UserHelper;
+import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeManager;
+import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeSettings;
+import de.caritas.cob.userservice.api.model.AgencyDTO;
+import de.caritas.cob.userservice.api.model.ImportJobDTO.StatusEnum;
+import de.caritas.cob.userservice.api.model.keycloak.KeycloakCreateUserResponseDTO;
+import de.caritas.cob.userservice.api.model.keycloak.login.KeycloakLoginResponseDTO;
+import de.caritas.cob.userservice.api.model.rocketchat.login.DataDTO;
+import de.caritas.cob.userservice.api.model.rocketchat.login.LoginResponseDTO;
+import de.caritas.cob.userservice.api.repository.session.ConsultingType;
+import de.caritas.cob.userservice.api.repository.user.User;
+import de.caritas.cob.userservice.api.service.agency.AgencyService;
+import de.caritas.cob.userservice.api.service.helper.KeycloakAdminClientService;
+import de.caritas.cob.userservice.api.service.importjob.ImportCheckpointService;
+import de.caritas.cob.userservice.api.service.importjob.ImportJob;
+import de.caritas.cob.userservice.api.service.importjob.ImportJobRegistry;
+import de.caritas.cob.userservice.api.service.message.MessageServiceProvider;
+import de.caritas.cob.userservice.api.service.rocketchat.RocketChatCredentialsProvider;
+import de.caritas.cob.userservice.api.service.rocketchat.RocketChatService;
+import de.caritas.cob.userservice.api.service.securityheader.SecurityHeaderSupplier;
+import de.caritas.cob.userservice.api.service.session.SessionService;
+import de.caritas.cob.userservice.api.service.user.UserService;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AskerImportServiceTest {
+
+  private static final long TIMEOUT_MILLIS = 10000;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private AskerImportService askerImportService;
+
+  @Mock
+  private KeycloakAdminClientService keycloakAdminClientService;
+  @Mock
+  private UserService userService;
+  @Mock
+  private SessionService sessionService;
+  @Mock
+  private RocketChatService rocketChatService;
+  @Mock
+  private SessionDataService sessionDataService;
+  @Mock
+  private ConsultantService consultantService;
+  @Mock
+  private ConsultantAgencyService consultantAgencyService;
+  @Mock
+  private MonitoringService monitoringService;
+  @Mock
+  private MessageServiceProvider messageServiceProvider;
+  @Mock
+  private MonitoringStructureProvider monitoringStructureProvider;
+  @Mock
+  private ConsultingTypeManager consultingTypeManager;
+  @Mock
+  private AgencyService agencyService;
+  @Mock
+  private UserHelper userHelper;
+  @Mock
+  private UserAgencyService userAgencyService;
+  @Mock
+  private RocketChatCredentialsProvider rocketChatCredentialsProvider;
+  @Mock
+  private ImportCheckpointService importCheckpointService;
+  @Mock
+  private RollbackFacade rollbackFacade;
+  @Mock
+  private KeycloakService keycloakService;
+  @Mock
+  private AuthenticatedUser authenticatedUser;
+
+  private SecurityHeaderSupplier securityHeaderSupplier;
+  private ExecutorService importExecutor;
+  private ExecutorService workerExecutor;
+  private File importFile;
+
+  @Before
+  public void setup() throws IOException {
+    this.securityHeaderSupplier = new SecurityHeaderSupplier(authenticatedUser);
+    setField(securityHeaderSupplier, "csrfHeaderProperty", "X-CSRF-TOKEN");
+    setField(securityHeaderSupplier, "csrfCookieProperty", "CSRF-TOKEN");
+    this.importExecutor = Executors.newFixedThreadPool(2);
+    this.workerExecutor = Executors.newFixedThreadPool(2);
+    this.askerImportService = new AskerImportService(keycloakAdminClientService, userService,
+        sessionService, rocketChatService, sessionDataService, consultantService,
+        consultantAgencyService, monitoringService, messageServiceProvider,
+        monitoringStructureProvider, consultingTypeManager, agencyService, userHelper,
+        userAgencyService, rocketChatCredentialsProvider, new ImportJobRegistry(),
+        importCheckpointService, rollbackFacade, keycloakService, securityHeaderSupplier,
+        importExecutor, workerExecutor);
+    this.importFile = temporaryFolder.newFile("askers.csv");
+    setField(askerImportService, "importFilenameAsker", importFile.getAbsolutePath());
+    setField(askerImportService, "importFilenameAskerWithoutSession",
+        importFile.getAbsolutePath());
+    setField(askerImportService, "protocolFilename",
+        new File(temporaryFolder.getRoot(), "protocol.txt").getAbsolutePath());
+    setField(askerImportService, "chunkSize", 2);
+    setField(askerImportService, "keycloakConcurrency", 1);
+    setField(askerImportService, "rocketChatConcurrency", 1);
+    setField(askerImportService, "technicalUsername", "technical");
+    setField(askerImportService, "technicalPassword", "secret");
+    this.askerImportService.initialize();
+  }
+
+  @After
+  public void shutdown() {
+    this.importExecutor.shutdownNow();
+    this.workerExecutor.shutdownNow();
+  }
+
+  @Test
+  public void startImportForAskersWithoutSession_Should_importRemainingRecordsAndStoreCheckpoints()
+      throws Exception {
+    givenImportFile("1,imported,imported@domain.de,1,pass",
+        "2,failing,failing@domain.de,2,pass",
+        "3,new,new@domain.de,1,pass");
+    when(importCheckpointService.loadImportedRecordKeys(ASKER_WITHOUT_SESSION))
+        .thenReturn(singleton("imported"));
+    givenTechnicalUserToken();
+    givenSuccessfulImportOfAgency(1L);
+
+    ImportJob importJob = this.askerImportService.startImportForAskersWithoutSession();
+    awaitTermination(importJob);
+
+    assertThat(importJob.getStatus(), is(StatusEnum.FINISHED));
+    assertThat(importJob.getAlreadyImportedRecords().get(), is(1));
+    assertThat(importJob.getFailedRecords().get(), is(1));
+    assertThat(importJob.getImportedRecords().get(), is(1));
+    verify(keycloakAdminClientService, times(1)).createKeycloakUser(any(), anyString(),
+        anyString());
+    verify(importCheckpointService, times(1)).markImported(ASKER_WITHOUT_SESSION, "new");
+  }
+
+  @Test
+  public void startImportForAskersWithoutSession_Should_skipRecord_When_usernameIsTaken()
+      throws Exception {
+    givenImportFile("1,taken,taken@domain.de,1,pass");
+    givenTechnicalUserToken();
+    when(userHelper.isUsernameValid(any())).thenReturn(true);
+    when(agencyService.getAgencyWithoutCaching(1L))
+        .thenReturn(new AgencyDTO().id(1L).consultingType(ConsultingType.SUCHT));
+
+    ImportJob importJob = this.askerImportService.startImportForAskersWithoutSession();
+    awaitTermination(importJob);
+
+    assertThat(importJob.getStatus(), is(StatusEnum.FINISHED));
+    assertThat(importJob.getSkippedRecords().get(), is(1));
+    verify(importCheckpointService, times(0)).markImported(any(), any());
+  }
+
+  @Test
+  public void startImportForAskersWithoutSession_Should_rollBackCreatedAccounts_When_recordFails()
+      throws Exception {
+    givenImportFile("1,failing,failing@domain.de,1,pass");
+    givenTechnicalUserToken();
+    givenSuccessfulImportOfAgency(1L);
+    when(userAgencyService.saveUserAgency(any())).thenThrow(new RuntimeException("failed"));
+
+    ImportJob importJob = this.askerImportService.startImportForAskersWithoutSession();
+    awaitTermination(importJob);
+
+    assertThat(importJob.getFailedRecords().get(), is(1));
+    verify(rocketChatService, times(1)).deleteUser("rcUserId");
+    ArgumentCaptor<RollbackUserAccountInformation> rollbackCaptor =
+        ArgumentCaptor.forClass(RollbackUserAccountInformation.class);
+    verify(rollbackFacade, times(1)).rollBackUserAccount(rollbackCaptor.capture());
+    assertThat(rollbackCaptor.getValue().getUserId(), is("userId"));
+    assertThat(rollbackCaptor.getValue().getUser().getUserId(), is("userId"));
+    assertThat(rollbackCaptor.getValue().isRollBackUserAccount(), is(true));
+    verify(importCheckpointService, times(0)).markImported(any(), any());
+  }
+
+  @Test
+  public void startImportForAskersWithoutSession_Should_notRollBack_When_recordFailsBeforeAccountCreation()
+      throws Exception {
+    givenImportFile("1,failing,failing@domain.de,2,pass");
+    givenTechnicalUserToken();
+    when(userHelper.isUsernameValid(any())).thenReturn(true);
+
+    ImportJob importJob = this.askerImportService.startImportForAskersWithoutSession();
+    awaitTermination(importJob);
+
+    assertThat(importJob.getFailedRecords().get(), is(1));
+    verifyNoInteractions(rollbackFacade);
+  }
+
+  @Test
+  public void startImportForAskersWithoutSession_Should_authenticateServiceCallsWithTechnicalUserToken()
+      throws Exception {
+    givenImportFile("1,new,new@domain.de,1,pass");
+    givenTechnicalUserToken();
+    givenSuccessfulImportOfAgency(1L);
+    List<String> authorizationHeaders = new CopyOnWriteArrayList<>();
+    when(userAgencyService.saveUserAgency(any())).thenAnswer(invocation -> {
+      authorizationHeaders.add(
+          securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders().getFirst("Authorization"));
+      return invocation.getArgument(0);
+    });
+
+    ImportJob importJob = this.askerImportService.startImportForAskersWithoutSession();
+    awaitTermination(importJob);
+
+    assertThat(importJob.getImportedRecords().get(), is(1));
+    assertThat(authorizationHeaders, contains("Bearer technicalToken"));
+    verify(keycloakService, times(1)).loginUser("technical", "secret");
+    verifyNoInteractions(authenticatedUser);
+  }
+
+  @Test
+  public void startImportForAskersWithoutSession_Should_failJob_When_technicalUserCanNotBeLoggedIn()
+      throws Exception {
+    givenImportFile("1,new,new@domain.de,1,pass");
+    when(keycloakService.loginUser(any(), any()))
+        .thenThrow(new BadRequestException("login failed"));
+
+    ImportJob importJob = this.askerImportService.startImportForAskersWithoutSession();
+    awaitTermination(importJob);
+
+    assertThat(importJob.getStatus(), is(StatusEnum.FAILED));
+    verifyNoInteractions(keycloakAdminClientService);
+  }
+
+  @Test
+  public void startImport_Should_failJob_When_systemUserCanNotBeLoggedIn() throws Exception {
+    when(rocketChatCredentialsProvider.loginUser(any(), any()))
+        .thenThrow(new RuntimeException("login failed"));
+
+    ImportJob importJob = this.askerImportService.startImport();
+    awaitTermination(importJob);
+
+    assertThat(importJob.getStatus(), is(StatusEnum.FAILED));
+    verify(keycloakAdminClientService, times(0)).createKeycloakUser(any(), any(), any());
+  }
+
+  private void givenImportFile(String... lines) throws IOException {
+    Files.write(this.importFile.toPath(), String.join("\n", lines).getBytes(
+        StandardCharsets.UTF_8));
+  }
+
+  private void givenTechnicalUserToken() {
+    KeycloakLoginResponseDTO loginResponseDTO = new KeycloakLoginResponseDTO();
+    loginResponseDTO.setAccessToken("technicalToken");
+    when(keycloakService.loginUser(any(), any())).thenReturn(loginResponseDTO);
+  }
+
+  private void givenSuccessfulImportOfAgency(Long agencyId) throws Exception {
+    when(userHelper.isUsernameValid(any())).thenReturn(true);
+    when(agencyService.getAgencyWithoutCaching(agencyId))
+        .thenReturn(new AgencyDTO().id(agencyId).consultingType(ConsultingType.SUCHT));
+    when(keycloakAdminClientService.isUsernameAvailable(any())).thenReturn(true);
+    when(keycloakAdminClientService.createKeycloakUser(any(), anyString(), anyString()))
+        .thenReturn(new KeycloakCreateUserResponseDTO("userId"));
+    when(consultingTypeManager.getConsultingTypeSettings(ConsultingType.SUCHT))
+        .thenReturn(mock(ConsultingTypeSettings.class));
+    User user = new User();
+    user.setUserId("userId");
+    when(userService.createUser(eq("userId"), any(), any(), any(), anyBoolean()))
+        .thenReturn(user);
+    when(userService.saveUser(user)).thenReturn(user);
+    LoginResponseDTO loginResponseDTO =
+        new LoginResponseDTO("success", new DataDTO("rcUserId", "rcToken", null));
+    when(rocketChatService.loginUserFirstTime(any(), any()))
+        .thenReturn(new ResponseEntity<>(loginResponseDTO, HttpStatus.OK));
+  }
+
+  private void awaitTermination(ImportJob importJob) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+    while (importJob.isRunning() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(20);
+    }
+  }
+
+}
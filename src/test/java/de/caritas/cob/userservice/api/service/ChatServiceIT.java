@@ -0,0 +1,148 @@
+package de.caritas.cob.userservice.api.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hibernate.validator.internal.util.CollectionHelper.asSet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.UserServiceApplication;
+import de.caritas.cob.userservice.api.helper.UsernameTranscoder;
+import de.caritas.cob.userservice.api.model.ConsultantSessionResponseDTO;
+import de.caritas.cob.userservice.api.model.UserSessionResponseDTO;
+import de.caritas.cob.userservice.api.repository.chat.Chat;
+import de.caritas.cob.userservice.api.repository.chat.ChatInterval;
+import de.caritas.cob.userservice.api.repository.chat.ChatRepository;
+import de.caritas.cob.userservice.api.repository.chatagency.ChatAgency;
+import de.caritas.cob.userservice.api.repository.chatagency.ChatAgencyRepository;
+import de.caritas.cob.userservice.api.repository.consultant.Consultant;
+import de.caritas.cob.userservice.api.repository.consultant.ConsultantRepository;
+import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgency;
+import de.caritas.cob.userservice.api.repository.session.ConsultingType;
+import de.caritas.cob.userservice.api.repository.user.UserRepository;
+import de.caritas.cob.userservice.api.repository.useragency.UserAgency;
+import de.caritas.cob.userservice.api.repository.useragency.UserAgencyRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = UserServiceApplication.class)
+@TestPropertySource(properties = "spring.profiles.active=testing")
+@AutoConfigureTestDatabase(replace = Replace.ANY)
+public class ChatServiceIT {
+
+  private static final String CHAT_OWNER_ID = "473f7c4b-f011-4fc2-847c-ceb636a5b399";
+  private static final String USER_ID = "015d013d-95e7-4e91-85b5-12cdb3d317f3";
+  private static final int CHAT_COUNT = 5;
+
+  @Autowired
+  private ChatService chatService;
+
+  @Autowired
+  private ChatRepository chatRepository;
+
+  @Autowired
+  private ChatAgencyRepository chatAgencyRepository;
+
+  @Autowired
+  private ConsultantRepository consultantRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private UserAgencyRepository userAgencyRepository;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @MockBean
+  private UsernameTranscoder usernameTranscoder;
+
+  private Statistics statistics;
+
+  @Before
+  public void setup() {
+    Consultant chatOwner = this.consultantRepository.findByIdAndDeleteDateIsNull(CHAT_OWNER_ID)
+        .orElseThrow();
+    IntStream.range(0, CHAT_COUNT).forEach(i -> saveChatForAgencies(chatOwner, "chat " + i));
+    this.userAgencyRepository.save(
+        new UserAgency(this.userRepository.findByUserIdAndDeleteDateIsNull(USER_ID).orElseThrow(),
+            1L));
+
+    this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    this.statistics.setStatisticsEnabled(true);
+    this.statistics.clear();
+  }
+
+  private void saveChatForAgencies(Consultant chatOwner, String topic) {
+    LocalDateTime startDate = LocalDateTime.now();
+    Chat chat = this.chatRepository.save(new Chat(topic, ConsultingType.KREUZBUND, startDate,
+        startDate, 60, true, ChatInterval.WEEKLY, chatOwner));
+    this.chatAgencyRepository.save(new ChatAgency(chat, 0L));
+    this.chatAgencyRepository.save(new ChatAgency(chat, 1L));
+  }
+
+  @After
+  public void cleanDatabase() {
+    this.statistics.setStatisticsEnabled(false);
+    this.chatAgencyRepository.deleteAll();
+    this.chatRepository.deleteAll();
+    this.userAgencyRepository.deleteAll();
+  }
+
+  @Test
+  public void getChatsForConsultant_Should_loadChatsAndModeratorsWithConstantNumberOfQueries() {
+    Consultant consultant = mock(Consultant.class);
+    ConsultantAgency consultantAgency = mock(ConsultantAgency.class);
+    when(consultantAgency.getAgencyId()).thenReturn(1L);
+    when(consultant.getConsultantAgencies()).thenReturn(asSet(consultantAgency));
+
+    List<ConsultantSessionResponseDTO> chats = this.chatService.getChatsForConsultant(consultant);
+
+    assertThat(chats, hasSize(CHAT_COUNT));
+    assertThat(this.statistics.getPrepareStatementCount(), is(2L));
+    assertThat(chats.stream().map(chat -> chat.getChat().getModerators())
+        .collect(Collectors.toList()), everyItem(arrayContainingInAnyOrder(
+        expectedModeratorRocketChatIds())));
+  }
+
+  @Test
+  public void getChatsForUserId_Should_loadChatsAndModeratorsWithConstantNumberOfQueries() {
+    List<UserSessionResponseDTO> chats = this.chatService.getChatsForUserId(USER_ID);
+
+    assertThat(chats, hasSize(CHAT_COUNT));
+    assertThat(this.statistics.getPrepareStatementCount(), is(2L));
+    assertThat(chats.stream().map(chat -> chat.getChat().getModerators())
+        .collect(Collectors.toList()), everyItem(arrayContainingInAnyOrder(
+        expectedModeratorRocketChatIds())));
+  }
+
+  private String[] expectedModeratorRocketChatIds() {
+    return this.consultantRepository.findByConsultantAgenciesAgencyIdInAndDeleteDateIsNull(
+        List.of(0L, 1L)).stream()
+        .map(Consultant::getRocketChatId)
+        .distinct()
+        .toArray(String[]::new);
+  }
+
+}
@@ -1,9 +1,11 @@
 package de.caritas.cob.userservice.api.service;
 
 import static de.caritas.cob.userservice.testHelper.TestConstants.ACTIVE_CHAT;
+import static de.caritas.cob.userservice.testHelper.TestConstants.AGENCY_ID;
 import static de.caritas.cob.userservice.testHelper.TestConstants.AUTHENTICATED_USER;
 import static de.caritas.cob.userservice.testHelper.TestConstants.AUTHENTICATED_USER_3;
 import static de.caritas.cob.userservice.testHelper.TestConstants.AUTHENTICATED_USER_CONSULTANT;
+import static de.caritas.cob.userservice.testHelper.TestConstants.CHAT_AGENCIES;
 import static de.caritas.cob.userservice.testHelper.TestConstants.CHAT_DTO;
 import static de.caritas.cob.userservice.testHelper.TestConstants.CHAT_ID;
 import static de.caritas.cob.userservice.testHelper.TestConstants.CONSULTANT;
@@ -11,7 +13,10 @@ import static de.caritas.cob.userservice.testHelper.TestConstants.CONSULTING_TYP
 import static de.caritas.cob.userservice.testHelper.TestConstants.INACTIVE_CHAT;
 import static de.caritas.cob.userservice.testHelper.TestConstants.RC_GROUP_ID;
 import static de.caritas.cob.userservice.testHelper.TestConstants.USER_ID;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
@@ -77,11 +82,19 @@ public class ChatServiceTest {
     setInternalState(LogService.class, "LOGGER", logger);
   }
 
+  private Chat activeChatWithAgency() {
+    return new Chat(ACTIVE_CHAT.getId(), ACTIVE_CHAT.getTopic(), ACTIVE_CHAT.getConsultingType(),
+        ACTIVE_CHAT.getInitialStartDate(), ACTIVE_CHAT.getStartDate(), ACTIVE_CHAT.getDuration(),
+        ACTIVE_CHAT.isRepetitive(), ACTIVE_CHAT.getChatInterval(), ACTIVE_CHAT.isActive(),
+        ACTIVE_CHAT.getMaxParticipants(), ACTIVE_CHAT.getGroupId(), ACTIVE_CHAT.getChatOwner(),
+        CHAT_AGENCIES);
+  }
+
   @Test
   public void getChatsForUserId_Should_ReturnListOfUserSessionResponseDTOWithChats() {
-    when(chatRepository.findByUserId(USER_ID)).thenReturn(singletonList(ACTIVE_CHAT));
-    when(consultantService.findConsultantsByAgencyIds(Mockito.any()))
-        .thenReturn(singletonList(CONSULTANT));
+    when(chatRepository.findByUserId(USER_ID)).thenReturn(singletonList(activeChatWithAgency()));
+    when(consultantService.findConsultantRocketChatIdsByAgencyIds(Mockito.any()))
+        .thenReturn(singletonMap(AGENCY_ID, singletonList(CONSULTANT.getRocketChatId())));
 
     List<UserSessionResponseDTO> resultList = chatService.getChatsForUserId(USER_ID);
 
@@ -112,9 +125,10 @@ public class ChatServiceTest {
   public void getChatsForConsultant_Should_ReturnListOfConsultantSessionResponseDTOWithChats() {
     Consultant consultant = Mockito.mock(Consultant.class);
 
-    when(chatRepository.findByAgencyIds(Mockito.any())).thenReturn(singletonList(ACTIVE_CHAT));
-    when(consultantService.findConsultantsByAgencyIds(Mockito.any()))
-        .thenReturn(singletonList(CONSULTANT));
+    when(chatRepository.findByAgencyIds(Mockito.any()))
+        .thenReturn(singletonList(activeChatWithAgency()));
+    when(consultantService.findConsultantRocketChatIdsByAgencyIds(Mockito.any()))
+        .thenReturn(singletonMap(AGENCY_ID, singletonList(CONSULTANT.getRocketChatId())));
 
     List<ConsultantSessionResponseDTO> resultList = chatService.getChatsForConsultant(consultant);
 
@@ -141,6 +155,21 @@ public class ChatServiceTest {
     assertEquals(CONSULTANT.getRocketChatId(), resultList.get(0).getChat().getModerators()[0]);
   }
 
+  @Test
+  public void getChatsForConsultant_Should_LoadModeratorsOfAllChatsOnce() {
+    Consultant consultant = Mockito.mock(Consultant.class);
+    when(chatRepository.findByAgencyIds(Mockito.any()))
+        .thenReturn(asList(activeChatWithAgency(), activeChatWithAgency()));
+    when(consultantService.findConsultantRocketChatIdsByAgencyIds(Mockito.any()))
+        .thenReturn(singletonMap(AGENCY_ID, singletonList(CONSULTANT.getRocketChatId())));
+
+    List<ConsultantSessionResponseDTO> resultList = chatService.getChatsForConsultant(consultant);
+
+    assertThat(resultList, hasSize(2));
+    verify(consultantService, times(1))
+        .findConsultantRocketChatIdsByAgencyIds(singleton(AGENCY_ID));
+  }
+
   @Test
   public void getChatsForConsultant_Should_ReturnEmptyListWhenListOfChatsIsEmpty() {
     Consultant consultant = Mockito.mock(Consultant.class);
@@ -0,0 +1,256 @@
+package de.caritas.cob.userservice.api.service;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.caritas.cob.userservice.api.admin.service.consultant.create.ConsultantCreatorService;
+import de.caritas.cob.userservice.api.admin.service.consultant.create.agencyrelation.ConsultantAgencyRelationCreatorService;
+import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
+import de.caritas.cob.userservice.api.helper.UserHelper;
+import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeManager;
+import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeSettings;
+import de.caritas.cob.userservice.api.model.AgencyDTO;
+import de.caritas.cob.userservice.api.model.RoleDTO;
+import de.caritas.cob.userservice.api.repository.consultant.Consultant;
+import de.caritas.cob.userservice.api.repository.consultantagency.ConsultantAgency;
+import de.caritas.cob.userservice.api.repository.session.ConsultingType;
+import de.caritas.cob.userservice.api.service.agency.AgencyService;
+import de.caritas.cob.userservice.api.service.helper.KeycloakAdminClientService;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConsultantImportServiceTest {
+
+  private static final String ROLE_SET = "default";
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private ConsultantImportService consultantImportService;
+
+  @Mock
+  private KeycloakAdminClientService keycloakAdminClientService;
+  @Mock
+  private ConsultantService consultantService;
+  @Mock
+  private ConsultingTypeManager consultingTypeManager;
+  @Mock
+  private AgencyService agencyService;
+  @Mock
+  private UserHelper userHelper;
+  @Mock
+  private ConsultantCreatorService consultantCreatorService;
+  @Mock
+  private ConsultantAgencyRelationCreatorService consultantAgencyRelationCreatorService;
+  @Mock
+  private ConsultantAgencyService consultantAgencyService;
+
+  private ExecutorService accountCreationExecutor;
+  private File importFile;
+  private File protocolFile;
+
+  @Before
+  public void setup() throws IOException {
+    this.accountCreationExecutor = Executors.newFixedThreadPool(2);
+    this.consultantImportService = new ConsultantImportService(keycloakAdminClientService,
+        consultantService, consultingTypeManager, agencyService, userHelper,
+        consultantCreatorService, consultantAgencyRelationCreatorService, consultantAgencyService,
+        accountCreationExecutor);
+    this.importFile = temporaryFolder.newFile("consultants.csv");
+    this.protocolFile = new File(temporaryFolder.getRoot(), "protocol.txt");
+    setField(consultantImportService, "importFilename", importFile.getAbsolutePath());
+    setField(consultantImportService, "protocolFilename", protocolFile.getAbsolutePath());
+  }
+
+  @After
+  public void shutdown() {
+    this.accountCreationExecutor.shutdownNow();
+  }
+
+  @Test
+  public void startImport_Should_prefetchAllAgenciesOnceAndSaveConsultantsInBatches()
+      throws Exception {
+    givenImportFile(",1,first,First,Consultant,first@domain.de,nein,,\"1;default,2;default\"",
+        ",2,second,Second,Consultant,second@domain.de,nein,,1;default");
+    givenAgencies(1L, 2L);
+    givenSuccessfulAccountCreation();
+
+    this.consultantImportService.startImport();
+
+    verify(agencyService, times(1)).getAgenciesWithoutCaching(asList(1L, 2L));
+    verify(agencyService, never()).getAgencyWithoutCaching(anyLong());
+    verify(consultantCreatorService, times(2)).createNewConsultantAccounts(any(), anySet());
+    verify(consultantService, times(1)).createConsultants(argThat(consultants ->
+        consultants.size() == 2));
+    verify(consultantAgencyService, times(1)).saveConsultantAgencies(any());
+    verify(consultantAgencyRelationCreatorService, times(1))
+        .addConsultantsToSessionsOfAgencies(any(), any(), any());
+    JsonNode report = readReport();
+    assertThat(report.get("phase").asText(), is("FINISHED"));
+    assertThat(report.get("importedRecords").asInt(), is(2));
+  }
+
+  @Test
+  public void startImport_Should_continueImportAndReportFailedRecord_When_accountCreationFails()
+      throws Exception {
+    givenImportFile(",1,failing,First,Consultant,first@domain.de,nein,,1;default",
+        ",2,second,Second,Consultant,second@domain.de,nein,,1;default",
+        ",3,invalid,Third,Consultant,invalid,nein,,1;default");
+    givenAgencies(1L);
+    givenSuccessfulAccountCreation();
+    doThrow(new InternalServerErrorException("keycloak not available"))
+        .when(consultantCreatorService).createNewConsultantAccounts(
+            argThat(importRecord -> importRecord.getUsername().equals("failing")), anySet());
+
+    this.consultantImportService.startImport();
+
+    verify(consultantService, times(1)).createConsultants(argThat(consultants ->
+        consultants.size() == 1));
+    JsonNode report = readReport();
+    assertThat(report.get("phase").asText(), is("FINISHED"));
+    assertThat(report.get("importedRecords").asInt(), is(1));
+    assertThat(report.get("failedRecords").asInt(), is(2));
+    assertThat(report.get("records").get(0).get("status").asText(), is("FAILED"));
+    assertThat(report.get("records").get(1).get("status").asText(), is("IMPORTED"));
+  }
+
+  @Test
+  public void startImport_Should_saveConsultantsOneByOneAndRollBackFailedRecord_When_batchSaveFails()
+      throws Exception {
+    givenImportFile(",1,failing,First,Consultant,first@domain.de,nein,,1;default",
+        ",2,second,Second,Consultant,second@domain.de,nein,,1;default");
+    givenAgencies(1L);
+    givenSuccessfulAccountCreation();
+    doAnswer(invocation -> {
+      Collection<Consultant> consultants = invocation.getArgument(0);
+      if (consultants.stream().anyMatch(consultant -> consultant.getId().equals("failing"))) {
+        throw new DataIntegrityViolationException("duplicate email");
+      }
+      return new ArrayList<>(consultants);
+    }).when(consultantService).createConsultants(any());
+
+    this.consultantImportService.startImport();
+
+    verify(consultantService, times(1)).createConsultants(argThat(consultants ->
+        consultants.size() == 2));
+    verify(consultantService, times(2)).createConsultants(argThat(consultants ->
+        consultants.size() == 1));
+    verify(consultantService, never()).saveConsultant(any());
+    verify(consultantCreatorService, times(1)).rollBackConsultantAccounts(
+        argThat(consultant -> consultant.getId().equals("failing")));
+    JsonNode report = readReport();
+    assertThat(report.get("phase").asText(), is("FINISHED"));
+    assertThat(report.get("importedRecords").asInt(), is(1));
+    assertThat(report.get("failedRecords").asInt(), is(1));
+    assertThat(report.get("records").get(0).get("status").asText(), is("FAILED"));
+    assertThat(report.get("records").get(1).get("status").asText(), is("IMPORTED"));
+  }
+
+  @Test
+  public void startImport_Should_saveAgencyRelationsOneByOneAndRollBackFailedRecord_When_batchSaveFails()
+      throws Exception {
+    givenImportFile(",1,failing,First,Consultant,first@domain.de,nein,,1;default",
+        ",2,second,Second,Consultant,second@domain.de,nein,,1;default");
+    givenAgencies(1L);
+    givenSuccessfulAccountCreation();
+    when(consultantAgencyRelationCreatorService.buildConsultantAgencyRelations(any(), any(),
+        any(), any())).thenAnswer(invocation -> Collections.singletonList(
+        ConsultantAgency.builder().consultant(invocation.getArgument(0)).build()));
+    when(consultantAgencyService.saveConsultantAgencies(any())).thenAnswer(invocation -> {
+      Collection<ConsultantAgency> consultantAgencies = invocation.getArgument(0);
+      if (consultantAgencies.stream().anyMatch(
+          consultantAgency -> consultantAgency.getConsultant().getId().equals("failing"))) {
+        throw new DataIntegrityViolationException("duplicate relation");
+      }
+      return new ArrayList<>(consultantAgencies);
+    });
+
+    this.consultantImportService.startImport();
+
+    verify(consultantAgencyService, times(3)).saveConsultantAgencies(any());
+    verify(consultantService, times(1)).deleteConsultant(
+        argThat(consultant -> consultant.getId().equals("failing")));
+    verify(consultantCreatorService, times(1)).rollBackConsultantAccounts(
+        argThat(consultant -> consultant.getId().equals("failing")));
+    JsonNode report = readReport();
+    assertThat(report.get("phase").asText(), is("FINISHED"));
+    assertThat(report.get("importedRecords").asInt(), is(1));
+    assertThat(report.get("failedRecords").asInt(), is(1));
+    assertThat(report.get("records").get(0).get("status").asText(), is("FAILED"));
+  }
+
+  private void givenImportFile(String... lines) throws IOException {
+    Files.write(this.importFile.toPath(), String.join("\n", lines).getBytes(
+        StandardCharsets.UTF_8));
+  }
+
+  private void givenAgencies(Long... agencyIds) {
+    List<AgencyDTO> agencies = new ArrayList<>();
+    for (Long agencyId : agencyIds) {
+      agencies.add(new AgencyDTO().id(agencyId).consultingType(ConsultingType.SUCHT));
+    }
+    when(agencyService.getAgenciesWithoutCaching(any())).thenReturn(agencies);
+    de.caritas.cob.userservice.api.manager.consultingtype.roles.Consultant consultantRoles =
+        new de.caritas.cob.userservice.api.manager.consultingtype.roles.Consultant();
+    consultantRoles.addRoleNames(ROLE_SET, Collections.singletonList("consultant"));
+    ConsultingTypeSettings consultingTypeSettings = new ConsultingTypeSettings();
+    consultingTypeSettings.setRoles(new RoleDTO().consultant(consultantRoles));
+    when(consultingTypeManager.getConsultingTypeSettings(ConsultingType.SUCHT))
+        .thenReturn(consultingTypeSettings);
+  }
+
+  private void givenSuccessfulAccountCreation() {
+    when(userHelper.isUsernameValid(any())).thenReturn(true);
+    when(keycloakAdminClientService.isUsernameAvailable(any())).thenReturn(true);
+    when(consultantCreatorService.createNewConsultantAccounts(any(), anySet()))
+        .thenAnswer(invocation -> {
+          Consultant consultant = new Consultant();
+          consultant.setId(invocation.<ConsultantImportService.ImportRecord>getArgument(0)
+              .getUsername());
+          return consultant;
+        });
+    when(consultantService.createConsultants(any()))
+        .thenAnswer(invocation -> new ArrayList<>(
+            invocation.<Collection<Consultant>>getArgument(0)));
+  }
+
+  private JsonNode readReport() throws IOException {
+    File[] reports = temporaryFolder.getRoot()
+        .listFiles((dir, name) -> name.startsWith("protocol.txt.") && name.endsWith(".json"));
+    assertThat(reports.length, is(1));
+    return new ObjectMapper().readTree(reports[0]);
+  }
+
+}
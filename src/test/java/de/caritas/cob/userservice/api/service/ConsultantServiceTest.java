@@ -1,6 +1,5 @@
 package de.caritas.cob.userservice.api.service;
 
-import static de.caritas.cob.userservice.testHelper.TestConstants.CHAT_AGENCIES;
 import static de.caritas.cob.userservice.testHelper.TestConstants.CONSULTANT;
 import static de.caritas.cob.userservice.testHelper.TestConstants.CONSULTANT_ID;
 import static de.caritas.cob.userservice.testHelper.TestConstants.EMAIL;
@@ -8,21 +7,32 @@ import static de.caritas.cob.userservice.testHelper.TestConstants.RC_USER_ID;
 import static de.caritas.cob.userservice.testHelper.TestConstants.USERNAME;
 import static de.caritas.cob.userservice.testHelper.TestConstants.USERNAME_DECODED;
 import static de.caritas.cob.userservice.testHelper.TestConstants.USERNAME_ENCODED;
+import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import de.caritas.cob.userservice.api.helper.AuthenticatedUser;
+import de.caritas.cob.userservice.api.repository.consultant.AgencyConsultantRocketChatId;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
 import de.caritas.cob.userservice.api.repository.consultant.ConsultantRepository;
 import de.caritas.cob.userservice.api.service.user.ValidatedUserAccountProvider;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import javax.persistence.EntityManager;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -45,6 +55,21 @@ public class ConsultantServiceTest {
   @Mock
   private AuthenticatedUser authenticatedUser;
 
+  @Mock
+  private EntityManager entityManager;
+
+  @Test
+  public void createConsultants_Should_persistConsultantsInsteadOfMergingThem() {
+    Consultant consultant = new Consultant();
+    consultant.setId(CONSULTANT_ID);
+
+    List<Consultant> result = consultantService.createConsultants(singletonList(consultant));
+
+    assertThat(result, contains(consultant));
+    verify(entityManager).persist(consultant);
+    verify(consultantRepository, never()).saveAll(any());
+  }
+
   @Test
   public void getConsultant_Should_ReturnConsultantWhenFound() {
     when(consultantRepository.findByIdAndDeleteDateIsNull(CONSULTANT_ID))
@@ -180,16 +205,30 @@ public class ConsultantServiceTest {
   }
 
   @Test
-  public void findConsultantsByAgencyIds_Should_ReturnListOfConsultants() {
-    when(consultantRepository.findByConsultantAgenciesAgencyIdInAndDeleteDateIsNull(Mockito.any()))
-        .thenReturn(Collections.singletonList(CONSULTANT));
-
-    List<Consultant> result = consultantService.findConsultantsByAgencyIds(CHAT_AGENCIES);
+  public void findConsultantRocketChatIdsByAgencyIds_Should_ReturnRocketChatIdsGroupedByAgencyId() {
+    AgencyConsultantRocketChatId first = mock(AgencyConsultantRocketChatId.class);
+    when(first.getAgencyId()).thenReturn(1L);
+    when(first.getRocketChatId()).thenReturn("rcId1");
+    AgencyConsultantRocketChatId second = mock(AgencyConsultantRocketChatId.class);
+    when(second.getAgencyId()).thenReturn(1L);
+    when(second.getRocketChatId()).thenReturn("rcId2");
+    when(consultantRepository.findRocketChatIdsByAgencyIds(Mockito.any()))
+        .thenReturn(Arrays.asList(first, second));
+
+    Map<Long, List<String>> result =
+        consultantService.findConsultantRocketChatIdsByAgencyIds(singletonList(1L));
 
-    assertNotNull(result);
     assertEquals(1, result.size());
-    assertEquals(CONSULTANT, result.get(0));
+    assertEquals(Arrays.asList("rcId1", "rcId2"), result.get(1L));
+  }
+
+  @Test
+  public void findConsultantRocketChatIdsByAgencyIds_Should_NotQueryRepository_When_noAgencyIdIsGiven() {
+    Map<Long, List<String>> result =
+        consultantService.findConsultantRocketChatIdsByAgencyIds(Collections.emptyList());
 
+    assertTrue(result.isEmpty());
+    verifyNoInteractions(consultantRepository);
   }
 
 }
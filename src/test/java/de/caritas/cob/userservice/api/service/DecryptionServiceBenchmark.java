@@ -0,0 +1,98 @@
+package de.caritas.cob.userservice.api.service;
+
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares decrypting the last messages of a session list with 500 sessions using a freshly
+ * derived key and cipher per message against the cached keys and reused ciphers of the
+ * {@link DecryptionService}. Not part of the test suite, run it via {@link #main(String[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DecryptionServiceBenchmark {
+
+  private static final int MESSAGE_COUNT = 500;
+  private static final String MASTER_KEY = "MasterKeyTestKey";
+  private static final String APPLICATION_KEY = "ApplicationTestKey";
+  private static final String CIPHER_METHODS = "AES/ECB/PKCS5PADDING";
+  private static final String ENCRYPTED_MESSAGE_FLAG = "enc:";
+
+  private final Map<String, String> messagesByGroupId = new LinkedHashMap<>();
+  private DecryptionService decryptionService;
+
+  @Setup
+  public void setup() throws GeneralSecurityException {
+    this.decryptionService = new DecryptionService();
+    setField(decryptionService, "fragment_applicationKey", APPLICATION_KEY);
+    setField(decryptionService, "keyCacheSize", 1000);
+    this.decryptionService.updateMasterKey(MASTER_KEY);
+
+    for (int i = 0; i < MESSAGE_COUNT; i++) {
+      String groupId = "groupId" + i;
+      Cipher cipher = Cipher.getInstance(CIPHER_METHODS);
+      cipher.init(Cipher.ENCRYPT_MODE, deriveKey(groupId));
+      byte[] encrypted = cipher.doFinal(("message " + i).getBytes(StandardCharsets.UTF_8));
+      this.messagesByGroupId.put(groupId,
+          ENCRYPTED_MESSAGE_FLAG + Base64.getEncoder().encodeToString(encrypted));
+    }
+  }
+
+  @Benchmark
+  public void decryptWithDerivedKeyPerMessage(Blackhole blackhole)
+      throws GeneralSecurityException {
+    for (Map.Entry<String, String> entry : this.messagesByGroupId.entrySet()) {
+      Cipher cipher = Cipher.getInstance(CIPHER_METHODS);
+      cipher.init(Cipher.DECRYPT_MODE, deriveKey(entry.getKey()));
+      String message = entry.getValue().substring(ENCRYPTED_MESSAGE_FLAG.length());
+      blackhole.consume(new String(cipher.doFinal(Base64.getDecoder().decode(message))));
+    }
+  }
+
+  @Benchmark
+  public void decryptWithCachedKeys(Blackhole blackhole) throws Exception {
+    blackhole.consume(this.decryptionService.decryptAll(this.messagesByGroupId));
+  }
+
+  private static SecretKeySpec deriveKey(String groupId) throws GeneralSecurityException {
+    byte[] keyByte = (MASTER_KEY + groupId + APPLICATION_KEY).getBytes(StandardCharsets.UTF_8);
+    keyByte = MessageDigest.getInstance("SHA-1").digest(keyByte);
+    return new SecretKeySpec(Arrays.copyOf(keyByte, 16), "AES");
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(DecryptionServiceBenchmark.class.getSimpleName())
+        .build())
+        .run();
+  }
+
+}
@@ -1,11 +1,14 @@
 package de.caritas.cob.userservice.api.service;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import java.io.UnsupportedEncodingException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.crypto.BadPaddingException;
 import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.NoSuchPaddingException;
@@ -26,6 +29,7 @@ public class DecryptionServiceTest {
   private final String KEY_SESSION = "SessionTestKey";
   private final String KEY_SESSION_WRONG = "WrongSessionTestKey";
   private final String FIELD_NAME_FRAGMENT_APP_KEY = "fragment_applicationKey";
+  private final String FIELD_NAME_KEY_CACHE_SIZE = "keyCacheSize";
 
   private final String MESSAGE_PLAIN = "Das hier ist jetzt mal eine Test-Message";
   private final String MESSAGE_ENCRYPTED =
@@ -42,6 +46,8 @@ public class DecryptionServiceTest {
     FieldSetter.setField(encryptionService,
         encryptionService.getClass().getDeclaredField(FIELD_NAME_FRAGMENT_APP_KEY),
         KEY_APPLICATION);
+    FieldSetter.setField(encryptionService,
+        encryptionService.getClass().getDeclaredField(FIELD_NAME_KEY_CACHE_SIZE), 2);
     encryptionService.updateMasterKey(KEY_MASTER);
   }
 
@@ -75,4 +81,37 @@ public class DecryptionServiceTest {
     }
   }
 
+  @Test
+  public void decrypt_Should_ReturnDecryptedText_WhenCachedKeyHasBeenEvicted()
+      throws Exception {
+    encryptionService.decrypt(MESSAGE_ENCRYPTED, KEY_SESSION);
+    assertThrows(CustomCryptoException.class,
+        () -> encryptionService.decrypt(MESSAGE_ENCRYPTED, KEY_SESSION_WRONG));
+    assertThrows(CustomCryptoException.class,
+        () -> encryptionService.decrypt(MESSAGE_ENCRYPTED, "AnotherWrongSessionTestKey"));
+
+    String decryptedMessage = encryptionService.decrypt(MESSAGE_ENCRYPTED, KEY_SESSION);
+    assertEquals("Did not get the expected decrypted result.", MESSAGE_PLAIN, decryptedMessage);
+  }
+
+  @Test(expected = CustomCryptoException.class)
+  public void decrypt_Should_NotUseCachedKey_WhenMasterKeyHasBeenUpdated() throws Exception {
+    encryptionService.decrypt(MESSAGE_ENCRYPTED, KEY_SESSION);
+    encryptionService.updateMasterKey("OtherMasterKey");
+
+    encryptionService.decrypt(MESSAGE_ENCRYPTED, KEY_SESSION);
+  }
+
+  @Test
+  public void decryptAll_Should_ReturnDecryptedTextsMappedBySecret() throws Exception {
+    Map<String, String> messages = new LinkedHashMap<>();
+    messages.put(KEY_SESSION, MESSAGE_ENCRYPTED);
+    messages.put("plain", MESSAGE_PLAIN);
+
+    Map<String, String> decryptedMessages = encryptionService.decryptAll(messages);
+
+    assertEquals(MESSAGE_PLAIN, decryptedMessages.get(KEY_SESSION));
+    assertEquals(MESSAGE_PLAIN, decryptedMessages.get("plain"));
+  }
+
 }
@@ -1,11 +1,22 @@
 package de.caritas.cob.userservice.api.service;
 
+import static de.caritas.cob.userservice.api.repository.monitoring.MonitoringType.ADDICTIVE_DRUGS;
+import static de.caritas.cob.userservice.api.repository.monitoring.MonitoringType.INTERVENTION;
 import static de.caritas.cob.userservice.api.repository.session.ConsultingType.SUCHT;
 import static de.caritas.cob.userservice.api.repository.session.RegistrationType.REGISTERED;
 import static de.caritas.cob.userservice.api.repository.session.SessionStatus.IN_PROGRESS;
 import static de.caritas.cob.userservice.testHelper.TestConstants.CONSULTING_TYPE_SETTINGS_WIT_MONITORING;
 import static de.caritas.cob.userservice.testHelper.TestConstants.POSTCODE;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -18,9 +29,14 @@ import de.caritas.cob.userservice.api.exception.CreateMonitoringException;
 import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
 import de.caritas.cob.userservice.api.helper.MonitoringStructureProvider;
 import de.caritas.cob.userservice.api.model.monitoring.MonitoringDTO;
+import de.caritas.cob.userservice.api.repository.monitoring.Monitoring;
+import de.caritas.cob.userservice.api.repository.monitoring.MonitoringBatchRepository;
 import de.caritas.cob.userservice.api.repository.monitoring.MonitoringRepository;
+import de.caritas.cob.userservice.api.repository.monitoringoption.MonitoringOption;
 import de.caritas.cob.userservice.api.repository.session.Session;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -41,6 +57,8 @@ public class MonitoringServiceTest {
   @Mock
   private MonitoringRepository monitoringRepository;
   @Mock
+  private MonitoringBatchRepository monitoringBatchRepository;
+  @Mock
   private MonitoringStructureProvider monitoringStructureProvider;
   @Mock
   private Logger logger;
@@ -48,8 +66,8 @@ public class MonitoringServiceTest {
   private final String ERROR = "error";
   private final Long SESSION_ID = 123L;
   private final Session SESSION =
-      new Session(SESSION_ID, null, null, SUCHT, REGISTERED, POSTCODE, null, IN_PROGRESS, null, null,
-          null, null, false, false, null, null);
+      new Session(SESSION_ID, null, null, SUCHT, REGISTERED, POSTCODE, null, IN_PROGRESS, null,
+          null, null, null, null, false, false, null, null);
   private final MonitoringDTO MONITORING_DTO = new MonitoringDTO();
 
   @Before
@@ -72,7 +90,7 @@ public class MonitoringServiceTest {
     DataAccessException ex = new DataAccessException(ERROR) {
     };
 
-    when(monitoringRepository.saveAll(Mockito.any())).thenThrow(ex);
+    doThrow(ex).when(monitoringBatchRepository).upsertAll(Mockito.any());
 
     try {
       monitoringService.updateMonitoring(SESSION_ID, MONITORING_DTO);
@@ -87,7 +105,7 @@ public class MonitoringServiceTest {
 
     monitoringService.updateMonitoring(SESSION_ID, MONITORING_DTO);
 
-    verify(monitoringRepository, times(1)).saveAll(Mockito.any());
+    verify(monitoringBatchRepository, times(1)).upsertAll(Mockito.any());
 
   }
 
@@ -101,7 +119,7 @@ public class MonitoringServiceTest {
     DataAccessException ex = new DataAccessException(ERROR) {
     };
 
-    doThrow(ex).when(monitoringRepository).deleteAll(Mockito.any());
+    doThrow(ex).when(monitoringBatchRepository).deleteAll(Mockito.any());
 
     try {
       monitoringService.deleteMonitoring(SESSION_ID, MONITORING_DTO);
@@ -116,7 +134,7 @@ public class MonitoringServiceTest {
 
     monitoringService.deleteMonitoring(SESSION_ID, MONITORING_DTO);
 
-    verify(monitoringRepository, times(1)).deleteAll(Mockito.any());
+    verify(monitoringBatchRepository, times(1)).deleteAll(Mockito.any());
 
   }
 
@@ -153,4 +171,46 @@ public class MonitoringServiceTest {
     verify(monitoringStructureProvider, times(1)).getMonitoringInitialList(SESSION.getConsultingType());
 
   }
+
+  /**
+   * Method: getMonitoring
+   */
+
+  @Test
+  public void getMonitoring_Should_GroupMonitoringByTypeAndKeyInOnePass() {
+    Monitoring alcohol = new Monitoring(SESSION_ID, ADDICTIVE_DRUGS, "alcohol", true);
+    Monitoring drugs = new Monitoring(SESSION_ID, ADDICTIVE_DRUGS, "drugs", null);
+    drugs.setMonitoringOptionList(asList(
+        new MonitoringOption(SESSION_ID, ADDICTIVE_DRUGS, "drugs", "cannabis", true, drugs),
+        new MonitoringOption(SESSION_ID, ADDICTIVE_DRUGS, "drugs", "others", false, drugs)));
+    Monitoring intervention = new Monitoring(SESSION_ID, INTERVENTION, "information", false);
+    when(monitoringRepository.findBySessionId(SESSION_ID))
+        .thenReturn(asList(drugs, intervention, alcohol));
+    when(monitoringStructureProvider.sortMonitoringMap(any(), eq(SUCHT)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    final Map<String, Object> monitoring = monitoringService.getMonitoring(SESSION).getProperties();
+
+    Map<String, Object> drugOptions = new LinkedHashMap<>();
+    drugOptions.put("cannabis", true);
+    drugOptions.put("others", false);
+    Map<String, Object> addictiveDrugs = new LinkedHashMap<>();
+    addictiveDrugs.put("drugs", drugOptions);
+    addictiveDrugs.put("alcohol", true);
+    assertThat(monitoring.keySet(), contains("addictiveDrugs", "intervention"));
+    assertThat(monitoring.get("addictiveDrugs"), is(addictiveDrugs));
+    assertThat(monitoring.get("intervention"), is(singletonMap("information", false)));
+  }
+
+  @Test
+  public void getMonitoring_Should_ReturnEmptyMapForTypesWithoutMonitoring() {
+    when(monitoringRepository.findBySessionId(SESSION_ID)).thenReturn(emptyList());
+    when(monitoringStructureProvider.sortMonitoringMap(any(), eq(SUCHT)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    Map<String, Object> monitoring = monitoringService.getMonitoring(SESSION).getProperties();
+
+    assertThat(monitoring.get("addictiveDrugs"), is(emptyMap()));
+    assertThat(monitoring.get("intervention"), is(emptyMap()));
+  }
 }
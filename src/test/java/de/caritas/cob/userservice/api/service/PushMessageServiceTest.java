@@ -1,9 +1,11 @@
 package de.caritas.cob.userservice.api.service;
 
+import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -12,8 +14,12 @@ import static org.powermock.reflect.Whitebox.setInternalState;
 import static org.springframework.test.util.ReflectionTestUtils.getField;
 import static org.springframework.test.util.ReflectionTestUtils.setField;
 
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -86,4 +92,43 @@ public class PushMessageServiceTest {
     verifyNoMoreInteractions(this.firebaseMessaging);
   }
 
+  @Test
+  public void pushNewMessageEvents_Should_sendMulticastMessagesWithUpTo500Tokens()
+      throws FirebaseMessagingException {
+    setField(this.pushMessageService, "isEnabled", true);
+    BatchResponse batchResponse = mock(BatchResponse.class);
+    when(this.firebaseMessaging.sendMulticast(any())).thenReturn(batchResponse);
+    List<String> tokens = IntStream.range(0, 501)
+        .mapToObj(i -> "token" + i)
+        .collect(Collectors.toList());
+
+    this.pushMessageService.pushNewMessageEvents(tokens);
+
+    verify(this.firebaseMessaging, times(2)).sendMulticast(any());
+    verify(this.firebaseMessaging, never()).send(any());
+    verifyNoMoreInteractions(logger);
+  }
+
+  @Test
+  public void pushNewMessageEvents_Should_logWarning_When_sendFailsForSomeTokens()
+      throws FirebaseMessagingException {
+    setField(this.pushMessageService, "isEnabled", true);
+    BatchResponse batchResponse = mock(BatchResponse.class);
+    when(batchResponse.getFailureCount()).thenReturn(1);
+    when(this.firebaseMessaging.sendMulticast(any())).thenReturn(batchResponse);
+
+    this.pushMessageService.pushNewMessageEvents(asList("token1", "token2"));
+
+    verify(logger, times(1)).warn(anyString());
+  }
+
+  @Test
+  public void pushNewMessageEvents_Should_notSendNotification_When_firebaseIsDisabled() {
+    setField(this.pushMessageService, "isEnabled", false);
+
+    this.pushMessageService.pushNewMessageEvents(asList("token1", "token2"));
+
+    verifyNoMoreInteractions(this.firebaseMessaging);
+  }
+
 }
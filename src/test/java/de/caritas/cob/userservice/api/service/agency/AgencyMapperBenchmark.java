@@ -0,0 +1,97 @@
+package de.caritas.cob.userservice.api.service.agency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.caritas.cob.userservice.agencyserivce.generated.web.model.AgencyResponseDTO;
+import de.caritas.cob.userservice.api.model.AgencyDTO;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the conversion of a bulk response of the AgencyService with the {@link AgencyMapper},
+ * compared to the former json round trip with a new {@link ObjectMapper} per agency. The gc
+ * profiler reports the allocated bytes per conversion. Not part of the test suite, run it via
+ * {@link #main(String[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AgencyMapperBenchmark {
+
+  private static final int AGENCY_COUNT = 200;
+
+  private final AgencyMapper agencyMapper = new AgencyMapper();
+  private List<AgencyResponseDTO> agencyResponseDTOs;
+
+  @Setup
+  public void setup() {
+    this.agencyResponseDTOs = LongStream.range(0, AGENCY_COUNT)
+        .mapToObj(this::agencyResponseDTO)
+        .collect(Collectors.toList());
+  }
+
+  private AgencyResponseDTO agencyResponseDTO(long id) {
+    AgencyResponseDTO agencyResponseDTO = new AgencyResponseDTO();
+    agencyResponseDTO.setId(id);
+    agencyResponseDTO.setName("Beratungsstelle " + id);
+    agencyResponseDTO.setPostcode("88045");
+    agencyResponseDTO.setCity("Friedrichshafen");
+    agencyResponseDTO.setDescription("Beschreibung der Beratungsstelle " + id);
+    agencyResponseDTO.setTeamAgency(id % 2 == 0);
+    agencyResponseDTO.setOffline(false);
+    agencyResponseDTO.setConsultingType((int) (id % 22));
+    return agencyResponseDTO;
+  }
+
+  @Benchmark
+  public List<AgencyDTO> mapAgencies() {
+    return this.agencyResponseDTOs.stream()
+        .map(this.agencyMapper::toAgencyDTO)
+        .collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public List<AgencyDTO> formerJsonRoundTripOfAgencies() {
+    return this.agencyResponseDTOs.stream()
+        .map(this::formerFromOriginalAgency)
+        .collect(Collectors.toList());
+  }
+
+  private AgencyDTO formerFromOriginalAgency(AgencyResponseDTO agencyResponseDTO) {
+    ObjectMapper objectMapper = new ObjectMapper();
+    try {
+      return objectMapper
+          .readValue(objectMapper.writeValueAsString(agencyResponseDTO), AgencyDTO.class);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(AgencyMapperBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build())
+        .run();
+  }
+
+}
@@ -0,0 +1,77 @@
+package de.caritas.cob.userservice.api.service.agency;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.caritas.cob.userservice.agencyserivce.generated.web.model.AgencyResponseDTO;
+import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
+import de.caritas.cob.userservice.api.model.AgencyDTO;
+import de.caritas.cob.userservice.api.repository.session.ConsultingType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.jeasy.random.EasyRandom;
+import org.junit.Test;
+
+public class AgencyMapperTest {
+
+  private static final String[] MAPPED_FIELDS = {"id", "name", "postcode", "city", "description",
+      "teamAgency", "offline", "consultingType"};
+
+  private final EasyRandom easyRandom = new EasyRandom();
+
+  @Test
+  public void toAgencyDTO_Should_mapAllFieldsLikeTheFormerJsonConversion() throws Exception {
+    for (ConsultingType consultingType : ConsultingType.values()) {
+      AgencyResponseDTO agencyResponseDTO = easyRandom.nextObject(AgencyResponseDTO.class);
+      agencyResponseDTO.setConsultingType(consultingType.getValue());
+
+      AgencyDTO agencyDTO = new AgencyMapper().toAgencyDTO(agencyResponseDTO);
+
+      ObjectMapper objectMapper = new ObjectMapper();
+      AgencyDTO expected = objectMapper
+          .readValue(objectMapper.writeValueAsString(agencyResponseDTO), AgencyDTO.class);
+      assertThat(agencyDTO, is(expected));
+      assertThat(agencyDTO.getConsultingType(), is(consultingType));
+    }
+  }
+
+  @Test
+  public void toAgencyDTO_Should_keepMissingValuesEmpty() {
+    AgencyDTO agencyDTO = new AgencyMapper().toAgencyDTO(new AgencyResponseDTO());
+
+    assertThat(agencyDTO, is(new AgencyDTO()));
+    assertThat(agencyDTO.getConsultingType(), is(nullValue()));
+  }
+
+  @Test(expected = InternalServerErrorException.class)
+  public void toAgencyDTO_Should_throwInternalServerErrorException_When_consultingTypeIsUnknown() {
+    AgencyResponseDTO agencyResponseDTO = new AgencyResponseDTO();
+    agencyResponseDTO.setConsultingType(-1);
+
+    new AgencyMapper().toAgencyDTO(agencyResponseDTO);
+  }
+
+  /**
+   * Fails if a field is added to or removed from one of the agency models, so that the mapper is
+   * adjusted to the changed model.
+   */
+  @Test
+  public void toAgencyDTO_Should_coverAllFieldsOfBothAgencyModels() {
+    assertThat(instanceFieldsOf(AgencyResponseDTO.class), containsInAnyOrder(MAPPED_FIELDS));
+    assertThat(instanceFieldsOf(AgencyDTO.class), containsInAnyOrder(MAPPED_FIELDS));
+  }
+
+  private List<String> instanceFieldsOf(Class<?> modelClass) {
+    return Stream.of(modelClass.getDeclaredFields())
+        .filter(field -> !Modifier.isStatic(field.getModifiers()))
+        .map(Field::getName)
+        .collect(Collectors.toList());
+  }
+
+}
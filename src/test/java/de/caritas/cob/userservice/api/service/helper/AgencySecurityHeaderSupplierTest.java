@@ -3,10 +3,15 @@ package de.caritas.cob.userservice.api.service.helper;
 import static de.caritas.cob.userservice.testHelper.TestConstants.AGENCY_DTO_LIST;
 import static de.caritas.cob.userservice.testHelper.TestConstants.AGENCY_ID;
 import static de.caritas.cob.userservice.testHelper.TestConstants.AGENCY_ID_LIST;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.junit.Assert.assertNotNull;
-import static org.mockito.Mockito.mock;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -14,8 +19,9 @@ import de.caritas.cob.userservice.agencyserivce.generated.web.AgencyControllerAp
 import de.caritas.cob.userservice.agencyserivce.generated.web.model.AgencyResponseDTO;
 import de.caritas.cob.userservice.api.model.AgencyDTO;
 import de.caritas.cob.userservice.api.service.agency.AgencyService;
-import de.caritas.cob.userservice.api.service.securityheader.SecurityHeaderSupplier;
-import java.lang.reflect.Method;
+import de.caritas.cob.userservice.config.CachingConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.SneakyThrows;
@@ -23,37 +29,36 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentMatchers;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.http.HttpHeaders;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 @RunWith(MockitoJUnitRunner.class)
 public class AgencySecurityHeaderSupplierTest {
 
-  private final String GET_AGENCY_METHOD_NAME = "getAgency";
-  private final String GET_AGENCIES_METHOD_NAME = "getAgencies";
-  private final Class<?>[] GET_AGENCY_METHOD_PARAMS = new Class[]{Long.class};
-  private final Class<?>[] GET_AGENCIES_METHOD_PARAMS = new Class[]{List.class};
-
-  @InjectMocks
   private AgencyService agencyService;
 
   @Mock
   private AgencyControllerApi agencyControllerApi;
 
-  @Mock
-  private SecurityHeaderSupplier securityHeaderSupplier;
-
   private List<AgencyResponseDTO> agencyResponseDTOS;
 
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
   @Before
   public void setup() throws NoSuchFieldException, SecurityException {
+    this.agencyService = new AgencyService(agencyControllerApi,
+        new ConcurrentMapCacheManager(CachingConfig.AGENCY_CACHE), meterRegistry);
+    this.agencyService.initialize();
     this.agencyResponseDTOS = AGENCY_DTO_LIST.stream()
         .map(this::toAgencyResponseDTO)
         .collect(Collectors.toList());
-    when(this.securityHeaderSupplier.getCsrfHttpHeaders()).thenReturn(new HttpHeaders());
+  }
+
+  private AgencyResponseDTO agencyResponseDTO(Long agencyId) {
+    AgencyResponseDTO agencyResponseDTO = new AgencyResponseDTO();
+    agencyResponseDTO.setId(agencyId);
+    return agencyResponseDTO;
   }
 
   @SneakyThrows
@@ -71,19 +76,35 @@ public class AgencySecurityHeaderSupplierTest {
     assertThat(agencyService.getAgencies(AGENCY_ID_LIST).get(0), instanceOf(AgencyDTO.class));
   }
 
-  @SuppressWarnings({"unchecked", "rawtypes"})
   @Test
-  public void test_Should_Fail_When_MethodgetAgenciesFromAgencyServiceDoesNotHaveCacheableAnnotation()
-      throws NoSuchMethodException, SecurityException {
-
-    AgencyService agencyService = new AgencyService(mock(AgencyControllerApi.class),
-        mock(SecurityHeaderSupplier.class));
-    Class classToTest = agencyService.getClass();
-    Method methodToTest = classToTest
-        .getMethod(GET_AGENCIES_METHOD_NAME, GET_AGENCIES_METHOD_PARAMS);
-    Cacheable annotation = methodToTest.getAnnotation(Cacheable.class);
+  public void getAgencies_Should_fetchOnlyAgenciesMissingInCache_And_returnThemInRequestOrder() {
+    when(agencyControllerApi.getAgenciesByIds(singletonList(1L)))
+        .thenReturn(singletonList(agencyResponseDTO(1L)));
+    when(agencyControllerApi.getAgenciesByIds(asList(3L, 2L)))
+        .thenReturn(asList(agencyResponseDTO(2L), agencyResponseDTO(3L)));
+
+    agencyService.getAgency(1L);
+    List<AgencyDTO> agencies = agencyService.getAgencies(asList(3L, 1L, 2L));
+
+    assertThat(agencies.stream().map(AgencyDTO::getId).collect(Collectors.toList()),
+        contains(3L, 1L, 2L));
+    verify(agencyControllerApi, times(1)).getAgenciesByIds(singletonList(1L));
+    verify(agencyControllerApi, times(1)).getAgenciesByIds(asList(3L, 2L));
+  }
 
-    assertNotNull(annotation);
+  @Test
+  public void getAgencies_Should_notCallAgencyService_When_allAgenciesAreCached() {
+    when(agencyControllerApi.getAgenciesByIds(asList(1L, 2L)))
+        .thenReturn(asList(agencyResponseDTO(1L), agencyResponseDTO(2L)));
+
+    agencyService.getAgencies(asList(1L, 2L));
+    agencyService.getAgencies(asList(2L, 1L));
+    agencyService.getAgency(2L);
+
+    verify(agencyControllerApi, times(1)).getAgenciesByIds(any());
+    assertThat(meterRegistry.counter("agency.cache.hits").count(), is(3.0));
+    assertThat(meterRegistry.counter("agency.cache.misses").count(), is(2.0));
+    assertThat(meterRegistry.timer("agency.cache.load").count(), is(1L));
   }
 
   @Test
@@ -94,20 +115,6 @@ public class AgencySecurityHeaderSupplierTest {
     assertThat(agencyService.getAgency(AGENCY_ID), instanceOf(AgencyDTO.class));
   }
 
-  @SuppressWarnings({"unchecked", "rawtypes"})
-  @Test
-  public void test_Should_Fail_When_MethodgetAgencyFromAgencyServiceDoesNotHaveCacheableAnnotation()
-      throws NoSuchMethodException, SecurityException {
-
-    AgencyService agencyService = new AgencyService(mock(AgencyControllerApi.class),
-        mock(SecurityHeaderSupplier.class));
-    Class classToTest = agencyService.getClass();
-    Method methodToTest = classToTest.getMethod(GET_AGENCY_METHOD_NAME, GET_AGENCY_METHOD_PARAMS);
-    Cacheable annotation = methodToTest.getAnnotation(Cacheable.class);
-
-    assertNotNull(annotation);
-  }
-
   @Test
   public void getAgencyWithoutCaching_Should_ReturnAgencyDTO_WhenProvidedWithValidAgencyId() {
     when(agencyControllerApi.getAgenciesByIds(ArgumentMatchers.any()))
@@ -0,0 +1,111 @@
+package de.caritas.cob.userservice.api.service.helper;
+
+import static de.caritas.cob.userservice.api.service.helper.KeycloakAdminClientAccessor.METRIC_PREFIX;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThrows;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import javax.ws.rs.NotAuthorizedException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class KeycloakAdminClientAccessorTest {
+
+  private static final String REALM = "realm";
+  private static final String TOKEN_RESPONSE = "{\"access_token\":\"token\",\"expires_in\":300,"
+      + "\"refresh_expires_in\":1800,\"refresh_token\":\"refresh\",\"token_type\":\"bearer\"}";
+
+  private final AtomicInteger tokenRequests = new AtomicInteger();
+  private final AtomicBoolean rejectNextUserRequest = new AtomicBoolean();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private HttpServer keycloakStub;
+  private KeycloakAdminClientAccessor keycloakAdminClientAccessor;
+
+  @Before
+  public void setup() throws IOException {
+    this.keycloakStub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    this.keycloakStub.createContext("/realms/" + REALM + "/protocol/openid-connect/token",
+        exchange -> {
+          tokenRequests.incrementAndGet();
+          respond(exchange, 200, TOKEN_RESPONSE);
+        });
+    this.keycloakStub.createContext("/admin/realms/" + REALM + "/users", exchange -> {
+      if (rejectNextUserRequest.getAndSet(false)) {
+        respond(exchange, 401, "{}");
+      } else {
+        respond(exchange, 200, "[]");
+      }
+    });
+    this.keycloakStub.start();
+
+    this.keycloakAdminClientAccessor = new KeycloakAdminClientAccessor(meterRegistry);
+    setField(keycloakAdminClientAccessor, "keycloakServerUrl",
+        "http://localhost:" + keycloakStub.getAddress().getPort());
+    setField(keycloakAdminClientAccessor, "keycloakRealm", REALM);
+    setField(keycloakAdminClientAccessor, "keycloakUsername", "admin");
+    setField(keycloakAdminClientAccessor, "keycloakPassword", "password");
+    setField(keycloakAdminClientAccessor, "keycloakClientId", "admin-cli");
+    setField(keycloakAdminClientAccessor, "connectionPoolSize", 5);
+    setField(keycloakAdminClientAccessor, "minTokenValiditySeconds", 30L);
+  }
+
+  @After
+  public void tearDown() {
+    this.keycloakAdminClientAccessor.close();
+    this.keycloakStub.stop(0);
+  }
+
+  @Test
+  public void getUsersResource_Should_requestAdminTokenOnlyOnce_When_calledMultipleTimes() {
+    IntStream.range(0, 10)
+        .forEach(i -> keycloakAdminClientAccessor.getUsersResource().search("user" + i));
+
+    assertThat(tokenRequests.get(), is(1));
+    assertThat(meterRegistry.counter(METRIC_PREFIX + ".token.requests").count(), is(1.0));
+  }
+
+  @Test
+  public void getUsersResource_Should_requestNewAdminToken_When_keycloakRespondedUnauthorized() {
+    keycloakAdminClientAccessor.getUsersResource().search("user");
+    rejectNextUserRequest.set(true);
+
+    assertThrows(NotAuthorizedException.class,
+        () -> keycloakAdminClientAccessor.getUsersResource().search("user"));
+    keycloakAdminClientAccessor.getUsersResource().search("user");
+
+    assertThat(tokenRequests.get(), is(2));
+    assertThat(meterRegistry.counter(METRIC_PREFIX + ".unauthorized.responses").count(),
+        is(1.0));
+  }
+
+  @Test
+  public void getUsersResource_Should_exposeConnectionPoolMetrics() {
+    keycloakAdminClientAccessor.getUsersResource().search("user");
+
+    assertThat(meterRegistry.get(METRIC_PREFIX + ".connections.max").gauge().value(), is(5.0));
+    assertThat(meterRegistry.get(METRIC_PREFIX + ".connections.leased").gauge().value(),
+        is(0.0));
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body)
+      throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    exchange.getResponseBody().write(bytes);
+    exchange.close();
+  }
+
+}
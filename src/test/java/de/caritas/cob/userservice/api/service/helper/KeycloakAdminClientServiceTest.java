@@ -8,7 +8,9 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -28,6 +30,10 @@ import de.caritas.cob.userservice.api.model.keycloak.KeycloakCreateUserResponseD
 import de.caritas.cob.userservice.api.model.registration.UserDTO;
 import de.caritas.cob.userservice.api.service.LogService;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.ws.rs.NotFoundException;
 import javax.ws.rs.core.Response;
 import org.jeasy.random.EasyRandom;
 import org.junit.Before;
@@ -45,8 +51,11 @@ import org.keycloak.representations.idm.RoleRepresentation;
 import org.keycloak.representations.idm.UserRepresentation;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.slf4j.Logger;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -68,11 +77,15 @@ public class KeycloakAdminClientServiceTest {
   @Mock
   private Logger logger;
 
+  @Spy
+  private CacheManager cacheManager = new ConcurrentMapCacheManager();
+
   EasyRandom easyRandom = new EasyRandom();
 
   @Before
   public void setup() {
     setField(keycloakAdminClientService, "usernameTranscoder", usernameTranscoder);
+    setField(keycloakAdminClientService, "roleMembersPageSize", 500);
     setInternalState(LogService.class, "LOGGER", logger);
   }
 
@@ -426,17 +439,7 @@ public class KeycloakAdminClientServiceTest {
 
   @Test
   public void userHasAuthority_Should_returnTrue_When_userHasAuthority() {
-    RoleRepresentation roleRepresentation = mock(RoleRepresentation.class);
-    when(roleRepresentation.getName()).thenReturn("user");
-    RoleScopeResource roleScopeResource = mock(RoleScopeResource.class);
-    when(roleScopeResource.listAll()).thenReturn(singletonList(roleRepresentation));
-    RoleMappingResource roleMappingResource = mock(RoleMappingResource.class);
-    when(roleMappingResource.realmLevel()).thenReturn(roleScopeResource);
-    UserResource userResource = mock(UserResource.class);
-    when(userResource.roles()).thenReturn(roleMappingResource);
-    UsersResource usersResource = mock(UsersResource.class);
-    when(usersResource.get(any())).thenReturn(userResource);
-    when(this.keycloakAdminClientAccessor.getUsersResource()).thenReturn(usersResource);
+    givenRoleMembers(UserRole.USER.getValue(), "user");
 
     boolean hasAuthority = this.keycloakAdminClientService
         .userHasAuthority("user", Authority.USER_DEFAULT);
@@ -445,33 +448,113 @@ public class KeycloakAdminClientServiceTest {
   }
 
   @Test(expected = KeycloakException.class)
-  public void userHasAuthority_Should_returnThrowKeycloakException_When_userHasNoRoles() {
-    UserResource userResource = mock(UserResource.class);
-    UsersResource usersResource = mock(UsersResource.class);
-    when(usersResource.get(any())).thenReturn(userResource);
-    when(this.keycloakAdminClientAccessor.getUsersResource()).thenReturn(usersResource);
+  public void userHasAuthority_Should_returnThrowKeycloakException_When_rolesCanNotBeLoaded() {
+    when(this.keycloakAdminClientAccessor.getRealmResource())
+        .thenReturn(mock(RealmResource.class));
 
-    this.keycloakAdminClientService.userHasAuthority("user", "authority");
+    this.keycloakAdminClientService.userHasAuthority("user", Authority.USER_DEFAULT);
   }
 
   @Test
   public void userHasAuthority_Should_returnFalse_When_userHasNotAuthority() {
-    RoleRepresentation roleRepresentation = mock(RoleRepresentation.class);
-    when(roleRepresentation.getName()).thenReturn("user");
-    RoleScopeResource roleScopeResource = mock(RoleScopeResource.class);
-    when(roleScopeResource.listAll()).thenReturn(singletonList(roleRepresentation));
-    RoleMappingResource roleMappingResource = mock(RoleMappingResource.class);
-    when(roleMappingResource.realmLevel()).thenReturn(roleScopeResource);
+    givenRoleMembers(UserRole.USER.getValue(), "user");
+
+    boolean hasAuthority = this.keycloakAdminClientService
+        .userHasAuthority("user", Authority.USER_ADMIN);
+
+    assertThat(hasAuthority, is(false));
+  }
+
+  @Test
+  public void userHasAuthority_Should_returnFalse_When_roleDoesNotExist() {
+    RoleResource roleResource = givenRoleMembers(UserRole.USER_ADMIN.getValue());
+    when(roleResource.getRoleUserMembers(anyInt(), anyInt())).thenThrow(new NotFoundException());
+
+    boolean hasAuthority = this.keycloakAdminClientService
+        .userHasAuthority("user", Authority.USER_ADMIN);
+
+    assertThat(hasAuthority, is(false));
+  }
+
+  @Test
+  public void userHasAuthority_Should_loadRoleMembersOnlyOnce_When_calledForSeveralUsers() {
+    final RoleResource roleResource =
+        givenRoleMembers(UserRole.U25_MAIN_CONSULTANT.getValue(), "main", "other main");
+
+    assertThat(this.keycloakAdminClientService
+        .userHasAuthority("main", Authority.VIEW_ALL_FEEDBACK_SESSIONS), is(true));
+    assertThat(this.keycloakAdminClientService
+        .userHasAuthority("other main", Authority.VIEW_ALL_PEER_SESSIONS), is(true));
+    assertThat(this.keycloakAdminClientService
+        .userHasAuthority("consultant", Authority.VIEW_ALL_FEEDBACK_SESSIONS), is(false));
+    assertThat(this.keycloakAdminClientService
+        .userHasRole("main", UserRole.U25_MAIN_CONSULTANT.getValue()), is(true));
+    verify(roleResource, times(1)).getRoleUserMembers(anyInt(), anyInt());
+  }
+
+  @Test
+  public void userHasRole_Should_loadAllPagesOfRoleMembers() {
+    setField(keycloakAdminClientService, "roleMembersPageSize", 2);
+    RoleResource roleResource = givenRoleMembers(UserRole.CONSULTANT.getValue());
+    when(roleResource.getRoleUserMembers(0, 2))
+        .thenReturn(Set.of(userRepresentation("first"), userRepresentation("second")));
+    when(roleResource.getRoleUserMembers(2, 2)).thenReturn(Set.of(userRepresentation("third")));
+
+    boolean hasRole = this.keycloakAdminClientService
+        .userHasRole("third", UserRole.CONSULTANT.getValue());
+
+    assertThat(hasRole, is(true));
+    verify(roleResource, times(2)).getRoleUserMembers(anyInt(), anyInt());
+  }
+
+  @Test
+  public void userHasAuthority_Should_loadRoleMembersAgain_When_userHasBeenDeleted() {
+    final RoleResource roleResource = givenRoleMembers(UserRole.CONSULTANT.getValue(), "user");
+    when(this.keycloakAdminClientAccessor.getUsersResource()).thenReturn(mock(UsersResource.class,
+        RETURNS_DEEP_STUBS));
+
+    this.keycloakAdminClientService.userHasAuthority("user", Authority.CONSULTANT_DEFAULT);
+    this.keycloakAdminClientService.deleteUser("user");
+    this.keycloakAdminClientService.userHasAuthority("user", Authority.CONSULTANT_DEFAULT);
+
+    verify(roleResource, times(2)).getRoleUserMembers(anyInt(), anyInt());
+  }
+
+  @Test
+  public void userHasAuthority_Should_loadRoleMembersAgain_When_rollbackOfUserHasFailed() {
+    final RoleResource roleResource = givenRoleMembers(UserRole.CONSULTANT.getValue(), "user");
     UserResource userResource = mock(UserResource.class);
-    when(userResource.roles()).thenReturn(roleMappingResource);
+    doThrow(new RuntimeException()).when(userResource).remove();
     UsersResource usersResource = mock(UsersResource.class);
     when(usersResource.get(any())).thenReturn(userResource);
     when(this.keycloakAdminClientAccessor.getUsersResource()).thenReturn(usersResource);
 
-    boolean hasAuthority = this.keycloakAdminClientService
-        .userHasAuthority("user", Authority.USER_ADMIN);
+    this.keycloakAdminClientService.userHasAuthority("user", Authority.CONSULTANT_DEFAULT);
+    this.keycloakAdminClientService.rollBackUser("user");
+    this.keycloakAdminClientService.userHasAuthority("user", Authority.CONSULTANT_DEFAULT);
 
-    assertThat(hasAuthority, is(false));
+    verify(roleResource, times(2)).getRoleUserMembers(anyInt(), anyInt());
+  }
+
+  private RoleResource givenRoleMembers(String roleName, String... userIds) {
+    RoleResource emptyRoleResource = mock(RoleResource.class);
+    RoleResource roleResource = mock(RoleResource.class);
+    when(roleResource.getRoleUserMembers(anyInt(), anyInt())).thenReturn(Stream.of(userIds)
+        .map(this::userRepresentation)
+        .collect(Collectors.toSet()));
+    RolesResource rolesResource = mock(RolesResource.class);
+    when(rolesResource.get(any())).thenReturn(emptyRoleResource);
+    when(rolesResource.get(roleName)).thenReturn(roleResource);
+    RealmResource realmResource = mock(RealmResource.class);
+    when(realmResource.roles()).thenReturn(rolesResource);
+    when(this.keycloakAdminClientAccessor.getRealmResource()).thenReturn(realmResource);
+    return roleResource;
+  }
+
+  private UserRepresentation userRepresentation(String userId) {
+    UserRepresentation userRepresentation = new UserRepresentation();
+    userRepresentation.setId(userId);
+    return userRepresentation;
   }
 
   @Test
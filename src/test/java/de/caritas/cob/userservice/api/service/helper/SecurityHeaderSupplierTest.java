@@ -5,6 +5,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.internal.util.reflection.FieldSetter.setField;
 
@@ -79,4 +80,26 @@ public class SecurityHeaderSupplierTest {
     assertThat(result.get("Cookie").get(0), startsWith(CSRF_TOKEN_COOKIE_VALUE + "="));
     assertNotNull(result.get(CSRF_TOKEN_HEADER_VALUE));
   }
+
+  @Test
+  public void getKeycloakAndCsrfHttpHeaders_Should_useGivenAccessToken_When_calledInRunWithAccessToken() {
+    HttpHeaders[] result = new HttpHeaders[1];
+
+    securityHeaderSupplier.runWithAccessToken(BEARER_TOKEN,
+        () -> result[0] = securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders());
+
+    assertThat("Bearer " + BEARER_TOKEN, is(result[0].get("Authorization").get(0)));
+    verifyNoInteractions(authenticatedUser);
+  }
+
+  @Test
+  public void getKeycloakAndCsrfHttpHeaders_Should_useTokenOfAuthenticatedUser_When_runWithAccessTokenHasFinished() {
+    when(authenticatedUser.getAccessToken()).thenReturn("userToken");
+    securityHeaderSupplier.runWithAccessToken(BEARER_TOKEN, () -> {
+    });
+
+    HttpHeaders result = securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
+
+    assertThat("Bearer userToken", is(result.get("Authorization").get(0)));
+  }
 }
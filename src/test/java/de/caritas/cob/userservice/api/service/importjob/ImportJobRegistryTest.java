@@ -0,0 +1,99 @@
+package de.caritas.cob.userservice.api.service.importjob;
+
+import static de.caritas.cob.userservice.api.service.importjob.ImportType.ASKER;
+import static de.caritas.cob.userservice.api.service.importjob.ImportType.ASKER_WITHOUT_SESSION;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import de.caritas.cob.userservice.api.exception.httpresponses.ConflictException;
+import de.caritas.cob.userservice.api.exception.httpresponses.NotFoundException;
+import de.caritas.cob.userservice.api.model.ImportJobDTO;
+import de.caritas.cob.userservice.api.model.ImportJobDTO.StatusEnum;
+import org.junit.Test;
+
+public class ImportJobRegistryTest {
+
+  private final ImportJobRegistry importJobRegistry = new ImportJobRegistry();
+
+  @Test
+  public void registerImportJob_Should_returnRunningJob() {
+    ImportJob importJob = this.importJobRegistry.registerImportJob(ASKER, "protocol");
+
+    assertThat(importJob.isRunning(), is(true));
+    assertThat(this.importJobRegistry.findImportJob(importJob.getJobId()), is(importJob));
+  }
+
+  @Test(expected = ConflictException.class)
+  public void registerImportJob_Should_throwConflictException_When_jobOfSameTypeIsRunning() {
+    this.importJobRegistry.registerImportJob(ASKER, "protocol");
+
+    this.importJobRegistry.registerImportJob(ASKER, "protocol");
+  }
+
+  @Test
+  public void registerImportJob_Should_registerJob_When_jobOfSameTypeHasFinished() {
+    this.importJobRegistry.registerImportJob(ASKER, "protocol").finish();
+
+    ImportJob importJob = this.importJobRegistry.registerImportJob(ASKER, "protocol");
+
+    assertThat(importJob.isRunning(), is(true));
+  }
+
+  @Test(expected = NotFoundException.class)
+  public void registerImportJob_Should_removeFinishedJobOfSameType() {
+    ImportJob finishedImportJob = this.importJobRegistry.registerImportJob(ASKER, "protocol");
+    finishedImportJob.finish();
+    this.importJobRegistry.registerImportJob(ASKER, "protocol");
+
+    this.importJobRegistry.findImportJob(finishedImportJob.getJobId());
+  }
+
+  @Test
+  public void registerImportJob_Should_keepFinishedJobOfOtherType() {
+    ImportJob finishedImportJob =
+        this.importJobRegistry.registerImportJob(ASKER_WITHOUT_SESSION, "protocol");
+    finishedImportJob.finish();
+    this.importJobRegistry.registerImportJob(ASKER, "protocol");
+
+    assertThat(this.importJobRegistry.findImportJob(finishedImportJob.getJobId()),
+        is(finishedImportJob));
+  }
+
+  @Test
+  public void registerImportJob_Should_registerJob_When_jobOfOtherTypeIsRunning() {
+    this.importJobRegistry.registerImportJob(ASKER, "protocol");
+
+    ImportJob importJob =
+        this.importJobRegistry.registerImportJob(ASKER_WITHOUT_SESSION, "protocol");
+
+    assertThat(importJob.isRunning(), is(true));
+  }
+
+  @Test(expected = NotFoundException.class)
+  public void findImportJob_Should_throwNotFoundException_When_jobDoesNotExist() {
+    this.importJobRegistry.findImportJob("unknown");
+  }
+
+  @Test
+  public void toImportJobDTO_Should_containCurrentProgress() {
+    ImportJob importJob = this.importJobRegistry.registerImportJob(ASKER, "protocol");
+    importJob.recordImported();
+    importJob.recordImported();
+    importJob.recordAlreadyImported();
+    importJob.recordSkipped();
+    importJob.recordFailed();
+    importJob.fail();
+
+    ImportJobDTO importJobDTO = importJob.toImportJobDTO();
+
+    assertThat(importJobDTO.getJobId(), is(importJob.getJobId()));
+    assertThat(importJobDTO.getImportType(), is(ImportJobDTO.ImportTypeEnum.ASKER));
+    assertThat(importJobDTO.getStatus(), is(StatusEnum.FAILED));
+    assertThat(importJobDTO.getProtocolFile(), is("protocol"));
+    assertThat(importJobDTO.getImportedRecords(), is(2));
+    assertThat(importJobDTO.getAlreadyImportedRecords(), is(1));
+    assertThat(importJobDTO.getSkippedRecords(), is(1));
+    assertThat(importJobDTO.getFailedRecords(), is(1));
+  }
+
+}
@@ -0,0 +1,80 @@
+package de.caritas.cob.userservice.api.service.liveevents;
+
+import static de.caritas.cob.userservice.api.service.liveevents.LiveEventDispatcher.METRIC_PREFIX;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LiveEventDispatcherTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger executions = new AtomicInteger();
+
+  private LiveEventDispatcher liveEventDispatcher;
+
+  @Before
+  public void setup() {
+    this.liveEventDispatcher = new LiveEventDispatcher(meterRegistry);
+    setField(liveEventDispatcher, "workers", 1);
+    setField(liveEventDispatcher, "capacity", 2);
+    setField(liveEventDispatcher, "coalescingWindowMillis", 200L);
+    this.liveEventDispatcher.initialize();
+  }
+
+  @After
+  public void tearDown() {
+    this.liveEventDispatcher.shutdown();
+  }
+
+  @Test
+  public void dispatch_Should_executeTaskOnlyOnce_When_sameKeyIsDispatchedWithinWindow()
+      throws InterruptedException {
+    var latch = new CountDownLatch(1);
+
+    liveEventDispatcher.dispatch("group", executions::incrementAndGet);
+    liveEventDispatcher.dispatch("group", executions::incrementAndGet);
+    liveEventDispatcher.dispatch("group", executions::incrementAndGet);
+    liveEventDispatcher.dispatch("other group", latch::countDown);
+
+    assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(executions.get(), is(1));
+    assertThat(meterRegistry.counter(METRIC_PREFIX + ".events.coalesced").count(), is(2.0));
+    assertThat(meterRegistry.timer(METRIC_PREFIX + ".latency").count(),
+        greaterThanOrEqualTo(1L));
+  }
+
+  @Test
+  public void dispatch_Should_dropEvent_When_capacityIsReached() {
+    assertThat(liveEventDispatcher.dispatch("group1", executions::incrementAndGet), is(true));
+    assertThat(liveEventDispatcher.dispatch("group2", executions::incrementAndGet), is(true));
+
+    assertThat(liveEventDispatcher.dispatch("group3", executions::incrementAndGet), is(false));
+
+    assertThat(meterRegistry.get(METRIC_PREFIX + ".queue.depth").gauge().value(), is(2.0));
+    assertThat(meterRegistry.counter(METRIC_PREFIX + ".events.dropped").count(), is(1.0));
+  }
+
+  @Test
+  public void dispatch_Should_executeTaskAgain_When_previousEventHasBeenProcessed()
+      throws InterruptedException {
+    var firstLatch = new CountDownLatch(1);
+    var secondLatch = new CountDownLatch(1);
+
+    liveEventDispatcher.dispatch("group", firstLatch::countDown);
+    assertThat(firstLatch.await(5, TimeUnit.SECONDS), is(true));
+    liveEventDispatcher.dispatch("group", secondLatch::countDown);
+
+    assertThat(secondLatch.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(meterRegistry.counter(METRIC_PREFIX + ".events.coalesced").count(), is(0.0));
+  }
+
+}
@@ -9,7 +9,10 @@ import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -25,7 +28,6 @@ import de.caritas.cob.userservice.liveservice.generated.web.LiveControllerApi;
 import de.caritas.cob.userservice.liveservice.generated.web.model.EventType;
 import de.caritas.cob.userservice.liveservice.generated.web.model.LiveEventMessage;
 import java.util.List;
-import java.util.Optional;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -65,12 +67,19 @@ public class LiveEventNotificationServiceTest {
   @Mock
   private PushMessageService pushMessageService;
 
+  @Mock
+  private LiveEventDispatcher liveEventDispatcher;
+
   @Mock
   private Logger logger;
 
   @Before
   public void setup() {
     setInternalState(LogService.class, "LOGGER", logger);
+    lenient().when(liveEventDispatcher.dispatch(anyString(), any())).thenAnswer(invocation -> {
+      invocation.getArgument(1, Runnable.class).run();
+      return true;
+    });
   }
 
   @Test
@@ -85,10 +94,23 @@ public class LiveEventNotificationServiceTest {
         .sendLiveEvent(asList("1", "2"), MESSAGE);
   }
 
+  @Test
+  public void sendLiveDirectMessageEventToUsers_Should_queueEventPerGroupAndInitiatingUser() {
+    when(this.authenticatedUser.getUserId()).thenReturn("initiator");
+    doReturn(true).when(this.liveEventDispatcher).dispatch(anyString(), any());
+
+    this.liveEventNotificationService.sendLiveDirectMessageEventToUsers("group id");
+
+    verify(this.liveEventDispatcher, times(1)).dispatch(eq("group id:initiator"), any());
+    verifyNoInteractions(this.userIdsProviderFactory, this.liveControllerApi,
+        this.pushMessageService);
+  }
+
   @Test
   public void sendLiveDirectMessageEventToUsers_Should_doNothing_When_rcGroupIdIsEmpty() {
     this.liveEventNotificationService.sendLiveDirectMessageEventToUsers("");
 
+    verifyNoInteractions(liveEventDispatcher);
     verifyNoInteractions(userIdsProviderFactory);
     verifyNoInteractions(liveControllerApi);
     verifyNoInteractions(pushMessageService);
@@ -155,11 +177,12 @@ public class LiveEventNotificationServiceTest {
     user.setMobileToken("mobileToken");
     when(this.bySessionProvider.collectUserIds(any())).thenReturn(asList("1", "2"));
     when(this.userIdsProviderFactory.byRocketChatGroup(any())).thenReturn(bySessionProvider);
-    when(this.userService.getUser(anyString())).thenReturn(Optional.of(user));
+    when(this.userService.getUsers(any())).thenReturn(asList(user, user));
 
     this.liveEventNotificationService.sendLiveDirectMessageEventToUsers("valid");
 
-    verify(this.pushMessageService, times(2)).pushNewMessageEvent("mobileToken");
+    verify(this.pushMessageService, times(1))
+        .pushNewMessageEvents(asList("mobileToken", "mobileToken"));
   }
 
   @Test
@@ -168,19 +191,18 @@ public class LiveEventNotificationServiceTest {
     user.setMobileToken("mobileToken");
     when(this.bySessionProvider.collectUserIds(any())).thenReturn(asList("1", "2"));
     when(this.userIdsProviderFactory.byRocketChatGroup(any())).thenReturn(bySessionProvider);
-    when(this.userService.getUser("1")).thenReturn(Optional.of(user));
-    when(this.userService.getUser("2")).thenReturn(Optional.of(new User()));
+    when(this.userService.getUsers(asList("1", "2"))).thenReturn(asList(user, new User()));
 
     this.liveEventNotificationService.sendLiveDirectMessageEventToUsers("valid");
 
-    verify(this.pushMessageService, times(1)).pushNewMessageEvent("mobileToken");
+    verify(this.pushMessageService, times(1)).pushNewMessageEvents(singletonList("mobileToken"));
   }
 
   @Test
   public void sendLiveDirectMessageEventToUsers_Should_notSendPushMessage_When_noUserHasMobileToken() {
     when(this.bySessionProvider.collectUserIds(any())).thenReturn(asList("1", "2"));
     when(this.userIdsProviderFactory.byRocketChatGroup(any())).thenReturn(bySessionProvider);
-    when(this.userService.getUser(any())).thenReturn(Optional.of(new User()));
+    when(this.userService.getUsers(any())).thenReturn(singletonList(new User()));
 
     this.liveEventNotificationService.sendLiveDirectMessageEventToUsers("valid");
 
@@ -5,18 +5,14 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatGetGroupMembersException;
 import de.caritas.cob.userservice.api.model.rocketchat.group.GroupMemberDTO;
-import de.caritas.cob.userservice.api.repository.consultant.Consultant;
-import de.caritas.cob.userservice.api.repository.user.User;
-import de.caritas.cob.userservice.api.service.ConsultantService;
 import de.caritas.cob.userservice.api.service.rocketchat.RocketChatService;
-import de.caritas.cob.userservice.api.service.user.UserService;
 import java.util.List;
-import java.util.Optional;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -33,10 +29,7 @@ public class RelevantUserAccountIdsByChatProviderTest {
   private RocketChatService rocketChatService;
 
   @Mock
-  private UserService userService;
-
-  @Mock
-  private ConsultantService consultantService;
+  private RocketChatUserAccountIdResolver rocketChatUserAccountIdResolver;
 
   @Test
   public void collectUserIds_Should_returnEmptyList_When_rocketChatServiceThrowsException()
@@ -50,17 +43,13 @@ public class RelevantUserAccountIdsByChatProviderTest {
   }
 
   @Test
-  public void collectUserIds_Should_returnAllMergedDependingIds_When_rcGroupHasMembers()
+  public void collectUserIds_Should_resolveAllMemberIdsAtOnce_When_rcGroupHasMembers()
       throws RocketChatGetGroupMembersException {
     List<GroupMemberDTO> groupMembers = asList(
         memberDTOWithRcId("rc1"), memberDTOWithRcId("rc2"), memberDTOWithRcId("rc3"));
     when(this.rocketChatService.getMembersOfGroup(any())).thenReturn(groupMembers);
-    when(this.consultantService.getConsultantByRcUserId(eq("rc1")))
-        .thenReturn(Optional.of(consultantWithId("consultant1")));
-    when(this.userService.findUserByRcUserId(eq("rc2")))
-        .thenReturn(Optional.of(userWithId("user1")));
-    when(this.userService.findUserByRcUserId(eq("rc3")))
-        .thenReturn(Optional.of(userWithId("user2")));
+    when(this.rocketChatUserAccountIdResolver.resolveAccountIds(asList("rc1", "rc2", "rc3")))
+        .thenReturn(asList("consultant1", "user1", "user2"));
 
     List<String> collectedUserIds = this.byChatProvider.collectUserIds("groupId");
 
@@ -68,6 +57,7 @@ public class RelevantUserAccountIdsByChatProviderTest {
     assertThat(collectedUserIds.get(0), is("consultant1"));
     assertThat(collectedUserIds.get(1), is("user1"));
     assertThat(collectedUserIds.get(2), is("user2"));
+    verify(this.rocketChatUserAccountIdResolver, times(1)).resolveAccountIds(any());
   }
 
   private GroupMemberDTO memberDTOWithRcId(String rcId) {
@@ -76,32 +66,4 @@ public class RelevantUserAccountIdsByChatProviderTest {
     return groupMemberDTO;
   }
 
-  private Consultant consultantWithId(String consultantId) {
-    Consultant consultant = new Consultant();
-    consultant.setId(consultantId);
-    return consultant;
-  }
-
-  private User userWithId(String userId) {
-    return new User(userId, null, null, null, false);
-  }
-
-  @Test
-  public void collectUserIds_Should_returnAllMergedDependingIdsInsteadOfNotAvailableUser_When_rcGroupHasMembers()
-      throws RocketChatGetGroupMembersException {
-    List<GroupMemberDTO> groupMembers = asList(
-        memberDTOWithRcId("rc1"), memberDTOWithRcId("rc2"), memberDTOWithRcId("rc3"));
-    when(this.rocketChatService.getMembersOfGroup(any())).thenReturn(groupMembers);
-    when(this.consultantService.getConsultantByRcUserId(eq("rc1")))
-        .thenReturn(Optional.of(consultantWithId("consultant1")));
-    when(this.userService.findUserByRcUserId(eq("rc3")))
-        .thenReturn(Optional.of(userWithId("user2")));
-
-    List<String> collectedUserIds = this.byChatProvider.collectUserIds("groupId");
-
-    assertThat(collectedUserIds, hasSize(2));
-    assertThat(collectedUserIds.get(0), is("consultant1"));
-    assertThat(collectedUserIds.get(1), is("user2"));
-  }
-
 }
@@ -0,0 +1,137 @@
+package de.caritas.cob.userservice.api.service.liveevents;
+
+import static de.caritas.cob.userservice.config.CachingConfig.RC_USER_ACCOUNT_ID_CACHE;
+import static de.caritas.cob.userservice.config.CachingConfig.RC_USER_NO_ACCOUNT_ID_CACHE;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.repository.consultant.Consultant;
+import de.caritas.cob.userservice.api.repository.consultant.ConsultantRepository;
+import de.caritas.cob.userservice.api.repository.user.User;
+import de.caritas.cob.userservice.api.repository.user.UserRepository;
+import java.util.List;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RocketChatUserAccountIdResolverTest {
+
+  private final ConcurrentMapCacheManager cacheManager =
+      new ConcurrentMapCacheManager(RC_USER_ACCOUNT_ID_CACHE, RC_USER_NO_ACCOUNT_ID_CACHE);
+
+  private RocketChatUserAccountIdResolver resolver;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private ConsultantRepository consultantRepository;
+
+  @Before
+  public void setup() {
+    this.resolver =
+        new RocketChatUserAccountIdResolver(userRepository, consultantRepository, cacheManager);
+  }
+
+  @Test
+  public void resolveAccountIds_Should_returnAccountIdsInMemberOrder_When_membersAreAskersAndConsultants() {
+    when(userRepository.findByRcUserIdInAndDeleteDateIsNull(any()))
+        .thenReturn(asList(user("user1", "rc2"), user("user2", "rc4")));
+    when(consultantRepository.findByRocketChatIdInAndDeleteDateIsNull(Set.of("rc1", "rc3")))
+        .thenReturn(singletonList(consultant("consultant1", "rc1")));
+
+    List<String> accountIds = resolver.resolveAccountIds(asList("rc1", "rc2", "rc3", "rc4"));
+
+    assertThat(accountIds, contains("consultant1", "user1", "user2"));
+  }
+
+  @Test
+  public void resolveAccountIds_Should_notQueryDatabaseAgain_When_idsWereResolvedBefore() {
+    when(userRepository.findByRcUserIdInAndDeleteDateIsNull(any()))
+        .thenReturn(singletonList(user("user1", "rc1")));
+
+    resolver.resolveAccountIds(asList("rc1", "technical"));
+    List<String> accountIds = resolver.resolveAccountIds(asList("rc1", "technical"));
+
+    assertThat(accountIds, contains("user1"));
+    verify(userRepository, times(1)).findByRcUserIdInAndDeleteDateIsNull(any());
+    verify(consultantRepository, times(1)).findByRocketChatIdInAndDeleteDateIsNull(any());
+  }
+
+  @Test
+  public void resolveAccountIds_Should_notQueryConsultants_When_allIdsBelongToAskers() {
+    when(userRepository.findByRcUserIdInAndDeleteDateIsNull(any()))
+        .thenReturn(asList(user("user1", "rc1"), user("user2", "rc2")));
+
+    resolver.resolveAccountIds(asList("rc1", "rc2"));
+
+    verify(consultantRepository, never()).findByRocketChatIdInAndDeleteDateIsNull(any());
+  }
+
+  @Test
+  public void resolveAccountIds_Should_queryDatabaseAgain_When_cacheEntryWasEvicted() {
+    when(userRepository.findByRcUserIdInAndDeleteDateIsNull(any()))
+        .thenReturn(singletonList(user("user1", "rc1")));
+    resolver.resolveAccountIds(singletonList("rc1"));
+
+    new RocketChatUserAccountIdCacheEvictionListener(cacheManager)
+        .evictRocketChatUserId(user("user1", "rc1"));
+    resolver.resolveAccountIds(singletonList("rc1"));
+
+    verify(userRepository, times(2)).findByRcUserIdInAndDeleteDateIsNull(any());
+  }
+
+  @Test
+  public void resolveAccountIds_Should_cacheIdsWithoutAccountSeparately() {
+    when(userRepository.findByRcUserIdInAndDeleteDateIsNull(any()))
+        .thenReturn(singletonList(user("user1", "rc1")));
+
+    resolver.resolveAccountIds(asList("rc1", "technical"));
+
+    assertThat(cacheManager.getCache(RC_USER_ACCOUNT_ID_CACHE).get("technical"), nullValue());
+    assertThat(cacheManager.getCache(RC_USER_NO_ACCOUNT_ID_CACHE).get("technical"),
+        notNullValue());
+    assertThat(cacheManager.getCache(RC_USER_NO_ACCOUNT_ID_CACHE).get("rc1"), nullValue());
+  }
+
+  @Test
+  public void resolveAccountIds_Should_resolveNewAccount_When_idWithoutAccountWasEvicted() {
+    resolver.resolveAccountIds(singletonList("rc1"));
+    when(userRepository.findByRcUserIdInAndDeleteDateIsNull(any()))
+        .thenReturn(singletonList(user("user1", "rc1")));
+
+    new RocketChatUserAccountIdCacheEvictionListener(cacheManager)
+        .evictRocketChatUserId(user("user1", "rc1"));
+    List<String> accountIds = resolver.resolveAccountIds(singletonList("rc1"));
+
+    assertThat(accountIds, contains("user1"));
+  }
+
+  private User user(String userId, String rcUserId) {
+    User user = new User(userId, null, "username", "email", false);
+    user.setRcUserId(rcUserId);
+    return user;
+  }
+
+  private Consultant consultant(String consultantId, String rcUserId) {
+    Consultant consultant = new Consultant();
+    consultant.setId(consultantId);
+    consultant.setRocketChatId(rcUserId);
+    return consultant;
+  }
+
+}
@@ -34,7 +34,6 @@ import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatPostWelcome
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatUserNotInitializedException;
 import de.caritas.cob.userservice.api.helper.UserHelper;
 import de.caritas.cob.userservice.api.service.rocketchat.RocketChatCredentialsProvider;
-import de.caritas.cob.userservice.api.service.securityheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.messageservice.generated.web.MessageControllerApi;
 import de.caritas.cob.userservice.messageservice.generated.web.model.AliasOnlyMessageDTO;
 import de.caritas.cob.userservice.messageservice.generated.web.model.MessageDTO;
@@ -46,7 +45,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
-import org.springframework.http.HttpHeaders;
 import org.springframework.web.client.RestClientException;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -64,17 +62,12 @@ public class MessageServiceProviderTest {
   @Mock
   private UserHelper userHelper;
 
-  @Mock
-  private SecurityHeaderSupplier securityHeaderSupplier;
-
   private final RestClientException restClientException = new RestClientException(ERROR);
 
   @Test
   public void postEnquiryMessage_Should_ThrowRocketChatPostMessageExceptionWithExceptionInformation_When_PostRcMessageFails() {
     CreateEnquiryExceptionInformation exceptionInformation = mock(
         CreateEnquiryExceptionInformation.class);
-    HttpHeaders headers = mock(HttpHeaders.class);
-    when(securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders()).thenReturn(headers);
     doThrow(restClientException).when(this.messageControllerApi)
         .createMessage(anyString(), anyString(), anyString(), any());
 
@@ -93,8 +86,6 @@ public class MessageServiceProviderTest {
       throws RocketChatPostMessageException {
     CreateEnquiryExceptionInformation exceptionInformation = mock(
         CreateEnquiryExceptionInformation.class);
-    HttpHeaders headers = mock(HttpHeaders.class);
-    when(securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders()).thenReturn(headers);
     ArgumentCaptor<MessageDTO> captor = ArgumentCaptor.forClass(MessageDTO.class);
 
     this.messageServiceProvider
@@ -145,8 +136,6 @@ public class MessageServiceProviderTest {
     CreateEnquiryExceptionInformation exceptionInformation = mock(
         CreateEnquiryExceptionInformation.class);
     RocketChatCredentials credentials = mock(RocketChatCredentials.class);
-    HttpHeaders headers = mock(HttpHeaders.class);
-    when(securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders()).thenReturn(headers);
     when(this.rocketChatCredentialsProvider.getSystemUser()).thenReturn(credentials);
     doThrow(restClientException).when(this.messageControllerApi)
         .createMessage(any(), any(), any(), any());
@@ -169,8 +158,6 @@ public class MessageServiceProviderTest {
     CreateEnquiryExceptionInformation exceptionInformation = mock(
         CreateEnquiryExceptionInformation.class);
     RocketChatCredentials credentials = easyRandom.nextObject(RocketChatCredentials.class);
-    HttpHeaders headers = mock(HttpHeaders.class);
-    when(securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders()).thenReturn(headers);
     when(this.rocketChatCredentialsProvider.getSystemUser()).thenReturn(credentials);
     ArgumentCaptor<MessageDTO> captor = ArgumentCaptor.forClass(MessageDTO.class);
 
@@ -202,8 +189,6 @@ public class MessageServiceProviderTest {
       throws RocketChatPostFurtherStepsMessageException {
     CreateEnquiryExceptionInformation exceptionInformation = mock(
         CreateEnquiryExceptionInformation.class);
-    HttpHeaders headers = mock(HttpHeaders.class);
-    when(securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders()).thenReturn(headers);
     doThrow(restClientException).when(this.messageControllerApi)
         .saveAliasOnlyMessage(any(), any());
 
@@ -216,8 +201,6 @@ public class MessageServiceProviderTest {
       throws RocketChatPostFurtherStepsMessageException {
     CreateEnquiryExceptionInformation exceptionInformation = mock(
         CreateEnquiryExceptionInformation.class);
-    HttpHeaders headers = mock(HttpHeaders.class);
-    when(securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders()).thenReturn(headers);
     ArgumentCaptor<AliasOnlyMessageDTO> captor = ArgumentCaptor.forClass(AliasOnlyMessageDTO.class);
 
     this.messageServiceProvider.postFurtherStepsOrSaveSessionDataMessageIfConfigured(RC_GROUP_ID,
@@ -232,8 +215,6 @@ public class MessageServiceProviderTest {
       throws RocketChatPostFurtherStepsMessageException {
     CreateEnquiryExceptionInformation exceptionInformation = mock(
         CreateEnquiryExceptionInformation.class);
-    HttpHeaders headers = mock(HttpHeaders.class);
-    when(securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders()).thenReturn(headers);
     ArgumentCaptor<AliasOnlyMessageDTO> captor = ArgumentCaptor.forClass(AliasOnlyMessageDTO.class);
 
     this.messageServiceProvider.postFurtherStepsOrSaveSessionDataMessageIfConfigured(RC_GROUP_ID,
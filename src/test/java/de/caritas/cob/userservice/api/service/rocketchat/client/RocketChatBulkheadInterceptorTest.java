@@ -0,0 +1,89 @@
+package de.caritas.cob.userservice.api.service.rocketchat.client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RocketChatBulkheadInterceptorTest {
+
+  private static final byte[] BODY = new byte[0];
+  private static final MockClientHttpRequest REQUEST = new MockClientHttpRequest(HttpMethod.GET,
+      URI.create("http://rocketchat/api/v1/groups.members"));
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Mock
+  private ClientHttpRequestExecution execution;
+
+  @Test
+  public void intercept_Should_executeRequestsOneAfterAnother_When_slotIsReleased()
+      throws Exception {
+    ClientHttpResponse response = new MockClientHttpResponse(BODY, HttpStatus.OK);
+    when(execution.execute(any(), any())).thenReturn(response);
+    RocketChatBulkheadInterceptor interceptor =
+        new RocketChatBulkheadInterceptor(1, 0, meterRegistry);
+
+    assertThat(interceptor.intercept(REQUEST, BODY, execution), is(response));
+    assertThat(interceptor.intercept(REQUEST, BODY, execution), is(response));
+
+    verify(execution, times(2)).execute(REQUEST, BODY);
+  }
+
+  @Test
+  public void intercept_Should_rejectRequestAndCountIt_When_allSlotsAreInUse() throws Exception {
+    CountDownLatch runningCall = new CountDownLatch(1);
+    CountDownLatch finishCall = new CountDownLatch(1);
+    when(execution.execute(any(), any())).thenAnswer(invocation -> {
+      runningCall.countDown();
+      finishCall.await();
+      return new MockClientHttpResponse(BODY, HttpStatus.OK);
+    });
+    RocketChatBulkheadInterceptor interceptor =
+        new RocketChatBulkheadInterceptor(1, 10, meterRegistry);
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    try {
+      final Future<ClientHttpResponse> slowCall =
+          executorService.submit(() -> interceptor.intercept(REQUEST, BODY, execution));
+      runningCall.await();
+      try {
+        interceptor.intercept(REQUEST, BODY, execution);
+        fail("Expected exception: ResourceAccessException");
+      } catch (ResourceAccessException e) {
+        assertThat(meterRegistry.counter(RocketChatBulkheadInterceptor.REJECTED_METRIC,
+            "endpoint", "groups.members").count(), is(1.0));
+      }
+      finishCall.countDown();
+      slowCall.get();
+    } finally {
+      executorService.shutdownNow();
+    }
+
+    verify(execution, times(1)).execute(REQUEST, BODY);
+  }
+
+}
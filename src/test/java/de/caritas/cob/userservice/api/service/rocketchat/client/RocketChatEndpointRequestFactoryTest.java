@@ -0,0 +1,46 @@
+package de.caritas.cob.userservice.api.service.rocketchat.client;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.net.URI;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.impl.client.HttpClients;
+import org.junit.Test;
+import org.springframework.http.HttpMethod;
+
+public class RocketChatEndpointRequestFactoryTest {
+
+  private final RequestConfig groupMembersConfig = RequestConfig.custom()
+      .setSocketTimeout(20000)
+      .build();
+  private final RocketChatEndpointRequestFactory requestFactory =
+      new RocketChatEndpointRequestFactory(HttpClients.createDefault(),
+          singletonMap("groups.members", groupMembersConfig));
+
+  @Test
+  public void createHttpContext_Should_useRequestConfigOfEndpoint_When_configured() {
+    HttpClientContext context = (HttpClientContext) requestFactory.createHttpContext(
+        HttpMethod.GET, URI.create("http://rocketchat/api/v1/groups.members?roomId=id"));
+
+    assertThat(context.getRequestConfig(), is(groupMembersConfig));
+  }
+
+  @Test
+  public void createHttpContext_Should_returnNoContext_When_endpointHasNoOwnConfig() {
+    assertThat(requestFactory.createHttpContext(HttpMethod.POST,
+        URI.create("http://rocketchat/api/v1/groups.invite")), is(nullValue()));
+  }
+
+  @Test
+  public void nameOf_Should_returnLastPathSegmentOfUri() {
+    assertThat(RocketChatEndpoint.nameOf(URI.create("http://rocketchat/api/v1/rooms.get/")),
+        is("rooms.get"));
+    assertThat(RocketChatEndpoint.nameOf(URI.create("http://rocketchat")),
+        is(RocketChatEndpoint.UNKNOWN));
+  }
+
+}
@@ -0,0 +1,63 @@
+package de.caritas.cob.userservice.api.service.rocketchat.client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RocketChatMetricsInterceptorTest {
+
+  private static final byte[] BODY = new byte[0];
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Mock
+  private ClientHttpRequestExecution execution;
+
+  @Test
+  public void intercept_Should_recordTimerTaggedWithEndpointMethodAndStatus() throws Exception {
+    MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET,
+        URI.create("http://rocketchat/api/v1/subscriptions.get"));
+    when(execution.execute(any(), any()))
+        .thenReturn(new MockClientHttpResponse(BODY, HttpStatus.OK));
+
+    new RocketChatMetricsInterceptor(meterRegistry).intercept(request, BODY, execution);
+
+    assertThat(meterRegistry.get(RocketChatMetricsInterceptor.TIMER_METRIC)
+        .tags("endpoint", "subscriptions.get", "method", "GET", "status", "200")
+        .timer().count(), is(1L));
+  }
+
+  @Test
+  public void intercept_Should_recordTimerWithIoErrorStatus_When_requestFails() throws Exception {
+    MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST,
+        URI.create("http://rocketchat/api/v1/groups.invite"));
+    when(execution.execute(any(), any())).thenThrow(new IOException("timeout"));
+
+    try {
+      new RocketChatMetricsInterceptor(meterRegistry).intercept(request, BODY, execution);
+      fail("Expected exception: IOException");
+    } catch (IOException e) {
+      assertThat(meterRegistry.get(RocketChatMetricsInterceptor.TIMER_METRIC)
+          .tags("endpoint", "groups.invite", "status", RocketChatMetricsInterceptor.IO_ERROR_STATUS)
+          .timer().count(), is(1L));
+    }
+  }
+
+}
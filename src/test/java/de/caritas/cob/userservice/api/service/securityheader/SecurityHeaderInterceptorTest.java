@@ -0,0 +1,56 @@
+package de.caritas.cob.userservice.api.service.securityheader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.verify;
+
+import java.net.URI;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SecurityHeaderInterceptorTest {
+
+  private static final byte[] BODY = new byte[0];
+
+  @Mock
+  private ClientHttpRequestExecution execution;
+
+  @Test
+  public void intercept_Should_addSecurityHeadersToRequestAndExecuteIt() throws Exception {
+    MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("/"));
+
+    new SecurityHeaderInterceptor(this::securityHeaders).intercept(request, BODY, execution);
+
+    assertThat(request.getHeaders().getFirst("csrfHeader"), is("token"));
+    assertThat(request.getHeaders().getFirst(HttpHeaders.COOKIE), is("csrfCookie=token"));
+    verify(execution).execute(request, BODY);
+  }
+
+  @Test
+  public void intercept_Should_keepHeadersAlreadySetByTheApiClient() throws Exception {
+    MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("/"));
+    request.getHeaders().setContentType(MediaType.TEXT_PLAIN);
+
+    new SecurityHeaderInterceptor(this::securityHeaders).intercept(request, BODY, execution);
+
+    assertThat(request.getHeaders().getContentType(), is(MediaType.TEXT_PLAIN));
+    assertThat(request.getHeaders().getFirst("csrfHeader"), is("token"));
+  }
+
+  private HttpHeaders securityHeaders() {
+    HttpHeaders httpHeaders = new HttpHeaders();
+    httpHeaders.setContentType(MediaType.APPLICATION_JSON);
+    httpHeaders.add(HttpHeaders.COOKIE, "csrfCookie=token");
+    httpHeaders.add("csrfHeader", "token");
+    return httpHeaders;
+  }
+
+}
@@ -0,0 +1,123 @@
+package de.caritas.cob.userservice.api.service.session;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.powermock.reflect.Whitebox.setInternalState;
+
+import de.caritas.cob.userservice.api.container.RocketChatCredentials;
+import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
+import de.caritas.cob.userservice.api.model.rocketchat.room.RoomsLastMessageDTO;
+import de.caritas.cob.userservice.api.model.rocketchat.room.RoomsUpdateDTO;
+import de.caritas.cob.userservice.api.repository.session.SessionBatchRepository;
+import de.caritas.cob.userservice.api.service.LogService;
+import de.caritas.cob.userservice.api.service.rocketchat.RocketChatCredentialsProvider;
+import de.caritas.cob.userservice.api.service.rocketchat.RocketChatService;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+
+@ExtendWith(MockitoExtension.class)
+class LatestMessageDateBackfillTest {
+
+  private static final LocalDateTime LAST_MESSAGE_DATE = LocalDateTime.of(2020, 11, 2, 10, 15);
+
+  @InjectMocks
+  private LatestMessageDateBackfill latestMessageDateBackfill;
+  @Mock
+  private RocketChatService rocketChatService;
+  @Mock
+  private RocketChatCredentialsProvider rocketChatCredentialsProvider;
+  @Mock
+  private SessionBatchRepository sessionBatchRepository;
+  @Mock
+  private Logger logger;
+  @Captor
+  private ArgumentCaptor<Map<String, LocalDateTime>> latestMessageDatesCaptor;
+
+  @BeforeEach
+  void setup() {
+    setInternalState(LogService.class, "LOGGER", logger);
+    setInternalState(latestMessageDateBackfill, "batchSize", 2);
+  }
+
+  @Test
+  void backfill_Should_writeLastMessageDatesOfSystemUserRoomsInBatches() throws Exception {
+    givenRoomsOfSystemUser(room("group1", LAST_MESSAGE_DATE), room("group2", LAST_MESSAGE_DATE),
+        room("group3", LAST_MESSAGE_DATE));
+
+    latestMessageDateBackfill.backfill();
+
+    verify(sessionBatchRepository, times(2))
+        .updateLatestMessageDates(latestMessageDatesCaptor.capture());
+    assertThat(latestMessageDatesCaptor.getAllValues().get(0), aMapWithSize(2));
+    assertThat(latestMessageDatesCaptor.getAllValues().get(1), aMapWithSize(1));
+  }
+
+  @Test
+  void backfill_Should_convertTimestampToUtcAndSkipRoomsWithoutMessage() throws Exception {
+    givenRoomsOfSystemUser(room("group1", LAST_MESSAGE_DATE), room("group2", null));
+
+    latestMessageDateBackfill.backfill();
+
+    verify(sessionBatchRepository, times(1))
+        .updateLatestMessageDates(latestMessageDatesCaptor.capture());
+    assertThat(latestMessageDatesCaptor.getValue(), aMapWithSize(1));
+    assertThat(latestMessageDatesCaptor.getValue(), hasEntry("group1", LAST_MESSAGE_DATE));
+  }
+
+  @Test
+  void backfill_Should_logErrorAndWriteNothing_When_roomsCanNotBeFetched() throws Exception {
+    when(rocketChatCredentialsProvider.getSystemUser())
+        .thenReturn(RocketChatCredentials.builder().build());
+    when(rocketChatService.getRoomsOfUser(any()))
+        .thenThrow(new InternalServerErrorException("rooms.get failed"));
+
+    latestMessageDateBackfill.backfill();
+
+    verifyNoInteractions(sessionBatchRepository);
+    verify(logger, times(1)).error(anyString(), anyString(), anyString());
+  }
+
+  @Test
+  void backfillIfEnabled_Should_notCallRocketChat_When_backfillIsDisabled() {
+    latestMessageDateBackfill.backfillIfEnabled();
+
+    verifyNoInteractions(rocketChatService, sessionBatchRepository);
+  }
+
+  private void givenRoomsOfSystemUser(RoomsUpdateDTO... rooms) throws Exception {
+    RocketChatCredentials systemUser = RocketChatCredentials.builder().build();
+    when(rocketChatCredentialsProvider.getSystemUser()).thenReturn(systemUser);
+    when(rocketChatService.getRoomsOfUser(systemUser)).thenReturn(Arrays.asList(rooms));
+  }
+
+  private RoomsUpdateDTO room(String rcGroupId, LocalDateTime lastMessageDate) {
+    RoomsUpdateDTO room = new RoomsUpdateDTO();
+    room.setId(rcGroupId);
+    if (lastMessageDate != null) {
+      RoomsLastMessageDTO lastMessage = new RoomsLastMessageDTO();
+      lastMessage.setTimestamp(Date.from(lastMessageDate.toInstant(ZoneOffset.UTC)));
+      room.setLastMessage(lastMessage);
+    }
+    return room;
+  }
+
+}
@@ -0,0 +1,88 @@
+package de.caritas.cob.userservice.api.service.session;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.hasKey;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.powermock.reflect.Whitebox.setInternalState;
+
+import de.caritas.cob.userservice.api.repository.session.SessionBatchRepository;
+import de.caritas.cob.userservice.api.service.LogService;
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+
+@ExtendWith(MockitoExtension.class)
+class LatestMessageDateRecorderTest {
+
+  @InjectMocks
+  private LatestMessageDateRecorder latestMessageDateRecorder;
+  @Mock
+  private SessionBatchRepository sessionBatchRepository;
+  @Mock
+  private Logger logger;
+  @Captor
+  private ArgumentCaptor<Map<String, LocalDateTime>> latestMessageDatesCaptor;
+
+  @BeforeEach
+  void setup() {
+    setInternalState(LogService.class, "LOGGER", logger);
+  }
+
+  @Test
+  void flush_Should_writeOneDatePerGroup_When_severalMessagesWereRecorded() {
+    latestMessageDateRecorder.record("group1");
+    latestMessageDateRecorder.record("group1");
+    latestMessageDateRecorder.record("group2");
+
+    latestMessageDateRecorder.flush();
+
+    verify(sessionBatchRepository, times(1))
+        .updateLatestMessageDates(latestMessageDatesCaptor.capture());
+    assertThat(latestMessageDatesCaptor.getValue(), aMapWithSize(2));
+  }
+
+  @Test
+  void flush_Should_notWriteAnything_When_noMessageWasRecorded() {
+    latestMessageDateRecorder.flush();
+
+    verifyNoInteractions(sessionBatchRepository);
+  }
+
+  @Test
+  void flush_Should_notWriteDatesTwice_When_flushedAgain() {
+    latestMessageDateRecorder.record("group1");
+
+    latestMessageDateRecorder.flush();
+    latestMessageDateRecorder.flush();
+
+    verify(sessionBatchRepository, times(1)).updateLatestMessageDates(any());
+  }
+
+  @Test
+  void flush_Should_retryDates_When_previousFlushFailed() {
+    latestMessageDateRecorder.record("group1");
+    doThrow(new RuntimeException("database unavailable")).doNothing()
+        .when(sessionBatchRepository).updateLatestMessageDates(any());
+
+    latestMessageDateRecorder.flush();
+    latestMessageDateRecorder.flush();
+
+    verify(sessionBatchRepository, times(2))
+        .updateLatestMessageDates(latestMessageDatesCaptor.capture());
+    assertThat(latestMessageDatesCaptor.getValue(), hasKey("group1"));
+  }
+
+}
@@ -3,16 +3,20 @@ package de.caritas.cob.userservice.api.service.session;
 import static de.caritas.cob.userservice.testHelper.TestConstants.CONSULTANT;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import de.caritas.cob.userservice.UserServiceApplication;
 import de.caritas.cob.userservice.api.exception.httpresponses.ForbiddenException;
 import de.caritas.cob.userservice.api.exception.httpresponses.NotFoundException;
 import de.caritas.cob.userservice.api.helper.UsernameTranscoder;
 import de.caritas.cob.userservice.api.model.ConsultantSessionDTO;
+import de.caritas.cob.userservice.api.model.ConsultantSessionResponseDTO;
 import de.caritas.cob.userservice.api.repository.consultant.Consultant;
 import de.caritas.cob.userservice.api.repository.consultant.ConsultantRepository;
 import de.caritas.cob.userservice.api.repository.session.Session;
 import de.caritas.cob.userservice.api.repository.session.SessionRepository;
+import de.caritas.cob.userservice.api.repository.session.SessionStatus;
+import java.util.List;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +24,8 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.transaction.annotation.Transactional;
@@ -39,6 +45,9 @@ public class SessionServiceIT {
   @Autowired
   private ConsultantRepository consultantRepository;
 
+  @Autowired
+  private LatestMessageDateRecorder latestMessageDateRecorder;
+
   @MockBean
   private UsernameTranscoder usernameTranscoder;
 
@@ -93,4 +102,38 @@ public class SessionServiceIT {
     assertNotNull(sessionService.fetchSessionForConsultant(2L, consultant));
   }
 
+  @Test
+  public void getActiveSessionPageForConsultant_Should_ReturnRequestedPageSortedByLatestMessageDateAndTotal() {
+    Consultant consultant = consultantRepository
+        .findByIdAndDeleteDateIsNull("473f7c4b-f011-4fc2-847c-ceb636a5b399")
+        .get();
+    List<Session> activeSessions = sessionRepository.findByConsultantAndStatus(consultant,
+        SessionStatus.IN_PROGRESS);
+
+    Page<ConsultantSessionResponseDTO> result =
+        sessionService.getActiveSessionPageForConsultant(consultant, PageRequest.of(0, 2));
+
+    assertEquals(activeSessions.size(), result.getTotalElements());
+    assertEquals(Math.min(2, activeSessions.size()), result.getNumberOfElements());
+    for (int i = 1; i < result.getNumberOfElements(); i++) {
+      assertTrue(!result.getContent().get(i).getLatestMessage()
+          .after(result.getContent().get(i - 1).getLatestMessage()));
+    }
+  }
+
+  @Test
+  @Transactional
+  public void updateLatestMessageDate_Should_MoveSessionToTopOfActiveSessionPage() {
+    Consultant consultant = consultantRepository
+        .findByIdAndDeleteDateIsNull("473f7c4b-f011-4fc2-847c-ceb636a5b399")
+        .get();
+
+    sessionService.updateLatestMessageDate("4WKq3kj9C7WESSQuK");
+    latestMessageDateRecorder.flush();
+    Page<ConsultantSessionResponseDTO> result =
+        sessionService.getActiveSessionPageForConsultant(consultant, PageRequest.of(0, 1));
+
+    assertEquals(Long.valueOf(1L), result.getContent().get(0).getSession().getId());
+  }
+
 }
@@ -32,6 +32,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -59,8 +60,11 @@ import de.caritas.cob.userservice.api.repository.user.User;
 import de.caritas.cob.userservice.api.service.ConsultantService;
 import de.caritas.cob.userservice.api.service.LogService;
 import de.caritas.cob.userservice.api.service.agency.AgencyService;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -76,6 +80,11 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 
 @ExtendWith(MockitoExtension.class)
 public class SessionServiceTest {
@@ -85,16 +94,16 @@ public class SessionServiceTest {
       null, null, null);
   private final User USER = new User(USER_ID, null, "username", "name@domain.de", false);
   private final Session SESSION = new Session(ENQUIRY_ID, null, null, SUCHT, REGISTERED, "99999",
-      1L, SessionStatus.NEW, nowInUtc(), null, null, null,
+      1L, SessionStatus.NEW, nowInUtc(), null, null, null, null,
       false, false, null, null);
   private final Session SESSION_2 = new Session(ENQUIRY_ID_2, null, null, SUCHT, REGISTERED,
-      "99999", 1L, SessionStatus.NEW, nowInUtc(), null, null, null,
+      "99999", 1L, SessionStatus.NEW, nowInUtc(), null, null, null, null,
       false, false, null, null);
   private final Session SESSION_WITH_CONSULTANT = new Session(ENQUIRY_ID, null, CONSULTANT,
-      SUCHT, REGISTERED, "99999", 1L, SessionStatus.NEW, nowInUtc(), null, null, null,
+      SUCHT, REGISTERED, "99999", 1L, SessionStatus.NEW, nowInUtc(), null, null, null, null,
       false, false, null, null);
   private final Session ACCEPTED_SESSION = new Session(ENQUIRY_ID, null, CONSULTANT,
-      SUCHT, REGISTERED, "99999", 1L, SessionStatus.NEW, nowInUtc(), null, null, null,
+      SUCHT, REGISTERED, "99999", 1L, SessionStatus.NEW, nowInUtc(), null, null, null, null,
       false, false, null, null);
   private final ConsultantAgency CONSULTANT_AGENCY_1 = new ConsultantAgency(1L, CONSULTANT, 1L,
       nowInUtc(), nowInUtc(), nowInUtc());
@@ -121,6 +130,8 @@ public class SessionServiceTest {
   private ConsultantService consultantService;
   @Mock
   private ConsultingTypeManager consultingTypeManager;
+  @Mock
+  private LatestMessageDateRecorder latestMessageDateRecorder;
 
   @BeforeEach
   public void setUp() {
@@ -284,6 +295,46 @@ public class SessionServiceTest {
         everyItem(instanceOf(ConsultantSessionResponseDTO.class)));
   }
 
+  @Test
+  public void getEnquiryPageForConsultant_Should_RequestSortedPageOfRepository() {
+    Consultant consultant = mock(Consultant.class);
+    when(consultant.getConsultantAgencies()).thenReturn(CONSULTANT_AGENCY_SET);
+    when(sessionRepository.findByAgencyIdInAndConsultantIsNullAndStatus(any(), any(), any()))
+        .thenReturn(new PageImpl<>(SESSION_LIST_WITH_CONSULTANT));
+
+    Page<ConsultantSessionResponseDTO> result =
+        sessionService.getEnquiryPageForConsultant(consultant, PageRequest.of(1, 10));
+
+    assertThat(result.getContent(), everyItem(instanceOf(ConsultantSessionResponseDTO.class)));
+    verify(sessionRepository, times(1)).findByAgencyIdInAndConsultantIsNullAndStatus(
+        Collections.singletonList(CONSULTANT_AGENCY_1.getAgencyId()), SessionStatus.NEW,
+        PageRequest.of(1, 10, Sort.by(Direction.ASC, "enquiryMessageDate").and(Sort.by("id"))));
+  }
+
+  @Test
+  public void getActiveSessionPageForConsultant_Should_RequestPageSortedByLatestMessageDate() {
+    Session session = new EasyRandom().nextObject(Session.class);
+    session.setLatestMessageDate(LocalDateTime.of(2021, 1, 1, 12, 0));
+    when(sessionRepository.findByConsultantAndStatus(any(), any(), any()))
+        .thenReturn(new PageImpl<>(List.of(session)));
+
+    Page<ConsultantSessionResponseDTO> result =
+        sessionService.getActiveSessionPageForConsultant(CONSULTANT, PageRequest.of(0, 15));
+
+    assertEquals(Date.from(session.getLatestMessageDate().toInstant(ZoneOffset.UTC)),
+        result.getContent().get(0).getLatestMessage());
+    verify(sessionRepository, times(1)).findByConsultantAndStatus(CONSULTANT,
+        SessionStatus.IN_PROGRESS,
+        PageRequest.of(0, 15, Sort.by(Direction.DESC, "latestMessageDate").and(Sort.by("id"))));
+  }
+
+  @Test
+  public void updateLatestMessageDate_Should_RecordLatestMessageDateOfSessionWithGroupId() {
+    sessionService.updateLatestMessageDate(RC_GROUP_ID);
+
+    verify(latestMessageDateRecorder, times(1)).record(RC_GROUP_ID);
+  }
+
   @Test
   public void getSessionByGroupIdAndUser_Should_ReturnSession_WhenAskerIsSessionOwner() {
     Session session = new EasyRandom().nextObject(Session.class);
@@ -7,7 +7,6 @@ import static de.caritas.cob.userservice.testHelper.TestConstants.CONSULTANT_SES
 import static de.caritas.cob.userservice.testHelper.TestConstants.FILE_DTO;
 import static de.caritas.cob.userservice.testHelper.TestConstants.MESSAGES_READ_MAP_WITHOUT_UNREADS;
 import static de.caritas.cob.userservice.testHelper.TestConstants.MESSAGES_READ_MAP_WITH_UNREADS;
-import static de.caritas.cob.userservice.testHelper.TestConstants.RC_TOKEN;
 import static de.caritas.cob.userservice.testHelper.TestConstants.ROOMS_LAST_MESSAGE_DTO_MAP;
 import static de.caritas.cob.userservice.testHelper.TestConstants.ROOMS_UPDATE_DTO_LIST_WITH_ATTACHMENT;
 import static de.caritas.cob.userservice.testHelper.TestConstants.SESSION_ATTACHMENT_DTO_NOT_RECEIVED;
@@ -19,7 +18,6 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
 import de.caritas.cob.userservice.api.container.RocketChatRoomInformation;
-import de.caritas.cob.userservice.api.facade.sessionlist.RocketChatRoomInformationProvider;
 import de.caritas.cob.userservice.api.helper.SessionListAnalyser;
 import de.caritas.cob.userservice.api.model.ConsultantSessionResponseDTO;
 import org.junit.Test;
@@ -38,9 +36,6 @@ public class ConsultantChatEnricherTest {
   @Mock
   private SessionListAnalyser sessionListAnalyser;
 
-  @Mock
-  private RocketChatRoomInformationProvider rocketChatRoomInformationProvider;
-
   @Test
   public void updateRequiredConsultantChatValues_Should_SetSubscribedFlagToTrue_WhenConsultantIsAttendeeOfAChat() {
     RocketChatRoomInformation rocketChatRoomInformation =
@@ -50,14 +45,13 @@ public class ConsultantChatEnricherTest {
             .readMessages(MESSAGES_READ_MAP_WITH_UNREADS)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
-        .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.isLastMessageForRocketChatGroupIdAvailable(
         Mockito.any(), Mockito.any())).thenReturn(true);
 
     ConsultantSessionResponseDTO result = consultantChatEnricher
         .updateRequiredConsultantChatValues(
-            CONSULTANT_SESSION_RESPONSE_DTO_WITH_ENCRYPTED_CHAT_MESSAGE, RC_TOKEN, CONSULTANT);
+            CONSULTANT_SESSION_RESPONSE_DTO_WITH_ENCRYPTED_CHAT_MESSAGE, rocketChatRoomInformation,
+            CONSULTANT);
 
     assertTrue(result.getChat().isSubscribed());
   }
@@ -71,14 +65,13 @@ public class ConsultantChatEnricherTest {
             .readMessages(MESSAGES_READ_MAP_WITH_UNREADS)
             .userRooms(USERS_EMPTY_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
-        .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.isLastMessageForRocketChatGroupIdAvailable(
         Mockito.any(), Mockito.any())).thenReturn(true);
 
     ConsultantSessionResponseDTO result = consultantChatEnricher
         .updateRequiredConsultantChatValues(
-            CONSULTANT_SESSION_RESPONSE_DTO_WITH_ENCRYPTED_CHAT_MESSAGE, RC_TOKEN, CONSULTANT);
+            CONSULTANT_SESSION_RESPONSE_DTO_WITH_ENCRYPTED_CHAT_MESSAGE, rocketChatRoomInformation,
+            CONSULTANT);
 
     assertFalse(result.getChat().isSubscribed());
   }
@@ -92,8 +85,6 @@ public class ConsultantChatEnricherTest {
             .readMessages(MESSAGES_READ_MAP_WITH_UNREADS)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
-        .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.isLastMessageForRocketChatGroupIdAvailable(
         Mockito.any(), Mockito.any())).thenReturn(true);
     when(sessionListAnalyser
@@ -103,7 +94,8 @@ public class ConsultantChatEnricherTest {
 
     ConsultantSessionResponseDTO result = consultantChatEnricher
         .updateRequiredConsultantChatValues(
-            CONSULTANT_SESSION_RESPONSE_DTO_WITH_ENCRYPTED_CHAT_MESSAGE, RC_TOKEN, CONSULTANT);
+            CONSULTANT_SESSION_RESPONSE_DTO_WITH_ENCRYPTED_CHAT_MESSAGE, rocketChatRoomInformation,
+            CONSULTANT);
 
     assertEquals(FILE_DTO.getType(), result.getChat().getAttachment().getFileType());
     assertEquals(ATTACHMENT_DTO.getImagePreview(),
@@ -120,14 +112,13 @@ public class ConsultantChatEnricherTest {
             .readMessages(MESSAGES_READ_MAP_WITH_UNREADS)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
-        .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.isLastMessageForRocketChatGroupIdAvailable(
         Mockito.any(), Mockito.any())).thenReturn(true);
 
     ConsultantSessionResponseDTO result = consultantChatEnricher
         .updateRequiredConsultantChatValues(
-            CONSULTANT_SESSION_RESPONSE_DTO_WITH_ENCRYPTED_CHAT_MESSAGE, RC_TOKEN, CONSULTANT);
+            CONSULTANT_SESSION_RESPONSE_DTO_WITH_ENCRYPTED_CHAT_MESSAGE, rocketChatRoomInformation,
+            CONSULTANT);
 
     assertFalse(result.getChat().isMessagesRead());
   }
@@ -141,14 +132,13 @@ public class ConsultantChatEnricherTest {
             .readMessages(MESSAGES_READ_MAP_WITHOUT_UNREADS)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
-        .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.isLastMessageForRocketChatGroupIdAvailable(
         Mockito.any(), Mockito.any())).thenReturn(true);
 
     ConsultantSessionResponseDTO result = consultantChatEnricher
         .updateRequiredConsultantChatValues(
-            CONSULTANT_SESSION_RESPONSE_DTO_WITH_ENCRYPTED_CHAT_MESSAGE, RC_TOKEN, CONSULTANT);
+            CONSULTANT_SESSION_RESPONSE_DTO_WITH_ENCRYPTED_CHAT_MESSAGE, rocketChatRoomInformation,
+            CONSULTANT);
 
     assertTrue(result.getChat().isMessagesRead());
   }
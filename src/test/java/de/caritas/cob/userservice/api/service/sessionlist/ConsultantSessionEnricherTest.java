@@ -13,7 +13,6 @@ import static de.caritas.cob.userservice.testHelper.TestConstants.MESSAGES_READ_
 import static de.caritas.cob.userservice.testHelper.TestConstants.MESSAGES_READ_MAP_WITH_ONE_FEEDBACK_UNREAD;
 import static de.caritas.cob.userservice.testHelper.TestConstants.MESSAGES_READ_MAP_WITH_UNREADS;
 import static de.caritas.cob.userservice.testHelper.TestConstants.RC_GROUP_ID;
-import static de.caritas.cob.userservice.testHelper.TestConstants.RC_TOKEN;
 import static de.caritas.cob.userservice.testHelper.TestConstants.ROOMS_LAST_MESSAGE_DTO_MAP;
 import static de.caritas.cob.userservice.testHelper.TestConstants.ROOMS_UPDATE_DTO_LIST;
 import static de.caritas.cob.userservice.testHelper.TestConstants.ROOMS_UPDATE_DTO_LIST_WITH_ATTACHMENT;
@@ -26,7 +25,6 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
 import de.caritas.cob.userservice.api.container.RocketChatRoomInformation;
-import de.caritas.cob.userservice.api.facade.sessionlist.RocketChatRoomInformationProvider;
 import de.caritas.cob.userservice.api.helper.Helper;
 import de.caritas.cob.userservice.api.helper.SessionListAnalyser;
 import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeManager;
@@ -47,9 +45,6 @@ public class ConsultantSessionEnricherTest {
   @Mock
   private SessionListAnalyser sessionListAnalyser;
 
-  @Mock
-  private RocketChatRoomInformationProvider rocketChatRoomInformationProvider;
-
   @Mock
   private ConsultingTypeManager consultingTypeManager;
 
@@ -62,8 +57,6 @@ public class ConsultantSessionEnricherTest {
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
-        .thenReturn(rocketChatRoomInformation);
 
     when(consultingTypeManager.getConsultingTypeSettings(Mockito.any()))
         .thenReturn(CONSULTING_TYPE_SETTINGS_WITHOUT_MONITORING);
@@ -72,7 +65,7 @@ public class ConsultantSessionEnricherTest {
             RC_GROUP_ID)).thenReturn(true);
 
     ConsultantSessionResponseDTO result = consultantSessionEnricher
-        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, RC_TOKEN,
+        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, rocketChatRoomInformation,
             CONSULTANT);
 
     assertTrue(result.getSession().getMessagesRead());
@@ -87,8 +80,6 @@ public class ConsultantSessionEnricherTest {
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
-        .thenReturn(rocketChatRoomInformation);
 
     when(consultingTypeManager.getConsultingTypeSettings(Mockito.any()))
         .thenReturn(CONSULTING_TYPE_SETTINGS_WITHOUT_MONITORING);
@@ -97,7 +88,7 @@ public class ConsultantSessionEnricherTest {
             RC_GROUP_ID)).thenReturn(false);
 
     ConsultantSessionResponseDTO result = consultantSessionEnricher
-        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, RC_TOKEN,
+        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, rocketChatRoomInformation,
             CONSULTANT);
 
     assertFalse(result.getSession().getMessagesRead());
@@ -112,8 +103,6 @@ public class ConsultantSessionEnricherTest {
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
-        .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.isLastMessageForRocketChatGroupIdAvailable(
         Mockito.any(), Mockito.any())).thenReturn(true);
 
@@ -121,7 +110,7 @@ public class ConsultantSessionEnricherTest {
         .thenReturn(CONSULTING_TYPE_SETTINGS_WITHOUT_MONITORING);
 
     ConsultantSessionResponseDTO result = consultantSessionEnricher
-        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, RC_TOKEN,
+        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, rocketChatRoomInformation,
             CONSULTANT);
 
     assertEquals(
@@ -141,8 +130,6 @@ public class ConsultantSessionEnricherTest {
             .readMessages(MESSAGES_READ_MAP_WITH_UNREADS)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
-        .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.isLastMessageForRocketChatGroupIdAvailable(
         Mockito.any(), Mockito.any())).thenReturn(true);
     when(consultingTypeManager.getConsultingTypeSettings(Mockito.any()))
@@ -153,7 +140,7 @@ public class ConsultantSessionEnricherTest {
             Mockito.any())).thenReturn(SESSION_ATTACHMENT_DTO_NOT_RECEIVED);
 
     ConsultantSessionResponseDTO result = consultantSessionEnricher
-        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO_2, RC_TOKEN,
+        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO_2, rocketChatRoomInformation,
             CONSULTANT);
 
     assertFalse(result.getSession().getAttachment().getFileReceived());
@@ -168,8 +155,6 @@ public class ConsultantSessionEnricherTest {
             .readMessages(MESSAGES_READ_MAP_WITH_UNREADS)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
-        .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.isLastMessageForRocketChatGroupIdAvailable(
         Mockito.any(), Mockito.any())).thenReturn(true);
     when(consultingTypeManager.getConsultingTypeSettings(Mockito.any()))
@@ -180,7 +165,7 @@ public class ConsultantSessionEnricherTest {
             Mockito.any())).thenReturn(SESSION_ATTACHMENT_DTO_RECEIVED);
 
     ConsultantSessionResponseDTO result = consultantSessionEnricher
-        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, RC_TOKEN,
+        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, rocketChatRoomInformation,
             CONSULTANT);
 
     assertTrue(result.getSession().getAttachment().getFileReceived());
@@ -195,8 +180,6 @@ public class ConsultantSessionEnricherTest {
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
-        .thenReturn(rocketChatRoomInformation);
     when(consultingTypeManager.getConsultingTypeSettings(Mockito.any()))
         .thenReturn(CONSULTING_TYPE_SETTINGS_WITHOUT_MONITORING);
     when(sessionListAnalyser
@@ -205,7 +188,7 @@ public class ConsultantSessionEnricherTest {
             Mockito.any())).thenReturn(true);
 
     ConsultantSessionResponseDTO result = consultantSessionEnricher
-        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, RC_TOKEN,
+        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, rocketChatRoomInformation,
             CONSULTANT);
 
     assertFalse(result.getSession().getFeedbackRead());
@@ -220,13 +203,11 @@ public class ConsultantSessionEnricherTest {
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
-        .thenReturn(rocketChatRoomInformation);
     when(consultingTypeManager.getConsultingTypeSettings(Mockito.any()))
         .thenReturn(CONSULTING_TYPE_SETTINGS_WITHOUT_MONITORING);
 
     ConsultantSessionResponseDTO result = consultantSessionEnricher
-        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, RC_TOKEN,
+        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, rocketChatRoomInformation,
             CONSULTANT);
 
     assertFalse(result.getSession().getMonitoring());
@@ -241,13 +222,11 @@ public class ConsultantSessionEnricherTest {
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
-        .thenReturn(rocketChatRoomInformation);
     when(consultingTypeManager.getConsultingTypeSettings(Mockito.any()))
         .thenReturn(CONSULTING_TYPE_SETTINGS_WITH_MONITORING);
 
     ConsultantSessionResponseDTO result = consultantSessionEnricher
-        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, RC_TOKEN,
+        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, rocketChatRoomInformation,
             CONSULTANT);
 
     assertTrue(result.getSession().getMonitoring());
@@ -262,8 +241,6 @@ public class ConsultantSessionEnricherTest {
             .readMessages(MESSAGES_READ_MAP_WITH_UNREADS)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
-        .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.isLastMessageForRocketChatGroupIdAvailable(
         Mockito.any(), Mockito.any())).thenReturn(true);
     when(consultingTypeManager.getConsultingTypeSettings(Mockito.any()))
@@ -274,7 +251,7 @@ public class ConsultantSessionEnricherTest {
             Mockito.any())).thenReturn(SESSION_ATTACHMENT_DTO_NOT_RECEIVED);
 
     ConsultantSessionResponseDTO result = consultantSessionEnricher
-        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, RC_TOKEN,
+        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, rocketChatRoomInformation,
             CONSULTANT);
 
     assertEquals(FILE_DTO.getType(), result.getSession().getAttachment().getFileType());
@@ -291,8 +268,6 @@ public class ConsultantSessionEnricherTest {
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
-        .thenReturn(rocketChatRoomInformation);
     when(consultingTypeManager.getConsultingTypeSettings(Mockito.any()))
         .thenReturn(CONSULTING_TYPE_SETTINGS_WITHOUT_MONITORING);
     when(sessionListAnalyser
@@ -300,7 +275,7 @@ public class ConsultantSessionEnricherTest {
             RC_GROUP_ID)).thenReturn(false);
 
     ConsultantSessionResponseDTO result = consultantSessionEnricher
-        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, RC_TOKEN,
+        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, rocketChatRoomInformation,
             CONSULTANT);
 
     assertFalse(result.getSession().getMessagesRead());
@@ -315,8 +290,6 @@ public class ConsultantSessionEnricherTest {
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
-        .thenReturn(rocketChatRoomInformation);
     when(consultingTypeManager.getConsultingTypeSettings(Mockito.any()))
         .thenReturn(CONSULTING_TYPE_SETTINGS_WITHOUT_MONITORING);
     when(sessionListAnalyser
@@ -325,7 +298,7 @@ public class ConsultantSessionEnricherTest {
             Mockito.any())).thenReturn(true);
 
     ConsultantSessionResponseDTO result = consultantSessionEnricher
-        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, RC_TOKEN,
+        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, rocketChatRoomInformation,
             CONSULTANT);
 
     assertTrue(result.getSession().getFeedbackRead());
@@ -341,13 +314,11 @@ public class ConsultantSessionEnricherTest {
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
-        .thenReturn(rocketChatRoomInformation);
     when(consultingTypeManager.getConsultingTypeSettings(Mockito.any()))
         .thenReturn(CONSULTING_TYPE_SETTINGS_WITHOUT_MONITORING);
 
     ConsultantSessionResponseDTO result = consultantSessionEnricher
-        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, RC_TOKEN,
+        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, rocketChatRoomInformation,
             CONSULTANT);
 
     assertEquals(Long.valueOf(Helper.UNIXTIME_0.getTime()),
@@ -364,8 +335,6 @@ public class ConsultantSessionEnricherTest {
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
-        .thenReturn(rocketChatRoomInformation);
     when(consultingTypeManager.getConsultingTypeSettings(Mockito.any()))
         .thenReturn(CONSULTING_TYPE_SETTINGS_WITHOUT_MONITORING);
     when(sessionListAnalyser
@@ -375,7 +344,8 @@ public class ConsultantSessionEnricherTest {
 
     ConsultantSessionResponseDTO result = consultantSessionEnricher
         .updateRequiredConsultantSessionValues(
-            CONSULTANT_SESSION_RESPONSE_DTO_WITHOUT_FEEDBACK_CHAT, RC_TOKEN, CONSULTANT);
+            CONSULTANT_SESSION_RESPONSE_DTO_WITHOUT_FEEDBACK_CHAT, rocketChatRoomInformation,
+            CONSULTANT);
 
     assertTrue(result.getSession().getFeedbackRead());
 
@@ -390,15 +360,13 @@ public class ConsultantSessionEnricherTest {
             .readMessages(MESSAGES_READ_MAP_WITH_UNREADS)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
-        .thenReturn(rocketChatRoomInformation);
     when(consultingTypeManager.getConsultingTypeSettings(Mockito.any()))
         .thenReturn(CONSULTING_TYPE_SETTINGS_WITHOUT_MONITORING);
     when(sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
         Mockito.any(), Mockito.any())).thenReturn(false);
 
     ConsultantSessionResponseDTO result = consultantSessionEnricher
-        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, RC_TOKEN,
+        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, rocketChatRoomInformation,
             CONSULTANT);
 
     assertFalse(result.getSession().getMessagesRead());
@@ -413,15 +381,13 @@ public class ConsultantSessionEnricherTest {
             .readMessages(MESSAGES_READ_MAP_WITHOUT_UNREADS)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
-        .thenReturn(rocketChatRoomInformation);
     when(consultingTypeManager.getConsultingTypeSettings(Mockito.any()))
         .thenReturn(CONSULTING_TYPE_SETTINGS_WITHOUT_MONITORING);
     when(sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
         Mockito.any(), Mockito.any())).thenReturn(true);
 
     ConsultantSessionResponseDTO result = consultantSessionEnricher
-        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, RC_TOKEN,
+        .updateRequiredConsultantSessionValues(CONSULTANT_SESSION_RESPONSE_DTO, rocketChatRoomInformation,
             CONSULTANT);
 
     assertTrue(result.getSession().getMessagesRead());
@@ -0,0 +1,92 @@
+package de.caritas.cob.userservice.api.service.sessionlist;
+
+import static de.caritas.cob.userservice.testHelper.TestConstants.CONSULTANT;
+import static de.caritas.cob.userservice.testHelper.TestConstants.COUNT_10;
+import static de.caritas.cob.userservice.testHelper.TestConstants.OFFSET_0;
+import static de.caritas.cob.userservice.testHelper.TestConstants.RC_TOKEN;
+import static de.caritas.cob.userservice.testHelper.TestConstants.SESSION_STATUS_IN_PROGRESS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.container.SessionListQueryParameter;
+import de.caritas.cob.userservice.api.facade.sessionlist.RocketChatRoomInformationProvider;
+import de.caritas.cob.userservice.api.model.ConsultantSessionResponseDTO;
+import de.caritas.cob.userservice.api.model.SessionDTO;
+import de.caritas.cob.userservice.api.model.chat.UserChatDTO;
+import de.caritas.cob.userservice.api.repository.session.SessionFilter;
+import de.caritas.cob.userservice.api.service.ChatService;
+import de.caritas.cob.userservice.api.service.rocketchat.RocketChatService;
+import de.caritas.cob.userservice.api.service.session.SessionService;
+import java.util.List;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ConsultantSessionListServiceRocketChatCallsTest {
+
+  private ConsultantSessionListService consultantSessionListService;
+
+  @Mock
+  private SessionService sessionService;
+  @Mock
+  private ChatService chatService;
+  @Mock
+  private ConsultantSessionEnricher consultantSessionEnricher;
+  @Mock
+  private ConsultantChatEnricher consultantChatEnricher;
+  @Mock
+  private RocketChatService rocketChatService;
+
+  @BeforeEach
+  void setup() {
+    this.consultantSessionListService = new ConsultantSessionListService(sessionService,
+        chatService, consultantSessionEnricher, consultantChatEnricher,
+        new RocketChatRoomInformationProvider(rocketChatService));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 50})
+  void retrieveSessionsForAuthenticatedConsultant_Should_performSameAmountOfRocketChatCalls_When_listSizeDiffers(
+      int listSize) {
+    when(sessionService.getActiveSessionsForConsultant(any()))
+        .thenReturn(createResponseDTOs(listSize,
+            id -> new ConsultantSessionResponseDTO().session(new SessionDTO().id(id))));
+    when(chatService.getChatsForConsultant(any()))
+        .thenReturn(createResponseDTOs(listSize,
+            id -> new ConsultantSessionResponseDTO().chat(new UserChatDTO())));
+
+    List<ConsultantSessionResponseDTO> result = consultantSessionListService
+        .retrieveSessionsForAuthenticatedConsultant(CONSULTANT, RC_TOKEN,
+            SessionListQueryParameter.builder()
+                .sessionStatus(SESSION_STATUS_IN_PROGRESS)
+                .offset(OFFSET_0)
+                .count(COUNT_10)
+                .sessionFilter(SessionFilter.ALL)
+                .build());
+
+    assertThat(result, hasSize(2 * listSize));
+    verify(rocketChatService, times(1)).getSubscriptionsOfUser(any());
+    verify(rocketChatService, times(1)).getRoomsOfUser(any());
+    verifyNoMoreInteractions(rocketChatService);
+  }
+
+  private List<ConsultantSessionResponseDTO> createResponseDTOs(int listSize,
+      LongFunction<ConsultantSessionResponseDTO> responseDTOFactory) {
+    return LongStream.rangeClosed(1, listSize)
+        .mapToObj(responseDTOFactory)
+        .collect(Collectors.toList());
+  }
+
+}
@@ -24,15 +24,23 @@ import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import de.caritas.cob.userservice.api.container.RocketChatRoomInformation;
 import de.caritas.cob.userservice.api.container.SessionListQueryParameter;
+import de.caritas.cob.userservice.api.facade.sessionlist.RocketChatRoomInformationProvider;
+import de.caritas.cob.userservice.api.model.ConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.model.ConsultantSessionResponseDTO;
+import de.caritas.cob.userservice.api.model.SessionDTO;
+import de.caritas.cob.userservice.api.model.chat.UserChatDTO;
 import de.caritas.cob.userservice.api.repository.session.SessionFilter;
 import de.caritas.cob.userservice.api.service.ChatService;
 import de.caritas.cob.userservice.api.service.session.SessionService;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
@@ -41,6 +49,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ConsultantSessionListServiceTest {
@@ -55,6 +66,8 @@ public class ConsultantSessionListServiceTest {
   private ConsultantSessionEnricher consultantSessionEnricher;
   @Mock
   private ConsultantChatEnricher consultantChatEnricher;
+  @Mock
+  private RocketChatRoomInformationProvider rocketChatRoomInformationProvider;
 
   @Before
   public void setup() {
@@ -149,6 +162,19 @@ public class ConsultantSessionListServiceTest {
 
   }
 
+  @Test
+  public void retrieveSessionsForAuthenticatedConsultant_Should_retrieveRocketChatRoomInformationOnce_When_SessionsAndChatsAreEnriched() {
+    when(chatService.getChatsForConsultant(Mockito.any()))
+        .thenReturn(CONSULTANT_SESSION_RESPONSE_DTO_LIST_WITH_ENCRYPTED_CHAT_MESSAGE);
+    when(sessionService.getActiveSessionsForConsultant(Mockito.any()))
+        .thenReturn(CONSULTANT_SESSION_RESPONSE_DTO_LIST);
+
+    consultantSessionListService.retrieveSessionsForAuthenticatedConsultant(CONSULTANT, RC_TOKEN,
+        createStandardSessionListQueryParameterObject(SESSION_STATUS_IN_PROGRESS));
+
+    verify(rocketChatRoomInformationProvider, times(1)).retrieveRocketChatInformation(any());
+  }
+
   @Test
   public void retrieveTeamSessionsForAuthenticatedConsultant_Should_ReturnFilteredSessionList_WhenFeedbackFilter() {
     List<ConsultantSessionResponseDTO> responseDTOS = new ArrayList<>(
@@ -188,6 +214,79 @@ public class ConsultantSessionListServiceTest {
     assertEquals(0, result.size());
   }
 
+  @Test
+  public void retrieveSessionPageForAuthenticatedConsultant_Should_enrichOnlyRequestedDatabasePage_When_noChatsAreAvailable() {
+    var pageRequest = PageRequest.of(1, COUNT_10);
+    when(sessionService.getEnquiryPageForConsultant(CONSULTANT, pageRequest))
+        .thenReturn(new PageImpl<>(List.of(CONSULTANT_SESSION_RESPONSE_DTO), pageRequest, 11));
+
+    ConsultantSessionListResponseDTO result = consultantSessionListService
+        .retrieveSessionPageForAuthenticatedConsultant(CONSULTANT, RC_TOKEN,
+            createSessionListQueryParameterObject(SESSION_STATUS_NEW, 10, COUNT_10));
+
+    assertEquals(List.of(CONSULTANT_SESSION_RESPONSE_DTO), result.getSessions());
+    assertEquals(Integer.valueOf(10), result.getOffset());
+    assertEquals(Integer.valueOf(1), result.getCount());
+    assertEquals(Integer.valueOf(11), result.getTotal());
+    verify(consultantSessionEnricher, times(1))
+        .updateRequiredConsultantSessionValues(any(), any(), any());
+    verify(chatService, never()).getChatsForConsultant(any());
+  }
+
+  @Test
+  public void retrieveSessionPageForAuthenticatedConsultant_Should_mergeChatsIntoPageByLatestMessage_When_sessionStatusIsInProgress() {
+    var pageRequest = PageRequest.of(0, 2);
+    var latestSession = new ConsultantSessionResponseDTO().session(new SessionDTO().id(1L))
+        .latestMessage(new Date(3000));
+    var olderSession = new ConsultantSessionResponseDTO().session(new SessionDTO().id(2L))
+        .latestMessage(new Date(1000));
+    var chat = new ConsultantSessionResponseDTO().chat(new UserChatDTO())
+        .latestMessage(new Date(2000));
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(any()))
+        .thenReturn(RocketChatRoomInformation.builder().build());
+    when(consultantChatEnricher.updateRequiredConsultantChatValues(eq(chat), any(), any()))
+        .thenReturn(chat);
+    when(chatService.getChatsForConsultant(CONSULTANT)).thenReturn(List.of(chat));
+    when(sessionService.getActiveSessionPageForConsultant(CONSULTANT, pageRequest))
+        .thenReturn(new PageImpl<>(List.of(latestSession, olderSession), pageRequest, 3));
+
+    ConsultantSessionListResponseDTO result = consultantSessionListService
+        .retrieveSessionPageForAuthenticatedConsultant(CONSULTANT, RC_TOKEN,
+            createSessionListQueryParameterObject(SESSION_STATUS_IN_PROGRESS, OFFSET_0, 2));
+
+    assertEquals(List.of(latestSession, chat), result.getSessions());
+    assertEquals(Integer.valueOf(4), result.getTotal());
+    verify(consultantSessionEnricher, times(1))
+        .updateRequiredConsultantSessionValues(eq(latestSession), any(), any());
+    verify(consultantSessionEnricher, never())
+        .updateRequiredConsultantSessionValues(eq(olderSession), any(), any());
+    verify(rocketChatRoomInformationProvider, times(1)).retrieveRocketChatInformation(any());
+  }
+
+  @Test
+  public void retrieveSessionPageForAuthenticatedConsultant_ShouldNot_retrieveRocketChatRoomInformation_When_pageIsEmpty() {
+    when(sessionService.getEnquiryPageForConsultant(any(), any()))
+        .thenReturn(Page.empty());
+
+    ConsultantSessionListResponseDTO result = consultantSessionListService
+        .retrieveSessionPageForAuthenticatedConsultant(CONSULTANT, RC_TOKEN,
+            createStandardSessionListQueryParameterObject(SESSION_STATUS_NEW));
+
+    assertEquals(Integer.valueOf(0), result.getTotal());
+    assertEquals(Integer.valueOf(0), result.getCount());
+    verifyNoInteractions(rocketChatRoomInformationProvider);
+  }
+
+  private SessionListQueryParameter createSessionListQueryParameterObject(int sessionStatus,
+      int offset, int count) {
+    return SessionListQueryParameter.builder()
+        .sessionStatus(sessionStatus)
+        .offset(offset)
+        .count(count)
+        .sessionFilter(SessionFilter.ALL)
+        .build();
+  }
+
   private SessionListQueryParameter createStandardSessionListQueryParameterObject(
       int sessionStatus) {
     return SessionListQueryParameter.builder()
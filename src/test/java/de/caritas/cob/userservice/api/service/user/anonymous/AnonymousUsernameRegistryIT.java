@@ -0,0 +1,115 @@
+package de.caritas.cob.userservice.api.service.user.anonymous;
+
+import static de.caritas.cob.userservice.localdatetime.CustomLocalDateTime.nowInUtc;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import de.caritas.cob.userservice.UserServiceApplication;
+import de.caritas.cob.userservice.api.helper.UsernameTranscoder;
+import de.caritas.cob.userservice.api.repository.anonymoususername.AnonymousUsernameFreeId;
+import de.caritas.cob.userservice.api.repository.anonymoususername.AnonymousUsernameFreeIdRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = UserServiceApplication.class)
+@TestPropertySource(properties = "spring.profiles.active=testing")
+@AutoConfigureTestDatabase(replace = Replace.ANY)
+public class AnonymousUsernameRegistryIT {
+
+  private static final int PARALLEL_REQUESTS = 200;
+  private static final int FREE_IDS = 50;
+  private static final long FIRST_FREE_ID = 100_000L;
+
+  @Autowired
+  private AnonymousUsernameRegistry anonymousUsernameRegistry;
+
+  @Autowired
+  private AnonymousUsernameFreeIdRepository anonymousUsernameFreeIdRepository;
+
+  private final UsernameTranscoder usernameTranscoder = new UsernameTranscoder();
+
+  @After
+  public void cleanDatabase() {
+    this.anonymousUsernameFreeIdRepository.deleteAll();
+  }
+
+  @Test
+  public void generateUniqueUsername_Should_generateNoDuplicates_When_calledInParallel()
+      throws Exception {
+    Set<String> uniqueUsernames = generateUsernamesInParallel();
+
+    assertThat(uniqueUsernames, hasSize(PARALLEL_REQUESTS));
+  }
+
+  @Test
+  public void generateUniqueUsername_Should_claimEachFreeIdOnlyOnce_When_calledInParallel()
+      throws Exception {
+    List<AnonymousUsernameFreeId> freeIds = LongStream
+        .range(FIRST_FREE_ID, FIRST_FREE_ID + FREE_IDS)
+        .mapToObj(id -> new AnonymousUsernameFreeId(id, nowInUtc()))
+        .collect(Collectors.toList());
+    this.anonymousUsernameFreeIdRepository.saveAll(freeIds);
+
+    Set<String> uniqueUsernames = generateUsernamesInParallel();
+
+    assertThat(uniqueUsernames, hasSize(PARALLEL_REQUESTS));
+    freeIds.forEach(freeId -> assertThat(uniqueUsernames,
+        hasItem(this.usernameTranscoder.encodeUsername("Ratsuchende_r " + freeId.getId()))));
+    assertThat(this.anonymousUsernameFreeIdRepository.count(), is(0L));
+  }
+
+  private Set<String> generateUsernamesInParallel() throws Exception {
+    ExecutorService executorService = Executors.newFixedThreadPool(PARALLEL_REQUESTS);
+    CountDownLatch startSignal = new CountDownLatch(1);
+    List<Future<String>> usernames = new ArrayList<>();
+    try {
+      for (int i = 0; i < PARALLEL_REQUESTS; i++) {
+        usernames.add(executorService.submit(() -> {
+          startSignal.await();
+          return this.anonymousUsernameRegistry.generateUniqueUsername();
+        }));
+      }
+      startSignal.countDown();
+
+      Set<String> uniqueUsernames = new HashSet<>();
+      for (Future<String> username : usernames) {
+        uniqueUsernames.add(username.get());
+      }
+      return uniqueUsernames;
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  public void generateUniqueUsername_Should_reuseReleasedUsername() {
+    String username = this.anonymousUsernameRegistry.generateUniqueUsername();
+
+    this.anonymousUsernameRegistry.releaseUsername(username);
+
+    assertThat(this.anonymousUsernameRegistry.generateUniqueUsername(), is(username));
+    assertThat(this.usernameTranscoder.decodeUsername(username).startsWith("Ratsuchende_r "),
+        is(true));
+  }
+
+}
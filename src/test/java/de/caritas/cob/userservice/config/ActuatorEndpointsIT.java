@@ -0,0 +1,76 @@
+package de.caritas.cob.userservice.config;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import de.caritas.cob.userservice.api.authorization.Authorities.Authority;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+@RunWith(SpringRunner.class)
+@TestPropertySource(properties = "spring.profiles.active=testing")
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = Replace.ANY)
+public class ActuatorEndpointsIT {
+
+  @Autowired
+  private MockMvc mvc;
+
+  @Test
+  public void getPrometheus_Should_ReturnUnauthorized_When_noKeycloakAuthorizationIsPresent()
+      throws Exception {
+    mvc.perform(get("/actuator/prometheus"))
+        .andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  @WithMockUser(authorities = {Authority.CONSULTANT_DEFAULT})
+  public void getPrometheus_Should_ReturnForbidden_When_technicalAuthorityIsMissing()
+      throws Exception {
+    mvc.perform(get("/actuator/prometheus"))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  @WithMockUser(authorities = {Authority.TECHNICAL_DEFAULT})
+  public void getPrometheus_Should_ReturnOkAndServiceMeters_When_technicalAuthorityIsPresent()
+      throws Exception {
+    mvc.perform(get("/actuator/prometheus"))
+        .andExpect(status().isOk())
+        .andExpect(content().string(containsString("agency_cache_hits_total")))
+        .andExpect(content().string(containsString("live_event_pipeline_queue_depth")));
+  }
+
+  @Test
+  public void getHealth_Should_ReturnHealthStatus_When_noKeycloakAuthorizationIsPresent()
+      throws Exception {
+    mvc.perform(get("/actuator/health"))
+        .andExpect(content().string(containsString("\"status\"")));
+  }
+
+  @Test
+  public void getReadiness_Should_ReturnOk_When_consultantIndexIsBuilt() throws Exception {
+    mvc.perform(get("/actuator/health/readiness"))
+        .andExpect(status().isOk())
+        .andExpect(content().string(containsString("\"UP\"")));
+  }
+
+  @Test
+  public void getMetrics_Should_ReturnForbidden_When_endpointIsNotWhitelisted() throws Exception {
+    mvc.perform(get("/actuator/metrics"))
+        .andExpect(status().isForbidden());
+  }
+
+}
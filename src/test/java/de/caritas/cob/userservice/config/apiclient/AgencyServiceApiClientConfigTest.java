@@ -0,0 +1,125 @@
+package de.caritas.cob.userservice.config.apiclient;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.test.util.ReflectionTestUtils.getField;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import de.caritas.cob.userservice.agencyserivce.generated.ApiClient;
+import de.caritas.cob.userservice.agencyserivce.generated.web.AgencyControllerApi;
+import de.caritas.cob.userservice.api.helper.AuthenticatedUser;
+import de.caritas.cob.userservice.api.service.agency.AgencyService;
+import de.caritas.cob.userservice.api.service.securityheader.SecurityHeaderSupplier;
+import de.caritas.cob.userservice.config.CachingConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RestTemplate;
+
+public class AgencyServiceApiClientConfigTest {
+
+  private static final int PARALLEL_LOOKUPS = 100;
+  private static final String CSRF_HEADER = "X-CSRF-TOKEN";
+  private static final String CSRF_COOKIE = "CSRF-TOKEN";
+
+  private final Queue<MockClientHttpRequest> sentRequests = new ConcurrentLinkedQueue<>();
+  private ServiceApiRestTemplateFactory restTemplateFactory;
+  private AgencyService agencyService;
+
+  @Before
+  public void setup() {
+    this.restTemplateFactory = new ServiceApiRestTemplateFactory(new RestTemplateBuilder());
+    setField(this.restTemplateFactory, "maxTotalConnections", 10);
+    setField(this.restTemplateFactory, "maxConnectionsPerRoute", 10);
+    setField(this.restTemplateFactory, "keepAliveMillis", 1000L);
+    this.restTemplateFactory.initialize();
+
+    SecurityHeaderSupplier securityHeaderSupplier =
+        new SecurityHeaderSupplier(new AuthenticatedUser());
+    setField(securityHeaderSupplier, "csrfHeaderProperty", CSRF_HEADER);
+    setField(securityHeaderSupplier, "csrfCookieProperty", CSRF_COOKIE);
+
+    AgencyServiceApiClientConfig apiClientConfig = new AgencyServiceApiClientConfig();
+    setField(apiClientConfig, "agencyServiceApiUrl", "http://agencyservice");
+    ApiClient apiClient = apiClientConfig
+        .agencyApiClient(this.restTemplateFactory, securityHeaderSupplier);
+    RestTemplate restTemplate = (RestTemplate) getField(apiClient, "restTemplate");
+    restTemplate.setRequestFactory(recordingRequestFactory());
+
+    this.agencyService = new AgencyService(new AgencyControllerApi(apiClient),
+        new ConcurrentMapCacheManager(CachingConfig.AGENCY_CACHE), new SimpleMeterRegistry());
+    this.agencyService.initialize();
+  }
+
+  private ClientHttpRequestFactory recordingRequestFactory() {
+    return (uri, httpMethod) -> {
+      MockClientHttpRequest request = new MockClientHttpRequest(httpMethod, uri);
+      MockClientHttpResponse response = new MockClientHttpResponse(
+          "[{\"id\":1}]".getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+      response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+      request.setResponse(response);
+      this.sentRequests.add(request);
+      return request;
+    };
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    this.restTemplateFactory.destroy();
+  }
+
+  @Test
+  public void agencyApiClient_Should_sendMatchingCsrfValuesWithEachRequest_When_calledInParallel()
+      throws Exception {
+    ExecutorService executorService = Executors.newFixedThreadPool(20);
+    List<Callable<Long>> lookups = new ArrayList<>();
+    for (int i = 0; i < PARALLEL_LOOKUPS; i++) {
+      lookups.add(() -> this.agencyService.getAgencyWithoutCaching(1L).getId());
+    }
+
+    try {
+      for (Future<Long> lookup : executorService.invokeAll(lookups)) {
+        assertThat(lookup.get(), is(1L));
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+
+    assertThat(this.sentRequests, hasSize(PARALLEL_LOOKUPS));
+    for (MockClientHttpRequest request : this.sentRequests) {
+      HttpHeaders headers = request.getHeaders();
+      assertThat(headers.get(CSRF_HEADER), hasSize(1));
+      assertThat(headers.get(HttpHeaders.COOKIE), hasSize(1));
+      String csrfToken = headers.getFirst(CSRF_HEADER);
+      assertThat(csrfToken, notNullValue());
+      assertThat(headers.getFirst(HttpHeaders.COOKIE), is(CSRF_COOKIE + "=" + csrfToken));
+    }
+    Set<String> csrfTokens = this.sentRequests.stream()
+        .map(request -> request.getHeaders().getFirst(CSRF_HEADER))
+        .collect(Collectors.toSet());
+    assertThat(csrfTokens, hasSize(PARALLEL_LOOKUPS));
+  }
+
+}
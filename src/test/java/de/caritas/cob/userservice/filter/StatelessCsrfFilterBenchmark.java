@@ -0,0 +1,120 @@
+package de.caritas.cob.userservice.filter;
+
+import de.caritas.cob.userservice.config.CsrfSecurityProperties;
+import de.caritas.cob.userservice.config.CsrfSecurityProperties.ConfigProperty;
+import de.caritas.cob.userservice.config.CsrfSecurityProperties.Whitelist;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Measures the overhead of the {@link StatelessCsrfFilter} per request with a whitelisted and a
+ * protected request URI, compared to the former whitelist check building a list and running a
+ * parallel stream per request. Not part of the test suite, run it via {@link #main(String[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StatelessCsrfFilterBenchmark {
+
+  private static final String CSRF_HEADER = "X-CSRF-TOKEN";
+  private static final String CSRF_COOKIE = "CSRF-TOKEN";
+  private static final String CSRF_TOKEN = "token";
+  private static final String[] CONFIG_URIS = {"/users/docs", "/users/docs/**", "/v2/api-docs",
+      "/configuration/ui", "/swagger-resources/**", "/configuration/security", "/swagger-ui.html",
+      "/webjars/**"};
+  private static final String[] ADMIN_URIS = {"/useradmin"};
+  private static final FilterChain NO_OP_FILTER_CHAIN = (request, response) -> {
+  };
+
+  private CsrfSecurityProperties csrfSecurityProperties;
+  private StatelessCsrfFilter csrfFilter;
+  private MockHttpServletRequest whitelistedRequest;
+  private MockHttpServletRequest protectedRequest;
+  private MockHttpServletResponse response;
+
+  @Setup
+  public void setup() {
+    ConfigProperty cookieProperty = new ConfigProperty();
+    cookieProperty.setProperty(CSRF_COOKIE);
+    ConfigProperty headerProperty = new ConfigProperty();
+    headerProperty.setProperty(CSRF_HEADER);
+    ConfigProperty whitelistHeaderProperty = new ConfigProperty();
+    whitelistHeaderProperty.setProperty("X-WHITELIST-HEADER");
+    Whitelist whitelist = new Whitelist();
+    whitelist.setConfigUris(CONFIG_URIS);
+    whitelist.setAdminUris(ADMIN_URIS);
+    whitelist.setHeader(whitelistHeaderProperty);
+
+    this.csrfSecurityProperties = new CsrfSecurityProperties();
+    this.csrfSecurityProperties.setCookie(cookieProperty);
+    this.csrfSecurityProperties.setHeader(headerProperty);
+    this.csrfSecurityProperties.setWhitelist(whitelist);
+    this.csrfFilter = new StatelessCsrfFilter(this.csrfSecurityProperties);
+
+    this.whitelistedRequest = new MockHttpServletRequest("GET", "/useradmin/consultants");
+    this.protectedRequest = new MockHttpServletRequest("POST", "/users/sessions/new");
+    this.protectedRequest.addHeader(CSRF_HEADER, CSRF_TOKEN);
+    this.protectedRequest.setCookies(new Cookie("other", "value"),
+        new Cookie(CSRF_COOKIE, CSRF_TOKEN));
+    this.response = new MockHttpServletResponse();
+  }
+
+  @Benchmark
+  public void filterWhitelistedRequest() throws IOException, ServletException {
+    this.csrfFilter.doFilterInternal(this.whitelistedRequest, this.response, NO_OP_FILTER_CHAIN);
+  }
+
+  @Benchmark
+  public void filterProtectedRequest() throws IOException, ServletException {
+    this.csrfFilter.doFilterInternal(this.protectedRequest, this.response, NO_OP_FILTER_CHAIN);
+  }
+
+  @Benchmark
+  public void formerWhitelistCheckOfProtectedRequest(Blackhole blackhole) {
+    List<String> csrfWhitelist = new ArrayList<>(
+        Arrays.asList(this.csrfSecurityProperties.getWhitelist().getConfigUris()));
+    csrfWhitelist.addAll(
+        Arrays.asList(this.csrfSecurityProperties.getWhitelist().getAdminUris()));
+    blackhole.consume(csrfWhitelist.parallelStream()
+        .anyMatch(this.protectedRequest.getRequestURI().toLowerCase()::contains));
+    blackhole.consume(Stream.of(this.protectedRequest.getCookies())
+        .filter(cookie -> cookie.getName().equals(CSRF_COOKIE))
+        .map(Cookie::getValue)
+        .findFirst()
+        .orElse(null));
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(StatelessCsrfFilterBenchmark.class.getSimpleName())
+        .build())
+        .run();
+  }
+
+}
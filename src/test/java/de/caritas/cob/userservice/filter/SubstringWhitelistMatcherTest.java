@@ -0,0 +1,88 @@
+package de.caritas.cob.userservice.filter;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+public class SubstringWhitelistMatcherTest {
+
+  private static final List<String> CONFIGURED_WHITELIST = asList("/users/docs",
+      "/users/docs/**", "/v2/api-docs", "/configuration/ui", "/swagger-resources/**",
+      "/configuration/security", "/swagger-ui.html", "/webjars/**", "/useradmin");
+
+  private static final List<String> REQUEST_URIS = asList("/users/docs", "/users/docs/index.html",
+      "/users/docs/**", "/v2/api-docs", "/prefix/v2/api-docs?group=x", "/configuration/u",
+      "/swagger-resources/configuration", "/swagger-resources/**", "/swagger-ui.html",
+      "/webjars/springfox/index.js", "/webjars/**", "/useradmin/consultants", "/useradmi",
+      "/users/askers/new", "/users/sessions/room", "", "/", "/userADMIN", "/users/doc");
+
+  @Test
+  public void isContainedIn_Should_behaveLikeStringContains_When_configuredWhitelistIsUsed() {
+    assertSameBehaviourAsContains(CONFIGURED_WHITELIST, REQUEST_URIS);
+  }
+
+  @Test
+  public void isContainedIn_Should_behaveLikeStringContains_When_patternsOverlap() {
+    List<String> patterns = asList("he", "she", "his", "hers", "ushe");
+    List<String> texts = asList("ushers", "h", "sh", "uhis", "hhhhe", "xxhis", "ush", "hsr",
+        "shhe", "usher");
+
+    assertSameBehaviourAsContains(patterns, texts);
+  }
+
+  @Test
+  public void isContainedIn_Should_behaveLikeStringContains_When_patternsContainUpperCase() {
+    List<String> patterns = asList("/userADMIN", "/Docs");
+    List<String> texts = asList("/useradmin", "/userADMIN", "/docs", "/Docs/x");
+
+    assertSameBehaviourAsContains(patterns, texts);
+  }
+
+  @Test
+  public void isContainedIn_Should_returnTrue_When_emptyPatternIsConfigured() {
+    SubstringWhitelistMatcher matcher = new SubstringWhitelistMatcher(singletonList(""));
+
+    assertThat(matcher.isContainedIn(""), is(true));
+    assertThat(matcher.isContainedIn("/users"), is(true));
+  }
+
+  @Test
+  public void isContainedIn_Should_returnFalse_When_noPatternIsConfigured() {
+    SubstringWhitelistMatcher matcher = new SubstringWhitelistMatcher(emptyList());
+
+    assertThat(matcher.isContainedIn(""), is(false));
+    assertThat(matcher.isContainedIn("/users"), is(false));
+  }
+
+  @Test
+  public void isContainedIn_Should_behaveLikeStringContains_When_randomTextsAreChecked() {
+    Random random = new Random(42);
+    List<String> patterns = asList("/ab", "ba/", "aab", "/", "bb/a");
+    SubstringWhitelistMatcher matcher = new SubstringWhitelistMatcher(patterns);
+    char[] alphabet = {'a', 'b', '/', 'c', 'ä'};
+
+    for (int i = 0; i < 10000; i++) {
+      StringBuilder text = new StringBuilder();
+      int length = random.nextInt(12);
+      for (int j = 0; j < length; j++) {
+        text.append(alphabet[random.nextInt(alphabet.length)]);
+      }
+      assertThat(text.toString(), matcher.isContainedIn(text.toString()),
+          is(patterns.stream().anyMatch(text.toString()::contains)));
+    }
+  }
+
+  private void assertSameBehaviourAsContains(List<String> patterns, List<String> texts) {
+    SubstringWhitelistMatcher matcher = new SubstringWhitelistMatcher(patterns);
+    for (String text : texts) {
+      assertThat(text, matcher.isContainedIn(text), is(patterns.stream().anyMatch(text::contains)));
+    }
+  }
+
+}
@@ -82,6 +82,8 @@ public class PathConstants {
       "/users/chat/" + INVALID_CHAT_ID + "/update";
   public static final String PATH_POST_IMPORT_ASKERS_WITHOUT_SESSION =
       "/users/askersWithoutSession/import";
+  public static final String PATH_GET_ASKER_IMPORT_JOB =
+      "/users/askers/import/2f6b1a4e-58a1-4c1e-9f4c-1b0e3c0c7d21";
   public static final String PATH_GET_SESSION_FOR_CONSULTANT =
       "/users/consultants/sessions/1";
   public static final String PATH_PUT_UPDATE_EMAIL = "/users/email";
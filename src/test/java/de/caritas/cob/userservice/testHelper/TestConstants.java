@@ -455,33 +455,35 @@ public class TestConstants {
   public static final Long ENQUIRY_ID_2 = 2L;
   public static final Session SESSION =
       new Session(SESSION_ID, null, null, SUCHT, REGISTERED, POSTCODE, null,
-          IN_PROGRESS, null, null, null, null, false, false, null, null);
+          IN_PROGRESS, null, null, null, null, null, false, false, null, null);
   public static final Session SESSION_WITH_CONSULTANT =
       new Session(SESSION_ID, null, CONSULTANT_2, SUCHT, REGISTERED, POSTCODE, AGENCY_ID,
-          IN_PROGRESS, nowInUtc(), RC_GROUP_ID, null, null, false, false, null, null);
+          IN_PROGRESS, nowInUtc(), null, RC_GROUP_ID, null, null, false, false, null, null);
   public static final Session ENQUIRY_SESSION_WITH_CONSULTANT =
       new Session(SESSION_ID, null, CONSULTANT_2, SUCHT, REGISTERED, POSTCODE, AGENCY_ID,
-          SessionStatus.NEW, nowInUtc(), RC_GROUP_ID, null, null, false, false, null, null);
+          SessionStatus.NEW, nowInUtc(), null, RC_GROUP_ID, null, null, false, false, null, null);
   public static final Session SESSION_WITHOUT_CONSULTANT = new Session(SESSION_ID, USER_WITH_RC_ID,
-      null, U25, REGISTERED, POSTCODE, AGENCY_ID, SessionStatus.NEW, null, RC_GROUP_ID, null,
+      null, U25, REGISTERED, POSTCODE, AGENCY_ID, SessionStatus.NEW, null, null, RC_GROUP_ID, null,
       null, IS_TEAM_SESSION, IS_MONITORING, null, null);
 
   public static final Session FEEDBACKSESSION_WITHOUT_CONSULTANT = new Session(SESSION_ID,
       USER_WITH_RC_ID, null, U25, REGISTERED, POSTCODE, AGENCY_ID, SessionStatus.NEW, nowInUtc(),
+      null,
       RC_GROUP_ID, RC_FEEDBACK_GROUP_ID, null, IS_TEAM_SESSION, IS_MONITORING, null, null);
   public static final Session FEEDBACKSESSION_WITH_CONSULTANT =
       new Session(SESSION_ID, USER_WITH_RC_ID, CONSULTANT_2, U25, REGISTERED, POSTCODE,
-          AGENCY_ID, IN_PROGRESS, nowInUtc(), RC_GROUP_ID, RC_FEEDBACK_GROUP_ID, null,
+          AGENCY_ID, IN_PROGRESS, nowInUtc(), null, RC_GROUP_ID, RC_FEEDBACK_GROUP_ID, null,
           IS_TEAM_SESSION, IS_MONITORING, null, null);
   public static final Session SESSION_WITHOUT_CONSULTANT_NO_RC_USER_ID =
       new Session(TEAM_SESSION_ID, USER_NO_RC_USER_ID_2, null, SUCHT, REGISTERED, POSTCODE,
-          AGENCY_ID, SessionStatus.NEW, nowInUtc(), RC_GROUP_ID, null, null, IS_NO_TEAM_SESSION,
-          IS_MONITORING, null, null);
+          AGENCY_ID, SessionStatus.NEW, nowInUtc(), null, RC_GROUP_ID, null, null,
+          IS_NO_TEAM_SESSION, IS_MONITORING, null, null);
   public static final Session U25_SESSION_WITH_CONSULTANT = new Session(SESSION_ID, USER_WITH_RC_ID,
-      CONSULTANT_2, U25, REGISTERED, POSTCODE, AGENCY_ID, IN_PROGRESS, nowInUtc(),
+      CONSULTANT_2, U25, REGISTERED, POSTCODE, AGENCY_ID, IN_PROGRESS, nowInUtc(), null,
       RC_GROUP_ID, RC_FEEDBACK_GROUP_ID, null, IS_TEAM_SESSION, IS_MONITORING, null, null);
   public static final Session U25_SESSION_WITHOUT_CONSULTANT = new Session(SESSION_ID,
       USER_WITH_RC_ID, null, U25, REGISTERED, POSTCODE, AGENCY_ID, SessionStatus.NEW, nowInUtc(),
+      null,
       RC_GROUP_ID, RC_FEEDBACK_GROUP_ID, null, IS_TEAM_SESSION, IS_MONITORING, null, null);
   public static final List<Session> SESSION_LIST = Collections.singletonList(SESSION);
   public static final Set<Session> SESSION_SET = new HashSet<>(
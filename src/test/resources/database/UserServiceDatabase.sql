@@ -71,6 +71,7 @@ CREATE TABLE SESSION
     CONSULTING_TYPE      tinyint(4) NOT NULL,
     REGISTRATION_TYPE    varchar(255) NOT NULL DEFAULT 'REGISTERED',
     MESSAGE_DATE         datetime DEFAULT NULL,
+    LATEST_MESSAGE_DATE  datetime DEFAULT NULL,
     POSTCODE             varchar(5)  NOT NULL,
     AGENCY_ID            bigint(21) DEFAULT NULL,
     RC_GROUP_ID          varchar(255) NULL,
@@ -129,6 +130,64 @@ CREATE TABLE SESSION_MONITORING_OPTION
 CREATE SEQUENCE SEQUENCE_SESSION_MONITORING_OPTION
     START WITH 100000
     INCREMENT BY 1;
+CREATE TABLE CHAT
+(
+    ID                  bigint(21) NOT NULL,
+    TOPIC               varchar(255) NOT NULL,
+    CONSULTING_TYPE     tinyint(4) NOT NULL,
+    INITIAL_START_DATE  datetime NOT NULL,
+    START_DATE          datetime NOT NULL,
+    DURATION            smallint NOT NULL,
+    IS_REPETITIVE       tinyint(1) NOT NULL DEFAULT 0,
+    CHAT_INTERVAL       varchar(255) NULL,
+    IS_ACTIVE           tinyint(1) NOT NULL DEFAULT 0,
+    MAX_PARTICIPANTS    tinyint(4) NULL,
+    CONSULTANT_ID_OWNER varchar(36) NOT NULL,
+    RC_GROUP_ID         varchar(255) NULL,
+    CREATE_DATE         datetime,
+    UPDATE_DATE         datetime,
+    PRIMARY KEY (ID),
+    FOREIGN KEY (CONSULTANT_ID_OWNER) REFERENCES CONSULTANT (CONSULTANT_ID)
+);
+CREATE SEQUENCE SEQUENCE_CHAT
+    START WITH 100000
+    INCREMENT BY 1;
+CREATE TABLE CHAT_AGENCY
+(
+    ID          bigint(21) NOT NULL,
+    CHAT_ID     bigint(21) NOT NULL,
+    AGENCY_ID   bigint(21) NOT NULL,
+    CREATE_DATE datetime,
+    UPDATE_DATE datetime,
+    PRIMARY KEY (ID),
+    FOREIGN KEY (CHAT_ID) REFERENCES CHAT (ID)
+);
+CREATE SEQUENCE SEQUENCE_CHAT_AGENCY
+    START WITH 100000
+    INCREMENT BY 1;
+CREATE TABLE DELETE_WORKFLOW_CHECKPOINT
+(
+    SOURCE_TYPE       varchar(20) NOT NULL,
+    LAST_PROCESSED_ID varchar(36) NOT NULL,
+    UPDATE_DATE       datetime,
+    PRIMARY KEY (SOURCE_TYPE)
+);
+CREATE TABLE ANONYMOUS_USERNAME_FREE_ID
+(
+    ID          bigint NOT NULL,
+    CREATE_DATE datetime,
+    PRIMARY KEY (ID)
+);
+CREATE SEQUENCE SEQUENCE_ANONYMOUS_USERNAME
+    START WITH 1
+    INCREMENT BY 1;
+CREATE TABLE IMPORT_CHECKPOINT
+(
+    IMPORT_TYPE varchar(30)  NOT NULL,
+    RECORD_KEY  varchar(255) NOT NULL,
+    CREATE_DATE datetime,
+    PRIMARY KEY (IMPORT_TYPE, RECORD_KEY)
+);
 INSERT INTO USER (`user_id`, `id_old`, `delete_date`, `username`, `email`, `rc_user_id`,
                   `language_formal`, `create_date`, `update_date`)
 VALUES ('015d013d-95e7-4e91-85b5-12cdb3d317f3', 0, NULL, 'enc.OBSXEZTPOJWWC3TDMUWWC43LMVZC2NZS',
@@ -1222,3 +1281,4 @@ VALUES (1, '1da238c6-cd46-4162-80f1-bff74eafe77f', '473f7c4b-f011-4fc2-847c-ceb6
        (1200, '06c6601f-a5b4-4812-9260-20065390b1f5', NULL, 1, '2020-11-05 14:18:16', '12345', 121,
         'ix7E7HzXKTgGeQMyb', 'EQBcSwxn4eCAPYQ2J', 1, 1, 1, '2020-11-05 14:17:34',
         '2020-11-05 14:18:16');
+UPDATE SESSION SET LATEST_MESSAGE_DATE = MESSAGE_DATE;